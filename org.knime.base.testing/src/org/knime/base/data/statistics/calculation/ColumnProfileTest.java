@@ -0,0 +1,225 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.data.statistics.calculation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.knime.base.data.statistics.StatisticCalculator;
+import org.knime.base.node.preproc.sorter.SorterNodeFactory;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.workflow.SingleNodeContainer;
+
+/**
+ * Compares the {@link ColumnProfile}, which is evaluated in parallel and merged from partials on machines with more
+ * than one processor, with a profile evaluated sequentially and with the {@link Variance} and {@link MissingValue}
+ * statistics it replaces.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ColumnProfileTest {
+
+    private static final String[] COLUMNS = {"Double", "Int", "String", "ConstantDouble", "ConstantString",
+        "AllMissing", "LateChange", "FewMissing", "ManyMissing"};
+
+    private static final String[] NUMERIC_COLUMNS = {"Double", "Int", "ConstantDouble", "AllMissing", "LateChange",
+        "FewMissing", "ManyMissing"};
+
+    /** Several chunks of the parallel evaluation. */
+    private static final int NR_ROWS = 20000;
+
+    private static ExecutionContext EXEC_CONTEXT;
+
+    private static BufferedDataTable TABLE;
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @SuppressWarnings("unchecked")
+    @BeforeClass
+    public static void setUpBeforeClass() throws Exception {
+        EXEC_CONTEXT =
+            new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(new SorterNodeFactory()),
+                SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+        final DataTableSpec spec =
+            new DataTableSpec(new DataColumnSpecCreator(COLUMNS[0], DoubleCell.TYPE).createSpec(),
+                new DataColumnSpecCreator(COLUMNS[1], IntCell.TYPE).createSpec(),
+                new DataColumnSpecCreator(COLUMNS[2], StringCell.TYPE).createSpec(),
+                new DataColumnSpecCreator(COLUMNS[3], DoubleCell.TYPE).createSpec(),
+                new DataColumnSpecCreator(COLUMNS[4], StringCell.TYPE).createSpec(),
+                new DataColumnSpecCreator(COLUMNS[5], DoubleCell.TYPE).createSpec(),
+                new DataColumnSpecCreator(COLUMNS[6], DoubleCell.TYPE).createSpec(),
+                new DataColumnSpecCreator(COLUMNS[7], DoubleCell.TYPE).createSpec(),
+                new DataColumnSpecCreator(COLUMNS[8], DoubleCell.TYPE).createSpec());
+        final Random random = new Random(1);
+        final BufferedDataContainer container = EXEC_CONTEXT.createDataContainer(spec);
+        for (int r = 0; r < NR_ROWS; r++) {
+            final DataCell missing = DataType.getMissingCell();
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey(r),
+                random.nextInt(10) == 0 ? missing : new DoubleCell(1e6 + random.nextGaussian() * 1e3),
+                random.nextInt(10) == 0 ? missing : new IntCell(random.nextInt(1000) - 500),
+                random.nextInt(10) == 0 ? missing : new StringCell("s" + random.nextInt(5)),
+                new DoubleCell(42.5),
+                new StringCell("constant"),
+                missing,
+                new DoubleCell(r == NR_ROWS - 3 ? 1.0 : 0.0),
+                r % 1000 == 7 ? missing : new DoubleCell(random.nextDouble()),
+                r % 3 == 0 ? new DoubleCell(random.nextDouble()) : missing));
+        }
+        container.close();
+        TABLE = container.getTable();
+    }
+
+    /**
+     * The profile alone, which is merged from partials, and the profile next to statistics without partials, which is
+     * evaluated sequentially, agree with each other and with the statistics.
+     *
+     * @throws Exception if the evaluation fails
+     */
+    @Test
+    public void testParallelAndSequential() throws Exception {
+        final ColumnProfile parallel = new ColumnProfile(COLUMNS);
+        new StatisticCalculator(TABLE.getDataTableSpec(), parallel).evaluate(TABLE, EXEC_CONTEXT);
+
+        final ColumnProfile sequential = new ColumnProfile(COLUMNS);
+        final Variance variance = new Variance(NUMERIC_COLUMNS);
+        final MissingValue missingValue = new MissingValue(COLUMNS);
+        new StatisticCalculator(TABLE.getDataTableSpec(), sequential, variance, missingValue).evaluate(TABLE,
+            EXEC_CONTEXT);
+
+        for (String column : COLUMNS) {
+            final long count = missingValue.getNumberMissingValues(column);
+            assertEquals(column, count, sequential.getNumberMissingValues(column));
+            assertEquals(column, count, parallel.getNumberMissingValues(column));
+            assertEquals(column, sequential.isConstant(column), parallel.isConstant(column));
+            assertEquals(column, sequential.getFirstCell(column), parallel.getFirstCell(column));
+        }
+        for (String column : NUMERIC_COLUMNS) {
+            final double expected = variance.getResult(column);
+            assertVariance(column, expected, sequential.getVariance(column));
+            assertVariance(column, expected, parallel.getVariance(column));
+        }
+
+        assertTrue(parallel.isConstant("ConstantDouble"));
+        assertEquals(new DoubleCell(42.5), parallel.getFirstCell("ConstantDouble"));
+        assertTrue(parallel.isConstant("ConstantString"));
+        assertTrue(parallel.isConstant("AllMissing"));
+        assertTrue(parallel.getFirstCell("AllMissing").isMissing());
+        assertEquals(false, parallel.isConstant("LateChange"));
+        assertEquals(false, parallel.isConstant("Double"));
+        assertEquals(false, parallel.isConstant("String"));
+    }
+
+    /**
+     * The columns that are decided early by a missing value limit report the limit as the full count would.
+     *
+     * @throws Exception if the evaluation fails
+     */
+    @Test
+    public void testMissingValueLimit() throws Exception {
+        final MissingValue missingValue = new MissingValue(COLUMNS);
+        new StatisticCalculator(TABLE.getDataTableSpec(), missingValue).evaluate(TABLE, EXEC_CONTEXT);
+
+        for (long limit : new long[]{0, 1, 20, 2000, NR_ROWS / 3, NR_ROWS, NR_ROWS + 1}) {
+            final ColumnProfile parallel = createLimitedProfile(limit);
+            new StatisticCalculator(TABLE.getDataTableSpec(), parallel).evaluate(TABLE, EXEC_CONTEXT);
+            final ColumnProfile sequential = createLimitedProfile(limit);
+            new StatisticCalculator(TABLE.getDataTableSpec(), sequential, new MissingValue(COLUMNS)).evaluate(TABLE,
+                EXEC_CONTEXT);
+
+            for (String column : COLUMNS) {
+                final long count = missingValue.getNumberMissingValues(column);
+                final String message = column + " with limit " + limit;
+                for (ColumnProfile profile : new ColumnProfile[]{parallel, sequential}) {
+                    assertEquals(message, count >= limit, profile.isMissingValueLimitReached(column));
+                    // decided columns aren't counted further, which never moves the count across the limit
+                    final long profileCount = profile.getNumberMissingValues(column);
+                    assertEquals(message, count >= limit, profileCount >= limit);
+                    assertTrue(message, profileCount <= count);
+                }
+            }
+        }
+    }
+
+    private static ColumnProfile createLimitedProfile(final long limit) {
+        final ColumnProfile profile = new ColumnProfile(COLUMNS);
+        profile.setComputeVariance(false);
+        profile.setComputeConstant(false);
+        profile.setMissingValueLimit(limit);
+        return profile;
+    }
+
+    private static void assertVariance(final String column, final double expected, final double actual) {
+        if (Double.isNaN(expected)) {
+            assertTrue(column, Double.isNaN(actual));
+        } else {
+            assertEquals(column, expected, actual, Math.max(Math.abs(expected) * 1e-9, 1e-12));
+        }
+    }
+}
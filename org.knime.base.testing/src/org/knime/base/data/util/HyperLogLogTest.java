@@ -0,0 +1,170 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.data.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * Checks the error of the estimates of the {@link HyperLogLog} and that merged sketches estimate the union.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class HyperLogLogTest {
+
+    /**
+     * Small numbers of distinct objects are counted by linear counting, whose standard error is about 1.1% here.
+     */
+    @Test
+    public void testSmallCardinalities() {
+        final HyperLogLog sketch = new HyperLogLog();
+        assertEquals(0, sketch.estimate());
+        for (int n = 1; n <= 1000; n++) {
+            sketch.add("value" + n);
+            // duplicates don't count
+            sketch.add("value" + (n / 2 + 1));
+            assertWithin(n, sketch.estimate(), 0.04, 2);
+        }
+    }
+
+    /**
+     * The error of large numbers of distinct objects is within three standard errors, also for the poorly
+     * distributed hash codes of consecutive integers.
+     */
+    @Test
+    public void testLargeCardinalities() {
+        final HyperLogLog strings = new HyperLogLog();
+        final HyperLogLog integers = new HyperLogLog();
+        final HyperLogLog doubles = new HyperLogLog();
+        final Random random = new Random(1);
+        for (int n = 1; n <= 2000000; n++) {
+            strings.add("Row" + n);
+            integers.add(Integer.valueOf(n));
+            doubles.add(Double.valueOf(random.nextDouble()));
+            if (Integer.bitCount(n) == 1 || n % 250000 == 0) {
+                // the standard error is 1.04 / sqrt(2^12), about 1.6%
+                assertWithin(n, strings.estimate(), 0.05, 2);
+                assertWithin(n, integers.estimate(), 0.05, 2);
+                assertWithin(n, doubles.estimate(), 0.05, 2);
+            }
+        }
+    }
+
+    /**
+     * A higher precision has a smaller error.
+     */
+    @Test
+    public void testPrecision() {
+        final HyperLogLog low = new HyperLogLog(4);
+        final HyperLogLog high = new HyperLogLog(16);
+        for (int n = 1; n <= 500000; n++) {
+            low.add("value" + n);
+            high.add("value" + n);
+        }
+        // standard errors of 26% and 0.4%
+        assertWithin(500000, low.estimate(), 0.78, 0);
+        assertWithin(500000, high.estimate(), 0.012, 0);
+    }
+
+    /**
+     * Merging the sketches of parts gives the sketch of the union, no matter how the objects are split.
+     */
+    @Test
+    public void testMerge() {
+        final HyperLogLog all = new HyperLogLog();
+        final HyperLogLog[] parts = {new HyperLogLog(), new HyperLogLog(), new HyperLogLog()};
+        final Set<String> distinct = new HashSet<String>();
+        final Random random = new Random(2);
+        for (int n = 0; n < 300000; n++) {
+            final String value = "value" + random.nextInt(100000);
+            distinct.add(value);
+            all.add(value);
+            parts[random.nextInt(parts.length)].add(value);
+        }
+        final HyperLogLog merged = new HyperLogLog();
+        for (HyperLogLog part : parts) {
+            merged.merge(part);
+            // merging again doesn't change anything
+            merged.merge(part);
+        }
+        assertEquals(all.estimate(), merged.estimate());
+        assertWithin(distinct.size(), merged.estimate(), 0.05, 0);
+        for (HyperLogLog part : parts) {
+            assertTrue(part.estimate() <= merged.estimate());
+        }
+    }
+
+    /**
+     * Precisions out of range are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPrecision() {
+        new HyperLogLog(17);
+    }
+
+    /**
+     * Sketches of different precisions can't be merged.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testMergeDifferentPrecisions() {
+        new HyperLogLog(10).merge(new HyperLogLog(11));
+    }
+
+    private static void assertWithin(final long expected, final long estimate, final double relativeError,
+        final long absoluteError) {
+        assertTrue("Estimated " + estimate + " for " + expected,
+            Math.abs(estimate - expected) <= Math.max(absoluteError, relativeError * expected));
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.data.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnDomain;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTable;
+import org.knime.core.data.DataTableDomainCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DomainCreatorColumnSelection;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DefaultTable;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Compares the domains determined by the {@link ParallelDomainCreator} with the domains determined by a single
+ * {@link DataTableDomainCreator}, including the order of the possible values.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ParallelDomainCreatorTest {
+
+    // more than one chunk
+    private static final int NR_ROWS = 20000;
+
+    private static final DataTableSpec SPEC = new DataTableSpec(
+        new DataColumnSpecCreator("boolean", BooleanCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("string", StringCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("double", DoubleCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("late", StringCell.TYPE).createSpec());
+
+    private static final DomainCreatorColumnSelection ALL = new DomainCreatorColumnSelection() {
+        @Override
+        public boolean dropDomain(final DataColumnSpec colSpec) {
+            return true;
+        }
+
+        @Override
+        public boolean createDomain(final DataColumnSpec colSpec) {
+            return true;
+        }
+    };
+
+    /**
+     * The possible values are in the order of their first occurrence, also for columns whose bounds are determined
+     * (the first boolean is <code>true</code>, the lower bound is <code>false</code>).
+     *
+     * @throws CanceledExecutionException not expected
+     */
+    @Test
+    public void testPossibleValueOrder() throws CanceledExecutionException {
+        final DataTable table = createTable();
+        for (int threads : new int[]{1, 2, 4}) {
+            assertDomains(table, Integer.MAX_VALUE, threads);
+        }
+    }
+
+    /**
+     * Columns with more possible values than the maximum have none, also if the maximum is exceeded only after
+     * merging the chunks.
+     *
+     * @throws CanceledExecutionException not expected
+     */
+    @Test
+    public void testMaxPossibleValues() throws CanceledExecutionException {
+        final DataTable table = createTable();
+        for (int max : new int[]{0, 1, 2, 5, 100, 1000}) {
+            assertDomains(table, max, 4);
+        }
+    }
+
+    private static void assertDomains(final DataTable table, final int maxPossibleValues, final int threads)
+        throws CanceledExecutionException {
+        final DataTableDomainCreator sequential = new DataTableDomainCreator(SPEC, ALL, ALL);
+        sequential.setMaxPossibleValues(maxPossibleValues);
+        for (DataRow row : table) {
+            sequential.updateDomain(row);
+        }
+        final ParallelDomainCreator parallel = new ParallelDomainCreator(SPEC, ALL, ALL);
+        parallel.setMaxPossibleValues(maxPossibleValues);
+        parallel.setMaxThreads(threads);
+        parallel.updateDomain(table, new ExecutionMonitor(), NR_ROWS);
+        final DataTableSpec expected = sequential.createSpec();
+        final DataTableSpec actual = parallel.createSpec();
+        for (int c = 0; c < SPEC.getNumColumns(); c++) {
+            final String msg = SPEC.getColumnSpec(c).getName() + ", max " + maxPossibleValues + ", threads "
+                + threads;
+            final DataColumnDomain exp = expected.getColumnSpec(c).getDomain();
+            final DataColumnDomain act = actual.getColumnSpec(c).getDomain();
+            assertEquals(msg, exp.hasValues(), act.hasValues());
+            if (exp.hasValues()) {
+                assertEquals(msg, new ArrayList<DataCell>(exp.getValues()), new ArrayList<DataCell>(act.getValues()));
+            }
+            assertEquals(msg, exp.getLowerBound(), act.getLowerBound());
+            assertEquals(msg, exp.getUpperBound(), act.getUpperBound());
+        }
+    }
+
+    /*
+     * The first values are the largest ones, the last column has values only in the last chunk.
+     */
+    private static DataTable createTable() {
+        final Random random = new Random(7);
+        final DataCell missing = DataType.getMissingCell();
+        final List<DataRow> rows = new ArrayList<DataRow>(NR_ROWS);
+        for (int r = 0; r < NR_ROWS; r++) {
+            final DataCell[] cells = new DataCell[5];
+            cells[0] = r % 9 == 4 ? missing : BooleanCell.get(r == 0 || random.nextBoolean());
+            cells[1] = r % 10 == 0 ? missing : new StringCell(r == 0 ? "z" : "s" + random.nextInt(r < 5000 ? 3 : 30));
+            cells[2] = r % 11 == 0 ? missing : new IntCell(r == 1 ? 1000 : random.nextInt(100));
+            cells[3] = r % 12 == 0 ? missing : new DoubleCell(random.nextGaussian());
+            cells[4] = r < NR_ROWS - 500 ? missing : new StringCell("late" + random.nextInt(100));
+            rows.add(new DefaultRow(RowKey.createRowKey((long)r), cells));
+        }
+        return new DefaultTable(rows.toArray(new DataRow[rows.size()]), SPEC);
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.data.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+import org.knime.core.util.MutableInteger;
+
+/**
+ * Tests the {@link RowIDUniquifier} against a hash set of all IDs and against the hash map based uniquification the
+ * File Reader and the RowID node used before, with IDs spilled to disk.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class RowIDUniquifierTest {
+
+    private static final int MAX_IDS_IN_MEMORY = 100;
+
+    private static final int NR_IDS = 20000;
+
+    /**
+     * Membership is exact for IDs in memory and spilled to disk, also after the runs on disk have been merged.
+     */
+    @Test
+    public void testUniquenessAcrossSpill() {
+        final Random random = new Random(1);
+        final Set<String> expected = new HashSet<String>();
+        try (RowIDUniquifier ids = new RowIDUniquifier(MAX_IDS_IN_MEMORY)) {
+            for (int i = 0; i < NR_IDS; i++) {
+                final String id = "Row" + random.nextInt(NR_IDS);
+                assertEquals(id, expected.add(id), ids.add(id));
+            }
+            assertEquals(expected.size(), ids.size());
+            for (int i = 0; i < 2 * NR_IDS; i++) {
+                final String id = "Row" + i;
+                assertEquals(id, expected.contains(id), ids.contains(id));
+            }
+        }
+    }
+
+    /**
+     * The uniquified IDs are unique and contain every ID, also across spills.
+     */
+    @Test
+    public void testUniquifyAcrossSpill() {
+        final Random random = new Random(2);
+        final Set<String> created = new HashSet<String>();
+        try (RowIDUniquifier ids = new RowIDUniquifier(MAX_IDS_IN_MEMORY)) {
+            for (int i = 0; i < NR_IDS; i++) {
+                final String id = "Row" + random.nextInt(NR_IDS / 10);
+                final String unique = ids.uniquify(id);
+                assertTrue(unique, unique.startsWith(id));
+                assertTrue(unique, created.add(unique));
+            }
+            for (String id : created) {
+                assertTrue(id, ids.contains(id));
+            }
+            assertFalse(ids.contains("Row" + NR_IDS));
+        }
+    }
+
+    /**
+     * {@link RowIDUniquifier#uniquify(String)} creates the same IDs as the hash map of the File Reader did.
+     */
+    @Test
+    public void testUniquifyAsFileReader() {
+        final Random random = new Random(3);
+        final HashMap<String, Number> rowIDhash = new HashMap<String, Number>();
+        try (RowIDUniquifier ids = new RowIDUniquifier(MAX_IDS_IN_MEMORY)) {
+            for (int i = 0; i < NR_IDS; i++) {
+                final String id = createDuplicateProneID(random);
+                assertEquals(uniquifyAsFileReader(id, rowIDhash), ids.uniquify(id));
+            }
+        }
+    }
+
+    /**
+     * {@link RowIDUniquifier#add(String)} and {@link RowIDUniquifier#nextSuffix(String)} create the same "(n)"
+     * suffixes as the hash map of the RowID node did.
+     */
+    @Test
+    public void testNextSuffixAsRowKeyUtil() {
+        final Random random = new Random(4);
+        final Map<String, MutableInteger> vals = new HashMap<String, MutableInteger>();
+        try (RowIDUniquifier ids = new RowIDUniquifier(MAX_IDS_IN_MEMORY)) {
+            for (int i = 0; i < NR_IDS; i++) {
+                final String key = createDuplicateProneID(random);
+                String uniqueKey = key;
+                if (!ids.add(key)) {
+                    do {
+                        uniqueKey = key + "(" + ids.nextSuffix(key) + ")";
+                    } while (!ids.add(uniqueKey));
+                }
+                assertEquals(uniquifyAsRowKeyUtil(key, vals), uniqueKey);
+            }
+        }
+    }
+
+    /*
+     * IDs that collide with each other and with the suffixes created for them.
+     */
+    private static String createDuplicateProneID(final Random random) {
+        final String id = "Row" + random.nextInt(NR_IDS / 20);
+        switch (random.nextInt(10)) {
+            case 0:
+                return id + "_" + (1 + random.nextInt(3));
+            case 1:
+                return id + "(" + (1 + random.nextInt(3)) + ")";
+            default:
+                return id;
+        }
+    }
+
+    /*
+     * The former FileRowIterator#uniquifyRowHeader.
+     */
+    private static String uniquifyAsFileReader(final String newRowHeader, final HashMap<String, Number> rowIDhash) {
+        final Integer noSuffix = 0;
+        Number oldSuffix = rowIDhash.put(newRowHeader, noSuffix);
+        String result = newRowHeader;
+        while (oldSuffix != null) {
+            final int idx = oldSuffix.intValue() + 1;
+            if (oldSuffix.equals(noSuffix)) {
+                rowIDhash.put(result, new MutableInteger(idx));
+            } else {
+                ((MutableInteger)oldSuffix).inc();
+                rowIDhash.put(result, oldSuffix);
+            }
+            result = result + "_" + idx;
+            oldSuffix = rowIDhash.put(result, noSuffix);
+        }
+        return result;
+    }
+
+    /*
+     * The former uniquification of RowKeyUtil2#changeRowKey.
+     */
+    private static String uniquifyAsRowKeyUtil(final String key, final Map<String, MutableInteger> vals) {
+        String result = key;
+        if (vals.containsKey(key)) {
+            final MutableInteger index = vals.get(key);
+            while (vals.containsKey(result)) {
+                index.inc();
+                result = key + "(" + index + ")";
+            }
+        }
+        vals.put(result, new MutableInteger(0));
+        return result;
+    }
+}
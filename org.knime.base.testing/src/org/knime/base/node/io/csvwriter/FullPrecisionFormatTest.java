@@ -0,0 +1,120 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.io.csvwriter;
+
+import static org.junit.Assert.assertEquals;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Compares the {@link FullPrecisionFormat} with the {@link DecimalFormat} it replaces in the CSV writer and checks
+ * that the values are read back exactly.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class FullPrecisionFormatTest {
+
+    private final DecimalFormat m_decimalFormat;
+
+    /**
+     * Creates the format used by the CSV writer before.
+     */
+    public FullPrecisionFormatTest() {
+        m_decimalFormat = new DecimalFormat("#.#", DecimalFormatSymbols.getInstance(Locale.ENGLISH));
+        m_decimalFormat.setMaximumFractionDigits(340);
+    }
+
+    /**
+     * Zeros, extremes, powers of ten and the non-finite values.
+     */
+    @Test
+    public void testEdgeCases() {
+        final double[] values = {0.0, -0.0, 1.0, -1.0, 0.1, 0.5, 0.3, 1.0 / 3, 2.0 / 3, 100.0, 123.456, 1e7, 1e-3,
+            1e-4, 1e21, 1e22, 1e23, 1.2345e-5, 12345678.9, Double.MIN_VALUE, -Double.MIN_VALUE, Double.MIN_NORMAL,
+            Double.MAX_VALUE, -Double.MAX_VALUE, Math.ulp(1.0), 1.0 + Math.ulp(1.0), Long.MAX_VALUE, Long.MIN_VALUE,
+            9007199254740993.0, Math.PI, Math.E, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        for (double value : values) {
+            assertFormat(value);
+        }
+        for (int exp = -330; exp <= 310; exp++) {
+            assertFormat(Double.parseDouble("1e" + exp));
+            assertFormat(Double.parseDouble("-9.87654321e" + exp));
+        }
+    }
+
+    /**
+     * Random bit patterns cover all exponents, random numbers with few digits the typical values.
+     */
+    @Test
+    public void testRandomValues() {
+        final Random random = new Random(1);
+        for (int i = 0; i < 20000; i++) {
+            assertFormat(Double.longBitsToDouble(random.nextLong()));
+            assertFormat(random.nextGaussian() * Math.pow(10, random.nextInt(20) - 10));
+            assertFormat(random.nextInt(1000000) / 100.0);
+        }
+    }
+
+    private void assertFormat(final double value) {
+        final String formatted = FullPrecisionFormat.format(value);
+        assertEquals(Double.toString(value), m_decimalFormat.format(value), formatted);
+        if (!Double.isNaN(value) && !Double.isInfinite(value)) {
+            assertEquals(formatted, Double.doubleToRawLongBits(value),
+                Double.doubleToRawLongBits(Double.parseDouble(formatted)));
+        }
+        final StringBuilder builder = new StringBuilder("x");
+        FullPrecisionFormat.appendTo(value, builder);
+        assertEquals("x" + formatted, builder.toString());
+    }
+}
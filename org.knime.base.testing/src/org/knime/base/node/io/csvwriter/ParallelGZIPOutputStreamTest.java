@@ -0,0 +1,162 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.io.csvwriter;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Test;
+
+/**
+ * Checks that the output of the {@link ParallelGZIPOutputStream} is read back by the {@link GZIPInputStream}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ParallelGZIPOutputStreamTest {
+
+    // the number of bytes the stream compresses per block
+    private static final int BLOCK_SIZE = 128 * 1024;
+
+    private static final int[] SIZES = {0, 1, 100, BLOCK_SIZE - 1, BLOCK_SIZE, BLOCK_SIZE + 1, 2 * BLOCK_SIZE,
+        7 * BLOCK_SIZE + 4321};
+
+    /**
+     * Text as written by the CSV writer, repetitive across the blocks.
+     *
+     * @throws IOException if the data can't be compressed
+     */
+    @Test
+    public void testText() throws IOException {
+        for (int size : SIZES) {
+            final byte[] data = createText(size);
+            assertArrayEquals("Size " + size, data, gunzip(gzip(data, new Random(size), false)));
+        }
+    }
+
+    /**
+     * Random bytes, which aren't compressible.
+     *
+     * @throws IOException if the data can't be compressed
+     */
+    @Test
+    public void testRandomBytes() throws IOException {
+        for (int size : SIZES) {
+            final byte[] data = new byte[size];
+            new Random(size).nextBytes(data);
+            assertArrayEquals("Size " + size, data, gunzip(gzip(data, new Random(size), false)));
+        }
+    }
+
+    /**
+     * Single bytes, arrays of all lengths and flushes in between.
+     *
+     * @throws IOException if the data can't be compressed
+     */
+    @Test
+    public void testMixedWrites() throws IOException {
+        for (int size : SIZES) {
+            final byte[] data = createText(size);
+            assertArrayEquals("Size " + size, data, gunzip(gzip(data, new Random(size), true)));
+        }
+    }
+
+    private static byte[] createText(final int size) {
+        final Random random = new Random(size);
+        final StringBuilder text = new StringBuilder(size + 100);
+        for (int row = 0; text.length() < size; row++) {
+            text.append("\"Row").append(row).append("\",").append(random.nextInt(1000)).append(',')
+                .append(random.nextDouble()).append(",\"").append(random.nextBoolean() ? "yes" : "no").append("\"\n");
+        }
+        return text.substring(0, size).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /*
+     * Compresses the data, written in chunks of random lengths, or also byte by byte and with flushes if mixed.
+     */
+    private static byte[] gzip(final byte[] data, final Random random, final boolean mixed) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ParallelGZIPOutputStream out = new ParallelGZIPOutputStream(bytes)) {
+            int pos = 0;
+            while (pos < data.length) {
+                if (mixed && random.nextInt(4) == 0) {
+                    out.write(data[pos++]);
+                    continue;
+                }
+                if (mixed && random.nextInt(8) == 0) {
+                    out.flush();
+                }
+                final int len = Math.min(data.length - pos, random.nextInt(mixed ? 1000 : 3 * BLOCK_SIZE));
+                out.write(data, pos, len);
+                pos += len;
+            }
+            // closing twice doesn't write the trailer again
+            out.close();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] gunzip(final byte[] compressed) throws IOException {
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                result.write(buffer, 0, read);
+            }
+        }
+        return result.toByteArray();
+    }
+}
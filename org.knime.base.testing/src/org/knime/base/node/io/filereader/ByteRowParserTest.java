@@ -0,0 +1,256 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.io.filereader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.knime.base.node.preproc.sorter.SorterNodeFactory;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.workflow.SingleNodeContainer;
+
+/**
+ * Compares the rows created by the {@link ByteRowParser} from the bytes of a file with the rows read by a
+ * {@link FileRowIterator}, i.e. by the tokenizer and the {@link DataCellFactory}, and checks that content the parser
+ * can't read exactly like the iterator is rejected.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ByteRowParserTest {
+
+    private static final int NR_ROWS = 5000;
+
+    private static final DataTableSpec SPEC = new DataTableSpec(
+        new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("long", LongCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("double", DoubleCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("string", StringCell.TYPE).createSpec());
+
+    private static final String[] INTS = {"0", "-0", "+7", "007", String.valueOf(Integer.MIN_VALUE),
+        String.valueOf(Integer.MAX_VALUE), "?", "\"12\"", " 3 ", "-1"};
+
+    private static final String[] LONGS = {"0", "+0", String.valueOf(Long.MIN_VALUE), String.valueOf(Long.MAX_VALUE),
+        "12345678901", "?", "\"-5\"", "00000000000000000000001"};
+
+    private static final String[] DOUBLES = {"0", "-0", "-0.0", "1e5", "1E-30", ".5", "5.", "+1.25", "1e22", "1e23",
+        "0.1234567890123456789", "123456789012345678901", "3.0E200", "4.9E-324", "9007199254740993", "?", "\"2.5\"",
+        " 1.5 ", "1.7976931348623157E308"};
+
+    private static ExecutionContext EXEC_CONTEXT;
+
+    /**
+     * Creates the execution context.
+     */
+    @SuppressWarnings("unchecked")
+    @BeforeClass
+    public static void setUpBeforeClass() {
+        EXEC_CONTEXT = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(new SorterNodeFactory()),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+    }
+
+    /**
+     * Numbers in many notations, missing values, quoted tokens and white spaces.
+     *
+     * @throws IOException if the file can't be written or read
+     */
+    @Test
+    public void testCells() throws IOException {
+        assertSameRows(createContent(1, false), false);
+    }
+
+    /**
+     * Row headers read from the file.
+     *
+     * @throws IOException if the file can't be written or read
+     */
+    @Test
+    public void testRowHeaders() throws IOException {
+        assertSameRows(createContent(2, true), true);
+    }
+
+    /**
+     * Comments, escape characters and tokens that aren't numbers are left to the iterator.
+     *
+     * @throws IOException if the file can't be written or read
+     */
+    @Test
+    public void testRejected() throws IOException {
+        final String valid = createContent(3, false);
+        assertRejected(valid + "# a comment\n");
+        assertRejected(valid + "1,2,3,\"with \\\" escape\"\n");
+        assertRejected(valid + "x,2,3,text\n");
+        assertRejected(valid + "1,2.5,3,text\n");
+    }
+
+    /*
+     * Creates rows of the columns of the spec, terminated by line feeds.
+     */
+    private static String createContent(final long seed, final boolean rowHeaders) {
+        final Random random = new Random(seed);
+        final StringBuilder content = new StringBuilder();
+        for (int r = 0; r < NR_ROWS; r++) {
+            if (rowHeaders) {
+                content.append("Row_").append(r).append(',');
+            }
+            final int kind = random.nextInt(4);
+            content.append(kind == 0 ? INTS[random.nextInt(INTS.length)] : Integer.toString(random.nextInt()));
+            content.append(',');
+            content.append(kind == 1 ? LONGS[random.nextInt(LONGS.length)] : Long.toString(random.nextLong()));
+            content.append(',');
+            if (kind == 2) {
+                content.append(DOUBLES[random.nextInt(DOUBLES.length)]);
+            } else if (kind == 3) {
+                content.append(random.nextInt(1000000)).append('.').append(random.nextInt(1000));
+            } else {
+                content.append(random.nextGaussian() * Math.pow(10, random.nextInt(40) - 20));
+            }
+            content.append(",\"").append(r % 3 == 0 ? "a, b \u00e4" : "text").append(r).append("\"\n");
+        }
+        return content.toString();
+    }
+
+    private static FileReaderNodeSettings createSettings(final File file, final boolean rowHeaders)
+        throws IOException {
+        final FileReaderNodeSettings settings = new FileReaderNodeSettings();
+        settings.setDataFileLocationAndUpdateTableName(file.toURI().toURL());
+        settings.setCharsetName(StandardCharsets.UTF_8.name());
+        settings.addRowDelimiter("\n", true);
+        settings.addDelimiterPattern(",", false, false, false);
+        settings.addQuotePattern("\"", "\"", '\\');
+        settings.addSingleLineCommentPattern("#", false, false);
+        settings.addWhiteSpaceCharacter(' ');
+        settings.setFileHasColumnHeaders(false);
+        settings.setFileHasRowHeaders(rowHeaders);
+        for (int c = 0; c < SPEC.getNumColumns(); c++) {
+            settings.setMissingValueForColumn(c, "?");
+        }
+        return settings;
+    }
+
+    private static File writeFile(final String content) throws IOException {
+        final File file = File.createTempFile("ByteRowParserTest", ".csv");
+        file.deleteOnExit();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static void assertSameRows(final String content, final boolean rowHeaders) throws IOException {
+        final File file = writeFile(content);
+        final FileReaderNodeSettings settings = createSettings(file, rowHeaders);
+        final boolean[] skipColumns = new boolean[SPEC.getNumColumns()];
+        assertTrue(ByteRowParser.supports(settings));
+
+        final List<DataRow> expected = new ArrayList<DataRow>();
+        final FileRowIterator it = new FileRowIterator(settings, SPEC, skipColumns, EXEC_CONTEXT);
+        try {
+            while (it.hasNext()) {
+                expected.add(it.next());
+            }
+        } finally {
+            it.dispose();
+        }
+        assertEquals(NR_ROWS, expected.size());
+
+        final List<DataRow> rows = new ArrayList<DataRow>();
+        final BitSet missingRowHeaders = new BitSet();
+        assertTrue("Content not parsed from the bytes", new ByteRowParser(settings, SPEC, skipColumns)
+            .parse(ByteBuffer.wrap(Files.readAllBytes(file.toPath())), rows, missingRowHeaders));
+        assertEquals(expected.size(), rows.size());
+        assertTrue(missingRowHeaders.isEmpty());
+        for (int r = 0; r < rows.size(); r++) {
+            final DataRow expectedRow = expected.get(r);
+            final DataRow row = rows.get(r);
+            if (rowHeaders) {
+                assertEquals(expectedRow.getKey(), row.getKey());
+            }
+            assertEquals(expectedRow.getNumCells(), row.getNumCells());
+            for (int c = 0; c < row.getNumCells(); c++) {
+                final String msg = "Row " + expectedRow.getKey() + ", column " + c;
+                assertEquals(msg, expectedRow.getCell(c), row.getCell(c));
+                if (c == 2 && !row.getCell(c).isMissing()) {
+                    // also the sign of zeros
+                    assertEquals(msg, Double.doubleToLongBits(((DoubleCell)expectedRow.getCell(c)).getDoubleValue()),
+                        Double.doubleToLongBits(((DoubleCell)row.getCell(c)).getDoubleValue()));
+                }
+            }
+        }
+    }
+
+    private static void assertRejected(final String content) throws IOException {
+        final File file = writeFile(content);
+        final FileReaderNodeSettings settings = createSettings(file, false);
+        final boolean[] skipColumns = new boolean[SPEC.getNumColumns()];
+        assertFalse(new ByteRowParser(settings, SPEC, skipColumns)
+            .parse(ByteBuffer.wrap(Files.readAllBytes(file.toPath())), new ArrayList<DataRow>(), new BitSet()));
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.io.filereader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Compares the {@link NumberTokenParser} with {@link Long#parseLong(String)} and {@link Double#parseDouble(String)}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class NumberTokenParserTest {
+
+    private final NumberTokenParser m_parser = new NumberTokenParser();
+
+    /**
+     * Longs are parsed exactly like {@link Long#parseLong(String)}, both the accepted and the rejected ones.
+     */
+    @Test
+    public void testLongEdgeCases() {
+        final String[] tokens = {"0", "-0", "+0", "7", "-7", "+7", "007", "-007", String.valueOf(Long.MAX_VALUE),
+            String.valueOf(Long.MIN_VALUE), "9223372036854775808", "-9223372036854775809", "92233720368547758070",
+            "18446744073709551616", "000000000000000000000000012", "", "-", "+", "--1", "+-1", "1-", "1.0", "1e3",
+            " 1", "1 ", "0x1F", "1L", "abc"};
+        for (String token : tokens) {
+            assertLong(token);
+        }
+    }
+
+    /**
+     * Random longs of all lengths.
+     */
+    @Test
+    public void testRandomLongs() {
+        final Random random = new Random(1);
+        for (int i = 0; i < 100000; i++) {
+            final long value = random.nextLong() >> random.nextInt(64);
+            assertLong(Long.toString(value));
+        }
+    }
+
+    /**
+     * Plain numbers in all notations are accepted and equal to {@link Double#parseDouble(String)}, the ones that
+     * can't be converted exactly are left to it.
+     */
+    @Test
+    public void testDoubleEdgeCases() {
+        final String[] accepted = {"0", "-0", "+0", "0.0", "-0.0", "-.0", "0e5", "-0e-400", "1", "-1", "+1", ".5",
+            "5.", "-.5", "5.e3", "1e5", "1E5", "1e+5", "1e-5", "1e22", "1e-22", "9007199254740992", "0.1", "0.3",
+            "123.456", "-98.76e-3", "1.797693134862315", "000123.4500", "0.000000000000000000001",
+            "123456789012345", "1234567.12345678"};
+        for (String token : accepted) {
+            assertTrue(token, m_parser.parseDouble(token, 0, token.length()));
+            assertDouble(token);
+        }
+        final String[] rejected = {"", "-", "+", ".", "-.", "e5", ".e5", "1e", "1e+", "1e-", "1ee5", "1.2.3", "1e5.0",
+            "--1", "1-", " 1", "1 ", "1d", "1f", "0x1p3", "NaN", "-Infinity", "Infinity", "1,5", "abc"};
+        for (String token : rejected) {
+            assertFalse(token, m_parser.parseDouble(token, 0, token.length()));
+        }
+        // not exactly convertible, Double#parseDouble has to do it
+        final String[] leftToDouble = {"1e23", "1e-23", "9007199254740993", "123456789012345678", "1234567890123456789",
+            "0.1234567890123456789", "4.9E-324", "1.7976931348623157E308", "1e99999999999"};
+        for (String token : leftToDouble) {
+            assertFalse(token, m_parser.parseDouble(token, 0, token.length()));
+        }
+    }
+
+    /**
+     * Random numbers as written by {@link Double#toString(double)}, by {@link BigDecimal} and with few digits.
+     */
+    @Test
+    public void testRandomDoubles() {
+        final Random random = new Random(2);
+        int accepted = 0;
+        for (int i = 0; i < 100000; i++) {
+            final double value = random.nextGaussian() * Math.pow(10, random.nextInt(30) - 15);
+            assertDouble(Double.toString(value));
+            assertDouble(new BigDecimal(value).toPlainString());
+            final String shortToken = (random.nextBoolean() ? "-" : "") + random.nextInt(100000) + "."
+                + random.nextInt(10000) + (random.nextBoolean() ? "" : "e" + (random.nextInt(30) - 15));
+            assertDouble(shortToken);
+            if (m_parser.parseDouble(shortToken, 0, shortToken.length())) {
+                accepted++;
+            }
+        }
+        // the numbers that are typically in files aren't left to Double#parseDouble
+        assertTrue("Only " + accepted + " short numbers accepted", accepted > 90000);
+    }
+
+    /**
+     * Only the characters between start and end are parsed.
+     */
+    @Test
+    public void testRange() {
+        final String chars = "x,-12.5e1,42,";
+        assertTrue(m_parser.parseDouble(chars, 2, 9));
+        assertEquals(-125.0, m_parser.getDouble(), 0.0);
+        assertTrue(m_parser.parseLong(chars, 10, 12));
+        assertEquals(42L, m_parser.getLong());
+        assertFalse(m_parser.parseLong(chars, 10, 10));
+        assertFalse(m_parser.parseDouble(chars, 10, 10));
+        assertFalse(m_parser.parseLong(chars, 9, 12));
+    }
+
+    private void assertLong(final String token) {
+        Long expected;
+        try {
+            expected = Long.parseLong(token);
+        } catch (NumberFormatException e) {
+            expected = null;
+        }
+        final boolean parsed = m_parser.parseLong(token, 0, token.length());
+        if (expected == null) {
+            assertFalse(token, parsed);
+        } else {
+            assertTrue(token, parsed);
+            assertEquals(token, expected.longValue(), m_parser.getLong());
+        }
+    }
+
+    /*
+     * If the token is accepted, the value must be the same as the one of Double#parseDouble, bit by bit.
+     */
+    private void assertDouble(final String token) {
+        if (!m_parser.parseDouble(token, 0, token.length())) {
+            return;
+        }
+        final double expected;
+        try {
+            expected = Double.parseDouble(token);
+        } catch (NumberFormatException e) {
+            fail("Accepted invalid number " + token);
+            return;
+        }
+        assertEquals(token, Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(m_parser.getDouble()));
+    }
+}
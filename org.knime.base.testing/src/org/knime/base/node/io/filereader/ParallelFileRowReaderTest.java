@@ -0,0 +1,266 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.io.filereader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.knime.base.node.preproc.sorter.SorterNodeFactory;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.workflow.SingleNodeContainer;
+
+/**
+ * Compares the rows read by the {@link ParallelFileRowReader} with the rows read by a single {@link FileRowIterator}.
+ * The chunks are made small, so that quotes span chunk boundaries, and the maximal chunk size is exceeded by files
+ * without line feeds.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ParallelFileRowReaderTest {
+
+    private static final int CHUNK_SIZE = 64;
+
+    private static final int MAX_CHUNK_SIZE = 1024;
+
+    private static final int NR_ROWS = 2000;
+
+    private static ExecutionContext EXEC_CONTEXT;
+
+    private static final DataTableSpec SPEC = new DataTableSpec(
+        new DataColumnSpecCreator("id", IntCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("text", StringCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("value", DoubleCell.TYPE).createSpec());
+
+    /**
+     * Creates the execution context.
+     */
+    @SuppressWarnings("unchecked")
+    @BeforeClass
+    public static void setUpBeforeClass() {
+        EXEC_CONTEXT = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(new SorterNodeFactory()),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+    }
+
+    /**
+     * Line feeds as row delimiter, with line feeds and escaped quotes in quoted tokens.
+     *
+     * @throws IOException if the file can't be written or read
+     */
+    @Test
+    public void testLineFeed() throws IOException {
+        final String content = createContent("\n", 1);
+        assertSameRows(writeFile(content, false), false);
+        assertSameRows(writeFile(content, true), false);
+    }
+
+    /**
+     * Carriage return and line feed as row delimiter.
+     *
+     * @throws IOException if the file can't be written or read
+     */
+    @Test
+    public void testCarriageReturnLineFeed() throws IOException {
+        final String content = createContent("\r\n", 2);
+        assertSameRows(writeFile(content, false), false);
+        assertSameRows(writeFile(content, true), false);
+    }
+
+    /**
+     * Carriage returns only, no chunk boundary is found and the file is read sequentially after the maximal chunk
+     * size is exceeded.
+     *
+     * @throws IOException if the file can't be written or read
+     */
+    @Test
+    public void testCarriageReturn() throws IOException {
+        final String content = createContent("\r", 3);
+        assertSameRows(writeFile(content, false), false);
+        assertSameRows(writeFile(content, true), false);
+    }
+
+    /**
+     * Line feeds first, then carriage returns only, the rest of the file is read sequentially after some chunks.
+     *
+     * @throws IOException if the file can't be written or read
+     */
+    @Test
+    public void testSwitchToCarriageReturn() throws IOException {
+        final String content = createContent("\n", 4) + createContent("\r", 5).substring("id,text,value\r".length());
+        assertSameRows(writeFile(content, false), false);
+        assertSameRows(writeFile(content, true), false);
+    }
+
+    /**
+     * Row headers read from the file (with duplicates that are uniquified) and lines skipped at the beginning.
+     *
+     * @throws IOException if the file can't be written or read
+     */
+    @Test
+    public void testRowHeadersAndSkippedLines() throws IOException {
+        final String content = "skipped line\n" + createContent("\n", 6);
+        assertSameRows(writeFile(content, false), true);
+        assertSameRows(writeFile(content, true), true);
+    }
+
+    /*
+     * Creates a table with a column header, the text column is quoted and contains line feeds, carriage returns,
+     * delimiters and escaped quotes.
+     */
+    private static String createContent(final String rowDelimiter, final long seed) {
+        final Random random = new Random(seed);
+        final StringBuilder content = new StringBuilder("id,text,value").append(rowDelimiter);
+        for (int i = 0; i < NR_ROWS; i++) {
+            content.append(i).append(",\"");
+            final int length = random.nextInt(3 * CHUNK_SIZE);
+            for (int j = 0; j < length; j++) {
+                final int kind = random.nextInt(40);
+                if (kind == 0) {
+                    content.append('\n');
+                } else if (kind == 1) {
+                    content.append('\r');
+                } else if (kind == 2) {
+                    content.append(',');
+                } else if (kind == 3) {
+                    content.append("\\\"");
+                } else {
+                    content.append((char)('a' + random.nextInt(26)));
+                }
+            }
+            content.append("\",").append(random.nextGaussian()).append(rowDelimiter);
+        }
+        return content.toString();
+    }
+
+    private static File writeFile(final String content, final boolean compress) throws IOException {
+        final File file = File.createTempFile("ParallelFileRowReaderTest", compress ? ".csv.gz" : ".csv");
+        file.deleteOnExit();
+        try (OutputStream out = compress ? new GZIPOutputStream(new FileOutputStream(file))
+            : new FileOutputStream(file); Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+            writer.write(content);
+        }
+        return file;
+    }
+
+    private static FileReaderNodeSettings createSettings(final File file, final boolean rowHeaders)
+        throws IOException {
+        final FileReaderNodeSettings settings = new FileReaderNodeSettings();
+        settings.setDataFileLocationAndUpdateTableName(file.toURI().toURL());
+        settings.setCharsetName(StandardCharsets.UTF_8.name());
+        settings.addRowDelimiter("\n", true);
+        settings.addRowDelimiter("\r", true);
+        settings.addDelimiterPattern(",", false, false, false);
+        settings.addQuotePattern("\"", "\"", '\\');
+        settings.allowLFinQuotes(true);
+        settings.setFileHasColumnHeaders(true);
+        settings.setFileHasRowHeaders(rowHeaders);
+        if (rowHeaders) {
+            // the ids are used as row headers, the duplicates are uniquified
+            settings.setUniquifyRowIDs(true);
+            settings.setSkipFirstLines(1);
+        }
+        return settings;
+    }
+
+    private static void assertSameRows(final File file, final boolean rowHeaders) throws IOException {
+        final FileReaderNodeSettings settings = createSettings(file, rowHeaders);
+        final DataTableSpec spec = rowHeaders ? new DataTableSpec(SPEC.getColumnSpec(1), SPEC.getColumnSpec(2)) : SPEC;
+        final boolean[] skipColumns = new boolean[spec.getNumColumns()];
+
+        final List<DataRow> expected = new ArrayList<DataRow>();
+        final FileRowIterator sequential = new FileRowIterator(settings, spec, skipColumns, EXEC_CONTEXT);
+        try {
+            while (sequential.hasNext()) {
+                expected.add(sequential.next());
+            }
+        } finally {
+            sequential.dispose();
+        }
+        assertEquals(NR_ROWS, expected.size());
+
+        final ParallelFileRowReader parallel = new ParallelFileRowReader(settings, spec, skipColumns,
+            settings.createNewInputReader(), EXEC_CONTEXT, CHUNK_SIZE, MAX_CHUNK_SIZE);
+        try {
+            for (DataRow expectedRow : expected) {
+                final DataRow row = parallel.next();
+                assertEquals(expectedRow.getKey(), row.getKey());
+                assertEquals(expectedRow.getNumCells(), row.getNumCells());
+                for (int i = 0; i < row.getNumCells(); i++) {
+                    assertEquals("Row " + row.getKey() + ", column " + i, expectedRow.getCell(i), row.getCell(i));
+                }
+            }
+            assertFalse(parallel.hasNext());
+        } finally {
+            parallel.dispose();
+        }
+    }
+}
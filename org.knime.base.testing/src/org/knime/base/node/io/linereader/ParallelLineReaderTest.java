@@ -0,0 +1,188 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.io.linereader;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Test;
+
+/**
+ * Compares the lines the {@link ParallelLineReader} reads in chunks from a local file with the lines read by the
+ * {@link org.knime.base.node.util.BufferedFileReader} from the same content in a gzip file, which isn't read in chunks.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ParallelLineReaderTest {
+
+    // larger than the chunks, which are 4MB
+    private static final int LARGE_SIZE = 11 * 1024 * 1024;
+
+    /**
+     * Several chunks, lines across the chunk boundaries, empty and blank lines, carriage returns.
+     *
+     * @throws IOException if the files can't be written or read
+     */
+    @Test
+    public void testLargeFile() throws IOException {
+        assertSameLines(createContent(1, LARGE_SIZE, "\n"));
+        assertSameLines(createContent(2, LARGE_SIZE, "\r\n"));
+    }
+
+    /**
+     * A line longer than a chunk.
+     *
+     * @throws IOException if the files can't be written or read
+     */
+    @Test
+    public void testLongLine() throws IOException {
+        final StringBuilder content = new StringBuilder("header\n");
+        content.append(createContent(3, 3 * 1024 * 1024, "\n"));
+        for (int i = 0; i < 6 * 1024 * 1024; i++) {
+            content.append((char)('a' + i % 26));
+        }
+        content.append('\n');
+        content.append(createContent(4, 3 * 1024 * 1024, "\n"));
+        assertSameLines(content.toString());
+    }
+
+    /**
+     * Small files, which are parsed by the calling thread, and files without a (non-empty) line.
+     *
+     * @throws IOException if the files can't be written or read
+     */
+    @Test
+    public void testSmallFiles() throws IOException {
+        final String[] contents = {"", "\n", "\n\n", "  \n\t\n", "header", "header\n", "header\r\n", "header\r",
+            "\nheader\nline", "header\nline\n\n", "header\nline\r\n\r\n", "header\n\r\n  \nRow10\n", "\r",
+            createContent(5, 100000, "\n")};
+        for (String content : contents) {
+            assertSameLines(content);
+        }
+    }
+
+    /*
+     * Lines of random lengths starting with "Row", some empty, some blank, the last without line feed.
+     */
+    private static String createContent(final long seed, final int size, final String lineEnd) {
+        final Random random = new Random(seed);
+        final StringBuilder content = new StringBuilder(size + 1000);
+        for (int row = 0; content.length() < size; row++) {
+            switch (random.nextInt(10)) {
+                case 0:
+                    break;
+                case 1:
+                    content.append(" \t ");
+                    break;
+                case 2:
+                    content.append("Row").append(row).append('\r').append("with carriage return");
+                    break;
+                default:
+                    content.append("Row").append(row).append(':');
+                    final int length = random.nextInt(random.nextInt(10) == 0 ? 5000 : 100);
+                    for (int i = 0; i < length; i++) {
+                        content.append((char)(' ' + random.nextInt(95)));
+                    }
+            }
+            content.append(lineEnd);
+        }
+        content.append("Row_last");
+        return content.toString();
+    }
+
+    /*
+     * Reads the content with all settings, from a plain file and from a gzip file.
+     */
+    private static void assertSameLines(final String content) throws IOException {
+        final byte[] bytes = content.getBytes(Charset.defaultCharset());
+        final File plain = File.createTempFile("ParallelLineReaderTest", ".txt");
+        final File gzip = File.createTempFile("ParallelLineReaderTest", ".txt.gz");
+        try {
+            Files.write(plain.toPath(), bytes);
+            try (OutputStream out = new GZIPOutputStream(new FileOutputStream(gzip))) {
+                out.write(bytes);
+            }
+            for (boolean skipEmpty : new boolean[]{false, true}) {
+                for (String regex : new String[]{null, "", "Row[0-9]*[05]:.*", ".*carriage.*"}) {
+                    final String msg = "Skip empty " + skipEmpty + ", regex " + regex;
+                    assertEquals(msg, readLines(gzip, skipEmpty, regex), readLines(plain, skipEmpty, regex));
+                }
+            }
+        } finally {
+            plain.delete();
+            gzip.delete();
+        }
+    }
+
+    /*
+     * The header followed by the lines.
+     */
+    private static List<String> readLines(final File file, final boolean skipEmpty, final String regex)
+        throws IOException {
+        final List<String> lines = new ArrayList<String>();
+        try (ParallelLineReader reader = ParallelLineReader.open(file.toURI().toURL(), skipEmpty, regex)) {
+            lines.add(reader.readHeader());
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+}
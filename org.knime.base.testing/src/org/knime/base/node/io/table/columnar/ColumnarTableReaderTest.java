@@ -0,0 +1,322 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.io.table.columnar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.base.node.io.table.columnar.ColumnarTableReader.RangeFilter;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Writes tables with the {@link ColumnarTableWriter} and compares the rows read by the {@link ColumnarTableReader}
+ * with the rows written: all column types, missing values, dictionary and plain strings, more than one block, the
+ * statistics used by range filters and the empty table.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ColumnarTableReaderTest {
+
+    // three blocks, the last one not full
+    private static final int NR_ROWS = 2 * ColumnarTableFormat.ROWS_PER_BLOCK + 4321;
+
+    private static final DataTableSpec SPEC = new DataTableSpec("test",
+        new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("long", LongCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("double", DoubleCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("boolean", BooleanCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("dictionary", StringCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("plain", StringCell.TYPE).createSpec());
+
+    private Path m_file;
+
+    /**
+     * Creates the file to write.
+     *
+     * @throws IOException if the file can't be created
+     */
+    @Before
+    public void setUp() throws IOException {
+        m_file = Files.createTempFile("columnar", ".table");
+    }
+
+    /**
+     * Deletes the file.
+     *
+     * @throws IOException if the file can't be deleted
+     */
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(m_file);
+    }
+
+    /**
+     * All rows and columns are read as written.
+     *
+     * @throws IOException if writing or reading fails
+     */
+    @Test
+    public void testRoundTrip() throws IOException {
+        final List<DataRow> rows = createRows(NR_ROWS);
+        write(SPEC, rows);
+        try (ColumnarTableReader reader = new ColumnarTableReader(m_file)) {
+            assertEquals(SPEC, reader.getDataTableSpec());
+            assertEquals(NR_ROWS, reader.size());
+            assertRows(rows, reader.iterator());
+        }
+    }
+
+    /**
+     * Only the projected columns are read, in the order asked for.
+     *
+     * @throws IOException if writing or reading fails
+     */
+    @Test
+    public void testProjection() throws IOException {
+        final List<DataRow> rows = createRows(NR_ROWS);
+        write(SPEC, rows);
+        final int[] columns = {5, 0, 3, 0};
+        try (ColumnarTableReader reader = new ColumnarTableReader(m_file)) {
+            assertEquals(Arrays.asList("plain", "int", "boolean", "int"),
+                Arrays.asList(reader.getDataTableSpec(columns).getColumnNames()));
+            assertRows(project(rows, columns, null), reader.iterator(columns, null));
+        }
+    }
+
+    /**
+     * Range filters return the same rows as filtering all rows, also if they skip blocks by their minimum and maximum.
+     *
+     * @throws IOException if writing or reading fails
+     */
+    @Test
+    public void testRangeFilter() throws IOException {
+        final List<DataRow> rows = createRows(NR_ROWS);
+        write(SPEC, rows);
+        final int[] columns = {0, 1, 2, 4};
+        final RangeFilter[] filters = {
+            // within the second block
+            new RangeFilter(1, ColumnarTableFormat.ROWS_PER_BLOCK + 10, ColumnarTableFormat.ROWS_PER_BLOCK + 1000),
+            // spanning the first two blocks
+            new RangeFilter(1, ColumnarTableFormat.ROWS_PER_BLOCK - 5, ColumnarTableFormat.ROWS_PER_BLOCK + 5),
+            // outside of all blocks
+            new RangeFilter(1, -10, -1),
+            new RangeFilter(0, Integer.MIN_VALUE, -1000),
+            new RangeFilter(2, 0.25, 0.5),
+            new RangeFilter(2, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY)};
+        try (ColumnarTableReader reader = new ColumnarTableReader(m_file)) {
+            for (RangeFilter filter : filters) {
+                assertRows(project(rows, columns, filter), reader.iterator(columns, filter));
+            }
+        }
+    }
+
+    /**
+     * A table without rows, also without columns.
+     *
+     * @throws IOException if writing or reading fails
+     */
+    @Test
+    public void testEmptyTable() throws IOException {
+        write(SPEC, new ArrayList<DataRow>());
+        try (ColumnarTableReader reader = new ColumnarTableReader(m_file)) {
+            assertEquals(SPEC, reader.getDataTableSpec());
+            assertEquals(0, reader.size());
+            try (CloseableRowIterator it = reader.iterator()) {
+                assertFalse(it.hasNext());
+            }
+        }
+        final DataTableSpec noColumns = new DataTableSpec("empty");
+        final List<DataRow> rows = new ArrayList<DataRow>();
+        for (int r = 0; r < 10; r++) {
+            rows.add(new DefaultRow(RowKey.createRowKey((long)r), new DataCell[0]));
+        }
+        write(noColumns, rows);
+        try (ColumnarTableReader reader = new ColumnarTableReader(m_file)) {
+            assertEquals(noColumns, reader.getDataTableSpec());
+            assertRows(rows, reader.iterator());
+        }
+    }
+
+    /**
+     * The spec is read from the beginning of the file, without the blocks and the footer.
+     *
+     * @throws IOException if writing or reading fails
+     */
+    @Test
+    public void testReadSpecFromHeader() throws IOException {
+        write(SPEC, createRows(NR_ROWS));
+        final byte[] bytes = Files.readAllBytes(m_file);
+        assertTrue(ColumnarTableReader.isColumnarTable(new ByteArrayInputStream(bytes)));
+        final byte[] start = Arrays.copyOf(bytes, bytes.length / 10);
+        assertEquals(SPEC, ColumnarTableReader.readDataTableSpec(new ByteArrayInputStream(start)));
+    }
+
+    /**
+     * The file is not a columnar table or it is truncated.
+     *
+     * @throws IOException if writing fails
+     */
+    @Test
+    public void testCorruptFile() throws IOException {
+        write(SPEC, createRows(100));
+        final byte[] bytes = Files.readAllBytes(m_file);
+        Files.write(m_file, Arrays.copyOf(bytes, bytes.length - 1));
+        try {
+            new ColumnarTableReader(m_file).close();
+            fail("Truncated file was read");
+        } catch (IOException e) {
+            // expected
+        }
+        final byte[] zip = "PK\u0003\u0004".getBytes(StandardCharsets.US_ASCII);
+        assertFalse(ColumnarTableReader.isColumnarTable(new ByteArrayInputStream(zip)));
+    }
+
+    private void write(final DataTableSpec spec, final List<DataRow> rows) throws IOException {
+        try (OutputStream out = Files.newOutputStream(m_file);
+                ColumnarTableWriter writer = new ColumnarTableWriter(out, spec)) {
+            for (DataRow row : rows) {
+                writer.addRow(row);
+            }
+        }
+    }
+
+    /*
+     * Creates rows with missing values in all columns. The long column is the row index, so that the blocks have
+     * disjoint ranges.
+     */
+    private static List<DataRow> createRows(final int count) {
+        final Random random = new Random(42);
+        final String[] dictionary = {"", "a", "b\u00e4", "\u65e5\u672c", "with space"};
+        final DataCell missing = DataType.getMissingCell();
+        final List<DataRow> rows = new ArrayList<DataRow>(count);
+        for (int r = 0; r < count; r++) {
+            final DataCell[] cells = new DataCell[6];
+            final int i = random.nextInt(10) == 0 ? Integer.MIN_VALUE : random.nextInt();
+            cells[0] = r % 7 == 0 ? missing : new IntCell(r % 1000 == 1 ? Integer.MAX_VALUE : i);
+            cells[1] = r % 11 == 0 ? missing : new LongCell(r);
+            cells[2] = r % 13 == 0 ? missing : new DoubleCell(r % 17 == 0 ? -0.0 : random.nextDouble());
+            cells[3] = r % 3 == 0 ? missing : BooleanCell.get(random.nextBoolean());
+            cells[4] = r % 5 == 0 ? missing : new StringCell(dictionary[random.nextInt(dictionary.length)]);
+            cells[5] = r % 19 == 0 ? missing : new StringCell("Row " + r + " \u00fc " + random.nextLong());
+            rows.add(new DefaultRow(RowKey.createRowKey((long)r), cells));
+        }
+        return rows;
+    }
+
+    private static List<DataRow> project(final List<DataRow> rows, final int[] columns, final RangeFilter filter) {
+        final List<DataRow> result = new ArrayList<DataRow>();
+        for (DataRow row : rows) {
+            if (filter != null) {
+                final DataCell cell = row.getCell(filter.getColumn());
+                if (cell.isMissing()) {
+                    continue;
+                }
+                final double value = cell instanceof IntCell ? ((IntCell)cell).getIntValue()
+                    : cell instanceof LongCell ? ((LongCell)cell).getLongValue() : ((DoubleCell)cell).getDoubleValue();
+                if (value < filter.getMin() || value > filter.getMax()) {
+                    continue;
+                }
+            }
+            final DataCell[] cells = new DataCell[columns.length];
+            for (int c = 0; c < columns.length; c++) {
+                cells[c] = row.getCell(columns[c]);
+            }
+            result.add(new DefaultRow(row.getKey(), cells));
+        }
+        return result;
+    }
+
+    private static void assertRows(final List<DataRow> expected, final CloseableRowIterator it) {
+        try {
+            int r = 0;
+            while (it.hasNext()) {
+                final DataRow row = it.next();
+                assertTrue("More rows than expected", r < expected.size());
+                final DataRow exp = expected.get(r);
+                assertEquals(exp.getKey(), row.getKey());
+                assertEquals("Row " + exp.getKey(), exp.getNumCells(), row.getNumCells());
+                for (int c = 0; c < exp.getNumCells(); c++) {
+                    assertEquals("Row " + exp.getKey() + ", column " + c, exp.getCell(c), row.getCell(c));
+                }
+                r++;
+            }
+            assertEquals(expected.size(), r);
+        } finally {
+            it.close();
+        }
+    }
+}
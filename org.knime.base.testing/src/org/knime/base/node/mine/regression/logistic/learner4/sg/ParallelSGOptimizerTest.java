@@ -0,0 +1,281 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.regression.logistic.learner4.sg;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.knime.base.node.mine.regression.logistic.learner4.LogRegLearnerResult;
+import org.knime.base.node.mine.regression.logistic.learner4.LogRegLearnerSettings;
+import org.knime.base.node.mine.regression.logistic.learner4.LogRegLearnerSettings.LearningRateStrategies;
+import org.knime.base.node.mine.regression.logistic.learner4.LogRegLearnerSettings.Prior;
+import org.knime.base.node.mine.regression.logistic.learner4.LogRegLearnerSettings.Solver;
+import org.knime.base.node.mine.regression.logistic.learner4.data.ClassificationTrainingRow;
+import org.knime.base.node.mine.regression.logistic.learner4.data.ShardableTrainingData;
+import org.knime.base.node.mine.regression.logistic.learner4.data.TrainingData;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Compares the training on several shards by the {@link ParallelSGOptimizer} with the training on a single thread.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ParallelSGOptimizerTest {
+
+    private static final int N_ROWS = 2000;
+
+    private static final long SEED = 7;
+
+    private static final double TOLERANCE = 0.05;
+
+    private static final Progress NO_PROGRESS = new Progress() {
+
+        @Override
+        public void setProgress(final double progress) {
+            // nothing to report
+        }
+
+        @Override
+        public void setProgress(final double progress, final String message) {
+            // nothing to report
+        }
+
+        @Override
+        public void checkCanceled() throws CanceledExecutionException {
+            // never canceled
+        }
+    };
+
+    /**
+     * Tests that the parameter mixing of a single shard results in exactly the coefficients of the training on a
+     * single thread, i.e. the same rows are drawn and the averaging does not change the coefficients.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSingleShard() throws Exception {
+        final MockData data = createData();
+        final MockData sequentialData = new MockData(data, SEED);
+        final LogRegLearnerResult sequential =
+            createOptimizer(sequentialData).optimize(50, sequentialData, NO_PROGRESS);
+        final List<AbstractSGOptimizer<ClassificationTrainingRow, ?, ?>> shardOptimizers = new ArrayList<>();
+        shardOptimizers.add(createOptimizer(new MockData(data, SEED)));
+        final LogRegLearnerResult parallel =
+            new ParallelSGOptimizer<>(createOptimizer(data), shardOptimizers).optimize(50, NO_PROGRESS);
+
+        assertEquals("Wrong number of epochs", sequential.getIter(), parallel.getIter());
+        assertArrayEquals("Coefficients differ", sequential.getBeta().getData(), parallel.getBeta().getData());
+        assertEquals("Log likelihood differs", sequential.getLogLike(), parallel.getLogLike(), 0.0);
+    }
+
+    /**
+     * Tests that the eager training on several threads agrees with the training on a single thread.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSeveralThreadsEager() throws Exception {
+        testSeveralThreads(false);
+    }
+
+    /**
+     * Tests that the lazy training on several threads agrees with the training on a single thread.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSeveralThreadsLazy() throws Exception {
+        testSeveralThreads(true);
+    }
+
+    private static void testSeveralThreads(final boolean lazy) throws Exception {
+        final double[][] expected = learn(1, lazy);
+        for (int nThreads : new int[]{2, 4}) {
+            final double[][] beta = learn(nThreads, lazy);
+            assertEquals(expected.length, beta.length);
+            for (int c = 0; c < expected.length; c++) {
+                assertArrayEquals("Coefficients differ on " + nThreads + " threads", expected[c], beta[c], TOLERANCE);
+            }
+        }
+    }
+
+    private static double[][] learn(final int nThreads, final boolean lazy) throws Exception {
+        final LogRegLearnerSettings settings = new LogRegLearnerSettings();
+        settings.setSolver(Solver.SAG);
+        settings.setPerformLazy(lazy);
+        settings.setPrior(Prior.Gauss);
+        settings.setPriorVariance(1.0);
+        settings.setLearningRateStrategy(LearningRateStrategies.Fixed);
+        settings.setInitialLearningRate(0.1);
+        settings.setMaxEpoch(100);
+        settings.setEpsilon(1e-4);
+        settings.setCalcCovMatrix(false);
+        settings.setNumberOfThreads(nThreads);
+        final SagLogRegLearner learner = new SagLogRegLearner(settings);
+        return learner.learn(new MockData(createData(), SEED), new ExecutionMonitor()).getBeta().getData();
+    }
+
+    private static AbstractSGOptimizer<ClassificationTrainingRow, ?, ?>
+        createOptimizer(final TrainingData<ClassificationTrainingRow> data) {
+        final int nRows = data.getRowCount();
+        final int nFets = data.getFeatureCount();
+        final int nCats = data.getTargetDimension();
+        return new EagerSgOptimizer<>(data, MultinomialLoss.INSTANCE,
+            new EagerSagUpdater.EagerSagUpdaterFactory<ClassificationTrainingRow>(nRows, nFets, nCats),
+            new EagerPriorUpdater(new GaussPrior(1.0), nRows, true), new FixedLearningRateStrategy<>(0.1),
+            new BetaChangeStoppingCriterion<>(nFets, nCats, 1e-4), false);
+    }
+
+    /**
+     * Creates two classes that depend on two normally distributed features via a logistic model.
+     */
+    private static MockData createData() {
+        final Random random = new Random(42);
+        final double[][] features = new double[N_ROWS][];
+        final int[] categories = new int[N_ROWS];
+        for (int i = 0; i < N_ROWS; i++) {
+            features[i] = new double[]{random.nextGaussian(), random.nextGaussian()};
+            final double z = 0.5 + 2 * features[i][0] - features[i][1];
+            categories[i] = random.nextDouble() < 1 / (1 + Math.exp(-z)) ? 0 : 1;
+        }
+        return new MockData(features, categories, SEED);
+    }
+
+    /**
+     * In-memory training data whose shards are distributed as by the
+     * {@link org.knime.base.node.mine.regression.logistic.learner4.data.CompressedSparseRowData}.
+     */
+    private static final class MockData implements ShardableTrainingData<ClassificationTrainingRow> {
+
+        private final double[][] m_features;
+
+        private final int[] m_categories;
+
+        private final ClassificationTrainingRow[] m_rows;
+
+        private final Random m_random;
+
+        MockData(final double[][] features, final int[] categories, final long seed) {
+            m_features = features;
+            m_categories = categories;
+            m_rows = new ClassificationTrainingRow[features.length];
+            for (int i = 0; i < m_rows.length; i++) {
+                m_rows[i] = new MockClassificationTrainingRow(features[i], i, categories[i]);
+            }
+            m_random = new Random(seed);
+        }
+
+        MockData(final MockData data, final long seed) {
+            this(data.m_features, data.m_categories, seed);
+        }
+
+        @Override
+        public Iterator<ClassificationTrainingRow> iterator() {
+            return Arrays.asList(m_rows).iterator();
+        }
+
+        @Override
+        public int getRowCount() {
+            return m_rows.length;
+        }
+
+        @Override
+        public int getFeatureCount() {
+            // the intercept is the first feature
+            return m_features[0].length + 1;
+        }
+
+        @Override
+        public int getTargetDimension() {
+            return 1;
+        }
+
+        @Override
+        public ClassificationTrainingRow getRandomRow() {
+            return m_rows[m_random.nextInt(m_rows.length)];
+        }
+
+        @Override
+        public List<TrainingData<ClassificationTrainingRow>> split(final int nShards) {
+            final int nRows = m_rows.length;
+            final int[] permutation = new int[nRows];
+            for (int i = 0; i < nRows; i++) {
+                permutation[i] = i;
+            }
+            for (int i = nRows - 1; i > 0; i--) {
+                final int r = m_random.nextInt(i + 1);
+                final int swap = permutation[r];
+                permutation[r] = permutation[i];
+                permutation[i] = swap;
+            }
+            final List<TrainingData<ClassificationTrainingRow>> shards = new ArrayList<>(nShards);
+            for (int s = 0; s < nShards; s++) {
+                final int[] positions = Arrays.copyOfRange(permutation, nRows * s / nShards, nRows * (s + 1) / nShards);
+                Arrays.sort(positions);
+                final double[][] features = new double[positions.length][];
+                final int[] categories = new int[positions.length];
+                for (int i = 0; i < positions.length; i++) {
+                    features[i] = m_features[positions[i]];
+                    categories[i] = m_categories[positions[i]];
+                }
+                shards.add(new MockData(features, categories, m_random.nextLong()));
+            }
+            return shards;
+        }
+    }
+
+}
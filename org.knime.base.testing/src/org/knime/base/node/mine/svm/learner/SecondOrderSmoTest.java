@@ -0,0 +1,234 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.svm.learner;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.junit.Test;
+import org.knime.base.node.mine.svm.Svm;
+import org.knime.base.node.mine.svm.kernel.Kernel;
+import org.knime.base.node.mine.svm.kernel.PolynomialKernel;
+import org.knime.base.node.mine.svm.kernel.RBFKernel;
+import org.knime.base.node.mine.svm.util.DoubleVector;
+import org.knime.core.data.RowKey;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Compares the {@link SecondOrderSmo} with Keerthi's algorithm of the {@link SvmAlgorithm}.
+ * Both solvers stop once the optimality conditions are met up to a tolerance, hence their results agree only up to
+ * this tolerance.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class SecondOrderSmoTest {
+
+    private static final int N_ROWS = 200;
+
+    /** Caches 10 kernel rows, i.e. fewer than there are rows. */
+    private static final long SMALL_CACHE = 8L * N_ROWS * 10;
+
+    private static final long LARGE_CACHE = 1L << 30;
+
+    private static final double TOLERANCE = 0.01;
+
+    /**
+     * Tests a linear kernel on separable data, whose few support vectors are determined uniquely.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSeparableLinear() throws Exception {
+        final DoubleVector[] data = createData(3.0);
+        final Kernel kernel = createLinearKernel();
+        final Svm expected = new SvmAlgorithm(data, "pos", kernel, 10.0).run(new ExecutionMonitor());
+        final Svm svm = new SvmAlgorithm(data, "pos", kernel, 10.0, true, SMALL_CACHE).run(new ExecutionMonitor());
+
+        final Map<String, Double> expectedAlphas = getAlphas(expected);
+        final Map<String, Double> alphas = getAlphas(svm);
+        assertEquals("Wrong support vectors", expectedAlphas.keySet(), alphas.keySet());
+        for (Map.Entry<String, Double> e : expectedAlphas.entrySet()) {
+            assertEquals("Wrong alpha of " + e.getKey(), e.getValue(), alphas.get(e.getKey()), TOLERANCE);
+        }
+        compare(data, expected, svm);
+    }
+
+    /**
+     * Tests a RBF kernel on separable data.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSeparableRBF() throws Exception {
+        testSolvers(createData(3.0), createRBFKernel(), 10.0);
+    }
+
+    /**
+     * Tests a linear kernel on data that is not separable, hence some alphas are at their upper bound.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testNonSeparableLinear() throws Exception {
+        testSolvers(createData(0.7), createLinearKernel(), 1.0);
+    }
+
+    /**
+     * Tests a RBF kernel on data that is not separable.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testNonSeparableRBF() throws Exception {
+        testSolvers(createData(0.7), createRBFKernel(), 1.0);
+    }
+
+    /**
+     * Tests that evicting kernel rows from the cache does not change the result.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testCacheSize() throws Exception {
+        for (double distance : new double[]{3.0, 0.7}) {
+            final DoubleVector[] data = createData(distance);
+            final Kernel kernel = createRBFKernel();
+            final Svm small = new SvmAlgorithm(data, "pos", kernel, 1.0, true, SMALL_CACHE).run(new ExecutionMonitor());
+            final Svm large = new SvmAlgorithm(data, "pos", kernel, 1.0, true, LARGE_CACHE).run(new ExecutionMonitor());
+            assertEquals("Wrong support vectors", getAlphas(large).keySet(), getAlphas(small).keySet());
+            assertArrayEquals("Wrong alphas", large.getAlphas(), small.getAlphas(), 0.0);
+            assertEquals("Wrong bias", large.getThreshold(), small.getThreshold(), 0.0);
+        }
+    }
+
+    /**
+     * The dual problem may have several solutions, e.g. for a linear kernel in two dimensions, which differ in the
+     * vectors on the margin. Hence the support vectors of the solvers may differ only in vectors on the margin.
+     */
+    private static void testSolvers(final DoubleVector[] data, final Kernel kernel, final double paramC)
+        throws Exception {
+        final Svm expected = new SvmAlgorithm(data, "pos", kernel, paramC).run(new ExecutionMonitor());
+        final Svm svm = new SvmAlgorithm(data, "pos", kernel, paramC, true, SMALL_CACHE).run(new ExecutionMonitor());
+
+        final Set<String> expectedVectors = getAlphas(expected).keySet();
+        final Set<String> vectors = getAlphas(svm).keySet();
+        for (DoubleVector vector : data) {
+            final String key = vector.getKey().getString();
+            if (expectedVectors.contains(key) != vectors.contains(key)) {
+                final double y = "pos".equals(vector.getClassValue()) ? 1.0 : -1.0;
+                assertEquals("Support vector " + key + " of a single solver is not on the margin", 1.0,
+                    y * expected.distance(vector), TOLERANCE);
+                assertEquals("Support vector " + key + " of a single solver is not on the margin", 1.0,
+                    y * svm.distance(vector), TOLERANCE);
+            }
+        }
+        compare(data, expected, svm);
+    }
+
+    private static void compare(final DoubleVector[] data, final Svm expected, final Svm svm) {
+        assertEquals("Wrong bias", expected.getThreshold(), svm.getThreshold(), TOLERANCE);
+        for (DoubleVector vector : data) {
+            assertEquals("Wrong distance of " + vector.getKey(), expected.distance(vector), svm.distance(vector),
+                2 * TOLERANCE);
+            assertEquals("Wrong prediction of " + vector.getKey(), expected.predict(vector), svm.predict(vector), 0.0);
+        }
+    }
+
+    private static Map<String, Double> getAlphas(final Svm svm) {
+        final Map<String, Double> alphas = new TreeMap<>();
+        final DoubleVector[] vectors = svm.getSupportVectors();
+        for (int i = 0; i < vectors.length; i++) {
+            alphas.put(vectors[i].getKey().getString(), svm.getAlphas()[i]);
+        }
+        assertTrue("No support vectors", !alphas.isEmpty());
+        assertEquals("Duplicate support vectors", vectors.length, alphas.size());
+        return alphas;
+    }
+
+    /**
+     * Creates two normally distributed classes whose centers are <b>distance</b> apart in each dimension.
+     */
+    private static DoubleVector[] createData(final double distance) {
+        final Random random = new Random(1);
+        final DoubleVector[] data = new DoubleVector[N_ROWS];
+        for (int i = 0; i < N_ROWS; i++) {
+            final boolean positive = i % 2 == 0;
+            final double offset = positive ? distance : -distance;
+            final ArrayList<Double> values = new ArrayList<>();
+            values.add(random.nextGaussian() + offset);
+            values.add(random.nextGaussian() + offset / 2);
+            data[i] = new DoubleVector(new RowKey("Row" + i), values, positive ? "pos" : "neg");
+        }
+        return data;
+    }
+
+    private static Kernel createLinearKernel() {
+        final Kernel kernel = new PolynomialKernel();
+        // bias, power and gamma
+        kernel.setParameter(0, 0.0);
+        kernel.setParameter(1, 1.0);
+        kernel.setParameter(2, 1.0);
+        return kernel;
+    }
+
+    private static Kernel createRBFKernel() {
+        final Kernel kernel = new RBFKernel();
+        // sigma
+        kernel.setParameter(0, 1.0);
+        return kernel;
+    }
+
+}
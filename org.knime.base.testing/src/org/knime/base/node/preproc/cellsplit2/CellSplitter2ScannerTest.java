@@ -0,0 +1,363 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.cellsplit2;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.knime.base.node.preproc.sorter.SorterNodeFactory;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.collection.CollectionCellFactory;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.util.tokenizer.Tokenizer;
+
+/**
+ * Compares the cells and the guessed column types of the {@link CellSplitter2CellFactory}, which splits with the
+ * {@link CellSplitter2Scanner} and falls back to the tokenizer, with a split done by the tokenizer only.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class CellSplitter2ScannerTest {
+
+    private static final String COLUMN = "input";
+
+    private static final String[] VALUES = {"1,2,3", " 4 , 5,6 ", "7,8.5", "1,,2", ",", ",,", "a,", "1,2,", "9",
+        "", " ", "  ,  ", "\"1,2\",3", "\"a\"\"b\",c", "x,\"unclosed", "\"\",1", "+5,-0,007", "2147483647,-2147483648",
+        "2147483648,1e3", "NaN,Infinity", "1.,.5", "\u0663\u0664,1", "0x10,1f", "a::b::c", "1::2,3", "\t1\t,\t2",
+        "a\\,b,c", "1,2,3,4,5,6,7"};
+
+    private static ExecutionContext EXEC_CONTEXT;
+
+    /**
+     * Creates the execution context.
+     */
+    @SuppressWarnings("unchecked")
+    @BeforeClass
+    public static void setUpBeforeClass() {
+        EXEC_CONTEXT = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(new SorterNodeFactory()),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+    }
+
+    /**
+     * Guessed columns for delimiters of one and several characters, with and without quotes and trimming.
+     *
+     * @throws Exception if the splitting fails
+     */
+    @Test
+    public void testGuessedColumns() throws Exception {
+        final BufferedDataTable table = createTable(VALUES);
+        for (String delimiter : new String[]{",", "::", "\\t"}) {
+            for (String quote : new String[]{null, "\""}) {
+                for (boolean trim : new boolean[]{true, false}) {
+                    for (boolean useEmptyString : new boolean[]{true, false}) {
+                        final CellSplitter2UserSettings settings =
+                            createSettings(delimiter, quote, trim, useEmptyString);
+                        assertSameSplit(table, settings);
+                        settings.setRemoveQuotes(true);
+                        assertSameSplit(table, settings);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A fixed number of columns, less than the number of tokens of some values whose rest goes to the last column.
+     *
+     * @throws Exception if the splitting fails
+     */
+    @Test
+    public void testFixedColumns() throws Exception {
+        final BufferedDataTable table = createTable(VALUES);
+        for (int numOfCols = 1; numOfCols <= 4; numOfCols++) {
+            for (String quote : new String[]{null, "\""}) {
+                for (boolean trim : new boolean[]{true, false}) {
+                    final CellSplitter2UserSettings settings = createSettings(",", quote, trim, true);
+                    settings.setGuessNumOfCols(false);
+                    settings.setNumOfCols(numOfCols);
+                    assertSameSplit(table, settings);
+                }
+            }
+        }
+    }
+
+    /**
+     * The tokens as list and set.
+     *
+     * @throws Exception if the splitting fails
+     */
+    @Test
+    public void testCollections() throws Exception {
+        final BufferedDataTable table = createTable(VALUES);
+        for (boolean asList : new boolean[]{true, false}) {
+            for (boolean trim : new boolean[]{true, false}) {
+                final CellSplitter2UserSettings settings = createSettings(",", "\"", trim, false);
+                settings.setOutputAsCols(false);
+                settings.setOutputAsList(asList);
+                settings.setOutputAsSet(!asList);
+                assertSameSplit(table, settings);
+            }
+        }
+    }
+
+    /**
+     * Random values of numeric characters, which are guessed as int, double or string columns.
+     *
+     * @throws Exception if the splitting fails
+     */
+    @Test
+    public void testRandomValues() throws Exception {
+        final Random random = new Random(1);
+        final char[] chars = "0123456789000111-+.e ,,,\"".toCharArray();
+        for (int t = 0; t < 50; t++) {
+            // few kinds of characters in the first tables, in which the columns are rather numbers
+            final int nrChars = 10 + Math.min(t, chars.length - 10);
+            final String[] values = new String[20];
+            for (int i = 0; i < values.length; i++) {
+                final StringBuilder value = new StringBuilder();
+                for (int c = random.nextInt(12); c > 0; c--) {
+                    value.append(chars[random.nextInt(nrChars)]);
+                }
+                values[i] = random.nextInt(20) == 0 ? null : value.toString();
+            }
+            final BufferedDataTable table = createTable(values);
+            assertSameSplit(table, createSettings(",", "\"", true, t % 2 == 0));
+            assertSameSplit(table, createSettings(",", null, false, t % 2 == 0));
+        }
+    }
+
+    private static CellSplitter2UserSettings createSettings(final String delimiter, final String quote,
+        final boolean trim, final boolean useEmptyString) {
+        final CellSplitter2UserSettings settings = new CellSplitter2UserSettings();
+        settings.setColumnName(COLUMN);
+        settings.setDelimiter(delimiter);
+        settings.setUseEscapeCharacter(delimiter.startsWith("\\"));
+        settings.setQuotePattern(quote);
+        settings.setTrim(trim);
+        settings.setUseEmptyString(useEmptyString);
+        return settings;
+    }
+
+    private static BufferedDataTable createTable(final String[] values) {
+        final DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator(COLUMN, StringCell.TYPE).createSpec());
+        final BufferedDataContainer container = EXEC_CONTEXT.createDataContainer(spec);
+        for (int i = 0; i < values.length; i++) {
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey(i),
+                values[i] == null ? DataType.getMissingCell() : new StringCell(values[i])));
+        }
+        // a missing value in every table
+        container.addRowToTable(new DefaultRow(RowKey.createRowKey(values.length), DataType.getMissingCell()));
+        container.close();
+        return container.getTable();
+    }
+
+    private static void assertSameSplit(final BufferedDataTable table, final CellSplitter2UserSettings userSettings)
+        throws Exception {
+        final String msg = "delimiter '" + userSettings.getDelimiter() + "', quote '" + userSettings.getQuotePattern()
+            + "', remove quotes " + userSettings.isRemoveQuotes() + ", trim " + userSettings.isTrim()
+            + ", empty string " + userSettings.isUseEmptyString();
+        final CellSplitter2Settings settings = CellSplitter2CellFactory.createNewColumnTypes(table, userSettings, null);
+        final List<DataType> types = userSettings.isOutputAsCols() ? guessTypes(table, userSettings) : null;
+        if (types != null) {
+            final int numOfCols = userSettings.isGuessNumOfCols() ? settings.getNumOfColsGuessed()
+                : userSettings.getNumOfCols();
+            final List<DataType> guessedTypes = new ArrayList<DataType>();
+            for (int col = 0; col < numOfCols; col++) {
+                guessedTypes.add(settings.getTypeOfColumn(col));
+            }
+            assertEquals(msg, types, guessedTypes);
+        }
+        final CellSplitter2CellFactory factory = new CellSplitter2CellFactory(table.getDataTableSpec(), settings);
+        for (DataRow row : table) {
+            final DataCell input = row.getCell(0);
+            final List<DataCell> expected = types != null ? split(input, userSettings, types)
+                : splitToCollection(input, userSettings);
+            assertEquals(msg + ", value '" + input + "'", expected, Arrays.asList(factory.getCells(row)));
+        }
+    }
+
+    private static Tokenizer createTokenizer(final Reader reader, final CellSplitter2UserSettings settings) {
+        final Tokenizer tokenizer = new Tokenizer(reader);
+        tokenizer.setSettings(settings.createTokenizerSettings());
+        return tokenizer;
+    }
+
+    /** The types guessed from the trimmed tokens, all strings if the number of columns is set. */
+    private static List<DataType> guessTypes(final BufferedDataTable table, final CellSplitter2UserSettings settings) {
+        final List<DataType> types = new ArrayList<DataType>();
+        if (!settings.isGuessNumOfCols()) {
+            for (int col = 0; col < settings.getNumOfCols(); col++) {
+                types.add(StringCell.TYPE);
+            }
+            return types;
+        }
+        for (DataRow row : table) {
+            if (row.getCell(0).isMissing()) {
+                continue;
+            }
+            final Tokenizer tokenizer = createTokenizer(new StringReader(row.getCell(0).toString()), settings);
+            String token;
+            for (int col = 0; (token = tokenizer.nextToken()) != null; col++) {
+                token = token.trim();
+                if (col == types.size()) {
+                    types.add(IntCell.TYPE);
+                }
+                if (types.get(col).equals(IntCell.TYPE)) {
+                    try {
+                        Integer.parseInt(token);
+                    } catch (NumberFormatException e) {
+                        types.set(col, DoubleCell.TYPE);
+                    }
+                }
+                if (types.get(col).equals(DoubleCell.TYPE)) {
+                    try {
+                        Double.parseDouble(token);
+                    } catch (NumberFormatException e) {
+                        types.set(col, StringCell.TYPE);
+                    }
+                }
+            }
+        }
+        return types;
+    }
+
+    /** The cells of the tokens, the last column containing the rest of the value. */
+    private static List<DataCell> split(final DataCell input, final CellSplitter2UserSettings settings,
+        final List<DataType> types) throws Exception {
+        final List<DataCell> cells = new ArrayList<DataCell>();
+        if (input.isMissing()) {
+            for (DataType type : types) {
+                cells.add(settings.isUseEmptyString() && type.equals(StringCell.TYPE) ? new StringCell("")
+                    : DataType.getMissingCell());
+            }
+            return cells;
+        }
+        final StringReader reader = new StringReader(input.toString());
+        final Tokenizer tokenizer = createTokenizer(reader, settings);
+        for (int col = 0; col < types.size(); col++) {
+            String token;
+            if (col == types.size() - 1) {
+                reader.mark(0);
+                token = tokenizer.nextToken();
+                if (reader.read() != -1) {
+                    reader.reset();
+                    final StringBuilder rest = new StringBuilder();
+                    for (int c = reader.read(); c != -1; c = reader.read()) {
+                        rest.append((char)c);
+                    }
+                    token = rest.toString();
+                }
+            } else {
+                token = tokenizer.nextToken();
+            }
+            final DataType type = types.get(col);
+            if (token == null) {
+                cells.add(settings.isUseEmptyString() && type.equals(StringCell.TYPE) ? new StringCell("")
+                    : DataType.getMissingCell());
+                continue;
+            }
+            if (settings.isTrim()) {
+                token = token.trim();
+            }
+            if (type.equals(StringCell.TYPE)) {
+                cells.add(new StringCell(token));
+            } else if (token.isEmpty()) {
+                cells.add(DataType.getMissingCell());
+            } else if (type.equals(DoubleCell.TYPE)) {
+                cells.add(new DoubleCell(Double.parseDouble(token)));
+            } else {
+                cells.add(new IntCell(Integer.parseInt(token)));
+            }
+        }
+        return cells;
+    }
+
+    /** The list or set cell of all tokens. */
+    private static List<DataCell> splitToCollection(final DataCell input, final CellSplitter2UserSettings settings) {
+        final List<DataCell> tokens = new ArrayList<DataCell>();
+        if (input.isMissing()) {
+            if (!settings.isUseEmptyString()) {
+                return Arrays.asList(DataType.getMissingCell());
+            }
+            tokens.add(new StringCell(""));
+            return Arrays.asList(CollectionCellFactory.createListCell(tokens));
+        }
+        final Tokenizer tokenizer = createTokenizer(new StringReader(input.toString()), settings);
+        String token;
+        while ((token = tokenizer.nextToken()) != null) {
+            tokens.add(new StringCell(settings.isTrim() ? token.trim() : token));
+        }
+        return Arrays.asList(settings.isOutputAsList() ? CollectionCellFactory.createListCell(tokens)
+            : CollectionCellFactory.createSetCell(tokens));
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.colautotypecast;
+
+import static org.junit.Assert.assertEquals;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.date.DateAndTimeCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Compares the scanners of the {@link ColumnTypeGuesser} with {@link Integer#parseInt(String)},
+ * {@link Long#parseLong(String)}, {@link Double#parseDouble(String)} and {@link java.text.DateFormat#parse(String)},
+ * which they replace.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ColumnTypeGuesserTest {
+
+    private static final String DATE_FORMAT = "dd.MM.yyyy";
+
+    private static final String[] VALUES = {"", " ", "0", "-0", "+0", "-", "+", "--1", "+-1", "1-", "007", "12a",
+        "2147483647", "2147483648", "-2147483648", "-2147483649", "+2147483647", "9223372036854775807",
+        "9223372036854775808", "-9223372036854775808", "-9223372036854775809", "99999999999999999999",
+        "00000000000000000000000000009223372036854775807", "\u0661\u0662\u0663", "-\u0967\u0968", "\uff11\uff12",
+        "\u00b2", " 1", "1 ", "\t1\n", " 1.5 ", "\u00a01", "1\u2003", ".", "1.", ".5", "-.5", "+.5e1", "1.e5", ".e5",
+        "e5", "1e", "1e+", "1e-5", "1E+05", "1e5.5", "1.5.5", "1f", "1.5F", "1d", "1.5D", "1e5f", "1.f", ".5d", "1fd",
+        "f", "1L", "1_000", "1,5", "0x10", "0x1p4", "0X1P-4", "0x1.8p1", "0x.8p1", "0x1.p1", "0x.p1", "0xp1", "0x1",
+        "0x1.8", "0x1p", "0x1p4f", "0x1p4D", "-0x1p4", " 0x1p4 ", "0xg1p4", "NaN", "-NaN", "+NaN", "nan", "NaNd",
+        " NaN ", "Infinity", "-Infinity", "+Infinity", "infinity", "Infinityf", "Inf", "1e400", "-1e400", "1e-400",
+        "4.9e-324", "1.7976931348623157e308", "1.7976931348623159e308", "12.03.2020", "1.1.1", "12.03.2020 13:00",
+        "31.02.2020", "12.03", "12.3.20", "x12.03.2020"};
+
+    /**
+     * The integer scanner decides like {@link Integer#parseInt(String)} and {@link Long#parseLong(String)}.
+     */
+    @Test
+    public void testIntegerType() {
+        for (String value : createValues()) {
+            assertEquals("'" + value + "'", getIntegerType(value), ColumnTypeGuesser.getIntegerType(value));
+        }
+    }
+
+    /**
+     * The floating point scanner decides like {@link Double#parseDouble(String)}.
+     */
+    @Test
+    public void testDouble() {
+        for (String value : createValues()) {
+            assertEquals("'" + value + "'", isDouble(value), ColumnTypeGuesser.isDouble(value));
+        }
+    }
+
+    /**
+     * The guessed type of a single value is the one of the former guessing with exceptions, including dates and the
+     * bit strings too long for a double.
+     */
+    @Test
+    public void testGuessedType() {
+        final List<String> values = createValues();
+        final StringBuilder bits = new StringBuilder();
+        for (int i = 0; i < 400; i++) {
+            bits.append(i % 3 == 0 ? '0' : '1');
+        }
+        values.add(bits.toString());
+        values.add(bits.toString() + "2");
+        values.add(bits.substring(0, 30));
+        for (String value : values) {
+            final ColumnTypeGuesser guesser =
+                new ColumnTypeGuesser("column", 0, DATE_FORMAT, null, false, new String[3]);
+            guesser.guess(Arrays.asList(new DefaultRow(RowKey.createRowKey(0L), new StringCell(value))));
+            assertEquals("'" + value + "'", guessType(value), guesser.getType());
+        }
+    }
+
+    /**
+     * The listed values, numbers at the boundaries of int and long, and random strings of the characters of numbers.
+     */
+    private static List<String> createValues() {
+        final List<String> values = new ArrayList<String>(Arrays.asList(VALUES));
+        for (long boundary : new long[]{Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            for (int delta = -2; delta <= 2; delta++) {
+                final long value = boundary + delta;
+                values.add(Long.toString(value));
+                values.add("+" + value);
+            }
+        }
+        values.add("9223372036854775808");
+        values.add("-9223372036854775809");
+        final Random random = new Random(1);
+        final char[] chars = "0123456789012345678901234567890+-.eExXpPfFdDaAN \u0663".toCharArray();
+        for (int i = 0; i < 200000; i++) {
+            final StringBuilder value = new StringBuilder();
+            for (int c = random.nextInt(i % 2 == 0 ? 8 : 25); c >= 0; c--) {
+                value.append(chars[random.nextInt(chars.length)]);
+            }
+            values.add(value.toString());
+            // numeric looking values
+            values.add((random.nextBoolean() ? "-" : "") + random.nextInt(1000) + "." + random.nextInt(1000) + "e"
+                + (random.nextInt(700) - 350));
+            values.add(Long.toString(random.nextLong() >> random.nextInt(64)));
+            values.add(Double.toString(Double.longBitsToDouble(random.nextLong())));
+            values.add(Double.toHexString(random.nextDouble() * random.nextInt(100000)));
+        }
+        return values;
+    }
+
+    private static int getIntegerType(final String value) {
+        try {
+            Integer.parseInt(value);
+            return ColumnTypeGuesser.INTEGER;
+        } catch (NumberFormatException e) {
+            // try a long
+        }
+        try {
+            Long.parseLong(value);
+            return ColumnTypeGuesser.LONG;
+        } catch (NumberFormatException e) {
+            return ColumnTypeGuesser.NO_INTEGER;
+        }
+    }
+
+    private static boolean isDouble(final String value) {
+        try {
+            Double.parseDouble(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /** The type guessing before the scanners. */
+    private static DataType guessType(final String value) {
+        final DataCell cell = new StringCell(value);
+        try {
+            new SimpleDateFormat(DATE_FORMAT).parse(value);
+            return DateAndTimeCell.TYPE;
+        } catch (ParseException e) {
+            // try another one
+        }
+        switch (getIntegerType(value)) {
+            case ColumnTypeGuesser.INTEGER:
+                return IntCell.TYPE;
+            case ColumnTypeGuesser.LONG:
+                return LongCell.TYPE;
+            default:
+                break;
+        }
+        if (isDouble(value)) {
+            if (Double.isInfinite(Double.parseDouble(value)) && value.matches("[01]+")) {
+                return StringCell.TYPE;
+            }
+            return DoubleCell.TYPE;
+        }
+        return cell.getType();
+    }
+}
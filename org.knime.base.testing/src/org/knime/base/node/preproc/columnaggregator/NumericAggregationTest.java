@@ -0,0 +1,210 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.columnaggregator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.knime.base.data.aggregation.AggregationOperator;
+import org.knime.base.data.aggregation.GlobalSettings;
+import org.knime.base.data.aggregation.OperatorColumnSettings;
+import org.knime.base.data.aggregation.general.CountOperator;
+import org.knime.base.data.aggregation.general.MaxOperator;
+import org.knime.base.data.aggregation.general.MinOperator;
+import org.knime.base.data.aggregation.numerical.MeanOperator;
+import org.knime.base.data.aggregation.numerical.MedianOperator;
+import org.knime.base.data.aggregation.numerical.StdDeviationOperator;
+import org.knime.base.data.aggregation.numerical.SumOperator;
+import org.knime.base.data.aggregation.numerical.VarianceOperator;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+
+/**
+ * Compares the results of the {@link NumericAggregation}s with the ones of the operators they replace.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class NumericAggregationTest {
+
+    private static final int NR_COLUMNS = 20;
+
+    private static final int NR_ROWS = 2000;
+
+    /**
+     * Doubles of all magnitudes.
+     */
+    @Test
+    public void testDoubles() {
+        assertSameResults(DoubleCell.TYPE, 1);
+    }
+
+    /**
+     * Integers, including sums beyond the range of int.
+     */
+    @Test
+    public void testIntegers() {
+        assertSameResults(IntCell.TYPE, 2);
+    }
+
+    /**
+     * Longs.
+     */
+    @Test
+    public void testLongs() {
+        assertSameResults(LongCell.TYPE, 3);
+    }
+
+    private static void assertSameResults(final DataType type, final long seed) {
+        final DataColumnSpec spec = new DataColumnSpecCreator("Super DataType of selected columns", type).createSpec();
+        final int[] colIdxs = new int[NR_COLUMNS];
+        for (int c = 0; c < colIdxs.length; c++) {
+            colIdxs[c] = c;
+        }
+        final Random random = new Random(seed);
+        final List<DataRow> rows = new ArrayList<DataRow>();
+        for (int r = 0; r < NR_ROWS; r++) {
+            rows.add(createRow(random, type, r));
+        }
+        // the median of rows with more values than the maximum number of unique values is missing
+        for (int maxUniqueValues : new int[]{10000, 10}) {
+            final GlobalSettings globalSettings = GlobalSettings.builder().setMaxUniqueValues(maxUniqueValues).build();
+            for (boolean inclMissing : new boolean[]{false, true}) {
+                final OperatorColumnSettings colSettings = new OperatorColumnSettings(inclMissing, spec);
+                final AggregationOperator[] operators = {new SumOperator(globalSettings, colSettings),
+                    new MeanOperator(globalSettings, colSettings), new VarianceOperator(globalSettings, colSettings),
+                    new StdDeviationOperator(globalSettings, colSettings),
+                    new MinOperator(globalSettings, colSettings), new MaxOperator(globalSettings, colSettings),
+                    new MedianOperator(globalSettings, colSettings), new CountOperator(globalSettings, colSettings)};
+                for (AggregationOperator operator : operators) {
+                    final NumericAggregation aggregation = NumericAggregation.create(operator, type);
+                    // the order of the longs as doubles isn't their order, the operators are used for them
+                    final boolean ordered = !(operator instanceof MinOperator || operator instanceof MaxOperator
+                        || operator instanceof MedianOperator) || !LongCell.TYPE.equals(type);
+                    final boolean ignoresMissing = !inclMissing || operator instanceof CountOperator
+                        || operator instanceof MinOperator || operator instanceof MaxOperator;
+                    if (ordered && ignoresMissing) {
+                        assertNotNull(operator.getId() + " not specialized for " + type, aggregation);
+                    }
+                    if (aggregation != null) {
+                        assertSameResults(operator, aggregation, rows, colIdxs, maxUniqueValues);
+                    }
+                }
+            }
+        }
+    }
+
+    /*
+     * Values with ties and missing cells, some rows without any value.
+     */
+    private static DataRow createRow(final Random random, final DataType type, final int r) {
+        final double missingRate = r % 10 == 0 ? 1.0 : random.nextDouble() * 0.5;
+        final DataCell[] cells = new DataCell[NR_COLUMNS];
+        for (int c = 0; c < cells.length; c++) {
+            if (random.nextDouble() < missingRate) {
+                cells[c] = DataType.getMissingCell();
+            } else if (IntCell.TYPE.equals(type)) {
+                cells[c] = new IntCell(r % 7 == 0 ? Integer.MAX_VALUE - random.nextInt(3) : random.nextInt(200) - 100);
+            } else if (LongCell.TYPE.equals(type)) {
+                cells[c] = new LongCell(random.nextInt(5) == 0 ? random.nextInt(4) : random.nextLong() >> 20);
+            } else {
+                cells[c] = new DoubleCell(random.nextInt(5) == 0 ? random.nextInt(4)
+                    : random.nextGaussian() * Math.pow(10, random.nextInt(20) - 10));
+            }
+        }
+        return new DefaultRow(RowKey.createRowKey(r), cells);
+    }
+
+    private static void assertSameResults(final AggregationOperator operator, final NumericAggregation aggregation,
+        final List<DataRow> rows, final int[] colIdxs, final int maxUniqueValues) {
+        final double[] values = new double[colIdxs.length];
+        final DataCell[] cells = new DataCell[colIdxs.length];
+        final double[] buffer = new double[colIdxs.length];
+        for (DataRow row : rows) {
+            int length = 0;
+            for (int colIdx : colIdxs) {
+                final DataCell cell = row.getCell(colIdx);
+                if (!cell.isMissing()) {
+                    values[length] = ((DoubleValue)cell).getDoubleValue();
+                    cells[length++] = cell;
+                }
+            }
+            operator.compute(row, colIdxs);
+            final DataCell expected = operator.getResult();
+            operator.reset();
+            final DataCell result = aggregation.compute(values, cells, length, colIdxs.length, buffer);
+            final String msg = operator.getId() + ", include missing " + operator.inclMissingCells()
+                + ", max unique values " + maxUniqueValues + ", row " + row.getKey();
+            assertEquals(msg, expected.isMissing(), result.isMissing());
+            if (expected.isMissing()) {
+                continue;
+            }
+            assertEquals(msg, expected.getType(), result.getType());
+            assertEquals(msg, expected, result);
+            if (expected instanceof DoubleCell) {
+                // also the last bit
+                assertEquals(msg, Double.doubleToLongBits(((DoubleCell)expected).getDoubleValue()),
+                    Double.doubleToLongBits(((DoubleCell)result).getDoubleValue()));
+            }
+        }
+    }
+}
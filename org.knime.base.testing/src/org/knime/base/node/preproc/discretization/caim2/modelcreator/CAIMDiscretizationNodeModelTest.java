@@ -0,0 +1,194 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.discretization.caim2.modelcreator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.knime.base.node.preproc.discretization.caim2.DiscretizationScheme;
+import org.knime.base.node.preproc.sorter.SorterNodeFactory;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.defaultnodesettings.SettingsModelFilterString;
+import org.knime.core.node.defaultnodesettings.SettingsModelString;
+import org.knime.core.node.workflow.SingleNodeContainer;
+
+/**
+ * Compares the schemes of the in memory discretization ({@link CAIMColumn}) with the ones of the table based
+ * implementation, which sorts the table for each column.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class CAIMDiscretizationNodeModelTest {
+
+    private static final String[] COLUMNS = {"gaussian", "ties", "missing", "int", "noise"};
+
+    private static ExecutionContext EXEC_CONTEXT;
+
+    /**
+     * Creates the execution context.
+     */
+    @SuppressWarnings("unchecked")
+    @BeforeClass
+    public static void setUpBeforeClass() {
+        EXEC_CONTEXT = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(new SorterNodeFactory()),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+    }
+
+    /*
+     * Creates a model discretizing all columns but the class column.
+     */
+    private static CAIMDiscretizationNodeModel createModel() throws Exception {
+        final CAIMDiscretizationNodeModel model = new CAIMDiscretizationNodeModel();
+        final NodeSettings settings = new NodeSettings("CAIM");
+        final SettingsModelString classColumn = CAIMDiscretizationNodeModel.createClassColModel();
+        classColumn.setStringValue("class");
+        classColumn.saveSettingsTo(settings);
+        final SettingsModelFilterString includedColumns = CAIMDiscretizationNodeModel.createIncludeColsModel();
+        includedColumns.setIncludeList(Arrays.asList(COLUMNS));
+        includedColumns.saveSettingsTo(settings);
+        CAIMDiscretizationNodeModel.createSortInMemModel().saveSettingsTo(settings);
+        model.loadValidatedSettingsFrom(settings);
+        return model;
+    }
+
+    /**
+     * Two classes.
+     *
+     * @throws Exception if the discretization fails
+     */
+    @Test
+    public void testTwoClasses() throws Exception {
+        assertSameSchemes(createTable(1, 2000, 2));
+    }
+
+    /**
+     * Several classes, with values that overlap between the classes.
+     *
+     * @throws Exception if the discretization fails
+     */
+    @Test
+    public void testSeveralClasses() throws Exception {
+        assertSameSchemes(createTable(2, 3000, 5));
+        assertSameSchemes(createTable(3, 500, 3));
+    }
+
+    /**
+     * A single class and tables with few rows.
+     *
+     * @throws Exception if the discretization fails
+     */
+    @Test
+    public void testFewRowsAndSingleClass() throws Exception {
+        assertSameSchemes(createTable(4, 1000, 1));
+        for (int rows = 2; rows < 10; rows++) {
+            assertSameSchemes(createTable(rows, rows, 2));
+        }
+    }
+
+    /*
+     * The class column and the included columns; the values depend on the class, with noise.
+     */
+    private static BufferedDataTable createTable(final long seed, final int nrRows, final int nrClasses) {
+        final DataType[] types = {DoubleCell.TYPE, DoubleCell.TYPE, DoubleCell.TYPE, IntCell.TYPE, DoubleCell.TYPE};
+        final DataColumnSpec[] columnSpecs = new DataColumnSpec[COLUMNS.length + 1];
+        columnSpecs[0] = new DataColumnSpecCreator("class", StringCell.TYPE).createSpec();
+        for (int c = 0; c < COLUMNS.length; c++) {
+            columnSpecs[c + 1] = new DataColumnSpecCreator(COLUMNS[c], types[c]).createSpec();
+        }
+        final DataTableSpec spec = new DataTableSpec(columnSpecs);
+        final Random random = new Random(seed);
+        final BufferedDataContainer container = EXEC_CONTEXT.createDataContainer(spec);
+        for (int r = 0; r < nrRows; r++) {
+            final int classIndex = random.nextInt(nrClasses);
+            final DataCell[] cells = new DataCell[COLUMNS.length + 1];
+            cells[0] = new StringCell("class" + classIndex);
+            cells[1] = new DoubleCell(classIndex * 2 + random.nextGaussian());
+            cells[2] = new DoubleCell(random.nextInt(4) == 0 ? random.nextInt(5) : classIndex);
+            cells[3] = random.nextInt(5) == 0 ? DataType.getMissingCell()
+                : new DoubleCell(classIndex + random.nextDouble() * 1.5);
+            cells[4] = new IntCell(classIndex * 10 + random.nextInt(15));
+            cells[5] = new DoubleCell(random.nextDouble());
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey(r), cells));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private void assertSameSchemes(final BufferedDataTable table) throws Exception {
+        final DiscretizationScheme[] expected = createModel().discretize(table, EXEC_CONTEXT, false);
+        final DiscretizationScheme[] schemes = createModel().discretize(table, EXEC_CONTEXT, true);
+        assertEquals(expected.length, schemes.length);
+        for (int c = 0; c < schemes.length; c++) {
+            assertArrayEquals(COLUMNS[c], expected[c].getBounds(), schemes[c].getBounds(), 0.0);
+            assertEquals(COLUMNS[c], expected[c].toString(), schemes[c].toString());
+        }
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.pivot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.knime.base.data.aggregation.AggregationMethods;
+import org.knime.base.data.aggregation.ColumnAggregator;
+import org.knime.base.node.preproc.sorter.SorterNodeFactory;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelFilterString;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.workflow.SingleNodeContainer;
+
+/**
+ * Compares the tables pivoted from the {@link HashPivotTable} with the tables pivoted from the (sorted) group table
+ * created by the GroupBy.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class HashPivotTableTest {
+
+    private static ExecutionContext EXEC_CONTEXT;
+
+    private static BufferedDataTable TABLE;
+
+    /**
+     * Creates the execution context and the input table.
+     */
+    @SuppressWarnings("unchecked")
+    @BeforeClass
+    public static void setUpBeforeClass() {
+        EXEC_CONTEXT = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(new SorterNodeFactory()),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+        final DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("group", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("subgroup", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("pivot", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("subpivot", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("value", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("text", StringCell.TYPE).createSpec());
+        final Random random = new Random(1);
+        final BufferedDataContainer container = EXEC_CONTEXT.createDataContainer(spec);
+        for (int r = 0; r < 5000; r++) {
+            final DataCell[] cells = {createStringCell(random, "g", 40), new IntCell(random.nextInt(3)),
+                createStringCell(random, "p", 6), new IntCell(random.nextInt(2)),
+                random.nextInt(10) == 0 ? DataType.getMissingCell() : new DoubleCell(random.nextInt(1000) / 10.0),
+                createStringCell(random, "t", 1000)};
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey(r), cells));
+        }
+        container.close();
+        TABLE = container.getTable();
+    }
+
+    private static DataCell createStringCell(final Random random, final String prefix, final int nrValues) {
+        return random.nextInt(30) == 0 ? DataType.getMissingCell() : new StringCell(prefix + random.nextInt(nrValues));
+    }
+
+    /**
+     * A group and a pivot column, with all processing options.
+     *
+     * @throws Exception if the pivoting fails
+     */
+    @Test
+    public void testSingleColumns() throws Exception {
+        for (boolean inMemory : new boolean[]{false, true}) {
+            for (boolean retainOrder : new boolean[]{false, true}) {
+                assertSameTables(new String[]{"group"}, new String[]{"pivot"}, inMemory, retainOrder, false);
+            }
+        }
+    }
+
+    /**
+     * Several group and pivot columns, ignoring missing pivot values or not.
+     *
+     * @throws Exception if the pivoting fails
+     */
+    @Test
+    public void testSeveralColumns() throws Exception {
+        for (boolean inMemory : new boolean[]{false, true}) {
+            for (boolean ignoreMissing : new boolean[]{false, true}) {
+                assertSameTables(new String[]{"subgroup", "group"}, new String[]{"subpivot", "pivot"}, inMemory,
+                    !inMemory, ignoreMissing);
+            }
+        }
+    }
+
+    /**
+     * No group column, all rows are in a single group.
+     *
+     * @throws Exception if the pivoting fails
+     */
+    @Test
+    public void testWithoutGroups() throws Exception {
+        for (boolean inMemory : new boolean[]{false, true}) {
+            assertSameTables(new String[0], new String[]{"pivot", "subpivot"}, inMemory, false, false);
+        }
+    }
+
+    /**
+     * A list aggregation that skips the groups with more values than the maximum number of unique values, which is
+     * reported for the main table as well as for the totals.
+     *
+     * @throws Exception if the pivoting fails
+     */
+    @Test
+    public void testSkippedGroups() throws Exception {
+        final ColumnAggregator list = new ColumnAggregator(TABLE.getDataTableSpec().getColumnSpec("text"),
+            AggregationMethods.getMethod4Id("List"));
+        for (boolean inMemory : new boolean[]{false, true}) {
+            final List<String> expectedWarnings = new ArrayList<String>();
+            pivot(new String[]{"group"}, new String[]{"pivot"}, inMemory, false, false, false, Arrays.asList(list), 15,
+                expectedWarnings);
+            final List<String> warnings = new ArrayList<String>();
+            pivot(new String[]{"group"}, new String[]{"pivot"}, inMemory, false, false, true, Arrays.asList(list), 15,
+                warnings);
+            // the main table, the pivot totals and the group totals
+            assertEquals("in memory " + inMemory, 3, expectedWarnings.size());
+            assertEquals("in memory " + inMemory, expectedWarnings.size(), warnings.size());
+            for (String warning : warnings) {
+                assertTrue(warning, warning.startsWith("Skipped group(s): text"));
+            }
+            if (!inMemory) {
+                // the same sorted groups, the groups of the in-memory table are reported in no particular order
+                assertEquals(expectedWarnings, warnings);
+            }
+        }
+    }
+
+    private static void assertSameTables(final String[] groupColumns, final String[] pivotColumns,
+        final boolean inMemory, final boolean retainOrder, final boolean ignoreMissing) throws Exception {
+        final String msg = Arrays.toString(groupColumns) + " " + Arrays.toString(pivotColumns) + ", in memory "
+            + inMemory + ", retain order " + retainOrder + ", ignore missing " + ignoreMissing;
+        final DataTableSpec spec = TABLE.getDataTableSpec();
+        final List<ColumnAggregator> aggregators = Arrays.asList(
+            new ColumnAggregator(spec.getColumnSpec("value"), AggregationMethods.getMethod4Id("Sum_V2.5.2")),
+            new ColumnAggregator(spec.getColumnSpec("value"), AggregationMethods.getDefaultNumericalMethod()),
+            new ColumnAggregator(spec.getColumnSpec("text"), AggregationMethods.getDefaultNotNumericalMethod()));
+        final PortObject[] expected = pivot(groupColumns, pivotColumns, inMemory, retainOrder, ignoreMissing, false,
+            aggregators, 10000, new ArrayList<String>());
+        final PortObject[] tables = pivot(groupColumns, pivotColumns, inMemory, retainOrder, ignoreMissing, true,
+            aggregators, 10000, new ArrayList<String>());
+        assertEquals(msg, expected.length, tables.length);
+        for (int i = 0; i < tables.length; i++) {
+            final BufferedDataTable expectedTable = (BufferedDataTable)expected[i];
+            final BufferedDataTable table = (BufferedDataTable)tables[i];
+            assertEquals(msg, expectedTable.getDataTableSpec(), table.getDataTableSpec());
+            assertEquals(msg, expectedTable.size(), table.size());
+            final Iterator<DataRow> expectedRows = expectedTable.iterator();
+            for (DataRow row : table) {
+                final DataRow expectedRow = expectedRows.next();
+                assertEquals(msg, expectedRow.getKey(), row.getKey());
+                assertEquals(msg + ", row " + row.getKey(), toList(expectedRow), toList(row));
+            }
+        }
+    }
+
+    private static List<DataCell> toList(final DataRow row) {
+        final List<DataCell> cells = new ArrayList<DataCell>(row.getNumCells());
+        for (DataCell cell : row) {
+            cells.add(cell);
+        }
+        return cells;
+    }
+
+    private static PortObject[] pivot(final String[] groupColumns, final String[] pivotColumns,
+        final boolean inMemory, final boolean retainOrder, final boolean ignoreMissing,
+        final boolean hashAggregation, final List<ColumnAggregator> aggregators, final int maxUniqueValues,
+        final List<String> warnings) throws Exception {
+        final Pivot2NodeModel model = new Pivot2NodeModel();
+        final NodeSettings settings = new NodeSettings("Pivot");
+        model.saveSettingsTo(settings);
+        // the keys of the GroupBy settings
+        final SettingsModelFilterString groupColumnsModel = new SettingsModelFilterString("grouByColumns");
+        groupColumnsModel.setIncludeList(Arrays.asList(groupColumns));
+        groupColumnsModel.saveSettingsTo(settings);
+        final SettingsModelFilterString pivotColumnsModel =
+            new SettingsModelFilterString(Pivot2NodeModel.CFG_PIVOT_COLUMNS);
+        pivotColumnsModel.setIncludeList(Arrays.asList(pivotColumns));
+        pivotColumnsModel.saveSettingsTo(settings);
+        new SettingsModelBoolean("inMemory", inMemory).saveSettingsTo(settings);
+        new SettingsModelBoolean("retainOrder", retainOrder).saveSettingsTo(settings);
+        new SettingsModelIntegerBounded("maxNoneNumericalVals", maxUniqueValues, 1, Integer.MAX_VALUE)
+            .saveSettingsTo(settings);
+        final SettingsModelBoolean ignoreMissingModel = Pivot2NodeModel.createSettingsMissingValues();
+        ignoreMissingModel.setBooleanValue(ignoreMissing);
+        ignoreMissingModel.saveSettingsTo(settings);
+        ColumnAggregator.saveColumnAggregators(settings, aggregators);
+        model.validateSettings(settings);
+        model.loadValidatedSettingsFrom(settings);
+        model.setHashAggregation(hashAggregation);
+        model.configure(new PortObjectSpec[]{TABLE.getDataTableSpec()});
+        model.addWarningListener(warning -> {
+            if (warning != null) {
+                warnings.add(warning);
+            }
+        });
+        return model.execute(new PortObject[]{TABLE}, EXEC_CONTEXT);
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.rank;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.knime.base.node.preproc.sorter.SorterNodeFactory;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelString;
+import org.knime.core.node.defaultnodesettings.SettingsModelStringArray;
+import org.knime.core.node.workflow.SingleNodeContainer;
+
+/**
+ * Compares the ranks computed in memory by the {@link RankCalculator}, which is used when the row order is retained,
+ * with the ranks computed on the sorted table.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class RankCalculatorTest {
+
+    private static final String[] MODES = {"Standard", "Dense", "Ordinal"};
+
+    private static ExecutionContext EXEC_CONTEXT;
+
+    /**
+     * Creates the execution context.
+     */
+    @SuppressWarnings("unchecked")
+    @BeforeClass
+    public static void setUpBeforeClass() {
+        EXEC_CONTEXT = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(new SorterNodeFactory()),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+    }
+
+    /**
+     * A single ranking column with many ties, without groups.
+     *
+     * @throws Exception if the ranking fails
+     */
+    @Test
+    public void testSingleColumn() throws Exception {
+        final BufferedDataTable table = createTable(1, 5000);
+        for (String mode : MODES) {
+            assertSameRanks(table, new String[]{"int"}, new String[]{"Ascending"}, new String[0], mode, false);
+            assertSameRanks(table, new String[]{"int"}, new String[]{"Descending"}, new String[0], mode, true);
+        }
+    }
+
+    /**
+     * Several ranking columns of different types and orders, with missing values.
+     *
+     * @throws Exception if the ranking fails
+     */
+    @Test
+    public void testSeveralColumns() throws Exception {
+        final BufferedDataTable table = createTable(2, 5000);
+        for (String mode : MODES) {
+            assertSameRanks(table, new String[]{"string", "int", "double"},
+                new String[]{"Ascending", "Descending", "Ascending"}, new String[0], mode, false);
+        }
+    }
+
+    /**
+     * Ranks within groups, many small groups and a few large ones.
+     *
+     * @throws Exception if the ranking fails
+     */
+    @Test
+    public void testGroups() throws Exception {
+        final BufferedDataTable table = createTable(3, 20000);
+        for (String mode : MODES) {
+            assertSameRanks(table, new String[]{"int"}, new String[]{"Ascending"}, new String[]{"group"}, mode,
+                false);
+            assertSameRanks(table, new String[]{"double", "int"}, new String[]{"Descending", "Ascending"},
+                new String[]{"string", "group"}, mode, true);
+            assertSameRanks(table, new String[]{"double"}, new String[]{"Ascending"}, new String[]{"unique"}, mode,
+                false);
+        }
+    }
+
+    /**
+     * Empty tables and a single row.
+     *
+     * @throws Exception if the ranking fails
+     */
+    @Test
+    public void testSmallTables() throws Exception {
+        for (int rows = 0; rows < 3; rows++) {
+            final BufferedDataTable table = createTable(rows, rows);
+            for (String mode : MODES) {
+                assertSameRanks(table, new String[]{"int"}, new String[]{"Ascending"}, new String[]{"group"}, mode,
+                    false);
+            }
+        }
+    }
+
+    private static BufferedDataTable createTable(final long seed, final int nrRows) {
+        final DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("group", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("unique", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("double", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("string", StringCell.TYPE).createSpec());
+        final Random random = new Random(seed);
+        final BufferedDataContainer container = EXEC_CONTEXT.createDataContainer(spec);
+        for (int r = 0; r < nrRows; r++) {
+            final int group = random.nextInt(10) == 0 ? random.nextInt(3) : random.nextInt(2000);
+            final DataCell[] cells = {random.nextInt(50) == 0 ? DataType.getMissingCell() : new StringCell("g" + group),
+                new IntCell(r), random.nextInt(20) == 0 ? DataType.getMissingCell() : new IntCell(random.nextInt(100)),
+                new DoubleCell(random.nextInt(3) == 0 ? random.nextInt(10) : random.nextGaussian()),
+                random.nextInt(20) == 0 ? DataType.getMissingCell() : new StringCell("s" + random.nextInt(5))};
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey(r), cells));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    /*
+     * Ranks the table by sorting it and in memory with the retained row order, the ranks of the rows must be equal.
+     */
+    private static void assertSameRanks(final BufferedDataTable table, final String[] rankColumns,
+        final String[] order, final String[] groupColumns, final String mode, final boolean rankAsLong)
+        throws Exception {
+        final Map<RowKey, Long> expected = new HashMap<RowKey, Long>();
+        for (DataRow row : rank(table, rankColumns, order, groupColumns, mode, rankAsLong, false)) {
+            expected.put(row.getKey(), ((LongValue)row.getCell(row.getNumCells() - 1)).getLongValue());
+        }
+        final BufferedDataTable ranked = rank(table, rankColumns, order, groupColumns, mode, rankAsLong, true);
+        assertEquals(table.size(), ranked.size());
+        int r = 0;
+        for (DataRow row : ranked) {
+            final String msg = "Mode " + mode + ", row " + r;
+            assertEquals(msg, RowKey.createRowKey(r), row.getKey());
+            final DataCell rank = row.getCell(row.getNumCells() - 1);
+            assertTrue(msg, rankAsLong ? rank.getType().equals(LongCell.TYPE)
+                : rank.getType().equals(IntCell.TYPE));
+            assertEquals(msg, expected.get(row.getKey()).longValue(), ((LongValue)rank).getLongValue());
+            r++;
+        }
+    }
+
+    private static BufferedDataTable rank(final BufferedDataTable table, final String[] rankColumns,
+        final String[] order, final String[] groupColumns, final String mode, final boolean rankAsLong,
+        final boolean retainRowOrder) throws Exception {
+        final NodeSettings settings = new NodeSettings("Rank");
+        final RankNodeModel model = new RankNodeModel();
+        model.saveSettingsTo(settings);
+        final SettingsModelStringArray rankColumnsModel = RankNodeModel.createRankColumnsModel();
+        rankColumnsModel.setStringArrayValue(rankColumns);
+        rankColumnsModel.saveSettingsTo(settings);
+        final SettingsModelStringArray orderModel = RankNodeModel.createRankOrderModel();
+        orderModel.setStringArrayValue(order);
+        orderModel.saveSettingsTo(settings);
+        final SettingsModelStringArray groupColumnsModel = RankNodeModel.createGroupColumnsModel();
+        groupColumnsModel.setStringArrayValue(groupColumns);
+        groupColumnsModel.saveSettingsTo(settings);
+        final SettingsModelString modeModel = RankNodeModel.createRankModeModel();
+        modeModel.setStringValue(mode);
+        modeModel.saveSettingsTo(settings);
+        final SettingsModelBoolean rankAsLongModel = RankNodeModel.createRankAsLongModel();
+        rankAsLongModel.setBooleanValue(rankAsLong);
+        rankAsLongModel.saveSettingsTo(settings);
+        final SettingsModelBoolean retainRowOrderModel = RankNodeModel.createRetainRowOrderModel();
+        retainRowOrderModel.setBooleanValue(retainRowOrder);
+        retainRowOrderModel.saveSettingsTo(settings);
+        model.loadValidatedSettingsFrom(settings);
+        return model.execute(new BufferedDataTable[]{table}, EXEC_CONTEXT)[0];
+    }
+}
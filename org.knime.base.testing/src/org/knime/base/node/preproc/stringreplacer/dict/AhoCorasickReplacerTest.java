@@ -0,0 +1,189 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.stringreplacer.dict;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Compares the {@link AhoCorasickReplacer} with a naive replacement that tries all keys at each position.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class AhoCorasickReplacerTest {
+
+    /**
+     * Of overlapping occurrences the one starting first is replaced, and of these the longest.
+     */
+    @Test
+    public void testLeftmostLongest() {
+        final Map<String, String> dict = new LinkedHashMap<String, String>();
+        dict.put("a", "1");
+        dict.put("ab", "2");
+        dict.put("bc", "3");
+        dict.put("abcd", "4");
+        dict.put("cde", "5");
+        final AhoCorasickReplacer replacer = new AhoCorasickReplacer(dict, false, false);
+        assertEquals(5, replacer.size());
+        assertEquals("2c", replacer.replace("abc"));
+        assertEquals("4e", replacer.replace("abcde"));
+        assertEquals("x1x2x3", replacer.replace("xaxabxbc"));
+        assertEquals("14e", replacer.replace("aabcde"));
+        assertEquals("", replacer.replace(""));
+        final String noMatch = "xyz";
+        assertSame(noMatch, replacer.replace(noMatch));
+    }
+
+    /**
+     * Keys only match if they aren't preceded or followed by a letter or digit.
+     */
+    @Test
+    public void testWholeWords() {
+        final Map<String, String> dict = new LinkedHashMap<String, String>();
+        dict.put("cat", "dog");
+        dict.put("cat food", "kibble");
+        dict.put("at", "AT");
+        final AhoCorasickReplacer replacer = new AhoCorasickReplacer(dict, false, true);
+        assertEquals("dog concat dog.", replacer.replace("cat concat cat."));
+        assertEquals("(kibble) cat1 dog_AT", replacer.replace("(cat food) cat1 cat_at"));
+        assertEquals("dog", replacer.replace("cat"));
+        final String noMatch = "cats";
+        assertSame(noMatch, replacer.replace(noMatch));
+    }
+
+    /**
+     * Keys match regardless of the case if requested; of keys equal but for their case the last one is used.
+     */
+    @Test
+    public void testCaseInsensitive() {
+        final Map<String, String> dict = new LinkedHashMap<String, String>();
+        dict.put("Hello", "first");
+        dict.put("hELLO", "second");
+        dict.put("\u00c4pfel", "apples");
+        final AhoCorasickReplacer insensitive = new AhoCorasickReplacer(dict, true, false);
+        assertEquals(2, insensitive.size());
+        assertEquals("second, SECOND? apples", insensitive.replace("HELLO, SECOND? \u00e4PFEL"));
+        assertEquals("second world", insensitive.replace("hello world"));
+        final AhoCorasickReplacer sensitive = new AhoCorasickReplacer(dict, false, false);
+        assertEquals(3, sensitive.size());
+        assertEquals("first hello second", sensitive.replace("Hello hello hELLO"));
+    }
+
+    /**
+     * Random dictionaries over a small alphabet, so that keys overlap a lot, with all options.
+     */
+    @Test
+    public void testRandomDictionaries() {
+        final Random random = new Random(1);
+        for (int d = 0; d < 200; d++) {
+            final Map<String, String> dict = new LinkedHashMap<String, String>();
+            final int nrKeys = 1 + random.nextInt(d < 100 ? 10 : 500);
+            for (int k = 0; k < nrKeys; k++) {
+                dict.put(createString(random, 1 + random.nextInt(6)), "<" + k + ">");
+            }
+            for (boolean caseInsensitive : new boolean[]{false, true}) {
+                for (boolean wholeWords : new boolean[]{false, true}) {
+                    final AhoCorasickReplacer replacer = new AhoCorasickReplacer(dict, caseInsensitive, wholeWords);
+                    for (int s = 0; s < 50; s++) {
+                        final String string = createString(random, random.nextInt(60));
+                        assertEquals(dict + " in " + string, replaceNaively(dict, caseInsensitive, wholeWords, string),
+                            replacer.replace(string));
+                    }
+                }
+            }
+        }
+    }
+
+    private static String createString(final Random random, final int length) {
+        final String alphabet = "abcAB -1";
+        final StringBuilder s = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            s.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return s.toString();
+    }
+
+    /*
+     * At each position the longest matching key is replaced, of keys equal but for their case the last one.
+     */
+    private static String replaceNaively(final Map<String, String> dict, final boolean caseInsensitive,
+        final boolean wholeWords, final String s) {
+        final StringBuilder result = new StringBuilder();
+        int pos = 0;
+        while (pos < s.length()) {
+            String longestKey = null;
+            for (String key : dict.keySet()) {
+                final int end = pos + key.length();
+                if (end <= s.length() && s.regionMatches(caseInsensitive, pos, key, 0, key.length())
+                    && (!wholeWords || isWordBoundary(s, pos, end))
+                    && (longestKey == null || key.length() >= longestKey.length())) {
+                    longestKey = key;
+                }
+            }
+            if (longestKey == null) {
+                result.append(s.charAt(pos++));
+            } else {
+                result.append(dict.get(longestKey));
+                pos += longestKey.length();
+            }
+        }
+        return result.toString();
+    }
+
+    private static boolean isWordBoundary(final String s, final int start, final int end) {
+        return (start == 0 || !Character.isLetterOrDigit(s.charAt(start - 1)))
+            && (end == s.length() || !Character.isLetterOrDigit(s.charAt(end)));
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.unpivot2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.knime.base.node.preproc.sorter.SorterNodeFactory;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.BufferedDataTableRowOutput;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.util.filter.NameFilterConfiguration.EnforceOption;
+import org.knime.core.node.util.filter.column.DataColumnSpecFilterConfiguration;
+import org.knime.core.node.workflow.SingleNodeContainer;
+
+/**
+ * Compares the table unpivoted by the streamable operator of the {@link Unpivot2NodeModel} with the table unpivoted
+ * by its execute method.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class Unpivot2NodeModelTest {
+
+    private static ExecutionContext EXEC_CONTEXT;
+
+    private static BufferedDataTable TABLE;
+
+    /**
+     * Creates the execution context and the input table, which contains missing values in all columns.
+     */
+    @SuppressWarnings("unchecked")
+    @BeforeClass
+    public static void setUpBeforeClass() {
+        EXEC_CONTEXT = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(new SorterNodeFactory()),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+        final DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("name", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("group", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("v1", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("v2", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("v3", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("other", StringCell.TYPE).createSpec());
+        final Random random = new Random(1);
+        final BufferedDataContainer container = EXEC_CONTEXT.createDataContainer(spec);
+        for (int r = 0; r < 1000; r++) {
+            final DataCell[] cells = {createCell(random, new StringCell("n" + random.nextInt(100))),
+                createCell(random, new IntCell(random.nextInt(5))),
+                createCell(random, new DoubleCell(random.nextGaussian())),
+                createCell(random, new DoubleCell(random.nextGaussian())),
+                createCell(random, new IntCell(random.nextInt(1000))),
+                createCell(random, new StringCell("o" + random.nextInt(10)))};
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey(r), cells));
+        }
+        container.close();
+        TABLE = container.getTable();
+    }
+
+    private static DataCell createCell(final Random random, final DataCell cell) {
+        return random.nextInt(5) == 0 ? DataType.getMissingCell() : cell;
+    }
+
+    /**
+     * Tests all combinations of skipping missing values and hiliting.
+     *
+     * @throws Exception if the unpivoting fails
+     */
+    @Test
+    public void testStreaming() throws Exception {
+        for (boolean skipMissings : new boolean[]{false, true}) {
+            for (boolean enableHilite : new boolean[]{false, true}) {
+                assertSameTables(new String[]{"name", "group"}, new String[]{"v1", "v2", "v3"}, skipMissings,
+                    enableHilite);
+            }
+        }
+    }
+
+    /**
+     * Tests no retained columns and a single value column.
+     *
+     * @throws Exception if the unpivoting fails
+     */
+    @Test
+    public void testStreamingSingleValueColumn() throws Exception {
+        for (boolean skipMissings : new boolean[]{false, true}) {
+            assertSameTables(new String[0], new String[]{"other"}, skipMissings, false);
+        }
+    }
+
+    private static void assertSameTables(final String[] retainedColumns, final String[] valueColumns,
+        final boolean skipMissings, final boolean enableHilite) throws Exception {
+        final String msg = "skip missings " + skipMissings + ", enable hiliting " + enableHilite;
+        final Unpivot2NodeModel model = createModel(retainedColumns, valueColumns, skipMissings, enableHilite);
+        final DataTableSpec outSpec = model.configure(new DataTableSpec[]{TABLE.getDataTableSpec()})[0];
+        final BufferedDataTable expected = model.execute(new BufferedDataTable[]{TABLE}, EXEC_CONTEXT)[0];
+
+        final BufferedDataTableRowOutput output =
+            new BufferedDataTableRowOutput(EXEC_CONTEXT.createDataContainer(outSpec));
+        model.createStreamableOperator(new PartitionInfo(0, 1), new PortObjectSpec[]{TABLE.getDataTableSpec()})
+            .runFinal(new PortInput[]{new DataTableRowInput(TABLE)}, new PortOutput[]{output}, EXEC_CONTEXT);
+        final BufferedDataTable table = output.getDataTable();
+
+        assertEquals(msg, expected.getDataTableSpec(), table.getDataTableSpec());
+        assertEquals(msg, 3 + retainedColumns.length, table.getDataTableSpec().getNumColumns());
+        assertEquals(msg, expected.size(), table.size());
+        assertTrue(msg + ", no rows", table.size() > 0);
+        final Iterator<DataRow> expectedRows = expected.iterator();
+        for (DataRow row : table) {
+            final DataRow expectedRow = expectedRows.next();
+            assertEquals(msg, expectedRow.getKey(), row.getKey());
+            assertEquals(msg + ", row " + row.getKey(), toList(expectedRow), toList(row));
+        }
+    }
+
+    private static List<DataCell> toList(final DataRow row) {
+        final List<DataCell> cells = new ArrayList<DataCell>(row.getNumCells());
+        for (DataCell cell : row) {
+            cells.add(cell);
+        }
+        return cells;
+    }
+
+    private static Unpivot2NodeModel createModel(final String[] retainedColumns, final String[] valueColumns,
+        final boolean skipMissings, final boolean enableHilite) throws Exception {
+        final Unpivot2NodeModel model = new Unpivot2NodeModel();
+        final NodeSettings settings = new NodeSettings("Unpivot");
+        // the keys of the column filters of the dialog
+        final DataColumnSpecFilterConfiguration retainedConfig =
+            new DataColumnSpecFilterConfiguration("retained_columns");
+        retainedConfig.loadDefaults(retainedColumns, null, EnforceOption.EnforceInclusion);
+        retainedConfig.saveConfiguration(settings);
+        final DataColumnSpecFilterConfiguration valueConfig = new DataColumnSpecFilterConfiguration("value_columns");
+        valueConfig.loadDefaults(valueColumns, null, EnforceOption.EnforceInclusion);
+        valueConfig.saveConfiguration(settings);
+        final SettingsModelBoolean hiliteModel = Unpivot2NodeDialogPane.createHiLiteModel();
+        hiliteModel.setBooleanValue(enableHilite);
+        hiliteModel.saveSettingsTo(settings);
+        final SettingsModelBoolean missingModel = Unpivot2NodeDialogPane.createMissingValueModel();
+        missingModel.setBooleanValue(skipMissings);
+        missingModel.saveSettingsTo(settings);
+        model.validateSettings(settings);
+        model.loadValidatedSettingsFrom(settings);
+        return model;
+    }
+}
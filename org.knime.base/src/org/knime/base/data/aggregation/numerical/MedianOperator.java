@@ -126,6 +126,14 @@ public AggregationOperator createInstance(
         return operator;
     }
 
+    /**
+     * @return <code>true</code> if the median of an even number of values is the mean of the two middle values
+     * @since 3.8
+     */
+    public boolean isMeanOfMiddleValues() {
+        return MedianSettings.DEFAULT_MEDIAN_METHOD.equals(getMedianMethod());
+    }
+
     /**
      * {@inheritDoc}
      */
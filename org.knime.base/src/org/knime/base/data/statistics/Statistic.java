@@ -132,6 +132,43 @@ protected String afterEvaluation() {
         return null;
     }
 
+    /**
+     * Creates an empty statistic of the same kind on the same columns. The {@link StatisticCalculator} lets such
+     * partial statistics consume consecutive parts of the rows concurrently and {@linkplain #merge(Statistic) merges}
+     * them into this statistic in the order of the rows. Override this method and {@link #merge(Statistic)} to allow
+     * the parallel evaluation.
+     *
+     * @return a new statistic that is not initialized, or <code>null</code> (the default) if this statistic can only
+     *         consume the rows sequentially
+     * @since 3.8
+     */
+    protected Statistic createPartial() {
+        return null;
+    }
+
+    /**
+     * Adds the rows consumed by a partial statistic to this statistic.
+     *
+     * @param partial a statistic created by {@link #createPartial()} that consumed the rows following the ones
+     *            consumed by this statistic
+     * @since 3.8
+     */
+    protected void merge(final Statistic partial) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " cannot be evaluated in parallel");
+    }
+
+    /**
+     * Allows the {@link StatisticCalculator} to stop early if the remaining rows cannot change the result of any
+     * statistic.
+     *
+     * @return <code>true</code> if the rows not consumed yet cannot change the result, <code>false</code> (the
+     *         default) otherwise
+     * @since 3.8
+     */
+    protected boolean isDecided() {
+        return false;
+    }
+
     /**
      * @param columnName the column name
      * @return the
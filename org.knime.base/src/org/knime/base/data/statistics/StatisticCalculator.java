@@ -50,19 +50,27 @@
 
 import static org.knime.core.node.util.CheckUtils.checkSetting;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.mutable.MutableLong;
 import org.knime.base.data.statistics.calculation.Mean;
 import org.knime.base.data.statistics.calculation.Variance;
+import org.knime.base.util.concurrent.ThreadPoolUtil;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.data.def.DefaultCellIterator;
 import org.knime.core.data.sort.ColumnBufferedDataTableSorter;
 import org.knime.core.data.sort.SortingConsumer;
@@ -70,6 +78,8 @@
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
 
 /**
  * A utility class for calculating several statistical moments, such as the {@link Variance}, {@link Mean} or others.
@@ -105,6 +115,9 @@
  * @since 2.11
  */
 public class StatisticCalculator {
+    /** The number of rows consumed by a partial statistic at once. */
+    private static final int ROWS_PER_CHUNK = 1024;
+
     private final Set<String> m_colToSortOn = new LinkedHashSet<String>();
 
     private final Statistic[] m_statistics;
@@ -186,11 +199,20 @@ public void consume(final DataRow defaultRow) {
             });
         } else {
             exec.setMessage("Evaluating statistics.");
-            long count = 0;
-            for (DataRow currRow : dataTable) {
-                exec.setProgress(count++ / (double)dataTable.size(), "Processing Row: " + currRow.getKey());
-                for (Statistic stat : m_statistics) {
-                    stat.consumeRow(currRow);
+            final int nrThreads = ThreadPoolUtil.getMaxThreads();
+            final Statistic[] partials = nrThreads > 1 ? createPartials(dataTable.getDataTableSpec()) : null;
+            if (partials != null) {
+                evaluateInParallel(dataTable, exec, nrThreads, partials);
+            } else {
+                long count = 0;
+                try (CloseableRowIterator it = dataTable.iterator()) {
+                    while (it.hasNext() && (count % ROWS_PER_CHUNK != 0 || !isDecided())) {
+                        final DataRow currRow = it.next();
+                        exec.setProgress(count++ / (double)dataTable.size(), "Processing Row: " + currRow.getKey());
+                        for (Statistic stat : m_statistics) {
+                            stat.consumeRow(currRow);
+                        }
+                    }
                 }
             }
         }
@@ -205,6 +227,100 @@ public void consume(final DataRow defaultRow) {
         return warnings.length() > 0 ? warnings.toString() : null;
     }
 
+    /**
+     * Lets partial statistics consume chunks of rows on the threads of the global thread pool and merges them in the
+     * order of the chunks. Stops reading the rows once all statistics are decided.
+     */
+    private void evaluateInParallel(final BufferedDataTable dataTable, final ExecutionContext exec,
+        final int nrThreads, final Statistic[] firstPartials) throws CanceledExecutionException {
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(nrThreads);
+        final Deque<Future<Statistic[]>> futures = new ArrayDeque<Future<Statistic[]>>();
+        final double size = dataTable.size();
+        try (CloseableRowIterator it = dataTable.iterator()) {
+            Statistic[] partials = firstPartials;
+            List<DataRow> rows = new ArrayList<DataRow>(ROWS_PER_CHUNK);
+            boolean decided = false;
+            long count = 0;
+            while (it.hasNext() && !decided) {
+                final DataRow row = it.next();
+                exec.checkCanceled();
+                exec.setProgress(count++ / size, () -> "Processing Row: " + row.getKey());
+                rows.add(row);
+                if (rows.size() == ROWS_PER_CHUNK || !it.hasNext()) {
+                    final List<DataRow> chunk = rows;
+                    final Statistic[] chunkPartials = partials;
+                    futures.add(pool.enqueue(() -> {
+                        for (DataRow r : chunk) {
+                            for (Statistic partial : chunkPartials) {
+                                partial.consumeRow(r);
+                            }
+                        }
+                        return chunkPartials;
+                    }));
+                    rows = new ArrayList<DataRow>(ROWS_PER_CHUNK);
+                    partials = createPartials(dataTable.getDataTableSpec());
+                    // bound the number of chunks in memory
+                    while (futures.size() > 2 * nrThreads) {
+                        decided = merge(waitFor(pool, futures.poll()));
+                    }
+                }
+            }
+            while (!futures.isEmpty()) {
+                merge(waitFor(pool, futures.poll()));
+            }
+        } finally {
+            for (Future<Statistic[]> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /** @return the initialized partial statistics or <code>null</code> if not all statistics support them */
+    private Statistic[] createPartials(final DataTableSpec spec) {
+        final Statistic[] partials = new Statistic[m_statistics.length];
+        for (int i = 0; i < partials.length; i++) {
+            partials[i] = m_statistics[i].createPartial();
+            if (partials[i] == null) {
+                return null;
+            }
+            try {
+                partials[i].init(spec);
+            } catch (InvalidSettingsException e) {
+                throw new IllegalStateException("Partial statistic does not fit the table: " + e.getMessage(), e);
+            }
+        }
+        return partials;
+    }
+
+    /** @return whether all statistics are decided after the merge */
+    private boolean merge(final Statistic[] partials) {
+        for (int i = 0; i < partials.length; i++) {
+            m_statistics[i].merge(partials[i]);
+        }
+        return isDecided();
+    }
+
+    private boolean isDecided() {
+        for (Statistic stat : m_statistics) {
+            if (!stat.isDecided()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Statistic[] waitFor(final ThreadPool pool, final Future<Statistic[]> future)
+        throws CanceledExecutionException {
+        try {
+            return ThreadPoolUtil.waitFor(pool, future);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(ThreadPoolUtil.throwIfUnchecked(e));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Evaluating the statistics was interrupted.");
+        }
+    }
+
     /**
      * @param spec
      * @param createDataTableSpec
@@ -0,0 +1,358 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.data.statistics.calculation;
+
+import java.util.Arrays;
+
+import org.knime.base.data.statistics.Statistic;
+import org.knime.base.data.statistics.StatisticCalculator;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DataValue;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.StringValue;
+
+/**
+ * Determines in one pass the number of missing values, the variance and whether the values are constant for a set of
+ * columns. The {@link StatisticCalculator} evaluates it in parallel. A column is no longer looked at once the
+ * requested results cannot change anymore, i.e. once it is known not to be constant and its number of missing values
+ * reached or can no longer reach the {@linkplain #setMissingValueLimit(long) limit}, and the calculation stops once
+ * this holds for all columns.
+ *
+ * <p>
+ * The variance is only determined for columns compatible to {@link DoubleValue}. Values are constant if they are
+ * all missing or if none is missing and their double values, their strings or the cells themselves (depending on
+ * the column type) are equal.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public class ColumnProfile extends Statistic {
+
+    private boolean m_computeVariance = true;
+
+    private boolean m_computeConstant = true;
+
+    private boolean m_countMissingValues = true;
+
+    /** The number of missing values at which the counting stops, negative for no limit. */
+    private long m_missingValueLimit = -1;
+
+    /** The profile this one is a partial of, <code>null</code> if it is not a partial. */
+    private final ColumnProfile m_parent;
+
+    private long m_rowCount;
+
+    private boolean[] m_isDouble;
+
+    private boolean[] m_isString;
+
+    private long[] m_missing;
+
+    private long[] m_valid;
+
+    private double[] m_mean;
+
+    private double[] m_m2;
+
+    private DataCell[] m_first;
+
+    private boolean[] m_constant;
+
+    private boolean[] m_decided;
+
+    /** The number of decided columns, written after {@link #m_decided} so that partials see the decisions. */
+    private volatile int m_decidedCount;
+
+    /**
+     * @param columns the columns to profile, all compatible columns if empty
+     */
+    public ColumnProfile(final String... columns) {
+        super(DataValue.class, columns);
+        m_parent = null;
+    }
+
+    private ColumnProfile(final ColumnProfile parent) {
+        super(DataValue.class, parent.getColumns());
+        m_parent = parent;
+        m_computeVariance = parent.m_computeVariance;
+        m_computeConstant = parent.m_computeConstant;
+    }
+
+    /**
+     * @param computeVariance whether to determine the variance, <code>true</code> by default
+     */
+    public void setComputeVariance(final boolean computeVariance) {
+        m_computeVariance = computeVariance;
+    }
+
+    /**
+     * @param computeConstant whether to determine whether the values are constant, <code>true</code> by default
+     */
+    public void setComputeConstant(final boolean computeConstant) {
+        m_computeConstant = computeConstant;
+    }
+
+    /**
+     * @param countMissingValues whether to count the missing values, <code>true</code> by default
+     */
+    public void setCountMissingValues(final boolean countMissingValues) {
+        m_countMissingValues = countMissingValues;
+    }
+
+    /**
+     * Sets the number of missing values that decides a column. The missing values of a column are not counted further
+     * once it has that many missing values or once it has so many other values that the limit cannot be reached.
+     *
+     * @param limit the number of missing values, negative (the default) to count all missing values
+     * @see #isMissingValueLimitReached(String)
+     */
+    public void setMissingValueLimit(final long limit) {
+        m_missingValueLimit = limit;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void init(final DataTableSpec spec, final int amountOfColumns) {
+        m_isDouble = new boolean[amountOfColumns];
+        m_isString = new boolean[amountOfColumns];
+        final int[] indices = getIndices();
+        for (int i = 0; i < amountOfColumns; i++) {
+            final DataType type = spec.getColumnSpec(indices[i]).getType();
+            m_isDouble[i] = type.isCompatible(DoubleValue.class);
+            m_isString[i] = !m_isDouble[i] && type.isCompatible(StringValue.class);
+        }
+        m_missing = new long[amountOfColumns];
+        m_valid = new long[amountOfColumns];
+        m_mean = new double[amountOfColumns];
+        m_m2 = new double[amountOfColumns];
+        m_first = new DataCell[amountOfColumns];
+        m_constant = new boolean[amountOfColumns];
+        Arrays.fill(m_constant, true);
+        m_decided = new boolean[amountOfColumns];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void beforeEvaluation(final long amountOfRows) {
+        m_rowCount = amountOfRows;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void consumeRow(final DataRow dataRow) {
+        final boolean[] decided = getDecided();
+        final int[] indices = getIndices();
+        for (int i = 0; i < indices.length; i++) {
+            if (decided != null && decided[i]) {
+                continue;
+            }
+            final DataCell cell = dataRow.getCell(indices[i]);
+            if (cell.isMissing()) {
+                m_missing[i]++;
+            } else {
+                m_valid[i]++;
+                if (m_computeVariance && m_isDouble[i]) {
+                    // the update of commons math's variance, hence the same results when consumed sequentially
+                    final double dev = ((DoubleValue)cell).getDoubleValue() - m_mean[i];
+                    final double nDev = dev / m_valid[i];
+                    m_mean[i] += nDev;
+                    m_m2[i] += (m_valid[i] - 1.0) * dev * nDev;
+                }
+            }
+            if (m_computeConstant && m_constant[i]) {
+                if (m_first[i] == null) {
+                    m_first[i] = cell;
+                } else if (!isEqual(i, m_first[i], cell)) {
+                    m_constant[i] = false;
+                }
+            }
+        }
+    }
+
+    /** @return the decided columns, the ones of the parent for a partial, or <code>null</code> if there are none */
+    private boolean[] getDecided() {
+        final ColumnProfile profile = m_parent != null ? m_parent : this;
+        // reading the volatile count first makes the decisions of the parent visible to the thread of a partial
+        return profile.m_decidedCount > 0 ? profile.m_decided : null;
+    }
+
+    private boolean isEqual(final int i, final DataCell first, final DataCell cell) {
+        if (first.isMissing() || cell.isMissing()) {
+            return first.isMissing() && cell.isMissing();
+        } else if (m_isDouble[i]) {
+            return ((DoubleValue)first).getDoubleValue() == ((DoubleValue)cell).getDoubleValue();
+        } else if (m_isString[i]) {
+            return ((StringValue)first).getStringValue().equals(((StringValue)cell).getStringValue());
+        }
+        return first.equals(cell);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Statistic createPartial() {
+        return new ColumnProfile(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void merge(final Statistic partial) {
+        final ColumnProfile other = (ColumnProfile)partial;
+        for (int i = 0; i < m_missing.length; i++) {
+            m_missing[i] += other.m_missing[i];
+            final long n = m_valid[i] + other.m_valid[i];
+            if (m_computeVariance && other.m_valid[i] > 0) {
+                // the pairwise update of Chan et al.
+                final double delta = other.m_mean[i] - m_mean[i];
+                final double weight = other.m_valid[i] / (double)n;
+                m_mean[i] += delta * weight;
+                m_m2[i] += other.m_m2[i] + delta * delta * m_valid[i] * weight;
+            }
+            m_valid[i] = n;
+            if (m_computeConstant && m_constant[i] && other.m_first[i] != null) {
+                if (!other.m_constant[i]) {
+                    m_constant[i] = false;
+                } else if (m_first[i] == null) {
+                    m_first[i] = other.m_first[i];
+                } else if (!isEqual(i, m_first[i], other.m_first[i])) {
+                    m_constant[i] = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isDecided() {
+        int decidedCount = m_decidedCount;
+        for (int i = 0; i < m_decided.length; i++) {
+            if (!m_decided[i] && isDecided(i)) {
+                m_decided[i] = true;
+                decidedCount++;
+            }
+        }
+        m_decidedCount = decidedCount;
+        return decidedCount == m_decided.length;
+    }
+
+    private boolean isDecided(final int i) {
+        if (m_computeVariance && m_isDouble[i]) {
+            return false;
+        }
+        if (m_computeConstant && m_constant[i]) {
+            return false;
+        }
+        if (m_countMissingValues) {
+            return m_missingValueLimit >= 0 && (m_missing[i] >= m_missingValueLimit
+                || m_valid[i] > m_rowCount - m_missingValueLimit);
+        }
+        return true;
+    }
+
+    /**
+     * @param column the column
+     * @return the number of missing values in the column, at least the limit if the limit is reached
+     */
+    public long getNumberMissingValues(final String column) {
+        return m_missing[assertIndexForColumn(column)];
+    }
+
+    /**
+     * @param column the column
+     * @return whether the column has at least as many missing values as the {@linkplain #setMissingValueLimit(long)
+     *         limit}
+     */
+    public boolean isMissingValueLimitReached(final String column) {
+        return m_missingValueLimit >= 0 && m_missing[assertIndexForColumn(column)] >= m_missingValueLimit;
+    }
+
+    /**
+     * @param column the column
+     * @return the unbiased variance of the column's values, 0 for a single value and {@link Double#NaN} if there is
+     *         no value
+     */
+    public double getVariance(final String column) {
+        final int i = assertIndexForColumn(column);
+        if (m_valid[i] == 0) {
+            return Double.NaN;
+        }
+        return m_valid[i] == 1 ? 0.0 : m_m2[i] / (m_valid[i] - 1.0);
+    }
+
+    /**
+     * @param column the column
+     * @return whether all values of the column are equal, also if there are no rows
+     */
+    public boolean isConstant(final String column) {
+        return m_constant[assertIndexForColumn(column)];
+    }
+
+    /**
+     * @param column the column
+     * @return the first cell of the column, which is the value of a constant column, or <code>null</code> if there are
+     *         no rows
+     */
+    public DataCell getFirstCell(final String column) {
+        return m_first[assertIndexForColumn(column)];
+    }
+}
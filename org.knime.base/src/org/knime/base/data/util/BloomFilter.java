@@ -0,0 +1,172 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.data.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A scalable Bloom filter over strings: once a filter holds as many strings as it was sized for, a filter twice as
+ * large (up to {@link #MAX_BITS} bits) is added, so the false positive rate stays bounded without knowing the number
+ * of strings in advance. Requires about two bytes per string. The strings are added and tested by their
+ * {@link #hash(String)}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class BloomFilter {
+
+    /** The number of bits per expected string. */
+    private static final int BITS_PER_STRING = 16;
+
+    /** The number of bits set per string, optimal for 16 bits per string (false positive rate about 0.05%). */
+    private static final int NUMBER_OF_HASHES = 11;
+
+    /** The largest number of bits of a single filter. */
+    private static final long MAX_BITS = 1L << 31;
+
+    /** The number of strings a filter with the largest number of bits is sized for. */
+    private static final long MAX_CAPACITY = MAX_BITS / BITS_PER_STRING;
+
+    private final List<Layer> m_layers = new ArrayList<Layer>();
+
+    /**
+     * @param expectedSize the number of strings the first filter is sized for
+     */
+    BloomFilter(final long expectedSize) {
+        m_layers.add(new Layer(Math.min(Math.max(expectedSize, 1024), MAX_CAPACITY)));
+    }
+
+    /**
+     * @param hash the hash of the string to add
+     */
+    void add(final long hash) {
+        Layer layer = m_layers.get(m_layers.size() - 1);
+        if (layer.m_size >= layer.m_capacity) {
+            // a layer is never filled beyond the capacity its bits are sized for
+            layer = new Layer(Math.min(2 * layer.m_capacity, MAX_CAPACITY));
+            m_layers.add(layer);
+        }
+        layer.add(hash);
+    }
+
+    /**
+     * @param hash the hash of the string to test
+     * @return <code>false</code> if the string was never added, <code>true</code> if it probably was
+     */
+    boolean mightContain(final long hash) {
+        for (int i = m_layers.size() - 1; i >= 0; i--) {
+            if (m_layers.get(i).mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 64 bit FNV-1a hash of the characters, mixed with the finalizer of MurmurHash3.
+     *
+     * @param s a string
+     * @return the hash of the string
+     */
+    static long hash(final String s) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < s.length(); i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /** A filter with a fixed number of bits. */
+    private static final class Layer {
+
+        private final long m_capacity;
+
+        private final long[] m_bits;
+
+        private final long m_mask;
+
+        private long m_size;
+
+        Layer(final long capacity) {
+            m_capacity = capacity;
+            final long bits = Math.min(MAX_BITS, Long.highestOneBit(capacity * BITS_PER_STRING - 1) << 1);
+            m_bits = new long[(int)(bits >>> 6)];
+            m_mask = bits - 1;
+        }
+
+        void add(final long hash) {
+            // double hashing, the bit indices are h1 + i * h2
+            final long h1 = hash >>> 32;
+            final long h2 = (hash & 0xffffffffL) | 1;
+            for (int i = 0; i < NUMBER_OF_HASHES; i++) {
+                final long bit = (h1 + i * h2) & m_mask;
+                m_bits[(int)(bit >>> 6)] |= 1L << bit;
+            }
+            m_size++;
+        }
+
+        boolean mightContain(final long hash) {
+            final long h1 = hash >>> 32;
+            final long h2 = (hash & 0xffffffffL) | 1;
+            for (int i = 0; i < NUMBER_OF_HASHES; i++) {
+                final long bit = (h1 + i * h2) & m_mask;
+                if ((m_bits[(int)(bit >>> 6)] & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,430 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.data.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.knime.base.util.concurrent.ThreadPoolUtil;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnDomain;
+import org.knime.core.data.DataColumnDomainCreator;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTable;
+import org.knime.core.data.DataTableDomainCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DomainCreatorColumnSelection;
+import org.knime.core.data.RowIterator;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Determines the possible values and the min and max values of a table's columns like a
+ * {@link DataTableDomainCreator}, but on several threads. The rows are read in chunks, the domain of each chunk is
+ * determined by a thread of the global thread pool, and the domains of the chunks are merged in the order of the
+ * chunks, so the possible values keep the order of their first occurrence.
+ *
+ * <p>
+ * Optionally, the number of distinct values of the columns whose possible values are determined is estimated with
+ * a {@link HyperLogLog} sketch per thread, which allows to report how many values a column has whose possible
+ * values exceeded the maximum, without keeping them.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class ParallelDomainCreator {
+
+    private static final int ROWS_PER_CHUNK = 4096;
+
+    private final DataTableSpec m_spec;
+
+    private final DomainCreatorColumnSelection m_possValSelection;
+
+    private final DomainCreatorColumnSelection m_minMaxSelection;
+
+    /** The indices of the columns whose possible values are determined. */
+    private final int[] m_possValCols;
+
+    /** The indices of the columns whose bounds are determined. */
+    private final int[] m_minMaxCols;
+
+    /** Whether a column of {@link #m_possValCols} contains a value that is not missing. */
+    private final boolean[] m_seen;
+
+    /** Whether the possible values of a column of {@link #m_possValCols} exceeded the maximum within a chunk. */
+    private final boolean[] m_exceeded;
+
+    /** The sketches of the threads, one per column of {@link #m_possValCols}, once they are not in use. */
+    private final Queue<HyperLogLog[]> m_sketches = new ConcurrentLinkedQueue<HyperLogLog[]>();
+
+    private int m_maxPossibleValues = Integer.MAX_VALUE;
+
+    private boolean m_estimateDistinctValues;
+
+    private int m_maxThreads = ThreadPoolUtil.getMaxThreads();
+
+    private DataTableDomainCreator m_domainCreator;
+
+    /**
+     * @param spec the spec of the table whose domain is determined
+     * @param possValSelection the columns whose possible values are determined or dropped
+     * @param minMaxSelection the columns whose min and max values are determined or dropped
+     */
+    public ParallelDomainCreator(final DataTableSpec spec, final DomainCreatorColumnSelection possValSelection,
+        final DomainCreatorColumnSelection minMaxSelection) {
+        m_spec = spec;
+        m_possValSelection = possValSelection;
+        m_minMaxSelection = minMaxSelection;
+        m_possValCols = selectedColumns(spec, possValSelection);
+        m_minMaxCols = selectedColumns(spec, minMaxSelection);
+        m_seen = new boolean[m_possValCols.length];
+        m_exceeded = new boolean[m_possValCols.length];
+        m_domainCreator = createDomainCreator();
+    }
+
+    private static int[] selectedColumns(final DataTableSpec spec, final DomainCreatorColumnSelection selection) {
+        final int[] cols = new int[spec.getNumColumns()];
+        int n = 0;
+        for (int i = 0; i < cols.length; i++) {
+            if (selection.createDomain(spec.getColumnSpec(i))) {
+                cols[n++] = i;
+            }
+        }
+        return Arrays.copyOf(cols, n);
+    }
+
+    /**
+     * Sets the maximum number of possible values of a column. If a column has more values, its possible values are
+     * dropped. Has to be set before the first rows are added.
+     *
+     * @param maxValues the maximum number of possible values, must not be negative
+     */
+    public void setMaxPossibleValues(final int maxValues) {
+        if (maxValues < 0) {
+            throw new IllegalArgumentException("Number of possible values must not be negative: " + maxValues);
+        }
+        m_maxPossibleValues = maxValues;
+        m_domainCreator.setMaxPossibleValues(maxValues);
+    }
+
+    /**
+     * Sets whether the number of distinct values of the columns whose possible values are determined is estimated.
+     * Has to be set before the first rows are added.
+     *
+     * @param estimate <code>true</code> to estimate the numbers of distinct values
+     * @see #getDistinctValueEstimates()
+     */
+    public void setEstimateDistinctValues(final boolean estimate) {
+        m_estimateDistinctValues = estimate;
+    }
+
+    /**
+     * @param maxThreads the maximum number of threads used, by default the maximum of the global thread pool
+     */
+    public void setMaxThreads(final int maxThreads) {
+        if (maxThreads < 1) {
+            throw new IllegalArgumentException("Number of threads must be positive: " + maxThreads);
+        }
+        m_maxThreads = maxThreads;
+    }
+
+    private DataTableDomainCreator createDomainCreator() {
+        final DataTableDomainCreator domainCreator =
+            new DataTableDomainCreator(m_spec, m_possValSelection, m_minMaxSelection);
+        domainCreator.setMaxPossibleValues(m_maxPossibleValues);
+        return domainCreator;
+    }
+
+    /**
+     * Updates the domain with the rows of a table.
+     *
+     * @param table the table, its spec must be the one this domain creator was created with
+     * @param exec the monitor for progress and cancellation
+     * @param rowCount the number of rows of the table for the progress, or a negative number if unknown
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    public void updateDomain(final DataTable table, final ExecutionMonitor exec, final long rowCount)
+        throws CanceledExecutionException {
+        final ThreadPool pool =
+            m_maxThreads > 1 ? KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(m_maxThreads) : null;
+        final Deque<Future<Chunk>> futures = new ArrayDeque<Future<Chunk>>();
+        final HyperLogLog[] sketches = pool == null ? takeSketches() : null;
+        final RowIterator it = table.iterator();
+        try {
+            long rowIndex = 0;
+            List<DataRow> rows = new ArrayList<DataRow>(ROWS_PER_CHUNK);
+            while (it.hasNext()) {
+                final DataRow row = it.next();
+                rowIndex++;
+                if (pool == null) {
+                    m_domainCreator.updateDomain(row);
+                    update(row, m_seen, sketches);
+                } else {
+                    rows.add(row);
+                    if (rows.size() == ROWS_PER_CHUNK || !it.hasNext()) {
+                        final List<DataRow> chunk = rows;
+                        futures.add(pool.enqueue(() -> computeChunk(chunk)));
+                        rows = new ArrayList<DataRow>(ROWS_PER_CHUNK);
+                        // bound the number of chunks in memory
+                        while (futures.size() > 2 * m_maxThreads) {
+                            merge(waitFor(pool, futures.poll()));
+                        }
+                    }
+                }
+                if (rowCount > 0) {
+                    exec.setProgress(rowIndex / (double)rowCount, "Row " + rowIndex + "/" + rowCount);
+                }
+                exec.checkCanceled();
+            }
+            while (!futures.isEmpty()) {
+                merge(waitFor(pool, futures.poll()));
+            }
+        } finally {
+            releaseSketches(sketches);
+            for (Future<Chunk> future : futures) {
+                future.cancel(true);
+            }
+            if (it instanceof CloseableRowIterator) {
+                ((CloseableRowIterator)it).close();
+            }
+        }
+    }
+
+    private Chunk computeChunk(final List<DataRow> rows) {
+        final DataTableDomainCreator domainCreator = createDomainCreator();
+        final boolean[] seen = new boolean[m_possValCols.length];
+        final HyperLogLog[] sketches = takeSketches();
+        for (DataRow row : rows) {
+            domainCreator.updateDomain(row);
+            update(row, seen, sketches);
+        }
+        releaseSketches(sketches);
+        return new Chunk(domainCreator.createSpec(), seen);
+    }
+
+    private void update(final DataRow row, final boolean[] seen, final HyperLogLog[] sketches) {
+        for (int i = 0; i < m_possValCols.length; i++) {
+            final DataCell cell = row.getCell(m_possValCols[i]);
+            if (!cell.isMissing()) {
+                seen[i] = true;
+                if (sketches != null) {
+                    sketches[i].add(cell);
+                }
+            }
+        }
+    }
+
+    private HyperLogLog[] takeSketches() {
+        if (!m_estimateDistinctValues) {
+            return null;
+        }
+        HyperLogLog[] sketches = m_sketches.poll();
+        if (sketches == null) {
+            sketches = new HyperLogLog[m_possValCols.length];
+            for (int i = 0; i < sketches.length; i++) {
+                sketches[i] = new HyperLogLog();
+            }
+        }
+        return sketches;
+    }
+
+    private void releaseSketches(final HyperLogLog[] sketches) {
+        if (sketches != null) {
+            m_sketches.add(sketches);
+        }
+    }
+
+    /**
+     * Adds the domain of a chunk to the overall domain by passing its possible values and bounds as rows to the
+     * overall domain creator, which hence applies the same rules as if it had seen the rows of the chunk.
+     */
+    private void merge(final Chunk chunk) {
+        final DataCell[] cells = new DataCell[m_spec.getNumColumns()];
+        final List<Iterator<DataCell>> values = new ArrayList<Iterator<DataCell>>(m_possValCols.length);
+        for (int i = 0; i < m_possValCols.length; i++) {
+            final DataColumnDomain domain = chunk.m_spec.getColumnSpec(m_possValCols[i]).getDomain();
+            if (chunk.m_seen[i]) {
+                m_seen[i] = true;
+                m_exceeded[i] |= !domain.hasValues();
+            }
+            values.add(!m_exceeded[i] && domain.hasValues() ? domain.getValues().iterator()
+                : Collections.<DataCell> emptyIterator());
+        }
+        // the possible values, the lower bounds and the upper bounds, each in rows of their own
+        long r = 0;
+        boolean hasValue = true;
+        while (hasValue) {
+            Arrays.fill(cells, DataType.getMissingCell());
+            hasValue = false;
+            for (int i = 0; i < m_possValCols.length; i++) {
+                final Iterator<DataCell> it = values.get(i);
+                if (it.hasNext()) {
+                    cells[m_possValCols[i]] = it.next();
+                    hasValue = true;
+                }
+            }
+            if (hasValue) {
+                m_domainCreator.updateDomain(new DefaultRow(RowKey.createRowKey(r++), cells));
+            }
+        }
+        // the bounds are among the possible values of their chunk, as rows of their own they don't change the
+        // order of the possible values if they follow them
+        for (boolean lower : new boolean[]{true, false}) {
+            Arrays.fill(cells, DataType.getMissingCell());
+            boolean hasBound = false;
+            for (int col : m_minMaxCols) {
+                final DataColumnDomain domain = chunk.m_spec.getColumnSpec(col).getDomain();
+                final DataCell bound = lower ? domain.getLowerBound() : domain.getUpperBound();
+                if (bound != null) {
+                    cells[col] = bound;
+                    hasBound = true;
+                }
+            }
+            if (hasBound) {
+                m_domainCreator.updateDomain(new DefaultRow(RowKey.createRowKey(r++), cells));
+            }
+        }
+    }
+
+    /**
+     * @return the spec of the table with the determined domain
+     */
+    public DataTableSpec createSpec() {
+        final DataTableSpec spec = m_domainCreator.createSpec();
+        final DataColumnSpec[] colSpecs = new DataColumnSpec[spec.getNumColumns()];
+        boolean changed = false;
+        for (int i = 0; i < colSpecs.length; i++) {
+            colSpecs[i] = spec.getColumnSpec(i);
+        }
+        for (int i = 0; i < m_possValCols.length; i++) {
+            final DataColumnSpec colSpec = colSpecs[m_possValCols[i]];
+            if (m_exceeded[i] && colSpec.getDomain().hasValues()) {
+                // the values exceeded the maximum within a chunk but not within the merged ones
+                final DataColumnDomainCreator domainCreator = new DataColumnDomainCreator(colSpec.getDomain());
+                domainCreator.setValues(null);
+                final DataColumnSpecCreator colSpecCreator = new DataColumnSpecCreator(colSpec);
+                colSpecCreator.setDomain(domainCreator.createDomain());
+                colSpecs[m_possValCols[i]] = colSpecCreator.createSpec();
+                changed = true;
+            }
+        }
+        return changed ? new DataTableSpec(spec.getName(), colSpecs) : spec;
+    }
+
+    /**
+     * Returns the estimated numbers of distinct values of the columns whose possible values were dropped because
+     * they exceeded the maximum. Empty unless the {@linkplain #setEstimateDistinctValues(boolean) estimation} is
+     * enabled.
+     *
+     * @return the estimated numbers of distinct values by column name, in the order of the columns
+     */
+    public Map<String, Long> getDistinctValueEstimates() {
+        final Map<String, Long> estimates = new LinkedHashMap<String, Long>();
+        if (!m_estimateDistinctValues || m_sketches.isEmpty()) {
+            return estimates;
+        }
+        final DataTableSpec spec = createSpec();
+        final List<HyperLogLog[]> sketches = new ArrayList<HyperLogLog[]>(m_sketches);
+        for (int i = 0; i < m_possValCols.length; i++) {
+            final DataColumnSpec colSpec = spec.getColumnSpec(m_possValCols[i]);
+            if (m_seen[i] && !colSpec.getDomain().hasValues()) {
+                final HyperLogLog sketch = new HyperLogLog();
+                for (HyperLogLog[] s : sketches) {
+                    sketch.merge(s[i]);
+                }
+                estimates.put(colSpec.getName(), sketch.estimate());
+            }
+        }
+        return estimates;
+    }
+
+    private static Chunk waitFor(final ThreadPool pool, final Future<Chunk> future)
+        throws CanceledExecutionException {
+        try {
+            return ThreadPoolUtil.waitFor(pool, future);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(ThreadPoolUtil.throwIfUnchecked(e));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Determining the domain was interrupted.");
+        }
+    }
+
+    /** The domain of a chunk of rows. */
+    private static final class Chunk {
+
+        private final DataTableSpec m_spec;
+
+        private final boolean[] m_seen;
+
+        Chunk(final DataTableSpec spec, final boolean[] seen) {
+            m_spec = spec;
+            m_seen = seen;
+        }
+    }
+}
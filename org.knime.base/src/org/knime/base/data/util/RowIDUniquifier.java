@@ -0,0 +1,508 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.data.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.knime.core.util.FileUtil;
+import org.knime.core.util.MutableInteger;
+
+/**
+ * Keeps track of the row IDs created so far in order to make new ones unique, with bounded memory. The IDs are kept in
+ * memory up to a limit. Beyond that they are spilled to temporary files (runs) sorted by a 64 bit hash code, and a
+ * Bloom filter over all IDs answers most membership tests without touching the disk. Only if the filter reports an ID
+ * as (probably) known, the runs are searched: a sparse in-memory index of each run locates the single block of the
+ * file that can contain the ID. Runs of the same size are merged, hence there are only logarithmically many. The
+ * suffix counters are only kept for IDs that had duplicates.
+ * <p>
+ * Membership is exact, i.e. the created IDs are the same as with a hash map of all IDs. An instance is not thread-safe
+ * and must be closed in order to delete the temporary files.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class RowIDUniquifier implements AutoCloseable {
+
+    /** The default number of row IDs kept in memory before they are spilled. */
+    public static final int DEFAULT_MAX_IDS_IN_MEMORY = 500000;
+
+    /** The number of runs of the same size that are merged into one. */
+    private static final int MERGE_FACTOR = 4;
+
+    /** The number of IDs in a block of a run, the index holds the position and first hash of each block. */
+    private static final int BLOCK_SIZE = 128;
+
+    private final int m_maxIDsInMemory;
+
+    // the IDs added since the last spill
+    private final HashSet<String> m_recentIDs = new HashSet<String>();
+
+    // the last suffix for each ID that had duplicates
+    private final HashMap<String, MutableInteger> m_suffixes = new HashMap<String, MutableInteger>();
+
+    // the spilled IDs, from the oldest (and largest) to the most recent run
+    private final List<Run> m_runs = new ArrayList<Run>();
+
+    // all spilled IDs, null until the first spill
+    private BloomFilter m_filter;
+
+    private File m_spillDir;
+
+    private int m_runFileCount;
+
+    private long m_size;
+
+    /**
+     * Creates a uniquifier keeping {@link #DEFAULT_MAX_IDS_IN_MEMORY} IDs in memory.
+     */
+    public RowIDUniquifier() {
+        this(DEFAULT_MAX_IDS_IN_MEMORY);
+    }
+
+    /**
+     * @param maxIDsInMemory the number of row IDs kept in memory before they are spilled to disk
+     */
+    public RowIDUniquifier(final int maxIDsInMemory) {
+        if (maxIDsInMemory < 1) {
+            throw new IllegalArgumentException("The number of IDs in memory must be positive: " + maxIDsInMemory);
+        }
+        m_maxIDsInMemory = maxIDsInMemory;
+    }
+
+    /**
+     * Returns the ID if it wasn't added before, otherwise appends "_" and the next suffix for the ID, repeatedly until
+     * the result is unique, for example "Row1_1" for the second and "Row1_2" for the third "Row1". The returned ID is
+     * added.
+     *
+     * @param id the row ID
+     * @return a unique row ID
+     * @throws UncheckedIOException if spilling the IDs to disk fails
+     */
+    public String uniquify(final String id) {
+        String result = id;
+        while (!add(result)) {
+            result = result + "_" + nextSuffix(result);
+        }
+        return result;
+    }
+
+    /**
+     * @param id the row ID to add
+     * @return <code>true</code> if the ID wasn't added before
+     * @throws UncheckedIOException if spilling the IDs to disk fails
+     */
+    public boolean add(final String id) {
+        if (contains(id)) {
+            return false;
+        }
+        m_recentIDs.add(id);
+        m_size++;
+        if (m_recentIDs.size() >= m_maxIDsInMemory) {
+            spill();
+        }
+        return true;
+    }
+
+    /**
+     * @param id the row ID
+     * @return <code>true</code> if the ID was added before
+     * @throws UncheckedIOException if reading the spilled IDs fails
+     */
+    public boolean contains(final String id) {
+        if (m_recentIDs.contains(id) || m_suffixes.containsKey(id)) {
+            return true;
+        }
+        if (m_filter == null) {
+            return false;
+        }
+        final long hash = BloomFilter.hash(id);
+        if (!m_filter.mightContain(hash)) {
+            return false;
+        }
+        final byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+        try {
+            for (int i = m_runs.size() - 1; i >= 0; i--) {
+                if (m_runs.get(i).contains(hash, bytes)) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read the row IDs from '" + m_spillDir + "'", e);
+        }
+    }
+
+    /**
+     * Increments the suffix counter of an ID, which starts at 0 for each ID. Used to create IDs with a custom suffix
+     * from a duplicate ID, see {@link #uniquify(String)}.
+     *
+     * @param id a row ID that was added
+     * @return the next suffix for the ID, starting at 1
+     */
+    public int nextSuffix(final String id) {
+        MutableInteger suffix = m_suffixes.get(id);
+        if (suffix == null) {
+            suffix = new MutableInteger(0);
+            m_suffixes.put(id, suffix);
+        }
+        suffix.inc();
+        return suffix.intValue();
+    }
+
+    /**
+     * @return the number of IDs added
+     */
+    public long size() {
+        return m_size;
+    }
+
+    /**
+     * Deletes the spilled IDs. The uniquifier must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        m_recentIDs.clear();
+        m_suffixes.clear();
+        m_filter = null;
+        for (Run run : m_runs) {
+            run.close();
+        }
+        m_runs.clear();
+        if (m_spillDir != null) {
+            FileUtil.deleteRecursively(m_spillDir);
+            m_spillDir = null;
+        }
+    }
+
+    /*
+     * Writes the recent IDs sorted by their hash to a new run, adds them to the filter, and merges the most recent
+     * runs if there are enough of the same size.
+     */
+    private void spill() {
+        try {
+            if (m_spillDir == null) {
+                m_spillDir = FileUtil.createTempDir("knime_rowids_");
+                m_filter = new BloomFilter(4L * m_maxIDsInMemory);
+            }
+            final long[] hashes = new long[m_recentIDs.size()];
+            final String[] ids = m_recentIDs.toArray(new String[hashes.length]);
+            final Integer[] order = new Integer[hashes.length];
+            for (int i = 0; i < hashes.length; i++) {
+                hashes[i] = BloomFilter.hash(ids[i]);
+                m_filter.add(hashes[i]);
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Long.compare(hashes[a], hashes[b]));
+            try (RunWriter writer = new RunWriter(newRunFile())) {
+                for (Integer i : order) {
+                    writer.write(hashes[i], ids[i].getBytes(StandardCharsets.UTF_8));
+                }
+                m_runs.add(writer.finish(0));
+            }
+            mergeRuns();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write the row IDs to '" + m_spillDir + "'", e);
+        }
+        m_recentIDs.clear();
+    }
+
+    /*
+     * Merges the most recent runs as long as there are MERGE_FACTOR runs of the same level. The levels of the runs
+     * don't increase from the oldest to the most recent run.
+     */
+    private void mergeRuns() throws IOException {
+        while (true) {
+            final int level = m_runs.get(m_runs.size() - 1).m_level;
+            int count = 0;
+            while (count < m_runs.size() && m_runs.get(m_runs.size() - 1 - count).m_level == level) {
+                count++;
+            }
+            if (count < MERGE_FACTOR) {
+                return;
+            }
+            final List<Run> runs = m_runs.subList(m_runs.size() - count, m_runs.size());
+            final Run merged = merge(runs, level + 1);
+            for (Run run : runs) {
+                run.close();
+                run.m_file.delete();
+            }
+            runs.clear();
+            m_runs.add(merged);
+        }
+    }
+
+    private Run merge(final List<Run> runs, final int level) throws IOException {
+        final PriorityQueue<RunReader> queue =
+            new PriorityQueue<RunReader>(runs.size(), (a, b) -> Long.compare(a.m_hash, b.m_hash));
+        final List<RunReader> readers = new ArrayList<RunReader>(runs.size());
+        try (RunWriter writer = new RunWriter(newRunFile())) {
+            for (Run run : runs) {
+                final RunReader reader = new RunReader(run.m_file);
+                readers.add(reader);
+                if (reader.next()) {
+                    queue.add(reader);
+                }
+            }
+            while (!queue.isEmpty()) {
+                final RunReader reader = queue.poll();
+                writer.write(reader.m_hash, reader.m_bytes);
+                if (reader.next()) {
+                    queue.add(reader);
+                }
+            }
+            return writer.finish(level);
+        } finally {
+            for (RunReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    private File newRunFile() {
+        return new File(m_spillDir, "rowids_" + (m_runFileCount++) + ".bin");
+    }
+
+    /**
+     * A file of IDs sorted by their hash, each stored as hash, length, and UTF-8 bytes, with the position and first
+     * hash of each block of {@link #BLOCK_SIZE} IDs.
+     */
+    private static final class Run {
+
+        private final File m_file;
+
+        // the number of merges the run is made of
+        private final int m_level;
+
+        private final long m_length;
+
+        private final long[] m_blockHashes;
+
+        private final long[] m_blockOffsets;
+
+        // opened on the first lookup
+        private RandomAccessFile m_in;
+
+        private byte[] m_buffer = new byte[0];
+
+        Run(final File file, final int level, final long length, final long[] blockHashes,
+            final long[] blockOffsets) {
+            m_file = file;
+            m_level = level;
+            m_length = length;
+            m_blockHashes = blockHashes;
+            m_blockOffsets = blockOffsets;
+        }
+
+        boolean contains(final long hash, final byte[] target) throws IOException {
+            // the last block starting with a smaller hash, IDs with the same hash may span several blocks
+            int low = 0;
+            int high = m_blockHashes.length - 1;
+            int start = 0;
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                if (m_blockHashes[mid] < hash) {
+                    start = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            for (int b = start; b < m_blockHashes.length && m_blockHashes[b] <= hash; b++) {
+                final ByteBuffer block = readBlock(b);
+                while (block.hasRemaining()) {
+                    final long h = block.getLong();
+                    final int length = block.getInt();
+                    if (h > hash) {
+                        return false;
+                    }
+                    if (h == hash && length == target.length && equals(block, target)) {
+                        return true;
+                    }
+                    block.position(block.position() + length);
+                }
+            }
+            return false;
+        }
+
+        private ByteBuffer readBlock(final int b) throws IOException {
+            if (m_in == null) {
+                m_in = new RandomAccessFile(m_file, "r");
+            }
+            final long end = b + 1 < m_blockOffsets.length ? m_blockOffsets[b + 1] : m_length;
+            final int length = (int)(end - m_blockOffsets[b]);
+            if (m_buffer.length < length) {
+                m_buffer = new byte[length];
+            }
+            m_in.seek(m_blockOffsets[b]);
+            m_in.readFully(m_buffer, 0, length);
+            return ByteBuffer.wrap(m_buffer, 0, length);
+        }
+
+        private static boolean equals(final ByteBuffer block, final byte[] target) {
+            final int offset = block.position();
+            for (int i = 0; i < target.length; i++) {
+                if (block.get(offset + i) != target[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void close() {
+            if (m_in != null) {
+                try {
+                    m_in.close();
+                } catch (IOException e) {
+                    // the file is deleted anyway
+                }
+                m_in = null;
+            }
+        }
+    }
+
+    /** Writes the IDs of a run in the order of their hash and creates the index of the blocks. */
+    private static final class RunWriter implements Closeable {
+
+        private final File m_file;
+
+        private final DataOutputStream m_out;
+
+        private long[] m_blockHashes = new long[16];
+
+        private long[] m_blockOffsets = new long[16];
+
+        private int m_blockCount;
+
+        private long m_offset;
+
+        private long m_count;
+
+        RunWriter(final File file) throws IOException {
+            m_file = file;
+            m_out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        }
+
+        void write(final long hash, final byte[] bytes) throws IOException {
+            if (m_count % BLOCK_SIZE == 0) {
+                if (m_blockCount == m_blockHashes.length) {
+                    m_blockHashes = Arrays.copyOf(m_blockHashes, 2 * m_blockCount);
+                    m_blockOffsets = Arrays.copyOf(m_blockOffsets, 2 * m_blockCount);
+                }
+                m_blockHashes[m_blockCount] = hash;
+                m_blockOffsets[m_blockCount] = m_offset;
+                m_blockCount++;
+            }
+            m_out.writeLong(hash);
+            m_out.writeInt(bytes.length);
+            m_out.write(bytes);
+            m_offset += Long.BYTES + Integer.BYTES + bytes.length;
+            m_count++;
+        }
+
+        Run finish(final int level) throws IOException {
+            m_out.flush();
+            return new Run(m_file, level, m_offset, Arrays.copyOf(m_blockHashes, m_blockCount),
+                Arrays.copyOf(m_blockOffsets, m_blockCount));
+        }
+
+        @Override
+        public void close() throws IOException {
+            m_out.close();
+        }
+    }
+
+    /** Reads the IDs of a run one after another. */
+    private static final class RunReader implements Closeable {
+
+        private final DataInputStream m_in;
+
+        private long m_hash;
+
+        private byte[] m_bytes;
+
+        RunReader(final File file) throws IOException {
+            m_in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+        }
+
+        boolean next() throws IOException {
+            try {
+                m_hash = m_in.readLong();
+            } catch (EOFException e) {
+                return false;
+            }
+            m_bytes = new byte[m_in.readInt()];
+            m_in.readFully(m_bytes);
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            m_in.close();
+        }
+    }
+}
@@ -55,6 +55,8 @@
 import javax.swing.filechooser.FileFilter;
 
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowIterator;
+import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
@@ -64,6 +66,13 @@
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.BufferedDataTableRowOutput;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
 import org.knime.core.node.util.CheckUtils;
 
 
@@ -150,11 +159,50 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
                     + " you execute it, please.");
         }
 
-        BufferedDataTable out = exec.createBufferedDataTable(new ARFFTable(
-                m_file,
-                ARFFTable.createDataTableSpecFromARFFfile(m_file, exec),
-                m_rowPrefix), exec);
-        return new BufferedDataTable[]{out};
+        BufferedDataTableRowOutput output = new BufferedDataTableRowOutput(
+                exec.createDataContainer(ARFFTable.createDataTableSpecFromARFFfile(m_file, exec)));
+        createStreamableOperator(null, null).runFinal(new PortInput[0], new PortOutput[]{output}, exec);
+        return new BufferedDataTable[]{output.getDataTable()};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+            final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        return new StreamableOperator() {
+
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs,
+                    final ExecutionContext exec) throws Exception {
+                if (m_file == null) {
+                    throw new InvalidSettingsException("Configure the ARFF reader before"
+                            + " you execute it, please.");
+                }
+                ARFFTable table = new ARFFTable(m_file,
+                        ARFFTable.createDataTableSpecFromARFFfile(m_file, exec), m_rowPrefix);
+                RowOutput rowOutput = (RowOutput)outputs[0];
+                RowIterator it = table.iterator();
+                if (it == null) {
+                    throw new IOException("Unable to open '" + m_file + "'.");
+                }
+                try {
+                    long row = 0;
+                    while (it.hasNext()) {
+                        final long finalRow = ++row;
+                        exec.setMessage(() -> "Reading row #" + finalRow);
+                        exec.checkCanceled();
+                        rowOutput.push(it.next());
+                    }
+                } finally {
+                    if (it instanceof CloseableRowIterator) {
+                        ((CloseableRowIterator)it).close();
+                    }
+                }
+                rowOutput.close();
+            }
+        };
     }
 
     /**
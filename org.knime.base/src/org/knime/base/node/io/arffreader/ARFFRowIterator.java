@@ -51,7 +51,9 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.URL;
+import java.util.Arrays;
 import java.util.NoSuchElementException;
 
 import org.knime.core.data.DataCell;
@@ -59,6 +61,7 @@
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
 import org.knime.core.data.RowIterator;
+import org.knime.core.data.RowKey;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
@@ -86,6 +89,11 @@ public class ARFFRowIterator extends RowIterator {
 
     private int m_rowNo; // we count the rows read so far
 
+    private final int m_lineOffset;
+
+    // the types of the columns
+    private final DataType[] m_types;
+
     private int m_numMsgExtraCol;
 
     private int m_numMsgMissCol;
@@ -106,12 +114,24 @@ public class ARFFRowIterator extends RowIterator {
      */
     public ARFFRowIterator(final URL fileLocation, final DataTableSpec tSpec, final String rowKeyPrefix)
         throws IOException {
-        if (fileLocation == null) {
-            throw new NullPointerException("Can't pass null ARFF file location");
-        }
+        this(openDataSection(fileLocation), fileLocation, tSpec, rowKeyPrefix, 0);
+    }
+
+    /**
+     * Creates a row iterator reading the rows from a part of the data section of an ARFF file.
+     *
+     * @param dataSection the reader positioned at the beginning of a line of the data section
+     * @param fileLocation the location of the file, for messages
+     * @param tSpec the structure of the table to create
+     * @param rowKeyPrefix row keys are constructed like rowKeyPrefix + rowNo
+     * @param lineOffset the number of data section lines before the first line of the reader, for messages
+     */
+    ARFFRowIterator(final Reader dataSection, final URL fileLocation, final DataTableSpec tSpec,
+        final String rowKeyPrefix, final int lineOffset) {
         m_file = fileLocation;
         m_tSpec = tSpec;
         m_rowNo = 1;
+        m_lineOffset = lineOffset;
 
         if (rowKeyPrefix == null) {
             m_rowPrefix = "";
@@ -123,7 +143,26 @@ public ARFFRowIterator(final URL fileLocation, final DataTableSpec tSpec, final
         m_numMsgWrongFormat = 0;
         m_numMsgMissVal = 0;
 
-        InputStream inStream = FileUtil.openStreamWithTimeout(m_file);
+        m_types = new DataType[tSpec.getNumColumns()];
+        for (int c = 0; c < m_types.length; c++) {
+            m_types[c] = tSpec.getColumnSpec(c).getType();
+        }
+
+        m_tokenizer = createTokenizer(dataSection);
+    }
+
+    /**
+     * Opens the file and reads its header.
+     *
+     * @param fileLocation valid URL of the file to read
+     * @return a reader positioned after the "@DATA" declaration
+     * @throws IOException if the ARFF file location couldn't be opened
+     */
+    static BufferedReader openDataSection(final URL fileLocation) throws IOException {
+        if (fileLocation == null) {
+            throw new NullPointerException("Can't pass null ARFF file location");
+        }
+        InputStream inStream = FileUtil.openStreamWithTimeout(fileLocation);
         BufferedReader fReader = new BufferedReader(new InputStreamReader(inStream));
 
         // eat the ARFF header
@@ -134,9 +173,15 @@ public ARFFRowIterator(final URL fileLocation, final DataTableSpec tSpec, final
                 break;
             }
         }
+        return fReader;
+    }
 
+    /*
+     * Creates the tokenizer reading the data section.
+     */
+    private static Tokenizer createTokenizer(final Reader dataSection) {
         // setup the tokenizer to read the file
-        m_tokenizer = new Tokenizer(fReader);
+        Tokenizer tokenizer = new Tokenizer(dataSection);
         // create settings for the tokenizer
         TokenizerSettings settings = new TokenizerSettings();
         // add the ARFF single line comment
@@ -153,7 +198,15 @@ public ARFFRowIterator(final URL fileLocation, final DataTableSpec tSpec, final
         settings.addWhiteSpaceCharacter(' ');
         settings.addWhiteSpaceCharacter('\t');
 
-        m_tokenizer.setSettings(settings);
+        tokenizer.setSettings(settings);
+        return tokenizer;
+    }
+
+    /*
+     * The current line number in the data section.
+     */
+    private int getLineNumber() {
+        return m_lineOffset + m_tokenizer.getLineNumber();
     }
 
     /**
@@ -189,23 +242,33 @@ public DataRow next() {
         // create a row ID cell
         String rowID = m_rowPrefix + (m_rowNo - 1);
 
+        return readRow(new RowKey(rowID));
+    }
+
+    /**
+     * Reads the next row. The caller must make sure there is a next row, see {@link #hasNext()}.
+     *
+     * @param key the key of the row
+     * @return the next row, a {@link SparseARFFRow} for a sparse instance
+     * @throws IllegalStateException if the row is a malformed sparse row
+     */
+    DataRow readRow(final RowKey key) {
         // Now, read the columns until we have enough or see a row delimiter
         String token;
         token = m_tokenizer.nextToken();
         m_tokenizer.pushBack(); // peek at the token
 
         //Check if format of row is sparse
-        DataCell[] rowCells;
+        DataRow row;
         if (!token.isEmpty() && token.charAt(0) == '{' && !m_tokenizer.lastTokenWasQuoted()) {
-            rowCells = readSparseRow();
+            row = readSparseRow(key);
         } else {
-            rowCells = readDataRow();
+            row = new DefaultRow(key, readDataRow());
         }
 
         m_rowNo++;
 
-        return new DefaultRow(rowID, rowCells);
-
+        return row;
     }
 
     /**
@@ -213,7 +276,7 @@ public DataRow next() {
      * @param noOfCols
      */
     private DataCell[] readDataRow() {
-        int noOfCols = m_tSpec.getNumColumns();
+        int noOfCols = m_types.length;
         DataCell[] rowCells = new DataCell[noOfCols];
         String token;
         int createdCols = 0;
@@ -247,7 +310,7 @@ private DataCell[] readDataRow() {
                     LOGGER.warn("ARFF reader WARNING: No value for"
                             + " column " + (createdCols + 1) + "("
                             + m_tSpec.getColumnSpec(createdCols) + "), file '"
-                            + m_file + "' line " + m_tokenizer.getLineNumber()
+                            + m_file + "' line " + getLineNumber()
                             + ". Creating missing value for it.");
                     m_numMsgMissVal++;
                 }
@@ -264,8 +327,7 @@ private DataCell[] readDataRow() {
 
             // now get that new cell (it throws something at us if it couldn't)
             rowCells[createdCols] =
-                    createNewDataCellOfType(m_tSpec.getColumnSpec(createdCols)
-                            .getType(), token, isMissingCell);
+                    createNewDataCellOfType(m_types[createdCols], token, isMissingCell);
             createdCols++;
 
         } // end of while(createdCols < noOfCols)
@@ -276,7 +338,7 @@ private DataCell[] readDataRow() {
             if (m_numMsgMissCol < MAX_ERR_MSG) {
                 LOGGER.warn("ARFF reader WARNING: Too few columns in "
                         + "file '" + m_file + "' line "
-                        + m_tokenizer.getLineNumber()
+                        + getLineNumber()
                         + ". Creating missing values for the missing columns.");
                 m_numMsgMissCol++;
             }
@@ -286,8 +348,7 @@ private DataCell[] readDataRow() {
             }
             while (createdCols < noOfCols) {
                 rowCells[createdCols] =
-                        createNewDataCellOfType(m_tSpec.getColumnSpec(
-                                createdCols).getType(), null, true);
+                        DataType.getMissingCell();
                 createdCols++;
             }
         }
@@ -297,12 +358,15 @@ private DataCell[] readDataRow() {
         return rowCells;
     }
 
-    /**
-     * @param rowCells
-     * @param noOfCols
+    /*
+     * Reads a row of the form "{col val, col val, ...}". Only the listed cells are kept, the columns not listed are
+     * zero (see SparseARFFRow).
      */
-    private DataCell[] readSparseRow() {
-        DataCell[] rowCells = new DataCell[m_tSpec.getNumColumns()];
+    private DataRow readSparseRow(final RowKey key) {
+        int[] indices = new int[16];
+        DataCell[] cells = new DataCell[16];
+        int size = 0;
+        boolean ascending = true;
         String token;
         token = m_tokenizer.nextToken().substring(1);
         boolean foundending = false;
@@ -312,42 +376,75 @@ private DataCell[] readSparseRow() {
                 foundending = true;
                 token = token.substring(0, token.length() - 1);
             }
-            String[] fields = token.split(" ");
-            if (fields.length != 2) {
-                throw new IllegalStateException("Malformatted sparse data entry: '" + token + "'");
-
+            final boolean quoted = m_tokenizer.lastTokenWasQuoted();
+            final String index;
+            String data;
+            final int space = token.indexOf(' ');
+            if (!quoted && space > 0 && space < token.length() - 1 && token.indexOf(' ', space + 1) < 0) {
+                // the common case: an unquoted entry, no need to split it with a regular expression
+                index = token.substring(0, space);
+                data = token.substring(space + 1).trim();
+            } else {
+                String[] fields = token.split(" ");
+                if (fields.length != 2) {
+                    throw new IllegalStateException("Malformatted sparse data entry: '" + token + "'");
+                }
+                index = fields[0];
+                data = fields[1];
+                if (!quoted) {
+                    data = data.trim();
+                }
             }
             int col;
             try {
-                col = Integer.parseInt(fields[0].trim());
+                col = Integer.parseInt(index.trim());
             } catch (NumberFormatException e) {
                 throw new IllegalStateException("Malformatted column index in sparse data entry: '"
-                        + fields[0].trim() + "'");
+                        + index.trim() + "'");
+            }
+            if (col < 0 || col >= m_types.length) {
+                throw new IllegalStateException("Column index out of range in sparse data entry: '" + token + "'");
             }
-            String data = fields[1];
-            if (!m_tokenizer.lastTokenWasQuoted()) {
-                data = data.trim();
+            boolean missCell = data.equals("?") && !quoted;
+            if (size == indices.length) {
+                indices = Arrays.copyOf(indices, 2 * size);
+                cells = Arrays.copyOf(cells, 2 * size);
             }
-            boolean missCell = data.equals("?") && !m_tokenizer.lastTokenWasQuoted();
-            rowCells[col] = createNewDataCellOfType(m_tSpec.getColumnSpec(col).getType(), data, missCell);
+            ascending &= size == 0 || col > indices[size - 1];
+            indices[size] = col;
+            cells[size++] = createNewDataCellOfType(m_types[col], data, missCell);
 
             token = m_tokenizer.nextToken();
         }
         if (!foundending) {
-            int line = m_tokenizer.getLineNumber();
+            int line = getLineNumber();
             if (token != null && token.equals("\n")) {
                 line--;
             }
             LOGGER.error("Malformatted sparse row in line " + line + " (closing bracket not found).");
         }
 
-        //now go through the row and fill the nulls with 0s
-        for (int c = 0; c < rowCells.length; c++) {
-            if (rowCells[c] == null) {
-                rowCells[c] = createNewDataCellOfType(m_tSpec.getColumnSpec(c).getType(), "0", false);
+        if (!ascending) {
+            // order the entries by column and by their position, the last entry of a column wins
+            final long[] order = new long[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = ((long)indices[i] << 32) | i;
             }
+            Arrays.sort(order);
+            final DataCell[] listed = cells;
+            cells = new DataCell[size];
+            int distinct = 0;
+            for (int i = 0; i < size; i++) {
+                final int col = (int)(order[i] >>> 32);
+                if (distinct > 0 && indices[distinct - 1] == col) {
+                    distinct--;
+                }
+                indices[distinct] = col;
+                cells[distinct++] = listed[(int)order[i]];
+            }
+            size = distinct;
         }
-        return rowCells;
+        return new SparseARFFRow(key, m_types, Arrays.copyOf(indices, size), Arrays.copyOf(cells, size));
     }
 
     /*
@@ -361,7 +458,7 @@ private void readUntilEOL() {
         while ((token != null) && !token.equals("\n")) { // EOF is also EOL
             if (!msgPrinted && (m_numMsgExtraCol < MAX_ERR_MSG)) {
                 LOGGER.warn("ARFF reader WARNING: Ignoring extra " + "columns in the data section of file '" + m_file
-                    + "' line " + m_tokenizer.getLineNumber() + ".");
+                    + "' line " + getLineNumber() + ".");
                 m_numMsgExtraCol++;
             }
             if (m_numMsgExtraCol == MAX_ERR_MSG) {
@@ -410,7 +507,7 @@ private DataCell createNewDataCellOfType(final DataType type, final String data,
                 } catch (NumberFormatException nfe) {
                     if (m_numMsgWrongFormat < MAX_ERR_MSG) {
                         LOGGER.warn("ARFF reader WARNING: Wrong data " + "format. In line "
-                            + m_tokenizer.getLineNumber() + " read '" + data + "' for an integer.");
+                            + getLineNumber() + " read '" + data + "' for an integer.");
                         LOGGER.warn("    Creating missing cell for it.");
                         m_numMsgWrongFormat++;
                     }
@@ -431,7 +528,7 @@ private DataCell createNewDataCellOfType(final DataType type, final String data,
                 } catch (NumberFormatException nfe) {
                     if (m_numMsgWrongFormat < MAX_ERR_MSG) {
                         LOGGER.warn("ARFF reader WARNING: Wrong data " + "format. In line "
-                            + m_tokenizer.getLineNumber() + " read '" + data + "' for a floating point.");
+                            + getLineNumber() + " read '" + data + "' for a floating point.");
                         LOGGER.warn("    Creating missing cell for it.");
                         m_numMsgWrongFormat++;
                     }
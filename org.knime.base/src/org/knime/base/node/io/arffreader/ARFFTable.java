@@ -129,6 +129,9 @@ public DataTableSpec getDataTableSpec() {
     @Override
     public RowIterator iterator() {
         try {
+            if (ParallelARFFRowIterator.supports(m_file)) {
+                return new ParallelARFFRowIterator(m_file, m_tSpec, m_rowPrefix);
+            }
             return new ARFFRowIterator(m_file, m_tSpec, m_rowPrefix);
         } catch (IOException ioe) {
             return null;
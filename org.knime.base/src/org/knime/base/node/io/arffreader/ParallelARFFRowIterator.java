@@ -0,0 +1,439 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.io.arffreader;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.knime.base.util.concurrent.ThreadPoolUtil;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.FileUtil;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Reads the rows of a large ARFF file with multiple threads. The data section is read sequentially and split into
+ * chunks of complete lines, which are parsed by an {@link ARFFRowIterator} each on a thread of the global thread
+ * pool. The rows are returned in the order of the file, their row IDs are assigned in that order; the rows are the
+ * same as the ones of a single {@link ARFFRowIterator}. A quoted value that spans more than
+ * {@value #MAX_QUOTED_CHARS} characters (usually a quote that is never closed) ends the splitting, the rest of the
+ * file is then read by a single iterator without buffering it.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ParallelARFFRowIterator extends CloseableRowIterator {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ParallelARFFRowIterator.class);
+
+    /** Files smaller than this (in bytes) are read by a single iterator. */
+    private static final long MIN_FILE_SIZE = 16L * 1024 * 1024;
+
+    /** The minimal number of characters in a chunk. */
+    private static final int CHUNK_SIZE = 1024 * 1024;
+
+    /**
+     * Chunks of wide rows end after this many cells, to bound the memory of the parsed chunks. Sparse instances don't
+     * count, their rows keep only the listed cells.
+     */
+    private static final int MAX_CELLS_PER_CHUNK = 4 * 1024 * 1024;
+
+    /** The maximal number of characters of a quoted value the chunks are split around. */
+    private static final int MAX_QUOTED_CHARS = 64 * 1024 * 1024;
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final URL m_file;
+
+    private final DataTableSpec m_tSpec;
+
+    private final String m_rowPrefix;
+
+    private final BufferedReader m_source;
+
+    private final char[] m_readBuffer = new char[READ_BUFFER_SIZE];
+
+    private final StringBuilder m_buffer = new StringBuilder();
+
+    // the maximum number of lines that are not sparse instances in a chunk
+    private final int m_maxLines;
+
+    private final int m_nrThreads;
+
+    private final ThreadPool m_pool;
+
+    // the chunks being parsed, in the order of the file
+    private final ArrayDeque<Future<ParsedChunk>> m_pending = new ArrayDeque<Future<ParsedChunk>>();
+
+    private ParsedChunk m_current;
+
+    private int m_currentIndex;
+
+    private boolean m_eof;
+
+    // reads the rest of the file after a long quoted value, null before
+    private ARFFRowIterator m_tail;
+
+    // the number of lines of the data section before the next chunk
+    private int m_lineOffset;
+
+    // the number of the next row, for its row ID
+    private long m_rowNo;
+
+    private boolean m_done;
+
+    /**
+     * @param fileLocation the location of the ARFF file
+     * @param tSpec the structure of the table to create
+     * @param rowKeyPrefix row keys are constructed like rowKeyPrefix + rowNo
+     * @throws IOException if the file couldn't be opened
+     */
+    ParallelARFFRowIterator(final URL fileLocation, final DataTableSpec tSpec, final String rowKeyPrefix)
+        throws IOException {
+        m_file = fileLocation;
+        m_tSpec = tSpec;
+        m_rowPrefix = rowKeyPrefix == null ? "" : rowKeyPrefix;
+        m_source = ARFFRowIterator.openDataSection(fileLocation);
+        m_maxLines = Math.max(1, MAX_CELLS_PER_CHUNK / Math.max(1, tSpec.getNumColumns()));
+        m_nrThreads = ThreadPoolUtil.getMaxThreads();
+        m_pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(m_nrThreads);
+    }
+
+    /**
+     * @param fileLocation the location of the ARFF file
+     * @return <code>true</code> if the file is a local file large enough to pay off reading it with multiple threads
+     */
+    static boolean supports(final URL fileLocation) {
+        if (fileLocation == null || ThreadPoolUtil.getMaxThreads() < 2) {
+            return false;
+        }
+        final File file = FileUtil.getFileFromURL(fileLocation);
+        return file != null && file.isFile() && file.length() >= MIN_FILE_SIZE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        if (m_done) {
+            return false;
+        }
+        while (m_current == null || m_currentIndex >= m_current.m_rows.size()) {
+            if (m_current != null && m_current.m_exception != null) {
+                // next() throws it
+                return true;
+            }
+            m_current = nextParsedChunk();
+            m_currentIndex = 0;
+            if (m_current == null) {
+                if (m_tail != null && m_tail.hasNext()) {
+                    return true;
+                }
+                close();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("The row iterator proceeded beyond the last line of '" + m_file + "'.");
+        }
+        if (m_current == null) {
+            return m_tail.readRow(new RowKey(m_rowPrefix + m_rowNo++));
+        }
+        if (m_currentIndex < m_current.m_rows.size()) {
+            final int index = m_currentIndex++;
+            final DataRow row = m_current.m_rows.get(index);
+            // release the cells, the chunk may be large
+            m_current.m_rows.set(index, null);
+            final RowKey key = new RowKey(m_rowPrefix + m_rowNo++);
+            if (row instanceof SparseARFFRow) {
+                return ((SparseARFFRow)row).withKey(key);
+            }
+            return new DefaultRow(key, row);
+        }
+        final RuntimeException exception = m_current.m_exception;
+        close();
+        throw exception;
+    }
+
+    /**
+     * Cancels the parsing of the pending chunks and closes the file.
+     */
+    @Override
+    public void close() {
+        if (m_done) {
+            return;
+        }
+        m_done = true;
+        for (Future<ParsedChunk> future : m_pending) {
+            future.cancel(true);
+        }
+        m_pending.clear();
+        m_current = null;
+        try {
+            m_source.close();
+        } catch (IOException e) {
+            LOGGER.debug("Unable to close '" + m_file + "': " + e.getMessage(), e);
+        }
+    }
+
+    /*
+     * Submits chunks until each thread has one to work on, and returns the parsed first pending chunk.
+     */
+    private ParsedChunk nextParsedChunk() {
+        fillPending();
+        final Future<ParsedChunk> future = m_pending.poll();
+        if (future == null) {
+            return null;
+        }
+        final ParsedChunk result;
+        try {
+            result = ThreadPoolUtil.waitFor(m_pool, future);
+        } catch (ExecutionException e) {
+            close();
+            throw new IllegalStateException(ThreadPoolUtil.throwIfUnchecked(e));
+        } catch (InterruptedException e) {
+            close();
+            throw createInterruptedException();
+        }
+        fillPending();
+        return result;
+    }
+
+    private IllegalStateException createInterruptedException() {
+        Thread.currentThread().interrupt();
+        return new IllegalStateException("Reading '" + m_file + "' was interrupted.");
+    }
+
+    private void fillPending() {
+        while (m_tail == null && m_pending.size() < m_nrThreads) {
+            final String text;
+            final int lineOffset = m_lineOffset;
+            try {
+                text = nextChunk();
+            } catch (IOException e) {
+                close();
+                throw new IllegalStateException("I/O error while reading '" + m_file + "': " + e.getMessage(), e);
+            }
+            if (text == null) {
+                return;
+            }
+            m_pending.add(m_pool.enqueue(() -> parse(text, lineOffset)));
+        }
+    }
+
+    /*
+     * Reads the next chunk of complete lines from the data section, null at its end or if the rest is read by the
+     * tail iterator. A chunk ends after a line feed that is neither in quotes nor in a comment, once it has the
+     * minimal size or the maximal number of lines that are not sparse instances.
+     */
+    private String nextChunk() throws IOException {
+        int cut = -1;
+        int cutLines = 0;
+        int cutDenseLines = 0;
+        int lines = 0;
+        int denseLines = 0;
+        // the closing quote if the scanned position is in quotes, 0 otherwise
+        char quote = 0;
+        boolean inComment = false;
+        boolean lineStart = true;
+        int p = 0;
+        while (cut < 0 || (cut < CHUNK_SIZE && cutDenseLines < m_maxLines)) {
+            if (p == m_buffer.length()) {
+                if (quote != 0 && p - Math.max(cut, 0) >= MAX_QUOTED_CHARS) {
+                    if (cut > 0) {
+                        // the lines before the quoted value
+                        break;
+                    }
+                    // the quoted value starts the buffer, the rest of the file is read without splitting it
+                    LOGGER.debug("Quoted value of more than " + MAX_QUOTED_CHARS + " characters in '" + m_file
+                        + "' after line " + m_lineOffset + " of the data section, reading the rest with one thread.");
+                    m_tail = new ARFFRowIterator(new TailReader(m_buffer.toString(), m_source), m_file, m_tSpec,
+                        null, m_lineOffset);
+                    m_buffer.setLength(0);
+                    m_buffer.trimToSize();
+                    return null;
+                }
+                final int read = m_eof ? -1 : m_source.read(m_readBuffer);
+                if (read < 0) {
+                    // the rest of the file, including a last line without line feed
+                    m_eof = true;
+                    cut = p;
+                    cutLines = lines;
+                    break;
+                }
+                m_buffer.append(m_readBuffer, 0, read);
+                continue;
+            }
+            final char c = m_buffer.charAt(p++);
+            if (c == '\n') {
+                lines++;
+                // a comment ends with the line, a quote can span lines
+                inComment = false;
+                if (quote == 0) {
+                    cut = p;
+                    cutLines = lines;
+                    cutDenseLines = denseLines;
+                    lineStart = true;
+                }
+            } else if (inComment) {
+                continue;
+            } else if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else {
+                if (lineStart && c != ' ' && c != '\t' && c != '\r') {
+                    // the first character tells whether the line is a sparse instance (or a comment)
+                    lineStart = false;
+                    if (c != '{' && c != '%') {
+                        denseLines++;
+                    }
+                }
+                if (c == '\'' || c == '"') {
+                    quote = c;
+                } else if (c == '%') {
+                    inComment = true;
+                }
+            }
+        }
+        if (cut == 0) {
+            return null;
+        }
+        // the text after the cut is scanned again with the next chunk
+        final String text = m_buffer.substring(0, cut);
+        m_buffer.delete(0, cut);
+        m_lineOffset += cutLines;
+        return text;
+    }
+
+    /*
+     * Converts the lines of the chunk into rows. Stops at the first error.
+     */
+    private ParsedChunk parse(final String text, final int lineOffset) {
+        final ARFFRowIterator it = new ARFFRowIterator(new StringReader(text), m_file, m_tSpec, null, lineOffset);
+        final List<DataRow> rows = new ArrayList<DataRow>();
+        try {
+            while (it.hasNext()) {
+                // the row IDs are assigned once the rows of the previous chunks are known
+                rows.add(it.readRow(RowKey.createRowKey((long)rows.size())));
+            }
+        } catch (RuntimeException e) {
+            return new ParsedChunk(rows, e);
+        }
+        return new ParsedChunk(rows, null);
+    }
+
+    /** The rows of a chunk. */
+    private static final class ParsedChunk {
+
+        private final List<DataRow> m_rows;
+
+        // the error after the rows, null if all lines were converted
+        private final RuntimeException m_exception;
+
+        ParsedChunk(final List<DataRow> rows, final RuntimeException exception) {
+            m_rows = rows;
+            m_exception = exception;
+        }
+    }
+
+    /** Reads the buffered characters first and then the rest of the file. */
+    private static final class TailReader extends Reader {
+
+        private final String m_head;
+
+        private int m_pos;
+
+        private final Reader m_rest;
+
+        TailReader(final String head, final Reader rest) {
+            m_head = head;
+            m_rest = rest;
+        }
+
+        @Override
+        public int read(final char[] cbuf, final int off, final int len) throws IOException {
+            if (m_pos < m_head.length()) {
+                final int n = Math.min(len, m_head.length() - m_pos);
+                m_head.getChars(m_pos, m_pos + n, cbuf, off);
+                m_pos += n;
+                return n;
+            }
+            return m_rest.read(cbuf, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            m_rest.close();
+        }
+    }
+}
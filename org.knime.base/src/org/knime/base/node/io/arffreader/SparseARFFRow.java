@@ -0,0 +1,158 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.io.arffreader;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultCellIterator;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * A row read from a sparse ARFF instance ("{index value, ...}"). Only the listed cells are kept, all other columns
+ * are zero, hence the row takes memory proportional to the number of its entries and not to the number of columns.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class SparseARFFRow implements DataRow {
+
+    private static final DataCell ZERO_INT = new IntCell(0);
+
+    private static final DataCell ZERO_DOUBLE = new DoubleCell(0.0);
+
+    private static final DataCell ZERO_STRING = new StringCell("0");
+
+    private final RowKey m_key;
+
+    // the types of all columns, shared by the rows of a table
+    private final DataType[] m_types;
+
+    // the listed column indices in ascending order
+    private final int[] m_indices;
+
+    private final DataCell[] m_cells;
+
+    /**
+     * @param key the row key
+     * @param types the types of all columns, not copied
+     * @param indices the column indices of the listed cells in ascending order, without duplicates
+     * @param cells the listed cells
+     */
+    SparseARFFRow(final RowKey key, final DataType[] types, final int[] indices, final DataCell[] cells) {
+        m_key = key;
+        m_types = types;
+        m_indices = indices;
+        m_cells = cells;
+    }
+
+    /**
+     * @param key the key of the new row
+     * @return a row with the same cells and the given key
+     */
+    SparseARFFRow withKey(final RowKey key) {
+        return new SparseARFFRow(key, m_types, m_indices, m_cells);
+    }
+
+    /**
+     * @param type the type of the column
+     * @return the cell of a column that is not listed in a sparse instance
+     */
+    static DataCell getZeroCell(final DataType type) {
+        if (type.equals(IntCell.TYPE)) {
+            return ZERO_INT;
+        } else if (type.equals(DoubleCell.TYPE)) {
+            return ZERO_DOUBLE;
+        } else if (type.equals(StringCell.TYPE)) {
+            return ZERO_STRING;
+        }
+        throw new IllegalStateException("Cannot create DataCell of type" + type.toString());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNumCells() {
+        return m_types.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RowKey getKey() {
+        return m_key;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataCell getCell(final int index) {
+        if (index < 0 || index >= m_types.length) {
+            throw new IndexOutOfBoundsException("Cell index " + index + " out of range [0, " + m_types.length + ")");
+        }
+        final int pos = Arrays.binarySearch(m_indices, index);
+        return pos >= 0 ? m_cells[pos] : getZeroCell(m_types[index]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<DataCell> iterator() {
+        return new DefaultCellIterator(this);
+    }
+}
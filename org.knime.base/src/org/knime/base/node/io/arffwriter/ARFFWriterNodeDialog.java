@@ -61,6 +61,7 @@
 import javax.swing.Box;
 import javax.swing.BoxLayout;
 import javax.swing.ButtonGroup;
+import javax.swing.JCheckBox;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JRadioButton;
@@ -91,6 +92,8 @@ public class ARFFWriterNodeDialog extends NodeDialogPane {
 
     private final JRadioButton m_overwritePolicyOverwriteButton;
 
+    private final JCheckBox m_sparseChecker = new JCheckBox("Write sparse ARFF (skip zero values)");
+
     /**
      * Creates a new ARFF file reader dialog.
      */
@@ -152,6 +155,14 @@ private JPanel initLayout() {
         gbc.gridx += 1;
         optionsPanel.add(m_overwritePolicyAbortButton, gbc);
 
+        gbc.gridx = 0;
+        gbc.gridy++;
+        gbc.gridwidth = 3;
+        gbc.insets = new Insets(5, 5, 5, 5);
+        optionsPanel.add(m_sparseChecker, gbc);
+        gbc.gridwidth = 1;
+        gbc.gridx = 3;
+
         //empty panel to eat up extra space
         gbc.gridx++;
         gbc.gridy++;
@@ -177,6 +188,7 @@ protected void saveSettingsTo(final NodeSettingsWO settings)
 
         settings.addBoolean(ARFFWriterNodeModel.CFGKEY_OVERWRITE_OK,
                 m_overwritePolicyOverwriteButton.isSelected());
+        settings.addBoolean(ARFFWriterNodeModel.CFGKEY_SPARSE, m_sparseChecker.isSelected());
 
         m_filePanel.addToHistory();
     }
@@ -196,5 +208,6 @@ protected void loadSettingsFrom(final NodeSettingsRO settings,
         } else {
             m_overwritePolicyAbortButton.doClick();
         }
+        m_sparseChecker.setSelected(settings.getBoolean(ARFFWriterNodeModel.CFGKEY_SPARSE, false));
     }
 }
@@ -56,8 +56,14 @@
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
+import org.knime.base.util.concurrent.ThreadPoolUtil;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataRow;
@@ -71,12 +77,22 @@
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.StreamableOperator;
 import org.knime.core.node.util.CheckUtils;
 import org.knime.core.util.FileUtil;
+import org.knime.core.util.ThreadPool;
 
 /**
  *
@@ -94,6 +110,9 @@ public class ARFFWriterNodeModel extends NodeModel {
     /** The key used to store the filename in the model spec. */
     static final String CFGKEY_SPARSE = "sparseARFF";
 
+    /** The number of rows formatted by a thread at a time. */
+    private static final int ROWS_PER_BLOCK = 256;
+
     /** The key used to store the Overwrite OK in the model spec. */
     static final String CFGKEY_OVERWRITE_OK = "overwriteOK";
 
@@ -138,9 +157,7 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
             settings.addString(CFGKEY_FILENAME, m_location);
             settings.addBoolean(CFGKEY_OVERWRITE_OK, m_overwriteOK);
         }
-        if (m_sparse) {
-            settings.addBoolean(CFGKEY_SPARSE, m_sparse);
-        }
+        settings.addBoolean(CFGKEY_SPARSE, m_sparse);
     }
 
     /**
@@ -162,6 +179,32 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
         m_location = settings.getString(CFGKEY_FILENAME);
         // added in v2.1
         m_overwriteOK = settings.getBoolean(CFGKEY_OVERWRITE_OK, true);
+        // added in v3.8
+        m_sparse = settings.getBoolean(CFGKEY_SPARSE, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        return new InputPortRole[]{InputPortRole.NONDISTRIBUTED_STREAMABLE};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+            final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        return new StreamableOperator() {
+
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs,
+                    final ExecutionContext exec) throws Exception {
+                write((RowInput)inputs[0], -1, exec);
+            }
+        };
     }
 
     /**
@@ -170,11 +213,21 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
     @Override
     protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
             final ExecutionContext exec) throws Exception {
+        write(new DataTableRowInput(inData[0]), inData[0].size(), exec);
+        // execution successful return empty array
+        return new BufferedDataTable[0];
+    }
+
+    /*
+     * Writes the rows of the input into the file. The rows are formatted in blocks by the threads of the pool, and
+     * written in the order of the input.
+     */
+    private void write(final RowInput input, final long rowCnt, final ExecutionContext exec) throws Exception {
         checkFileAccess(m_location, false);
         URL url = FileUtil.toURL(m_location);
         Path localPath = FileUtil.resolveToPath(url);
 
-        DataTableSpec inSpec = inData[0].getDataTableSpec();
+        DataTableSpec inSpec = input.getDataTableSpec();
         int numOfCols = inSpec.getNumColumns();
 
         for (int c = 0; c < numOfCols; c++) {
@@ -189,6 +242,12 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
 
         LOGGER.info("ARFF Writer: ARFFing into '" + m_location + "'.");
 
+        final int nrThreads = ThreadPoolUtil.getMaxThreads();
+        final ThreadPool pool = nrThreads > 1 ? KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(nrThreads) : null;
+        // keep the threads busy while the first pending block is written
+        final int maxPending = 2 * nrThreads;
+        // the blocks being formatted, in the order of the table
+        final ArrayDeque<Future<String>> pending = new ArrayDeque<Future<String>>();
         try (BufferedWriter writer = openWriter(localPath, url)) {
             // Write ARFF header
             writer.write("%\n");
@@ -220,78 +279,146 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
 
             // finally add the data
             writer.write("\n@DATA\n");
-            long rowCnt = inData[0].size();
+            final boolean sparse = m_sparse;
+            List<DataRow> block = new ArrayList<DataRow>(ROWS_PER_BLOCK);
             long rowNr = 0;
-            for (DataRow row : inData[0]) {
+            DataRow row;
+            while ((row = input.poll()) != null) {
 
                 rowNr++;
-                exec.setProgress(rowNr / (double)rowCnt, "Writing row " + rowNr
-                        + " ('" + row.getKey() + "') of " + rowCnt);
-
-                if (m_sparse) {
-                    writer.write("{");
-                }
-                boolean first = true; // flag to skip comma in first column
-                for (int c = 0; c < row.getNumCells(); c++) {
-                    DataCell cell = row.getCell(c);
-
-                    if (m_sparse && !cell.isMissing()) {
-                        // we write only non-zero values in a sparse file
-                        if ((cell instanceof IntValue) && (((IntValue)cell).getIntValue() == 0)) {
-                            continue;
-                        }
-                        if ((cell instanceof DoubleValue) && (Math.abs(((DoubleValue)cell).getDoubleValue()) < 1e-29)) {
-                            continue;
-                        }
-                    }
-
-                    String data = "?";
-                    if (!cell.isMissing()) {
-                        data = cell.toString();
-                    }
-
-                    // see if we need to quote it. A space, tab, etc. or a comma
-                    // trigger quotes.
-                    if (needsQuotes(data)) {
-                        data = "'" + data + "'";
-                    }
-
-                    // now spit it out
-                    if (!first) {
-                        // print column separator
-                        writer.write(",");
-                    } else {
-                        first = false;
-                    }
-
-                    // data in sparse file must be proceeded by the column number
-                    if (m_sparse) {
-                        writer.write("" + c + " ");
-                    }
-
-                    writer.write(data);
-
-                } // for (all cells of this row)
-
-                if (m_sparse) {
-                    writer.write("}");
+                final long finalRowNr = rowNr;
+                final String rowKey = row.getKey().toString();
+                if (rowCnt < 0) {
+                    exec.setMessage(() -> "Writing row " + finalRowNr + " ('" + rowKey + "')");
+                } else {
+                    exec.setProgress(rowNr / (double)rowCnt, () -> "Writing row " + finalRowNr
+                        + " ('" + rowKey + "') of " + rowCnt);
                 }
-                writer.write("\n");
 
                 // see if user told us to stop.
                 // Check if execution was canceled !
                 exec.checkCanceled();
-            } // while (!rIter.atEnd())
+
+                block.add(row);
+                if (block.size() == ROWS_PER_BLOCK) {
+                    submitBlock(block, sparse, writer, pool, pending, maxPending);
+                    block = new ArrayList<DataRow>(ROWS_PER_BLOCK);
+                }
+            }
+            if (!block.isEmpty()) {
+                submitBlock(block, sparse, writer, pool, pending, maxPending);
+            }
+            while (!pending.isEmpty()) {
+                writer.write(waitFor(pool, pending.poll()));
+            }
         } catch (CanceledExecutionException ex) {
             if (localPath != null) {
                 Files.deleteIfExists(localPath);
                 LOGGER.debug("File '" + localPath + "' deleted.");
             }
             throw ex;
+        } finally {
+            for (Future<String> future : pending) {
+                future.cancel(true);
+            }
+            input.close();
         }
+    }
 
-        // execution successful return empty array
-        return new BufferedDataTable[0];
+    /*
+     * Formats the block on the pool, or directly if there is no pool. Writes the first pending block if too many
+     * blocks are pending.
+     */
+    private static void submitBlock(final List<DataRow> block, final boolean sparse, final BufferedWriter writer,
+        final ThreadPool pool, final ArrayDeque<Future<String>> pending, final int maxPending)
+        throws IOException, InterruptedException {
+        if (pool == null) {
+            writer.write(formatBlock(block, sparse));
+            return;
+        }
+        pending.add(pool.enqueue(() -> formatBlock(block, sparse)));
+        if (pending.size() > maxPending) {
+            writer.write(waitFor(pool, pending.poll()));
+        }
+    }
+
+    private static String waitFor(final ThreadPool pool, final Future<String> future)
+        throws IOException, InterruptedException {
+        try {
+            return ThreadPoolUtil.waitFor(pool, future);
+        } catch (ExecutionException e) {
+            final Exception cause = ThreadPoolUtil.throwIfUnchecked(e);
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
+
+    /*
+     * Formats the rows as lines of the data section. Called by the worker threads.
+     */
+    private static String formatBlock(final List<DataRow> rows, final boolean sparse) {
+        final StringBuilder sb = new StringBuilder();
+        for (DataRow row : rows) {
+            if (sparse) {
+                formatSparseRow(row, sb);
+            } else {
+                formatRow(row, sb);
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static void formatRow(final DataRow row, final StringBuilder sb) {
+        for (int c = 0; c < row.getNumCells(); c++) {
+            if (c > 0) {
+                // print column separator
+                sb.append(',');
+            }
+            appendData(row.getCell(c), sb);
+        }
+    }
+
+    /*
+     * Writes only the non-zero values, each proceeded by its column number, like "{1 x,5 7}".
+     */
+    private static void formatSparseRow(final DataRow row, final StringBuilder sb) {
+        sb.append('{');
+        boolean first = true; // flag to skip comma in first column
+        for (int c = 0; c < row.getNumCells(); c++) {
+            DataCell cell = row.getCell(c);
+            if (!cell.isMissing()) {
+                // we write only non-zero values in a sparse file
+                if ((cell instanceof IntValue) && (((IntValue)cell).getIntValue() == 0)) {
+                    continue;
+                }
+                if ((cell instanceof DoubleValue) && (Math.abs(((DoubleValue)cell).getDoubleValue()) < 1e-29)) {
+                    continue;
+                }
+            }
+            if (!first) {
+                sb.append(',');
+            } else {
+                first = false;
+            }
+            sb.append(c).append(' ');
+            appendData(cell, sb);
+        }
+        sb.append('}');
+    }
+
+    private static void appendData(final DataCell cell, final StringBuilder sb) {
+        if (cell.isMissing()) {
+            sb.append('?');
+            return;
+        }
+        String data = cell.toString();
+        // see if we need to quote it. A space, tab, etc. or a comma
+        // trigger quotes.
+        if (needsQuotes(data)) {
+            sb.append('\'').append(data).append('\'');
+        } else {
+            sb.append(data);
+        }
     }
 
     private static BufferedWriter openWriter(final Path localPath, final URL url) throws IOException {
@@ -349,7 +476,7 @@ private String colspecToARFFType(final DataColumnSpec cSpec) {
      * returns true if the specified string contains characters below the ASCII
      * 20 or a comma.
      */
-    private boolean needsQuotes(final String str) {
+    private static boolean needsQuotes(final String str) {
         for (int s = 0; s < str.length(); s++) {
             if ((str.charAt(s) <= 32) || (str.charAt(s) == ',')) {
                 return true;
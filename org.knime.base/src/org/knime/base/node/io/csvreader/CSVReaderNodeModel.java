@@ -126,6 +126,7 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
         final ExecutionContext exec) throws Exception {
 
         FileTable fTable = createFileTable(exec);
+        fTable.setReadInParallel(true);
         try {
             BufferedDataTable table = exec.createBufferedDataTable(fTable, exec.createSubExecutionContext(0.0));
             return new BufferedDataTable[] {table};
@@ -50,11 +50,18 @@
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Writer;
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
-import java.util.Locale;
-
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.knime.base.util.concurrent.ThreadPoolUtil;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTable;
@@ -63,11 +70,18 @@
 import org.knime.core.data.DoubleValue;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.streamable.DataTableRowInput;
 import org.knime.core.node.streamable.RowInput;
+import org.knime.core.util.ThreadPool;
 
 /**
  * Class to write a {@link org.knime.core.data.DataTable} to an output stream.
+ * <p>
+ * The rows are formatted in blocks, on the threads of the global thread pool if there are multiple processors, and
+ * written in order. If the writer was created on an output stream with a stateless charset, the blocks are also
+ * encoded by the worker threads and written to the stream directly. Subclasses, which may override the (not
+ * necessarily thread-safe) quoting and replacing methods, format the rows on the calling thread.
  *
  * @author Bernd Wiswedel, University of Konstanz
  */
@@ -79,12 +93,14 @@ public class CSVWriter extends BufferedWriter {
 
     private String m_newLine;
 
-    private static final DecimalFormat fullPrecision =
-        new DecimalFormat("#.#", DecimalFormatSymbols.getInstance(Locale.ENGLISH));
+    /** The number of rows formatted at once. */
+    private static final int ROWS_PER_BLOCK = 256;
 
-    static {
-        fullPrecision.setMaximumFractionDigits(340); // DecimalFormat.DOUBLE_FRACTION_DIGITS = 340
-    }
+    // the stream the writer writes to, null if unknown
+    private final OutputStream m_out;
+
+    // the charset of the writer, null if unknown
+    private final Charset m_charset;
 
     /**
      * Creates a new writer with default settings.
@@ -106,7 +122,27 @@ public CSVWriter(final Writer writer) {
      *            tables are written to file.
      */
     public CSVWriter(final Writer writer, final FileWriterSettings settings) {
+        this(writer, null, null, settings);
+    }
+
+    /**
+     * Creates new instance which writes tables to the given stream. The rows are encoded in parallel if the charset
+     * permits it, otherwise it is the same as writing to an {@link OutputStreamWriter}.
+     *
+     * @param out the stream to write to
+     * @param charset the charset to encode the characters with
+     * @param settings the object holding all settings, influencing how data tables are written to file.
+     * @since 3.8
+     */
+    public CSVWriter(final OutputStream out, final Charset charset, final FileWriterSettings settings) {
+        this(new OutputStreamWriter(out, charset), out, charset, settings);
+    }
+
+    private CSVWriter(final Writer writer, final OutputStream out, final Charset charset,
+        final FileWriterSettings settings) {
         super(writer);
+        m_out = out;
+        m_charset = charset;
         if (settings == null) {
             throw new NullPointerException(
                     "The CSVWriter doesn't accept null settings.");
@@ -215,54 +251,141 @@ public void write(final RowInput input, final ExecutionMonitor exec)
             rowCnt = ((DataTableRowInput)input).getRowCount();
         }
 
-        DataRow row;
-        while ((row = input.poll()) != null) {
-
-            String rowKey = row.getKey().toString();
+        final boolean[] isNumerical = new boolean[colCount];
+        for (int c = 0; c < colCount; c++) {
+            isNumerical[c] = inSpec.getColumnSpec(c).getType().isCompatible(DoubleValue.class);
+        }
+        final boolean encode = m_out != null && isStateless(m_charset);
+        if (encode) {
+            // the encoded rows are written to the stream directly
+            flush();
+        }
+        // overridden formatting methods might not be thread-safe
+        final int nrThreads = getClass() == CSVWriter.class ? ThreadPoolUtil.getMaxThreads() : 1;
+        final ThreadPool pool = nrThreads > 1 ? KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(nrThreads) : null;
+        // keep the threads busy while the first pending block is written
+        final int maxPending = 2 * nrThreads;
+        // the blocks being formatted, in the order of the table
+        final ArrayDeque<Future<FormattedBlock>> pending = new ArrayDeque<Future<FormattedBlock>>();
+        List<DataRow> block = new ArrayList<DataRow>(ROWS_PER_BLOCK);
+        int blockStart = 0;
 
-            final int finalI = i;
-            // set the progress
-            if (rowCnt <= 0) {
-                exec.setMessage(() -> "Writing row " + (finalI + 1) + " (\"" + rowKey + "\")");
-            } else {
-                final long finalRowCnt = rowCnt;
-                exec.setProgress(i / (double)rowCnt, () -> "Writing row " + (finalI + 1) + " (\"" + rowKey + "\") of "
-                        + finalRowCnt);
+        try {
+            DataRow row;
+            while ((row = input.poll()) != null) {
+                // Check if execution was canceled !
+                exec.checkCanceled();
+
+                block.add(row);
+                i++;
+                if (block.size() == ROWS_PER_BLOCK) {
+                    submitBlock(block, blockStart, isNumerical, encode, pool, pending, maxPending, exec, rowCnt);
+                    block = new ArrayList<DataRow>(ROWS_PER_BLOCK);
+                    blockStart = i;
+                }
+            }
+            if (!block.isEmpty()) {
+                submitBlock(block, blockStart, isNumerical, encode, pool, pending, maxPending, exec, rowCnt);
+            }
+            while (!pending.isEmpty()) {
+                writeBlock(waitFor(pool, pending.poll()), exec, rowCnt);
             }
-            // Check if execution was canceled !
-            exec.checkCanceled();
+        } finally {
+            for (Future<FormattedBlock> future : pending) {
+                future.cancel(true);
+            }
+        }
+
+    }
+
+    /*
+     * Formats the block on the pool, or directly if there is no pool. Writes the first pending block if too many
+     * blocks are pending.
+     */
+    private void submitBlock(final List<DataRow> block, final int blockStart, final boolean[] isNumerical,
+        final boolean encode, final ThreadPool pool, final ArrayDeque<Future<FormattedBlock>> pending,
+        final int maxPending, final ExecutionMonitor exec, final long rowCnt) throws IOException, InterruptedException {
+        if (pool == null) {
+            writeBlock(formatBlock(block, blockStart, isNumerical, encode), exec, rowCnt);
+            return;
+        }
+        pending.add(pool.enqueue(() -> formatBlock(block, blockStart, isNumerical, encode)));
+        if (pending.size() > maxPending) {
+            writeBlock(waitFor(pool, pending.poll()), exec, rowCnt);
+        }
+    }
+
+    private static FormattedBlock waitFor(final ThreadPool pool, final Future<FormattedBlock> future)
+        throws IOException, InterruptedException {
+        try {
+            return ThreadPoolUtil.waitFor(pool, future);
+        } catch (ExecutionException e) {
+            final Exception cause = ThreadPoolUtil.throwIfUnchecked(e);
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
+
+    /*
+     * Writes the block and reports the progress of the rows written so far.
+     */
+    private void writeBlock(final FormattedBlock block, final ExecutionMonitor exec, final long rowCnt)
+        throws IOException {
+        if (m_lastWarning == null) {
+            m_lastWarning = block.m_warning;
+        }
+        if (block.m_bytes != null) {
+            m_out.write(block.m_bytes);
+        } else {
+            write(block.m_text);
+        }
+        final int rowsWritten = block.m_rowsWritten;
+        final String rowKey = block.m_lastRowKey;
+        if (rowCnt <= 0) {
+            exec.setMessage(() -> "Writing row " + rowsWritten + " (\"" + rowKey + "\")");
+        } else {
+            exec.setProgress(rowsWritten / (double)rowCnt, () -> "Writing row " + rowsWritten + " (\"" + rowKey
+                + "\") of " + rowCnt);
+        }
+    }
+
+    /*
+     * Formats the rows, and encodes them if requested. Called by the worker threads.
+     */
+    private FormattedBlock formatBlock(final List<DataRow> rows, final int firstRow, final boolean[] isNumerical,
+        final boolean encode) {
+        final StringBuilder result = new StringBuilder(rows.size() * 16 * (isNumerical.length + 1));
+        String warning = null;
+        for (int r = 0; r < rows.size(); r++) {
+            final DataRow row = rows.get(r);
+            final int i = firstRow + r;
 
             // write the columns
-            first = true;
+            boolean first = true;
             // first, the row id
             if (m_settings.writeRowID()) {
-                write(quoteString(row.getKey().getString(), false));
+                result.append(quoteString(row.getKey().getString(), false));
                 first = false;
             }
             // now all data cells
-            for (int c = 0; c < colCount; c++) {
+            for (int c = 0; c < isNumerical.length; c++) {
 
                 DataCell colValue = row.getCell(c);
                 if (!first) {
-                    write(m_settings.getColSeparator());
+                    result.append(m_settings.getColSeparator());
                 }
                 first = false;
 
                 if (colValue.isMissing()) {
                     // never quote missing patterns.
-                    write(m_settings.getMissValuePattern());
+                    result.append(m_settings.getMissValuePattern());
                 } else {
-                    boolean isNumerical = false;
-                    DataType type = inSpec.getColumnSpec(c).getType();
-                    String strVal = colValue.toString();
-
-                    if (type.isCompatible(DoubleValue.class)) {
-                        isNumerical = true;
-                        if (!m_settings.scientificForExtrema()) {
-                            strVal = fullPrecision.format(((DoubleValue)colValue).getDoubleValue());
-                        }
+                    String strVal;
+                    if (isNumerical[c] && !m_settings.scientificForExtrema()) {
+                        strVal = FullPrecisionFormat.format(((DoubleValue)colValue).getDoubleValue());
+                    } else {
+                        strVal = colValue.toString();
                     }
-                    if (isNumerical
+                    if (isNumerical[c]
                             && (m_settings.getDecimalSeparator() != '.')) {
                         // use the new separator only if it is not already
                         // contained in the value.
@@ -272,8 +395,8 @@ public void write(final RowInput input, final ExecutionMonitor exec)
                                     replaceDecimalSeparator(strVal, m_settings
                                             .getDecimalSeparator());
                         } else {
-                            if (m_lastWarning == null) {
-                                m_lastWarning = "Specified decimal separator ('"
+                            if (warning == null) {
+                                warning = "Specified decimal separator ('"
                                     + m_settings.getDecimalSeparator() + "') is"
                                     + " contained in the numerical value. "
                                     + "Not replacing decimal separator (e.g. "
@@ -281,14 +404,51 @@ public void write(final RowInput input, final ExecutionMonitor exec)
                             }
                         }
                     }
-                    write(quoteString(strVal, isNumerical));
+                    result.append(quoteString(strVal, isNumerical[c]));
 
                 }
             }
-            newLine();
-            i++;
+            result.append(m_newLine);
         }
+        final String text = result.toString();
+        final int rowsWritten = firstRow + rows.size();
+        final String lastRowKey = rows.get(rows.size() - 1).getKey().toString();
+        return encode ? new FormattedBlock(null, text.getBytes(m_charset), warning, rowsWritten, lastRowKey)
+            : new FormattedBlock(text, null, warning, rowsWritten, lastRowKey);
+    }
+
+    /*
+     * Whether the charset encodes each character independently, so that the blocks can be encoded separately (unlike
+     * UTF-16, which writes a byte order mark).
+     */
+    private static boolean isStateless(final Charset charset) {
+        return charset.equals(StandardCharsets.UTF_8) || charset.equals(StandardCharsets.US_ASCII)
+            || charset.newEncoder().maxBytesPerChar() == 1.0f;
+    }
+
+    /** The formatted rows of a block. */
+    private static final class FormattedBlock {
 
+        // the characters, null if encoded
+        private final String m_text;
+
+        private final byte[] m_bytes;
+
+        private final String m_warning;
+
+        // the number of rows written with this block, and the key of its last row
+        private final int m_rowsWritten;
+
+        private final String m_lastRowKey;
+
+        FormattedBlock(final String text, final byte[] bytes, final String warning, final int rowsWritten,
+            final String lastRowKey) {
+            m_text = text;
+            m_bytes = bytes;
+            m_warning = warning;
+            m_rowsWritten = rowsWritten;
+            m_lastRowKey = lastRowKey;
+        }
     }
 
     /**
@@ -388,6 +548,10 @@ protected String replaceAndQuote(final String data) {
         if (m_settings.getQuoteEnd().length() == 0) {
             return m_settings.getQuoteBegin() + data;
         }
+        if (data.indexOf(m_settings.getQuoteEnd()) < 0) {
+            // nothing to replace
+            return m_settings.getQuoteBegin() + data + m_settings.getQuoteEnd();
+        }
 
         // start with the opening quotes
         StringBuilder result = new StringBuilder(m_settings.getQuoteBegin());
@@ -428,7 +592,8 @@ protected String replaceAndQuote(final String data) {
      */
     protected String replaceSeparator(final String data) {
 
-        if (m_settings.getColSeparator().length() == 0) {
+        if (m_settings.getColSeparator().length() == 0
+                || data.indexOf(m_settings.getColSeparator()) < 0) {
             return data;
         }
 
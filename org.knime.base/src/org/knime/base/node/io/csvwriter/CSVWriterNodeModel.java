@@ -53,7 +53,6 @@
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLConnection;
@@ -66,6 +65,7 @@
 import java.util.zip.GZIPOutputStream;
 
 import org.knime.base.node.io.csvwriter.FileWriterNodeSettings.FileOverwritePolicy;
+import org.knime.base.util.concurrent.ThreadPoolUtil;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
 import org.knime.core.data.DoubleValue;
@@ -285,7 +285,9 @@ private BufferedDataTable[] doIt(final BufferedDataTable data, final RowInput in
         writerSettings.setWriteColumnHeader(writeColHeader);
 
         if (m_settings.isGzipOutput()) {
-            tempOut = new GZIPOutputStream(tempOut);
+            // compress blocks in parallel if there are multiple threads
+            tempOut = ThreadPoolUtil.getMaxThreads() > 1 ? new ParallelGZIPOutputStream(tempOut)
+                : new GZIPOutputStream(tempOut);
         }
         tempOut = new BufferedOutputStream(tempOut);
         Charset charSet = Charset.defaultCharset();
@@ -293,7 +295,7 @@ private BufferedDataTable[] doIt(final BufferedDataTable data, final RowInput in
         if (encoding != null) {
             charSet = Charset.forName(encoding);
         }
-        CSVWriter tableWriter = new CSVWriter(new OutputStreamWriter(tempOut, charSet), writerSettings);
+        CSVWriter tableWriter = new CSVWriter(tempOut, charSet, writerSettings);
         // write the comment header, if we are supposed to
         String tableName;
         if (input == null) {
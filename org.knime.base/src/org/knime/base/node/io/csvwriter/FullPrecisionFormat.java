@@ -0,0 +1,141 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.io.csvwriter;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * Formats doubles with full precision in plain notation (without exponent), e.g. "0.00001" and
+ * "100000000000000000000". The digits are the digits of {@link Double#toString(double)}, which read back exactly.
+ * The result is the same as with a {@link DecimalFormat} with pattern "#.#" and 340 fraction digits, which generates
+ * the same digits, but without its overhead. Thread-safe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class FullPrecisionFormat {
+
+    /** Only used for NaN and infinity. */
+    private static final DecimalFormat NON_FINITE_FORMAT =
+        new DecimalFormat("#.#", DecimalFormatSymbols.getInstance(Locale.ENGLISH));
+
+    private FullPrecisionFormat() {
+        // utility class
+    }
+
+    /**
+     * @param value the value to format
+     * @return the formatted value
+     */
+    static String format(final double value) {
+        final StringBuilder result = new StringBuilder(24);
+        appendTo(value, result);
+        return result.toString();
+    }
+
+    /**
+     * @param value the value to format
+     * @param result the builder to append the formatted value to
+     */
+    static void appendTo(final double value, final StringBuilder result) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            synchronized (NON_FINITE_FORMAT) {
+                result.append(NON_FINITE_FORMAT.format(value));
+            }
+            return;
+        }
+        if (Double.doubleToRawLongBits(value) < 0) {
+            result.append('-');
+        }
+        // "123.45", "0.001" or "1.2345E-5"
+        final String s = Double.toString(Math.abs(value));
+        final int exponentIndex = s.indexOf('E');
+        final int mantissaEnd = exponentIndex < 0 ? s.length() : exponentIndex;
+        final int pointIndex = s.indexOf('.');
+        // the digits without the point and without leading and trailing zeros
+        final char[] digits = new char[mantissaEnd];
+        int length = 0;
+        // the number of digits before the point
+        int pointPosition = pointIndex + (exponentIndex < 0 ? 0 : Integer.parseInt(s.substring(exponentIndex + 1)));
+        for (int i = 0; i < mantissaEnd; i++) {
+            final char c = s.charAt(i);
+            if (c == '.') {
+                continue;
+            }
+            if (length == 0 && c == '0') {
+                // leading zero, the point moves left
+                pointPosition--;
+                continue;
+            }
+            digits[length++] = c;
+        }
+        while (length > 0 && digits[length - 1] == '0') {
+            length--;
+        }
+        if (length == 0) {
+            result.append('0');
+        } else if (pointPosition <= 0) {
+            result.append("0.");
+            for (int i = pointPosition; i < 0; i++) {
+                result.append('0');
+            }
+            result.append(digits, 0, length);
+        } else if (pointPosition >= length) {
+            result.append(digits, 0, length);
+            for (int i = length; i < pointPosition; i++) {
+                result.append('0');
+            }
+        } else {
+            result.append(digits, 0, pointPosition);
+            result.append('.');
+            result.append(digits, pointPosition, length - pointPosition);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.io.csvwriter;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.knime.base.util.concurrent.ThreadPoolUtil;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Writes data in the gzip format, compressing blocks of the data in parallel on the global thread pool, like pigz
+ * does. Each block is deflated independently, with the end of the previous block as preset dictionary, and ended by a
+ * sync flush, so that the compressed blocks form a single deflate stream. The compressed blocks are written in order.
+ * The result is a regular gzip file (with a single member) that any gzip implementation can read.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ParallelGZIPOutputStream extends FilterOutputStream {
+
+    /** The number of uncompressed bytes per block. */
+    private static final int BLOCK_SIZE = 128 * 1024;
+
+    /** The size of the deflate window, the maximal dictionary. */
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+
+    /** The gzip header: magic number, deflate, no flags, no time, no extra flags, OS unknown (as GZIPOutputStream). */
+    private static final byte[] HEADER = {0x1f, (byte)0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0};
+
+    private final int m_nrThreads;
+
+    private final ThreadPool m_pool;
+
+    // the blocks being compressed, in the order of the data
+    private final ArrayDeque<Future<byte[]>> m_pending = new ArrayDeque<Future<byte[]>>();
+
+    private final CRC32 m_crc = new CRC32();
+
+    private byte[] m_block = new byte[BLOCK_SIZE];
+
+    private int m_blockLength;
+
+    // the previous block, the dictionary of the current one
+    private byte[] m_previousBlock;
+
+    private long m_size;
+
+    private boolean m_closed;
+
+    /**
+     * @param out the stream to write the compressed data to
+     * @throws IOException if the header can't be written
+     */
+    ParallelGZIPOutputStream(final OutputStream out) throws IOException {
+        super(out);
+        m_nrThreads = ThreadPoolUtil.getMaxThreads();
+        m_pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(m_nrThreads);
+        out.write(HEADER);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final int b) throws IOException {
+        if (m_blockLength == BLOCK_SIZE) {
+            submitBlock(false);
+        }
+        m_block[m_blockLength++] = (byte)b;
+        m_crc.update(b);
+        m_size++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        m_crc.update(b, off, len);
+        m_size += len;
+        int pos = off;
+        final int end = off + len;
+        while (pos < end) {
+            if (m_blockLength == BLOCK_SIZE) {
+                submitBlock(false);
+            }
+            final int n = Math.min(end - pos, BLOCK_SIZE - m_blockLength);
+            System.arraycopy(b, pos, m_block, m_blockLength, n);
+            m_blockLength += n;
+            pos += n;
+        }
+    }
+
+    /**
+     * Flushes the blocks compressed so far, the current block is compressed when it is full.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() throws IOException {
+        while (!m_pending.isEmpty() && m_pending.peek().isDone()) {
+            out.write(waitFor(m_pending.poll()));
+        }
+        out.flush();
+    }
+
+    /**
+     * Compresses the remaining data, writes the gzip trailer and closes the underlying stream.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        if (m_closed) {
+            return;
+        }
+        m_closed = true;
+        try {
+            submitBlock(true);
+            while (!m_pending.isEmpty()) {
+                out.write(waitFor(m_pending.poll()));
+            }
+            writeInt((int)m_crc.getValue());
+            writeInt((int)m_size);
+        } finally {
+            for (Future<byte[]> future : m_pending) {
+                future.cancel(true);
+            }
+            m_pending.clear();
+            out.close();
+        }
+    }
+
+    private void writeInt(final int i) throws IOException {
+        // little endian, as all numbers in the gzip format
+        out.write(i & 0xff);
+        out.write((i >>> 8) & 0xff);
+        out.write((i >>> 16) & 0xff);
+        out.write((i >>> 24) & 0xff);
+    }
+
+    /*
+     * Submits the current block for compression and writes the compressed blocks that are done, or the first one if
+     * each thread has a block to work on.
+     */
+    private void submitBlock(final boolean last) throws IOException {
+        final byte[] block = m_block;
+        final int length = m_blockLength;
+        final byte[] dictionary = m_previousBlock;
+        m_pending.add(m_pool.enqueue(() -> deflate(block, length, dictionary, last)));
+        m_previousBlock = block;
+        m_block = new byte[BLOCK_SIZE];
+        m_blockLength = 0;
+        if (m_pending.size() > m_nrThreads) {
+            out.write(waitFor(m_pending.poll()));
+        }
+        while (!m_pending.isEmpty() && m_pending.peek().isDone()) {
+            out.write(waitFor(m_pending.poll()));
+        }
+    }
+
+    private static byte[] deflate(final byte[] block, final int length, final byte[] dictionary,
+        final boolean last) {
+        final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            if (dictionary != null) {
+                // the previous block is always full
+                deflater.setDictionary(dictionary, BLOCK_SIZE - DICTIONARY_SIZE, DICTIONARY_SIZE);
+            }
+            deflater.setInput(block, 0, length);
+            if (last) {
+                deflater.finish();
+            }
+            byte[] result = new byte[length / 2 + 64];
+            int resultLength = 0;
+            while (true) {
+                if (resultLength == result.length) {
+                    result = Arrays.copyOf(result, 2 * result.length);
+                }
+                final int n = deflater.deflate(result, resultLength, result.length - resultLength,
+                    last ? Deflater.NO_FLUSH : Deflater.SYNC_FLUSH);
+                resultLength += n;
+                // a flush is complete if the output buffer wasn't filled
+                if (last ? deflater.finished() : resultLength < result.length) {
+                    break;
+                }
+            }
+            return Arrays.copyOf(result, resultLength);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] waitFor(final Future<byte[]> future) throws IOException {
+        try {
+            return ThreadPoolUtil.waitFor(m_pool, future);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Compression was interrupted");
+        } catch (ExecutionException e) {
+            final Exception cause = ThreadPoolUtil.throwIfUnchecked(e);
+            throw new IOException("Compression failed: " + cause.getMessage(), cause);
+        }
+    }
+}
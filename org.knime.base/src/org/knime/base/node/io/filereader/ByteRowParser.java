@@ -0,0 +1,558 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.io.filereader;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.util.tokenizer.Comment;
+import org.knime.core.util.tokenizer.Delimiter;
+import org.knime.core.util.tokenizer.Quote;
+
+/**
+ * Creates rows directly from the bytes of a chunk of a file, without decoding the bytes to characters and without
+ * creating a string for each token. Integers, longs and doubles are parsed from the bytes, strings are only created
+ * for the cells of other types (and the row headers).
+ * <p>
+ * Only simple files are handled: all delimiters, quotes, comments and white spaces must be single ASCII characters,
+ * and the charset must be ASCII compatible (see {@link #supports(FileReaderSettings)}). A chunk that contains
+ * anything the parser isn't sure to read exactly like the {@link FileRowIterator} (comments, escape characters,
+ * errors, a row not terminated by a row delimiter, ...) is rejected; it must then be read by a
+ * {@link FileRowIterator}. The row headers are created like by an iterator with deferred row headers.
+ * <p>
+ * An instance is not thread-safe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ByteRowParser {
+
+    private static final byte OTHER = 0;
+
+    private static final byte COLUMN_DELIMITER = 1;
+
+    private static final byte ROW_DELIMITER = 2;
+
+    private static final byte QUOTE = 3;
+
+    private static final byte WHITE_SPACE = 4;
+
+    private static final byte COMMENT = 5;
+
+    /** The kinds of cells that are created from the bytes directly. */
+    private static final byte GENERIC = 0;
+
+    private static final byte INT = 1;
+
+    private static final byte LONG = 2;
+
+    private static final byte DOUBLE = 3;
+
+    private static final List<String> ASCII_COMPATIBLE_CHARSETS =
+        Arrays.asList("US-ASCII", "ISO-8859-1", "ISO-8859-15", "UTF-8", "windows-1252");
+
+    private final FileReaderSettings m_frSettings;
+
+    private final DataTableSpec m_tableSpec;
+
+    private final boolean[] m_skipColumns;
+
+    private final Charset m_charset;
+
+    // the class of each byte
+    private final byte[] m_classes = new byte[256];
+
+    // for each left quote the right quote, and the escape character (-1 if none)
+    private final int[] m_rightQuotes = new int[256];
+
+    private final int[] m_quoteEscapes = new int[256];
+
+    // for each column in the file, the missing value pattern (null if none)
+    private final byte[][] m_missingPatterns;
+
+    private final String[] m_formatParameters;
+
+    // for each created column, the kind of cells
+    private final byte[] m_kinds;
+
+    private final DataCellFactory m_cellFactory;
+
+    private final NumberTokenParser m_numberParser = new NumberTokenParser();
+
+    // the bytes of the chunk parsed, as characters for the number parser
+    private final ByteSequence m_chars = new ByteSequence();
+
+    private byte[] m_scratch = new byte[256];
+
+    // the last token read
+    private int m_tokenStart;
+
+    private int m_tokenEnd;
+
+    private boolean m_tokenQuoted;
+
+    private boolean m_rowEnded;
+
+    /**
+     * @param frSettings the settings, must be supported
+     * @param tableSpec the spec of the rows to create
+     * @param skipColumns the columns to skip
+     * @see #supports(FileReaderSettings)
+     */
+    ByteRowParser(final FileReaderSettings frSettings, final DataTableSpec tableSpec,
+        final boolean[] skipColumns) {
+        m_frSettings = frSettings;
+        m_tableSpec = tableSpec;
+        m_skipColumns = skipColumns;
+        m_charset = getCharset(frSettings);
+        Arrays.fill(m_rightQuotes, -1);
+        Arrays.fill(m_quoteEscapes, -1);
+        for (String ws : frSettings.getAllWhiteSpaces()) {
+            m_classes[ws.charAt(0)] = WHITE_SPACE;
+        }
+        for (Comment comment : frSettings.getAllComments()) {
+            m_classes[comment.getBegin().charAt(0)] = COMMENT;
+        }
+        for (Quote quote : frSettings.getAllQuotes()) {
+            final char left = quote.getLeft().charAt(0);
+            m_classes[left] = QUOTE;
+            m_rightQuotes[left] = quote.getRight().charAt(0);
+            if (quote.hasEscapeChar()) {
+                m_quoteEscapes[left] = quote.getEscape();
+            }
+        }
+        for (Delimiter delim : frSettings.getAllDelimiters()) {
+            final String pattern = delim.getDelimiter();
+            m_classes[pattern.charAt(0)] =
+                frSettings.isRowDelimiter(pattern, false) ? ROW_DELIMITER : COLUMN_DELIMITER;
+        }
+
+        m_missingPatterns = new byte[skipColumns.length][];
+        m_formatParameters = new String[skipColumns.length];
+        m_kinds = new byte[tableSpec.getNumColumns()];
+        final boolean plainDoubles = frSettings.getDecimalSeparator() == '.'
+                && frSettings.getThousandsSeparator() == '\0';
+        int createdCols = 0;
+        for (int i = 0; i < skipColumns.length; i++) {
+            final String missingPattern = frSettings.getMissingValueOfColumn(i);
+            if (missingPattern != null) {
+                m_missingPatterns[i] = missingPattern.getBytes(m_charset);
+            }
+            m_formatParameters[i] = frSettings.getFormatParameterForColumn(i).orElse(null);
+            if (!skipColumns[i]) {
+                final DataType type = tableSpec.getColumnSpec(createdCols).getType();
+                if (m_formatParameters[i] != null) {
+                    m_kinds[createdCols] = GENERIC;
+                } else if (type.equals(IntCell.TYPE)) {
+                    m_kinds[createdCols] = INT;
+                } else if (type.equals(LongCell.TYPE)) {
+                    m_kinds[createdCols] = LONG;
+                } else if (type.equals(DoubleCell.TYPE) && plainDoubles) {
+                    m_kinds[createdCols] = DOUBLE;
+                } else {
+                    m_kinds[createdCols] = GENERIC;
+                }
+                createdCols++;
+            }
+        }
+
+        m_cellFactory = new DataCellFactory();
+        m_cellFactory.setDecimalSeparator(frSettings.getDecimalSeparator());
+        m_cellFactory.setThousandsSeparator(frSettings.getThousandsSeparator());
+    }
+
+    /**
+     * @param frSettings the settings
+     * @return the charset of the file, or <code>null</code> if it isn't ASCII compatible (i.e. the bytes of the ASCII
+     *         characters can appear in the encoding of other characters)
+     */
+    static Charset getCharset(final FileReaderSettings frSettings) {
+        return getAsciiCompatibleCharset(frSettings.getCharsetName());
+    }
+
+    /**
+     * @param charsetName the name of the charset, <code>null</code> for the default charset
+     * @return the charset, or <code>null</code> if it isn't ASCII compatible
+     */
+    static Charset getAsciiCompatibleCharset(final String charsetName) {
+        final Charset charset = charsetName == null ? Charset.defaultCharset() : Charset.forName(charsetName);
+        return ASCII_COMPATIBLE_CHARSETS.contains(charset.name()) ? charset : null;
+    }
+
+    /**
+     * @param frSettings the settings
+     * @return <code>true</code> if files with the settings can be parsed from the bytes
+     */
+    static boolean supports(final FileReaderSettings frSettings) {
+        if (getCharset(frSettings) == null) {
+            return false;
+        }
+        // the bytes must have exactly one meaning
+        final BitSet used = new BitSet();
+        for (String ws : frSettings.getAllWhiteSpaces()) {
+            if (!isNewAsciiChar(ws, used)) {
+                return false;
+            }
+        }
+        for (Comment comment : frSettings.getAllComments()) {
+            if (!isNewAsciiChar(comment.getBegin(), used)) {
+                return false;
+            }
+        }
+        for (Delimiter delim : frSettings.getAllDelimiters()) {
+            final String pattern = delim.getDelimiter();
+            if (!isNewAsciiChar(pattern, used) || delim.includeInToken()) {
+                return false;
+            }
+            if (frSettings.isRowDelimiter(pattern, false) ? !delim.returnAsToken()
+                : delim.returnAsToken() || delim.combineConsecutiveDelims()) {
+                return false;
+            }
+        }
+        final BitSet leftQuotes = new BitSet();
+        for (Quote quote : frSettings.getAllQuotes()) {
+            if (!isNewAsciiChar(quote.getLeft(), leftQuotes) || !isAsciiChar(quote.getRight())
+                || used.get(quote.getRight().charAt(0))) {
+                return false;
+            }
+            if (quote.hasEscapeChar()
+                && (quote.getEscape() >= 128 || quote.getEscape() == quote.getRight().charAt(0))) {
+                return false;
+            }
+        }
+        return !leftQuotes.intersects(used);
+    }
+
+    private static boolean isAsciiChar(final String pattern) {
+        return pattern.length() == 1 && pattern.charAt(0) < 128;
+    }
+
+    private static boolean isNewAsciiChar(final String pattern, final BitSet used) {
+        if (!isAsciiChar(pattern) || used.get(pattern.charAt(0))) {
+            return false;
+        }
+        used.set(pattern.charAt(0));
+        return true;
+    }
+
+    /**
+     * Parses the rows of a chunk. The chunk must start at the beginning of a row, and neither contain the lines to
+     * skip nor the column headers.
+     *
+     * @param bytes the bytes of the chunk, from index 0 to the limit
+     * @param rows the list to add the rows to, with the row headers read from the file (or empty)
+     * @param missingRowHeaders set for the rows whose header in the file is missing
+     * @return <code>false</code> if the chunk can't be parsed from the bytes, the rows added are incomplete then
+     */
+    boolean parse(final ByteBuffer bytes, final List<DataRow> rows, final BitSet missingRowHeaders) {
+        final int end = bytes.limit();
+        final int rowLength = m_tableSpec.getNumColumns();
+        final int colsToRead = m_skipColumns.length;
+        final boolean hasRowHeaders = m_frSettings.getFileHasRowHeaders();
+        m_chars.m_bytes = bytes;
+        int pos = 0;
+        while (pos < end) {
+            if (m_classes[bytes.get(pos) & 0xFF] == ROW_DELIMITER) {
+                // an empty line
+                if (!m_frSettings.getIgnoreEmtpyLines()) {
+                    return false;
+                }
+                pos++;
+                continue;
+            }
+            m_rowEnded = false;
+            String rowHeader = "";
+            if (hasRowHeaders) {
+                pos = readFirstToken(bytes, pos, end);
+                if (pos < 0) {
+                    return false;
+                }
+                rowHeader = decode(bytes);
+                if (m_tokenStart == m_tokenEnd && !m_tokenQuoted) {
+                    missingRowHeaders.set(rows.size());
+                }
+            }
+            final DataCell[] row = new DataCell[rowLength];
+            int readCols = 0;
+            int createdCols = 0;
+            while (readCols < colsToRead && !m_rowEnded) {
+                pos = readCols == 0 && !hasRowHeaders ? readFirstToken(bytes, pos, end)
+                    : readToken(bytes, pos, end);
+                if (pos < 0) {
+                    return false;
+                }
+                if (!m_skipColumns[readCols]) {
+                    final DataCell cell = createCell(bytes, readCols, createdCols);
+                    if (cell == null) {
+                        return false;
+                    }
+                    row[createdCols++] = cell;
+                }
+                readCols++;
+            }
+            if (createdCols < rowLength) {
+                if (!m_frSettings.getSupportShortLines()) {
+                    return false;
+                }
+                while (createdCols < rowLength) {
+                    row[createdCols++] = DataType.getMissingCell();
+                }
+            }
+            // eat the empty tokens at the end of the row, if we're supposed to
+            while (!m_rowEnded) {
+                if (!m_frSettings.ignoreEmptyTokensAtEndOfRow()) {
+                    return false;
+                }
+                pos = readToken(bytes, pos, end);
+                if (pos < 0 || m_tokenStart != m_tokenEnd || m_tokenQuoted) {
+                    return false;
+                }
+            }
+            // skip the row delimiter
+            pos++;
+            rows.add(new DefaultRow(rowHeader, row));
+        }
+        return true;
+    }
+
+    /*
+     * Reads the first token of a row. A line of white spaces is rejected, as it isn't clear whether it's an empty
+     * line.
+     */
+    private int readFirstToken(final ByteBuffer bytes, final int pos, final int end) {
+        final int result = readToken(bytes, pos, end);
+        if (result >= 0 && m_rowEnded && m_tokenStart == m_tokenEnd && !m_tokenQuoted) {
+            return -1;
+        }
+        return result;
+    }
+
+    /*
+     * Reads the token starting at pos. Returns the position after its column delimiter or the position of the row
+     * delimiter ending it, or -1 if the token can't be handled. Quoted tokens must be delimited right after the
+     * quote, white spaces around unquoted tokens are removed.
+     */
+    private int readToken(final ByteBuffer bytes, final int pos, final int end) {
+        int p = pos;
+        while (p < end && m_classes[bytes.get(p) & 0xFF] == WHITE_SPACE) {
+            p++;
+        }
+        if (p < end && m_classes[bytes.get(p) & 0xFF] == QUOTE) {
+            if (p != pos) {
+                return -1;
+            }
+            final int left = bytes.get(p) & 0xFF;
+            final int right = m_rightQuotes[left];
+            final int escape = m_quoteEscapes[left];
+            final boolean lfInQuotes = m_frSettings.allowLFinQuotes();
+            m_tokenStart = ++p;
+            while (true) {
+                if (p >= end) {
+                    return -1;
+                }
+                final int b = bytes.get(p) & 0xFF;
+                if (b == right) {
+                    break;
+                }
+                if (b == escape || m_classes[b] == COMMENT || (m_classes[b] == ROW_DELIMITER && !lfInQuotes)) {
+                    return -1;
+                }
+                p++;
+            }
+            m_tokenEnd = p++;
+            m_tokenQuoted = true;
+            if (p >= end) {
+                return -1;
+            }
+            final byte terminator = m_classes[bytes.get(p) & 0xFF];
+            if (terminator == COLUMN_DELIMITER) {
+                return p + 1;
+            } else if (terminator == ROW_DELIMITER) {
+                m_rowEnded = true;
+                return p;
+            }
+            return -1;
+        }
+        m_tokenStart = p;
+        m_tokenQuoted = false;
+        // the end of the token without trailing white spaces
+        int last = p;
+        while (p < end) {
+            switch (m_classes[bytes.get(p) & 0xFF]) {
+                case OTHER:
+                    last = ++p;
+                    break;
+                case WHITE_SPACE:
+                    p++;
+                    break;
+                case COLUMN_DELIMITER:
+                    m_tokenEnd = last;
+                    return p + 1;
+                case ROW_DELIMITER:
+                    m_tokenEnd = last;
+                    m_rowEnded = true;
+                    return p;
+                default:
+                    // quotes or comments within the token
+                    return -1;
+            }
+        }
+        // the row isn't terminated
+        return -1;
+    }
+
+    /*
+     * Creates the cell of the last token read, or returns null if it couldn't be created.
+     */
+    private DataCell createCell(final ByteBuffer bytes, final int readCol, final int createdCol) {
+        if ((m_tokenStart == m_tokenEnd && !m_tokenQuoted) || isMissingPattern(bytes, readCol)) {
+            return DataType.getMissingCell();
+        }
+        switch (m_kinds[createdCol]) {
+            case INT:
+                if (m_numberParser.parseLong(m_chars, m_tokenStart, m_tokenEnd)
+                    && m_numberParser.getLong() >= Integer.MIN_VALUE
+                    && m_numberParser.getLong() <= Integer.MAX_VALUE) {
+                    return new IntCell((int)m_numberParser.getLong());
+                }
+                break;
+            case LONG:
+                if (m_numberParser.parseLong(m_chars, m_tokenStart, m_tokenEnd)) {
+                    return new LongCell(m_numberParser.getLong());
+                }
+                break;
+            case DOUBLE:
+                if (m_numberParser.parseDouble(m_chars, m_tokenStart, m_tokenEnd)) {
+                    return new DoubleCell(m_numberParser.getDouble());
+                }
+                break;
+            default:
+                break;
+        }
+        // all other tokens are converted like by the iterator
+        m_cellFactory.setFormatParameter(m_formatParameters[readCol]);
+        return m_cellFactory.createDataCellOfType(m_tableSpec.getColumnSpec(createdCol).getType(), decode(bytes));
+    }
+
+    private boolean isMissingPattern(final ByteBuffer bytes, final int readCol) {
+        final byte[] pattern = m_missingPatterns[readCol];
+        if (pattern == null || pattern.length != m_tokenEnd - m_tokenStart) {
+            return false;
+        }
+        for (int i = 0; i < pattern.length; i++) {
+            if (bytes.get(m_tokenStart + i) != pattern[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String decode(final ByteBuffer bytes) {
+        final int length = m_tokenEnd - m_tokenStart;
+        if (m_scratch.length < length) {
+            m_scratch = new byte[Math.max(length, 2 * m_scratch.length)];
+        }
+        for (int i = 0; i < length; i++) {
+            m_scratch[i] = bytes.get(m_tokenStart + i);
+        }
+        return new String(m_scratch, 0, length, m_charset);
+    }
+
+    /**
+     * The bytes of a chunk as characters. Bytes that are not ASCII characters are mapped to characters that are not
+     * part of any number.
+     */
+    private static final class ByteSequence implements CharSequence {
+
+        private ByteBuffer m_bytes;
+
+        @Override
+        public int length() {
+            return m_bytes.limit();
+        }
+
+        @Override
+        public char charAt(final int index) {
+            return (char)(m_bytes.get(index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            if (start < 0 || end > length() || start > end) {
+                throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length());
+            }
+            // a view of the same bytes
+            final ByteBuffer bytes = m_bytes.duplicate();
+            bytes.limit(end);
+            bytes.position(start);
+            final ByteSequence sequence = new ByteSequence();
+            sequence.m_bytes = bytes.slice();
+            return sequence;
+        }
+
+        @Override
+        public String toString() {
+            final char[] chars = new char[length()];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = charAt(i);
+            }
+            return new String(chars);
+        }
+    }
+}
@@ -88,6 +88,14 @@ public final class FileAnalyzer {
      */
     static final int NUMOFLINES = TableContentModel.CHUNK_SIZE;
 
+    /**
+     * The default number of samples analyzed instead of large files.
+     *
+     * @see FileReaderExecutionMonitor#setNumberOfSamples(int)
+     * @since 3.8
+     */
+    public static final int DEFAULT_NUMBER_OF_SAMPLES = 64;
+
     // the part of the entire analysis each task takes. Must add up to 1.0.
     private static final double COMMENT_SUB = 0.1;
 
@@ -122,6 +130,7 @@ private FileAnalyzer() {
      * @return settings that supposably provide more or less useful results. It will always be a non-null object - but
      *         may not contain any settings if guessing was just too hard.
      * @throws IOException if there was an error reading from the URL
+     * @see FileReaderExecutionMonitor#setNumberOfSamples(int)
      */
     public static FileReaderNodeSettings analyze(final FileReaderNodeSettings userSettings, final ExecutionMonitor exec)
         throws IOException {
@@ -136,6 +145,27 @@ public static FileReaderNodeSettings analyze(final FileReaderNodeSettings userSe
             execMon = new FileReaderExecutionMonitor();
         }
 
+        if (execMon instanceof FileReaderExecutionMonitor) {
+            final int numberOfSamples = ((FileReaderExecutionMonitor)execMon).getNumberOfSamples();
+            if (SampledFileAnalyzer.canSample(userSettings, numberOfSamples)) {
+                return SampledFileAnalyzer.analyze(userSettings, numberOfSamples, (FileReaderExecutionMonitor)execMon);
+            }
+        }
+        return analyzeFile(userSettings, execMon);
+    }
+
+    /**
+     * Analyzes the entire file (or the number of lines of a short cut analysis).
+     *
+     * @param userSettings the settings the user provided
+     * @param execMon to check for cancellations and to report progress, not null
+     * @return the settings guessed, or <code>null</code> if interrupted
+     * @throws IOException if there was an error reading from the URL
+     * @see #analyze(FileReaderNodeSettings, ExecutionMonitor)
+     */
+    static FileReaderNodeSettings analyzeFile(final FileReaderNodeSettings userSettings,
+        final ExecutionMonitor execMon) throws IOException {
+
         // create the new and empty settings
         FileReaderNodeSettings result = new FileReaderNodeSettings();
 
@@ -1578,7 +1608,7 @@ private static int getMaximumNumberOfColumns(final FileReaderNodeSettings settin
         return numOfCols;
     }
 
-    private static String guessCharSet(final FileReaderNodeSettings settings) {
+    static String guessCharSet(final FileReaderNodeSettings settings) {
         String charset = settings.getCharsetName();
         try (BufferedFileReader reader = settings.createNewInputReader()) {
             int c = reader.read();
@@ -75,6 +75,8 @@ public class FileReaderExecutionMonitor extends ExecutionMonitor {
 
     private final AtomicInteger m_shortCutLines = new AtomicInteger(FileAnalyzer.NUMOFLINES);
 
+    private final AtomicInteger m_numberOfSamples = new AtomicInteger(0);
+
     /**
      * Creates a new object with a default progress monitor.
      * @since 3.4
@@ -194,6 +196,34 @@ public void setShortCutLines(final int numOfLines) {
         m_shortCutLines.set(numOfLines);
     }
 
+    /**
+     * @return the number of samples the {@link FileAnalyzer} analyzes instead
+     *         of the entire file, 0 if sampling is disabled
+     * @see #setNumberOfSamples(int)
+     * @since 3.8
+     */
+    public int getNumberOfSamples() {
+        if (m_parent != null) {
+            return m_parent.getNumberOfSamples();
+        }
+        return m_numberOfSamples.get();
+    }
+
+    /**
+     * Lets the {@link FileAnalyzer} analyze large, uncompressed local files on
+     * the specified number of byte ranges spread across the file, instead of
+     * reading the entire file (several times). The settings guessed may not
+     * fit rows that are not sampled. Disabled (0) by default.
+     *
+     * @param numberOfSamples the number of samples, 0 to analyze the entire
+     *            file
+     * @since 3.8
+     */
+    public void setNumberOfSamples(final int numberOfSamples) {
+        assert m_parent == null;
+        m_numberOfSamples.set(numberOfSamples);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1448,6 +1448,9 @@ protected void analyzeAction() {
             // We use our own progress monitor, we need to distinguish
             // between user cancel and code interrupts.
             m_analysisExecMonitor = new FileReaderExecutionMonitor();
+            // large files are analyzed on samples, not read entirely
+            m_analysisExecMonitor.setNumberOfSamples(
+                    FileAnalyzer.DEFAULT_NUMBER_OF_SAMPLES);
             m_analysisExecMonitor.getProgressMonitor().addProgressListener(
                     new NodeProgressListener() {
                         @Override
@@ -1546,6 +1549,11 @@ public void run() {
                                     + "are based on a partial file analysis "
                                     + "only! Please verify.");
                         }
+                    } else if ((newSettings != null)
+                            && !newSettings.analyzeUsedAllRows()) {
+                        setAnalWarningText("WARNING: suggested settings "
+                                + "are based on samples of the file "
+                                + "only! Please verify.");
                     } else {
                         setAnalWarningText("");
                     }
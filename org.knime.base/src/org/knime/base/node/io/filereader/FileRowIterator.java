@@ -45,9 +45,10 @@
 package org.knime.base.node.io.filereader;
 
 import java.io.IOException;
-import java.util.HashMap;
+import java.io.Reader;
 import java.util.NoSuchElementException;
 
+import org.knime.base.data.util.RowIDUniquifier;
 import org.knime.base.node.util.BufferedFileReader;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
@@ -57,7 +58,6 @@
 import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.node.ExecutionContext;
-import org.knime.core.util.MutableInteger;
 import org.knime.core.util.tokenizer.Tokenizer;
 import org.knime.core.util.tokenizer.TokenizerException;
 
@@ -72,11 +72,29 @@
  */
 class FileRowIterator extends CloseableRowIterator {
 
-    /* The tokenizer reads the next token from the input stream. */
+    /* The tokenizer reads the next token from the input stream. Null if the
+     * rows are read by the parallel reader. */
     private final Tokenizer m_tokenizer;
 
+    /* The source of the file, null if this iterator reads a chunk of it. */
     private final BufferedFileReader m_source;
 
+    /* Reads the rows if the file is parsed in parallel, otherwise null. */
+    private final ParallelFileRowReader m_parallelReader;
+
+    /* The number of lines in the file before the chunk read by this
+     * iterator (0 if the entire file is read). */
+    private final int m_lineOffset;
+
+    /* If set, row headers are not finalized. The ones read from the file
+     * are returned as they are (not uniquified) and the ones created from
+     * the prefix are left empty, the parallel reader creates them. */
+    private final boolean m_deferRowHeaders;
+
+    /* True if the last row header was missing in the file (deferred row
+     * headers only). */
+    private boolean m_lastRowHeaderMissing;
+
     // keep a reference for the filereader settings.
     private final FileReaderSettings m_frSettings;
 
@@ -90,12 +108,9 @@ class FileRowIterator extends CloseableRowIterator {
     // resolves all possible user settings and default values and sets this.
     private final String m_rowHeaderPrefix;
 
-    // a hash set where we store row header read in - to ensure ID uniquity, and
-    // we associate with it the last used suffix, to make it unique
-    private final HashMap<String, Number> m_rowIDhash;
-
-    // Used in the above hash to indicate that duplicate of that row was found.
-    private static final Integer NOSUFFIX = 0;
+    // the row headers read in - to ensure ID uniquity, with the last used
+    // suffix of duplicates. Null if the row headers are deferred.
+    private final RowIDUniquifier m_rowIDs;
 
     // The junk size after which a new progress is reported. (yet 512 KByte)
     private static final long PROGRESS_JUNK_SIZE = 1024 * 512;
@@ -137,6 +152,68 @@ class FileRowIterator extends CloseableRowIterator {
     FileRowIterator(final FileReaderSettings frSettings,
             final DataTableSpec tableSpec, final boolean[] skipColumns,
             final ExecutionContext exec) throws IOException {
+        this(frSettings, tableSpec, skipColumns, exec, false);
+    }
+
+    /**
+     * The RowIterator for the FileTable, optionally parsing the file with
+     * multiple threads.
+     *
+     * @param frSettings object containing the wheres and hows to read the data
+     * @param tableSpec the spec defining the structure of the rows to create
+     * @param skipColumns array with the element set to true if the
+     *            corresponding column should be skipped
+     * @param exec the execution context to report the progress to
+     * @param allowParallel if set, large files are split into chunks which
+     *            are parsed in parallel (if the settings permit it)
+     * @throws IOException if it couldn't open the data file
+     * @see ParallelFileRowReader
+     */
+    FileRowIterator(final FileReaderSettings frSettings,
+            final DataTableSpec tableSpec, final boolean[] skipColumns,
+            final ExecutionContext exec, final boolean allowParallel)
+            throws IOException {
+        this(frSettings, tableSpec, skipColumns, exec,
+                frSettings.createNewInputReader(), null, 0, 1,
+                new RowIDUniquifier(), false,
+                frSettings.getFileHasColumnHeaders(), allowParallel);
+    }
+
+    /**
+     * Creates an iterator reading the rows of one chunk of the file. Used by
+     * the {@link ParallelFileRowReader}. The chunk must start at the
+     * beginning of a row.
+     *
+     * @param frSettings object containing the wheres and hows to read the data
+     * @param tableSpec the spec defining the structure of the rows to create
+     * @param skipColumns array with the element set to true if the
+     *            corresponding column should be skipped
+     * @param chunk the content of the chunk
+     * @param lineOffset the number of lines in the file before the chunk
+     * @param firstRowNumber the number of the first row in the chunk (starting
+     *            at 1)
+     * @param rowIDs the row IDs created so far (only used if the row
+     *            headers are not deferred, may then be <code>null</code>)
+     * @param deferRowHeaders if set, the row headers are not finalized
+     * @param readColumnHeaders if set, the first row is read and discarded
+     */
+    FileRowIterator(final FileReaderSettings frSettings,
+            final DataTableSpec tableSpec, final boolean[] skipColumns,
+            final Reader chunk, final int lineOffset, final int firstRowNumber,
+            final RowIDUniquifier rowIDs,
+            final boolean deferRowHeaders, final boolean readColumnHeaders) {
+        this(frSettings, tableSpec, skipColumns, null, null, chunk,
+                lineOffset, firstRowNumber, rowIDs, deferRowHeaders,
+                readColumnHeaders, false);
+    }
+
+    private FileRowIterator(final FileReaderSettings frSettings,
+            final DataTableSpec tableSpec, final boolean[] skipColumns,
+            final ExecutionContext exec, final BufferedFileReader source,
+            final Reader chunk, final int lineOffset, final int firstRowNumber,
+            final RowIDUniquifier rowIDs,
+            final boolean deferRowHeaders, final boolean readColumnHeaders,
+            final boolean allowParallel) {
 
         if (skipColumns.length < tableSpec.getNumColumns()) {
             throw new IllegalArgumentException("The number of columns can't"
@@ -160,19 +237,29 @@ class FileRowIterator extends CloseableRowIterator {
         m_exec = exec;
         m_lastReport = 0;
 
-        m_source = m_frSettings.createNewInputReader();
-        m_tokenizer = new Tokenizer(m_source);
-
-        // set the tokenizer related settings in the tokenizer
-        m_tokenizer.setSettings(frSettings);
+        m_source = source;
+        m_lineOffset = lineOffset;
+        m_deferRowHeaders = deferRowHeaders;
+        if (allowParallel && exec != null
+                && ParallelFileRowReader.supports(frSettings, source)) {
+            m_tokenizer = null;
+            m_parallelReader = new ParallelFileRowReader(frSettings,
+                    tableSpec, skipColumns, source, exec);
+        } else {
+            m_parallelReader = null;
+            m_tokenizer = new Tokenizer(chunk != null ? chunk : source);
+            // set the tokenizer related settings in the tokenizer
+            m_tokenizer.setSettings(frSettings);
+        }
 
         // cell factory used to create the cells of each row
         m_cellFactory = new DataCellFactory();
         m_cellFactory.setDecimalSeparator(frSettings.getDecimalSeparator());
         m_cellFactory.setThousandsSeparator(frSettings.getThousandsSeparator());
 
-        m_rowNumber = 1;
-        if (m_frSettings.getMaximumNumberOfRowsToRead() < 0) {
+        m_rowNumber = firstRowNumber;
+        if (chunk != null || m_frSettings.getMaximumNumberOfRowsToRead() < 0) {
+            // chunks are limited by the parallel reader
             m_maxNumOfRows = Long.MAX_VALUE;
         } else {
             m_maxNumOfRows = m_frSettings.getMaximumNumberOfRowsToRead();
@@ -186,25 +273,15 @@ class FileRowIterator extends CloseableRowIterator {
         // set the row prefix here (so we don't have to go through this for each
         // row separately). If this prefix is set it will be used - otherwise
         // it's safe to assume the file contains row headers!
-        if (frSettings.getFileHasRowHeaders()) {
-            // settings tell us to use the first column as row headers. We will.
-            m_rowHeaderPrefix = null;
-        } else {
-            // Won't get them from the file. Get the user settings or the
-            // default from the settings structure
-            if (frSettings.getRowHeaderPrefix() != null) {
-                m_rowHeaderPrefix = frSettings.getRowHeaderPrefix();
-            } else {
-                m_rowHeaderPrefix = FileReaderSettings.DEF_ROWPREFIX;
-            }
-        }
+        m_rowHeaderPrefix = getRowHeaderPrefix(frSettings);
 
-        m_rowIDhash = new HashMap<String, Number>();
+        m_rowIDs = rowIDs;
 
         // if the column headers are stored in the data file, we must read
         // them (the first line) and discard them (if they are actually used
         // from the file they should have been stored in the table spec).
-        if (frSettings.getFileHasColumnHeaders()) {
+        // The parallel reader discards them with the first chunk.
+        if (readColumnHeaders && m_parallelReader == null) {
             if (hasNext()) { // call this first to eat up empty lines
                 String token = m_tokenizer.nextToken();
                 while (!frSettings.isRowDelimiter(token, m_tokenizer.lastTokenWasQuoted())) {
@@ -215,12 +292,37 @@ class FileRowIterator extends CloseableRowIterator {
 
     } // FileRowIterator(FileTableSpec)
 
+    /**
+     * @param frSettings the settings
+     * @return the prefix used to create the row headers, or <code>null</code>
+     *         if the row headers are read from the file
+     */
+    static String getRowHeaderPrefix(final FileReaderSettings frSettings) {
+        if (frSettings.getFileHasRowHeaders()) {
+            // settings tell us to use the first column as row headers. We will.
+            return null;
+        }
+        // Won't get them from the file. Get the user settings or the
+        // default from the settings structure
+        if (frSettings.getRowHeaderPrefix() != null) {
+            return frSettings.getRowHeaderPrefix();
+        }
+        return FileReaderSettings.DEF_ROWPREFIX;
+    }
+
+    /*
+     * The line number of the tokenizer in the entire file.
+     */
+    private int getLineNumber() {
+        return m_tokenizer.getLineNumber() + m_lineOffset;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected void finalize() throws Throwable {
-        m_source.close();
+        dispose();
         super.finalize();
     }
 
@@ -232,6 +334,14 @@ protected void finalize() throws Throwable {
      * {@link #next()} after disposing of the iterator has undefined behavior.
      */
     public void dispose() {
+        if (m_parallelReader != null) {
+            m_parallelReader.dispose();
+        }
+        if (m_source == null) {
+            // a chunk of the parallel reader, which owns the row IDs
+            return;
+        }
+        m_rowIDs.close();
         try {
             m_source.close();
         } catch (IOException ioe) {
@@ -250,6 +360,9 @@ public void close() {
      */
     @Override
     public boolean hasNext() {
+        if (m_parallelReader != null) {
+            return m_parallelReader.hasNext();
+        }
 
         boolean result;
 
@@ -302,6 +415,9 @@ public boolean hasNext() {
      */
     @Override
     public DataRow next() {
+        if (m_parallelReader != null) {
+            return m_parallelReader.next();
+        }
         int rowLength = m_tableSpec.getNumColumns();
         int colsToRead = m_skipColumns.length;
 
@@ -332,9 +448,9 @@ public DataRow next() {
             rowHeader = createRowHeader(m_rowNumber - 1);
         } catch (TokenizerException fte) {
             throw prepareForException(fte.getMessage() + " (line: "
-                    + m_tokenizer.getLineNumber() + " source: '"
-                    + m_frSettings.getDataFileLocation() + "')", m_tokenizer
-                    .getLineNumber(), "ERR", row);
+                    + getLineNumber() + " source: '"
+                    + m_frSettings.getDataFileLocation() + "')",
+                    getLineNumber(), "ERR", row);
         }
         // we made sure before that there is at least one token in the stream
         assert rowHeader != null;
@@ -347,9 +463,9 @@ public DataRow next() {
                 token = m_tokenizer.nextToken();
             } catch (TokenizerException fte) {
                 throw prepareForException(fte.getMessage() + " (line: "
-                        + m_tokenizer.getLineNumber() + " (" + rowHeader
+                        + getLineNumber() + " (" + rowHeader
                         + ") source: '" + m_frSettings.getDataFileLocation()
-                        + "')", m_tokenizer.getLineNumber(), rowHeader, row);
+                        + "')", getLineNumber(), rowHeader, row);
             }
             if (token != null) {
                 // remember the delimiter of the last token before the EOF
@@ -395,8 +511,8 @@ public DataRow next() {
             lastTokenWasDelimited = false;
         }
 
-        int lineNr = m_tokenizer.getLineNumber();
-        if ((lineNr > 0) && (token != null) && (token.equals("\n"))) {
+        int lineNr = getLineNumber();
+        if ((lineNr > m_lineOffset) && (token != null) && (token.equals("\n"))) {
             lineNr--;
         }
         // In case we've seen a row delimiter before the row was complete:
@@ -463,6 +579,9 @@ public DataRow next() {
         // report progress
         // only if an execution context exists an if the underlying
         // URL is a file whose size can be determined
+        if (m_source == null) {
+            return new DefaultRow(rowHeader, row);
+        }
         double readBytes = m_source.getNumberOfBytesRead();
         if (m_exec != null && m_source.getFileSize() > 0
                 && readBytes / PROGRESS_JUNK_SIZE > m_lastReport) {
@@ -522,13 +641,13 @@ private DataCell createNewDataCellOfType(final DataType type,
         // create an error message
         String errorMsg = m_cellFactory.getErrorMessage();
         errorMsg +=
-                " In line " + m_tokenizer.getLineNumber() + " (" + rowHeader
+                " In line " + getLineNumber() + " (" + rowHeader
                         + ") at column #" + errCol + " ('"
                         + m_tableSpec.getColumnSpec(errCol).getName() + "').";
 
         // create a data row showing where things went
         // wrong, and close the stream
-        throw prepareForException(errorMsg, m_tokenizer.getLineNumber(),
+        throw prepareForException(errorMsg, getLineNumber(),
                 rowHeader, row);
 
     } // createNewDataCellOfType(Class,String,boolean)
@@ -568,6 +687,13 @@ private String createRowHeader(final int rowNumber) {
             }
         }
 
+        if (m_deferRowHeaders) {
+            // the parallel reader creates the final row header
+            m_lastRowHeaderMissing = fileHeader != null && fileHeader.equals("")
+                    && !m_tokenizer.lastTokenWasQuoted();
+            return fileHeader != null ? fileHeader : "";
+        }
+
         if (m_rowHeaderPrefix == null) {
             assert fileHeader != null;
             String newRowHeader;
@@ -580,7 +706,7 @@ private String createRowHeader(final int rowNumber) {
 
             if (m_frSettings.uniquifyRowIDs()) {
                 // see if it's unique - and if not make it unique.
-                newRowHeader = uniquifyRowHeader(newRowHeader);
+                newRowHeader = m_rowIDs.uniquify(newRowHeader);
             }
 
             return newRowHeader;
@@ -592,51 +718,6 @@ private String createRowHeader(final int rowNumber) {
         }
     }
 
-    /*
-     * checks if the newRowHeader is already in the hash set of all created row
-     * headers and if so it adds some suffix to make it unique. It will return a
-     * unique row header, which could be the same than the one passed in (and
-     * adds any rowheader returned to the hash set).
-     */
-    private String uniquifyRowHeader(final String newRowHeader) {
-
-        Number oldSuffix = m_rowIDhash.put(newRowHeader, NOSUFFIX);
-
-        if (oldSuffix == null) {
-            // haven't seen the rowID so far.
-            return newRowHeader;
-        }
-
-        String result = newRowHeader;
-        while (oldSuffix != null) {
-
-            // we have seen this rowID before!
-            int idx = oldSuffix.intValue();
-
-            assert idx >= NOSUFFIX.intValue();
-
-            idx++;
-
-            if (oldSuffix.equals(NOSUFFIX)) {
-                // until now the NOSUFFIX placeholder was in the hash
-                assert idx - 1 == NOSUFFIX.intValue();
-                m_rowIDhash.put(result, new MutableInteger(idx));
-            } else {
-                assert oldSuffix instanceof MutableInteger;
-                ((MutableInteger)oldSuffix).inc();
-                assert idx == oldSuffix.intValue();
-                // put back the old (incr.) suffix (overridden with NOSUFFIX).
-                m_rowIDhash.put(result, oldSuffix);
-            }
-
-            result = result + "_" + idx;
-            oldSuffix = m_rowIDhash.put(result, NOSUFFIX);
-
-        }
-
-        return result;
-    }
-
     /*
      * !!!!!!!!!! Creates the exception object (storing the last read items in
      * the row of the exception), sets the global "exception thrown" flag, and
@@ -682,9 +763,20 @@ private FileReaderException prepareForException(final String msg,
      *         ({@link #hasNext()} returned false).
      */
     public boolean iteratorEndedEarly() {
+        if (m_parallelReader != null) {
+            return m_parallelReader.iteratorEndedEarly();
+        }
         return m_fileWasNotCompletelyRead;
     }
 
+    /**
+     * @return true if the row header of the row returned last was missing in
+     *         the file. Only set if the row headers are deferred.
+     */
+    boolean lastRowHeaderWasMissing() {
+        return m_lastRowHeaderMissing;
+    }
+
     /**
      * If the source read was a ZIP archive this method tests if there are more
      * than one entry in the archive. If the source was not compressed or a gzip
@@ -95,6 +95,9 @@ public class FileTable implements DataTable {
     // list of all iterators to close the source, when the table is disposed of
     private final LinkedList<WeakReference<FileRowIterator>> m_iterators;
 
+    // if set, the iterators may parse large files with multiple threads
+    private boolean m_readInParallel;
+
     /**
      * Creates a new file table with the structure defined in tableSpec and
      * using the settings in frSettings when the file is read.
@@ -194,15 +197,41 @@ private static boolean[] createFalseArray(final int length) {
         return result;
     }
 
+    /**
+     * Sets whether the iterators returned by {@link #iterator()} may parse
+     * large files with multiple threads (if the settings permit it). The rows
+     * returned are the same in either case. Parallel reading requires an
+     * execution context. Disabled by default.
+     *
+     * @param readInParallel if set, large files are parsed in parallel
+     * @since 3.8
+     */
+    public void setReadInParallel(final boolean readInParallel) {
+        m_readInParallel = readInParallel;
+    }
+
     /**
      * {@inheritDoc}
      */
     public FileRowIterator iterator() {
+        return iterator(m_readInParallel);
+    }
+
+    /**
+     * Creates a new iterator, which may parse large files with multiple
+     * threads. The rows returned are the same in either case.
+     *
+     * @param allowParallel if set, large files are parsed in parallel (if the
+     *            settings permit it)
+     * @return a new iterator, or <code>null</code> if the file could not be
+     *         opened
+     */
+    FileRowIterator iterator(final boolean allowParallel) {
         try {
             synchronized (m_iterators) {
                 FileRowIterator i =
                         new FileRowIterator(m_frSettings, m_tableSpec,
-                                m_skipColums, m_exec);
+                                m_skipColums, m_exec, allowParallel);
                 m_iterators.add(new WeakReference<FileRowIterator>(i));
                 return i;
 
@@ -0,0 +1,216 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.io.filereader;
+
+/**
+ * Parses integers, longs and doubles from a range of characters, without creating a string. Only plain numbers are
+ * parsed, for which the result is guaranteed to be the same as the one of {@link Long#parseLong(String)} and
+ * {@link Double#parseDouble(String)}. Callers must convert all other tokens with the {@link DataCellFactory}.
+ * <p>
+ * The value parsed last is held by the instance, hence it is not thread-safe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class NumberTokenParser {
+
+    // doubles with more significant digits are left to Double#parseDouble
+    private static final int MAX_DIGITS = 18;
+
+    // powers of ten that are exactly representable as double
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    private long m_long;
+
+    private double m_double;
+
+    /**
+     * Parses the characters like {@link Long#parseLong(String)}.
+     *
+     * @param chars the characters
+     * @param start the index of the first character of the number
+     * @param end the index after the last character of the number
+     * @return <code>true</code> if the characters are a long, which is then returned by {@link #getLong()}
+     */
+    public boolean parseLong(final CharSequence chars, final int start, final int end) {
+        if (start >= end) {
+            return false;
+        }
+        int p = start;
+        boolean negative = false;
+        final char sign = chars.charAt(p);
+        if (sign == '-' || sign == '+') {
+            negative = sign == '-';
+            p++;
+        }
+        if (p == end) {
+            return false;
+        }
+        // accumulate negatively, like Long#parseLong, to reach Long.MIN_VALUE
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multMin = limit / 10;
+        long result = 0;
+        while (p < end) {
+            final int digit = chars.charAt(p++) - '0';
+            if (digit < 0 || digit > 9 || result < multMin) {
+                return false;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return false;
+            }
+            result -= digit;
+        }
+        m_long = negative ? result : -result;
+        return true;
+    }
+
+    /**
+     * Parses the characters if they are a plain decimal number that can be converted exactly, i.e. its significand
+     * and the power of ten are exactly representable, in which case a single multiplication or division is correctly
+     * rounded and gives the same result as {@link Double#parseDouble(String)}. Exponents, signs and leading or
+     * trailing decimal points are allowed, white spaces, suffixes, hexadecimal numbers, "NaN" and "Infinity" are not.
+     *
+     * @param chars the characters
+     * @param start the index of the first character of the number
+     * @param end the index after the last character of the number
+     * @return <code>true</code> if the characters were parsed, the value is then returned by {@link #getDouble()}
+     */
+    public boolean parseDouble(final CharSequence chars, final int start, final int end) {
+        if (start >= end) {
+            return false;
+        }
+        int p = start;
+        boolean negative = false;
+        final char sign = chars.charAt(p);
+        if (sign == '-' || sign == '+') {
+            negative = sign == '-';
+            p++;
+        }
+        long significand = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean seenDigit = false;
+        boolean seenPoint = false;
+        for (; p < end; p++) {
+            final char c = chars.charAt(p);
+            if (c == '.' && !seenPoint) {
+                seenPoint = true;
+                continue;
+            }
+            final int digit = c - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            seenDigit = true;
+            if (significand != 0 || digit != 0) {
+                if (++digits > MAX_DIGITS) {
+                    return false;
+                }
+                significand = significand * 10 + digit;
+            }
+            if (seenPoint) {
+                exponent--;
+            }
+        }
+        if (!seenDigit) {
+            return false;
+        }
+        if (p < end) {
+            final char e = chars.charAt(p++);
+            if ((e != 'e' && e != 'E') || p == end) {
+                return false;
+            }
+            boolean negativeExponent = false;
+            final char expSign = chars.charAt(p);
+            if (expSign == '-' || expSign == '+') {
+                negativeExponent = expSign == '-';
+                if (++p == end) {
+                    return false;
+                }
+            }
+            int exp = 0;
+            for (; p < end; p++) {
+                final int digit = chars.charAt(p) - '0';
+                if (digit < 0 || digit > 9 || exp > 1000) {
+                    return false;
+                }
+                exp = exp * 10 + digit;
+            }
+            exponent += negativeExponent ? -exp : exp;
+        }
+        double value;
+        if (significand == 0) {
+            value = 0.0;
+        } else if (significand > (1L << 53) || exponent < -22 || exponent > 22) {
+            return false;
+        } else if (exponent < 0) {
+            value = significand / POWERS_OF_TEN[-exponent];
+        } else {
+            value = significand * POWERS_OF_TEN[exponent];
+        }
+        m_double = negative ? -value : value;
+        return true;
+    }
+
+    /**
+     * @return the value of the long parsed last
+     */
+    public long getLong() {
+        return m_long;
+    }
+
+    /**
+     * @return the value of the double parsed last
+     */
+    public double getDouble() {
+        return m_double;
+    }
+}
@@ -0,0 +1,991 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.io.filereader;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.knime.base.data.util.RowIDUniquifier;
+import org.knime.base.node.util.BufferedFileReader;
+import org.knime.base.util.concurrent.ThreadPoolUtil;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.FileUtil;
+import org.knime.core.util.ThreadPool;
+import org.knime.core.util.tokenizer.Comment;
+import org.knime.core.util.tokenizer.Delimiter;
+import org.knime.core.util.tokenizer.Quote;
+
+/**
+ * Reads the rows of a file with multiple threads. The file is read sequentially and split into chunks at row
+ * boundaries (taking quotes and comments into account). Each chunk is tokenized and converted into rows by a
+ * {@link FileRowIterator} on a thread of the global thread pool. The rows are returned in the order of the file, the
+ * row IDs are created (and uniquified) while returning them.
+ * <p>
+ * If a chunk contains an error, it is parsed again sequentially, with the correct row IDs and line numbers, up to the
+ * erroneous row. Thus the rows and the exceptions are the same as if the file was read by a single iterator.
+ * <p>
+ * Only files with the line feed as row delimiter (optionally along with the carriage return) and without block
+ * comments are supported, see
+ * {@link #supports(FileReaderSettings, BufferedFileReader)}. If no row boundary is found within a maximal chunk size
+ * (e.g. if the lines end with a carriage return only), the rest of the file is read by a single iterator, hence a
+ * chunk is never held in memory completely if it is larger than that.
+ * <p>
+ * Uncompressed local files in an ASCII compatible charset, with settings the {@link ByteRowParser} supports, are
+ * memory-mapped instead of read through the source. Their chunks are split and parsed on the bytes, without decoding
+ * them to characters. A chunk the byte parser rejects is decoded and parsed by a {@link FileRowIterator}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ParallelFileRowReader {
+
+    /** Files smaller than this (in bytes) are read by a single iterator. */
+    private static final long MIN_FILE_SIZE = 16L * 1024 * 1024;
+
+    /** The minimal number of characters in a chunk. */
+    private static final int CHUNK_SIZE = 1024 * 1024;
+
+    /** The maximal number of characters in a chunk, the rest of the file is read sequentially if it is exceeded. */
+    private static final int MAX_CHUNK_SIZE = 32 * CHUNK_SIZE;
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    /** The number of bytes of a memory-mapped file scanned at once. */
+    private static final long MAP_WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private final FileReaderSettings m_frSettings;
+
+    // the settings for all but the first chunk, which must not skip any lines
+    private final FileReaderSettings m_subsequentChunkSettings;
+
+    private final DataTableSpec m_tableSpec;
+
+    private final boolean[] m_skipColumns;
+
+    private final BufferedFileReader m_source;
+
+    private final ExecutionContext m_exec;
+
+    // the prefix of the row headers, null if they are read from the file
+    private final String m_rowHeaderPrefix;
+
+    // the row IDs created so far, shared with the iterator of a failed chunk
+    private final RowIDUniquifier m_rowIDs;
+
+    private final long m_maxNumOfRows;
+
+    // splits the characters of the source, null if the file is memory-mapped
+    private final ChunkSplitter m_splitter;
+
+    // splits the bytes of the memory-mapped file, null if the source is read
+    private final MappedChunkSplitter m_mappedSplitter;
+
+    private final int m_nrThreads;
+
+    private final ThreadPool m_pool;
+
+    // the chunks being parsed, in the order of the file
+    private final ArrayDeque<Future<ParsedChunk>> m_pending;
+
+    private ParsedChunk m_current;
+
+    private int m_currentIndex;
+
+    // parses a chunk that contains an error again, or the rest of the file that couldn't be split, with the correct
+    // row IDs
+    private FileRowIterator m_sequentialIterator;
+
+    // the rest of the file that couldn't be split, read after the pending chunks
+    private Chunk m_remainder;
+
+    // the number of the next row (starting at 1)
+    private int m_rowNumber;
+
+    private boolean m_done;
+
+    private boolean m_exceptionThrown;
+
+    private boolean m_fileWasNotCompletelyRead;
+
+    /**
+     * @param frSettings the settings
+     * @param tableSpec the spec of the rows to create
+     * @param skipColumns the columns to skip
+     * @param source the source to read from
+     * @param exec the execution context to report the progress to
+     */
+    ParallelFileRowReader(final FileReaderSettings frSettings, final DataTableSpec tableSpec,
+        final boolean[] skipColumns, final BufferedFileReader source, final ExecutionContext exec) {
+        this(frSettings, tableSpec, skipColumns, source, exec, CHUNK_SIZE, MAX_CHUNK_SIZE);
+    }
+
+    /**
+     * @param frSettings the settings
+     * @param tableSpec the spec of the rows to create
+     * @param skipColumns the columns to skip
+     * @param source the source to read from
+     * @param exec the execution context to report the progress to
+     * @param chunkSize the minimal number of characters (or bytes) in a chunk
+     * @param maxChunkSize the maximal number of characters (or bytes) in a chunk
+     */
+    ParallelFileRowReader(final FileReaderSettings frSettings, final DataTableSpec tableSpec,
+        final boolean[] skipColumns, final BufferedFileReader source, final ExecutionContext exec,
+        final int chunkSize, final int maxChunkSize) {
+        m_frSettings = frSettings;
+        m_subsequentChunkSettings = new FileReaderSettings(frSettings);
+        m_subsequentChunkSettings.setSkipFirstLines(0);
+        m_tableSpec = tableSpec;
+        m_skipColumns = skipColumns;
+        m_source = source;
+        m_exec = exec;
+        m_rowHeaderPrefix = FileRowIterator.getRowHeaderPrefix(frSettings);
+        m_rowIDs = new RowIDUniquifier();
+        m_maxNumOfRows = frSettings.getMaximumNumberOfRowsToRead() < 0 ? Long.MAX_VALUE
+            : frSettings.getMaximumNumberOfRowsToRead();
+        m_mappedSplitter = openMappedSplitter(frSettings, chunkSize, maxChunkSize);
+        m_splitter = m_mappedSplitter == null ? new ChunkSplitter(source, frSettings, chunkSize, maxChunkSize) : null;
+        m_nrThreads = ThreadPoolUtil.getMaxThreads();
+        m_pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(m_nrThreads);
+        m_pending = new ArrayDeque<Future<ParsedChunk>>();
+        m_rowNumber = 1;
+    }
+
+    /**
+     * @param frSettings the settings
+     * @param source the source to read from
+     * @return <code>true</code> if the file can be split into chunks with the settings and is large enough to pay
+     *         off
+     */
+    static boolean supports(final FileReaderSettings frSettings, final BufferedFileReader source) {
+        if (source == null || source.getFileSize() < MIN_FILE_SIZE
+            || ThreadPoolUtil.getMaxThreads() < 2) {
+            return false;
+        }
+        if (!frSettings.isRowDelimiter("\n", false)) {
+            return false;
+        }
+        for (Delimiter delim : frSettings.getAllDelimiters()) {
+            final String pattern = delim.getDelimiter();
+            // a carriage return (added by the analyzer) can't end a chunk, but never spans a chunk boundary either
+            if (frSettings.isRowDelimiter(pattern, false) && !pattern.equals("\n") && !pattern.equals("\r")) {
+                return false;
+            }
+        }
+        for (Comment comment : frSettings.getAllComments()) {
+            // block comments could span row boundaries
+            if (!comment.getEnd().equals("\n")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Memory-maps the file if it is local, uncompressed, and the chunks can be parsed from the bytes. Returns null
+     * if the file is to be read through the source.
+     */
+    private static MappedChunkSplitter openMappedSplitter(final FileReaderSettings frSettings, final int chunkSize,
+        final int maxChunkSize) {
+        if (!ByteRowParser.supports(frSettings)) {
+            return null;
+        }
+        final File file = FileUtil.getFileFromURL(frSettings.getDataFileLocation());
+        if (file == null || !file.isFile()) {
+            return null;
+        }
+        try {
+            return isCompressed(file) ? null : new MappedChunkSplitter(file, frSettings, chunkSize, maxChunkSize);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param file a local file
+     * @return <code>true</code> if the file is gzip or zip compressed (and is decompressed by the
+     *         {@link BufferedFileReader}), hence its bytes can't be accessed directly
+     * @throws IOException if the file can't be read
+     */
+    static boolean isCompressed(final File file) throws IOException {
+        try (InputStream in = new FileInputStream(file)) {
+            final int first = in.read();
+            final int second = in.read();
+            return (first == 0x1f && second == 0x8b) || (first == 'P' && second == 'K');
+        }
+    }
+
+    /**
+     * @return true if there are more rows
+     * @see FileRowIterator#hasNext()
+     */
+    boolean hasNext() {
+        if (m_done) {
+            return false;
+        }
+        boolean result = false;
+        while (true) {
+            if (m_sequentialIterator != null) {
+                if (m_sequentialIterator.hasNext()) {
+                    result = true;
+                    break;
+                }
+                if (m_exceptionThrown) {
+                    break;
+                }
+                // no error on the second attempt, continue with the next chunk
+                m_sequentialIterator = null;
+            }
+            if (m_current != null && m_currentIndex < m_current.m_rows.size()) {
+                result = true;
+                break;
+            }
+            m_current = nextParsedChunk();
+            m_currentIndex = 0;
+            if (m_current == null) {
+                if (m_remainder == null) {
+                    break;
+                }
+                // all chunks before the remainder are returned, continue with a single iterator
+                m_sequentialIterator = createChunkIterator(m_remainder, m_remainder.m_reader, m_rowNumber,
+                    m_rowIDs, false);
+                m_remainder = null;
+                continue;
+            }
+            if (m_current.m_failed) {
+                m_sequentialIterator = createChunkIterator(m_current.m_chunk, new StringReader(m_current.m_text),
+                    m_rowNumber, m_rowIDs, false);
+                m_current = null;
+            }
+        }
+        // rowNumber is number of the next row!
+        if (m_rowNumber > m_maxNumOfRows) {
+            m_fileWasNotCompletelyRead = result;
+            result = false;
+        }
+        if (!result) {
+            m_done = true;
+            dispose();
+        }
+        return result;
+    }
+
+    /**
+     * @return the next row
+     * @see FileRowIterator#next()
+     */
+    DataRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("The row iterator proceeded beyond the last line of '"
+                + m_frSettings.getDataFileLocation().toString() + "'.");
+        }
+        final DataRow result;
+        if (m_sequentialIterator != null) {
+            try {
+                result = m_sequentialIterator.next();
+            } catch (RuntimeException e) {
+                m_exceptionThrown = true;
+                dispose();
+                throw e;
+            }
+        } else {
+            final int index = m_currentIndex++;
+            final DataRow parsed = m_current.m_rows.get(index);
+            // release the row, the chunk may be large
+            m_current.m_rows.set(index, null);
+            final String rowHeader = createRowHeader(parsed.getKey().getString(),
+                m_current.m_missingRowHeaders.get(index));
+            final DataCell[] cells = new DataCell[parsed.getNumCells()];
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = parsed.getCell(i);
+            }
+            result = new DefaultRow(rowHeader, cells);
+        }
+        m_rowNumber++;
+        return result;
+    }
+
+    /**
+     * @return true, if the iterator didn't return all rows of the source
+     * @see FileRowIterator#iteratorEndedEarly()
+     */
+    boolean iteratorEndedEarly() {
+        return m_fileWasNotCompletelyRead;
+    }
+
+    /**
+     * Cancels the parsing of the pending chunks.
+     */
+    void dispose() {
+        for (Future<ParsedChunk> future : m_pending) {
+            future.cancel(true);
+        }
+        m_pending.clear();
+        m_current = null;
+        m_remainder = null;
+        m_rowIDs.close();
+        if (m_mappedSplitter != null) {
+            m_mappedSplitter.close();
+        }
+    }
+
+    /*
+     * Creates the row header as FileRowIterator#createRowHeader would do.
+     */
+    private String createRowHeader(final String fileHeader, final boolean missing) {
+        final int rowNumber = m_rowNumber - 1;
+        if (m_rowHeaderPrefix != null) {
+            return m_rowHeaderPrefix + rowNumber;
+        }
+        String newRowHeader = missing ? DataType.getMissingCell().toString() + rowNumber : fileHeader;
+        if (m_frSettings.uniquifyRowIDs()) {
+            newRowHeader = m_rowIDs.uniquify(newRowHeader);
+        }
+        return newRowHeader;
+    }
+
+    /*
+     * Submits chunks until each thread has one to work on, and returns the parsed first pending chunk.
+     */
+    private ParsedChunk nextParsedChunk() {
+        fillPending();
+        final Future<ParsedChunk> future = m_pending.poll();
+        if (future == null) {
+            return null;
+        }
+        final ParsedChunk result;
+        try {
+            result = ThreadPoolUtil.waitFor(m_pool, future);
+        } catch (ExecutionException e) {
+            dispose();
+            throw new IllegalStateException(ThreadPoolUtil.throwIfUnchecked(e));
+        } catch (InterruptedException e) {
+            dispose();
+            throw createInterruptedException();
+        }
+        fillPending();
+        if (m_source.getFileSize() > 0) {
+            m_exec.setProgress(result.m_chunk.m_bytesRead / (double)m_source.getFileSize());
+        }
+        return result;
+    }
+
+    private FileReaderException createInterruptedException() {
+        Thread.currentThread().interrupt();
+        return new FileReaderException("Reading '" + m_frSettings.getDataFileLocation() + "' was interrupted.");
+    }
+
+    private void fillPending() {
+        while (m_remainder == null && m_pending.size() < m_nrThreads) {
+            final Chunk chunk;
+            try {
+                chunk = m_mappedSplitter != null ? m_mappedSplitter.next() : m_splitter.next();
+            } catch (IOException e) {
+                dispose();
+                throw new FileReaderException("I/O error while reading '" + m_frSettings.getDataFileLocation()
+                    + "': " + e.getMessage());
+            }
+            if (chunk == null) {
+                return;
+            }
+            if (chunk.m_reader != null) {
+                m_remainder = chunk;
+                return;
+            }
+            m_pending.add(m_pool.enqueue(() -> parse(chunk)));
+        }
+    }
+
+    /*
+     * Reads the rows of the chunk with deferred row headers. Stops at the first error.
+     */
+    private ParsedChunk parse(final Chunk chunk) {
+        final List<DataRow> rows = new ArrayList<DataRow>();
+        final BitSet missingRowHeaders = new BitSet();
+        String text = chunk.m_text;
+        if (text == null) {
+            final ByteBuffer bytes;
+            try {
+                bytes = m_mappedSplitter.map(chunk);
+            } catch (IOException e) {
+                throw new FileReaderException("I/O error while reading '" + m_frSettings.getDataFileLocation()
+                    + "': " + e.getMessage());
+            }
+            // the first chunk contains the lines to skip and the column headers, which are read by the iterator
+            if (chunk.m_index > 0
+                || (!m_frSettings.getFileHasColumnHeaders() && m_frSettings.getSkipFirstLines() <= 0)) {
+                if (new ByteRowParser(m_frSettings, m_tableSpec, m_skipColumns).parse(bytes, rows,
+                    missingRowHeaders)) {
+                    return new ParsedChunk(chunk, null, rows, missingRowHeaders, false);
+                }
+                rows.clear();
+                missingRowHeaders.clear();
+            }
+            text = m_mappedSplitter.decode(bytes);
+        }
+        boolean failed = false;
+        try {
+            final FileRowIterator it = createChunkIterator(chunk, new StringReader(text), 1, null, true);
+            while (it.hasNext()) {
+                final DataRow row = it.next();
+                if (it.lastRowHeaderWasMissing()) {
+                    missingRowHeaders.set(rows.size());
+                }
+                rows.add(row);
+            }
+        } catch (RuntimeException e) {
+            // the chunk is parsed again when its rows are requested, which throws the exception in the right place
+            failed = true;
+        }
+        // keep the text only if the chunk must be parsed again
+        return new ParsedChunk(chunk, failed ? text : null, rows, missingRowHeaders, failed);
+    }
+
+    /*
+     * Creates the iterator for the rows of a chunk. Only the first chunk contains the lines to skip and the column
+     * headers.
+     */
+    private FileRowIterator createChunkIterator(final Chunk chunk, final Reader text, final int firstRowNumber,
+        final RowIDUniquifier rowIDs, final boolean deferRowHeaders) {
+        final boolean first = chunk.m_index == 0;
+        return new FileRowIterator(first ? m_frSettings : m_subsequentChunkSettings, m_tableSpec, m_skipColumns,
+            text, chunk.m_lineOffset, firstRowNumber, rowIDs, deferRowHeaders,
+            first && m_frSettings.getFileHasColumnHeaders());
+    }
+
+    /** A part of the file starting at the beginning of a row. */
+    private static final class Chunk {
+
+        private final int m_index;
+
+        // the characters of the chunk, null if it is part of a memory-mapped file or the remainder
+        private final String m_text;
+
+        // the rest of the file that couldn't be split, null for all other chunks
+        private final Reader m_reader;
+
+        // the position of the chunk in the memory-mapped file
+        private final long m_start;
+
+        private final long m_end;
+
+        // the number of lines in the file before the chunk
+        private final int m_lineOffset;
+
+        // the number of bytes read from the source after the chunk was read
+        private final long m_bytesRead;
+
+        Chunk(final int index, final String text, final int lineOffset, final long bytesRead) {
+            m_index = index;
+            m_text = text;
+            m_reader = null;
+            m_start = -1;
+            m_end = -1;
+            m_lineOffset = lineOffset;
+            m_bytesRead = bytesRead;
+        }
+
+        Chunk(final int index, final long start, final long end, final int lineOffset) {
+            m_index = index;
+            m_text = null;
+            m_reader = null;
+            m_start = start;
+            m_end = end;
+            m_lineOffset = lineOffset;
+            m_bytesRead = end;
+        }
+
+        Chunk(final int index, final Reader reader, final int lineOffset) {
+            m_index = index;
+            m_text = null;
+            m_reader = reader;
+            m_start = -1;
+            m_end = -1;
+            m_lineOffset = lineOffset;
+            m_bytesRead = -1;
+        }
+    }
+
+    /** The rows of a chunk. */
+    private static final class ParsedChunk {
+
+        private final Chunk m_chunk;
+
+        // the text to parse the chunk again, null if it didn't fail
+        private final String m_text;
+
+        private final List<DataRow> m_rows;
+
+        private final BitSet m_missingRowHeaders;
+
+        private final boolean m_failed;
+
+        ParsedChunk(final Chunk chunk, final String text, final List<DataRow> rows, final BitSet missingRowHeaders,
+            final boolean failed) {
+            m_chunk = chunk;
+            m_text = text;
+            m_rows = rows;
+            m_missingRowHeaders = missingRowHeaders;
+            m_failed = failed;
+        }
+    }
+
+    /**
+     * Splits the characters of the source into chunks. A chunk ends after a line feed that is neither quoted nor
+     * followed by another line feed (or carriage return), as consecutive row delimiters may be combined by the
+     * tokenizer. Line comments are skipped, so quotes in comments are ignored. The lines the tokenizer skips at the
+     * beginning of the file are not scanned, they are part of the first chunk. If no chunk end is found within the
+     * maximal chunk size, the rest of the source is returned as remainder.
+     */
+    private static final class ChunkSplitter {
+
+        private final Reader m_in;
+
+        private final int m_chunkSize;
+
+        private final int m_maxChunkSize;
+
+        private final BufferedFileReader m_source;
+
+        private final Quote[] m_quotes;
+
+        private final String[] m_commentBegins;
+
+        private final boolean m_lfInQuotes;
+
+        // the number of characters that must follow a position in order to match a pattern
+        private final int m_lookahead;
+
+        private final char[] m_readBuffer = new char[READ_BUFFER_SIZE];
+
+        private final StringBuilder m_buffer = new StringBuilder();
+
+        // the position in the buffer from which to continue scanning
+        private int m_scanPos;
+
+        // the quote we are in, null if not quoted
+        private Quote m_quote;
+
+        private boolean m_inComment;
+
+        private boolean m_eof;
+
+        private int m_lineOffset;
+
+        private int m_chunkCount;
+
+        // the number of lines at the beginning of the file not scanned yet
+        private long m_linesToSkip;
+
+        ChunkSplitter(final BufferedFileReader source, final FileReaderSettings frSettings, final int chunkSize,
+            final int maxChunkSize) {
+            m_in = source;
+            m_source = source;
+            m_chunkSize = chunkSize;
+            m_maxChunkSize = maxChunkSize;
+            m_quotes = frSettings.getAllQuotes().toArray(new Quote[0]);
+            final List<Comment> comments = frSettings.getAllComments();
+            m_commentBegins = new String[comments.size()];
+            int lookahead = 2;
+            for (int i = 0; i < m_commentBegins.length; i++) {
+                m_commentBegins[i] = comments.get(i).getBegin();
+                lookahead = Math.max(lookahead, m_commentBegins[i].length());
+            }
+            for (Quote quote : m_quotes) {
+                lookahead = Math.max(lookahead, Math.max(quote.getLeft().length(), quote.getRight().length()));
+            }
+            m_lookahead = lookahead;
+            m_lfInQuotes = frSettings.allowLFinQuotes();
+            m_linesToSkip = frSettings.getSkipFirstLines();
+        }
+
+        /**
+         * @return the next chunk, the remainder, or <code>null</code> at the end of the source
+         * @throws IOException if reading fails
+         */
+        Chunk next() throws IOException {
+            int cut = -1;
+            while (cut < 0) {
+                final int scanEnd = m_eof ? m_buffer.length() : m_buffer.length() - m_lookahead;
+                cut = scan(scanEnd);
+                if (cut < 0) {
+                    if (m_eof) {
+                        cut = m_buffer.length();
+                    } else if (m_scanPos >= m_maxChunkSize) {
+                        return nextRemainder();
+                    } else {
+                        final int read = m_in.read(m_readBuffer);
+                        if (read < 0) {
+                            m_eof = true;
+                        } else {
+                            m_buffer.append(m_readBuffer, 0, read);
+                        }
+                    }
+                }
+            }
+            if (cut == 0) {
+                return null;
+            }
+            final String text = m_buffer.substring(0, cut);
+            m_buffer.delete(0, cut);
+            m_scanPos -= cut;
+            final Chunk chunk = new Chunk(m_chunkCount++, text, m_lineOffset, m_source.getNumberOfBytesRead());
+            for (int i = 0; i < text.length(); i++) {
+                if (text.charAt(i) == '\n') {
+                    m_lineOffset++;
+                }
+            }
+            return chunk;
+        }
+
+        /*
+         * Returns the buffered characters followed by the rest of the source as the last chunk.
+         */
+        private Chunk nextRemainder() throws IOException {
+            final char[] buffered = new char[m_buffer.length()];
+            m_buffer.getChars(0, buffered.length, buffered, 0);
+            m_buffer.setLength(0);
+            m_buffer.trimToSize();
+            m_scanPos = 0;
+            m_eof = true;
+            final PushbackReader reader = new PushbackReader(m_in, buffered.length);
+            reader.unread(buffered);
+            return new Chunk(m_chunkCount++, reader, m_lineOffset);
+        }
+
+        /*
+         * Scans the buffer up to scanEnd, returns the end of the chunk or -1 if no end was found.
+         */
+        private int scan(final int scanEnd) {
+            int p = m_scanPos;
+            while (m_linesToSkip > 0 && p < scanEnd) {
+                if (m_buffer.charAt(p++) == '\n') {
+                    m_linesToSkip--;
+                }
+            }
+            while (p < scanEnd) {
+                final char c = m_buffer.charAt(p);
+                if (m_inComment) {
+                    if (c != '\n') {
+                        p++;
+                        continue;
+                    }
+                    m_inComment = false;
+                } else if (m_quote != null) {
+                    if (m_quote.hasEscapeChar() && c == m_quote.getEscape()) {
+                        p += 2;
+                        continue;
+                    }
+                    if (matches(p, m_quote.getRight())) {
+                        p += m_quote.getRight().length();
+                        m_quote = null;
+                        continue;
+                    }
+                    if (c != '\n' || m_lfInQuotes) {
+                        p++;
+                        continue;
+                    }
+                    // the tokenizer fails on the line feed in quotes, the error is reported for this row
+                    m_quote = null;
+                } else if (c != '\n') {
+                    p += skipCommentOrQuoteBegin(p);
+                    continue;
+                }
+                // a line feed that ends a row
+                p++;
+                if (p >= m_chunkSize && p < m_buffer.length()) {
+                    final char following = m_buffer.charAt(p);
+                    if (following != '\n' && following != '\r') {
+                        m_scanPos = p;
+                        return p;
+                    }
+                }
+            }
+            m_scanPos = p;
+            return -1;
+        }
+
+        /*
+         * Enters a comment or quote starting at p and returns the number of characters to skip.
+         */
+        private int skipCommentOrQuoteBegin(final int p) {
+            for (String begin : m_commentBegins) {
+                if (matches(p, begin)) {
+                    m_inComment = true;
+                    return begin.length();
+                }
+            }
+            for (Quote quote : m_quotes) {
+                if (matches(p, quote.getLeft())) {
+                    m_quote = quote;
+                    return quote.getLeft().length();
+                }
+            }
+            return 1;
+        }
+
+        private boolean matches(final int p, final String pattern) {
+            if (pattern.isEmpty() || p + pattern.length() > m_buffer.length()) {
+                return false;
+            }
+            for (int i = 0; i < pattern.length(); i++) {
+                if (m_buffer.charAt(p + i) != pattern.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Splits a memory-mapped file into chunks of bytes, like the {@link ChunkSplitter} splits the characters. All
+     * quotes and comments begin with a single ASCII character (see {@link ByteRowParser#supports(FileReaderSettings)})
+     * that can't be part of another character in the (ASCII compatible) charset, hence the bytes can be scanned
+     * directly.
+     */
+    private static final class MappedChunkSplitter {
+
+        private final FileChannel m_channel;
+
+        private final int m_chunkSize;
+
+        private final int m_maxChunkSize;
+
+        private final long m_size;
+
+        private final Charset m_charset;
+
+        // for each left quote the right quote (-1 if the byte isn't a quote) and the escape character
+        private final int[] m_rightQuotes = new int[256];
+
+        private final int[] m_quoteEscapes = new int[256];
+
+        private final boolean[] m_commentBegins = new boolean[256];
+
+        private final boolean m_lfInQuotes;
+
+        // the part of the file scanned currently
+        private ByteBuffer m_window;
+
+        private long m_windowStart;
+
+        // the position from which to continue scanning
+        private long m_pos;
+
+        // the right quote and escape character of the quote we are in, -1 if not quoted
+        private int m_rightQuote = -1;
+
+        private int m_escape = -1;
+
+        private boolean m_escaped;
+
+        private boolean m_inComment;
+
+        private int m_lineOffset;
+
+        private int m_chunkCount;
+
+        // the number of lines at the beginning of the file not scanned yet
+        private long m_linesToSkip;
+
+        MappedChunkSplitter(final File file, final FileReaderSettings frSettings, final int chunkSize,
+            final int maxChunkSize) throws IOException {
+            m_channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+            m_chunkSize = chunkSize;
+            m_maxChunkSize = maxChunkSize;
+            m_size = m_channel.size();
+            m_charset = ByteRowParser.getCharset(frSettings);
+            Arrays.fill(m_rightQuotes, -1);
+            Arrays.fill(m_quoteEscapes, -1);
+            for (Quote quote : frSettings.getAllQuotes()) {
+                final char left = quote.getLeft().charAt(0);
+                m_rightQuotes[left] = quote.getRight().charAt(0);
+                if (quote.hasEscapeChar()) {
+                    m_quoteEscapes[left] = quote.getEscape();
+                }
+            }
+            for (Comment comment : frSettings.getAllComments()) {
+                m_commentBegins[comment.getBegin().charAt(0)] = true;
+            }
+            m_lfInQuotes = frSettings.allowLFinQuotes();
+            m_linesToSkip = frSettings.getSkipFirstLines();
+            m_window = ByteBuffer.allocate(0);
+        }
+
+        /**
+         * @return the next chunk, the remainder, or <code>null</code> at the end of the file
+         * @throws IOException if reading fails
+         */
+        Chunk next() throws IOException {
+            final long start = m_pos;
+            if (start >= m_size) {
+                return null;
+            }
+            final int lineOffset = m_lineOffset;
+            long p = start;
+            while (p < m_size) {
+                if (p - start >= m_maxChunkSize) {
+                    // no row boundary found, the rest of the file is decoded while it is read
+                    m_pos = m_size;
+                    return new Chunk(m_chunkCount++, Channels.newReader(m_channel.position(start), m_charset.name()),
+                        lineOffset);
+                }
+                final int b = byteAt(p++);
+                if (b == '\n') {
+                    m_lineOffset++;
+                }
+                if (m_linesToSkip > 0) {
+                    if (b == '\n') {
+                        m_linesToSkip--;
+                    }
+                    continue;
+                }
+                if (m_inComment) {
+                    if (b != '\n') {
+                        continue;
+                    }
+                    m_inComment = false;
+                } else if (m_rightQuote >= 0) {
+                    if (m_escaped) {
+                        m_escaped = false;
+                        continue;
+                    }
+                    if (b == m_escape) {
+                        m_escaped = true;
+                        continue;
+                    }
+                    if (b == m_rightQuote) {
+                        m_rightQuote = -1;
+                        continue;
+                    }
+                    if (b != '\n' || m_lfInQuotes) {
+                        continue;
+                    }
+                    // the tokenizer fails on the line feed in quotes, the error is reported for this row
+                    m_rightQuote = -1;
+                } else if (b != '\n') {
+                    if (m_commentBegins[b]) {
+                        m_inComment = true;
+                    } else if (m_rightQuotes[b] >= 0) {
+                        m_rightQuote = m_rightQuotes[b];
+                        m_escape = m_quoteEscapes[b];
+                    }
+                    continue;
+                }
+                // a line feed that ends a row
+                if (p - start >= m_chunkSize && p < m_size) {
+                    final int following = byteAt(p);
+                    if (following != '\n' && following != '\r') {
+                        break;
+                    }
+                }
+            }
+            m_pos = p;
+            return new Chunk(m_chunkCount++, start, p, lineOffset);
+        }
+
+        private int byteAt(final long pos) throws IOException {
+            if (pos < m_windowStart || pos >= m_windowStart + m_window.limit()) {
+                m_windowStart = pos;
+                m_window = m_channel.map(MapMode.READ_ONLY, pos, Math.min(MAP_WINDOW_SIZE, m_size - pos));
+            }
+            return m_window.get((int)(pos - m_windowStart)) & 0xFF;
+        }
+
+        /**
+         * Maps the bytes of a chunk. Can be called by multiple threads.
+         *
+         * @param chunk the chunk to map
+         * @return the bytes of the chunk
+         * @throws IOException if mapping fails
+         */
+        ByteBuffer map(final Chunk chunk) throws IOException {
+            return m_channel.map(MapMode.READ_ONLY, chunk.m_start, chunk.m_end - chunk.m_start);
+        }
+
+        /**
+         * @param bytes the bytes of a chunk
+         * @return the characters of the chunk
+         */
+        String decode(final ByteBuffer bytes) {
+            return m_charset.decode(bytes).toString();
+        }
+
+        void close() {
+            try {
+                m_channel.close();
+            } catch (IOException e) {
+                // then don't close it
+            }
+        }
+    }
+}
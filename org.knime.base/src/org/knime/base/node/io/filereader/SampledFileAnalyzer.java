@@ -0,0 +1,283 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.io.filereader;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.knime.base.util.concurrent.ThreadPoolUtil;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.util.FileUtil;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Analyzes large files on samples instead of the entire file. The samples are byte ranges spread evenly across the
+ * file, read in parallel with random access and cut at line feeds. The first sample starts at the beginning of the
+ * file, so it contains the lines to skip and the column headers. The {@link FileAnalyzer} then analyzes a temporary
+ * file containing all samples.
+ * <p>
+ * The settings guessed are cached for the file (its path, size and modification time) and the user settings.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @see FileReaderExecutionMonitor#setNumberOfSamples(int)
+ */
+final class SampledFileAnalyzer {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(SampledFileAnalyzer.class);
+
+    /** The number of bytes of a sample. */
+    private static final int SAMPLE_SIZE = 256 * 1024;
+
+    /** Only files this many times larger than all samples together are sampled. */
+    private static final int MIN_FILE_SIZE_FACTOR = 4;
+
+    // the part of the entire analysis reading the samples takes
+    private static final double SAMPLING_SUB = 0.1;
+
+    private static final int CACHE_SIZE = 16;
+
+    // the settings guessed for the recently sampled files
+    private static final Map<String, FileReaderNodeSettings> CACHE =
+        new LinkedHashMap<String, FileReaderNodeSettings>(CACHE_SIZE, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, FileReaderNodeSettings> eldest) {
+                return size() > CACHE_SIZE;
+            }
+        };
+
+    private SampledFileAnalyzer() {
+        // use static methods only
+    }
+
+    /**
+     * @param userSettings the settings the user provided
+     * @param numberOfSamples the number of samples to analyze
+     * @return <code>true</code> if the file is local, uncompressed, ASCII compatible and large enough to be sampled
+     */
+    static boolean canSample(final FileReaderNodeSettings userSettings, final int numberOfSamples) {
+        if (numberOfSamples <= 0) {
+            return false;
+        }
+        final File file = getLocalFile(userSettings);
+        if (file == null || file.length() <= (long)MIN_FILE_SIZE_FACTOR * numberOfSamples * SAMPLE_SIZE) {
+            return false;
+        }
+        try {
+            // the samples are cut at line feeds, which must not be part of other characters
+            final String charsetName = userSettings.isCharsetUserSet() ? userSettings.getCharsetName()
+                : FileAnalyzer.guessCharSet(userSettings);
+            return ByteRowParser.getAsciiCompatibleCharset(charsetName) != null
+                && !ParallelFileRowReader.isCompressed(file);
+        } catch (IOException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Analyzes the samples of the file.
+     *
+     * @param userSettings the settings the user provided
+     * @param numberOfSamples the number of samples to analyze
+     * @param exec to check for cancellations and to report progress
+     * @return the settings guessed, or <code>null</code> if interrupted
+     * @throws IOException if the file couldn't be read
+     * @see #canSample(FileReaderNodeSettings, int)
+     * @see FileAnalyzer#analyze(FileReaderNodeSettings, ExecutionMonitor)
+     */
+    static FileReaderNodeSettings analyze(final FileReaderNodeSettings userSettings, final int numberOfSamples,
+        final FileReaderExecutionMonitor exec) throws IOException {
+        final File file = getLocalFile(userSettings);
+        final String key = createCacheKey(file, userSettings, numberOfSamples);
+        synchronized (CACHE) {
+            final FileReaderNodeSettings cached = CACHE.get(key);
+            if (cached != null) {
+                exec.setProgress(1.0);
+                return new FileReaderNodeSettings(cached);
+            }
+        }
+
+        final File sampleFile =
+            File.createTempFile("analysis_sample_", ".txt", new File(KNIMEConstants.getKNIMETempDir()));
+        try {
+            if (!writeSamples(file, sampleFile, numberOfSamples,
+                (FileReaderExecutionMonitor)exec.createSubProgress(SAMPLING_SUB))) {
+                return null;
+            }
+            final FileReaderNodeSettings sampleSettings = new FileReaderNodeSettings(userSettings);
+            sampleSettings.setDataFileLocationAndUpdateTableName(sampleFile.toURI().toURL());
+            final FileReaderNodeSettings result =
+                FileAnalyzer.analyzeFile(sampleSettings, exec.createSubProgress(1.0 - SAMPLING_SUB));
+            if (result == null) {
+                return null;
+            }
+            result.setDataFileLocationAndUpdateTableName(userSettings.getDataFileLocation());
+            // line numbers refer to the samples
+            result.setColumnNumDeterminingLineNumber(-1);
+            result.setAnalyzeUsedAllRows(false);
+            if (!exec.wasCanceled()) {
+                // a short cut analysis isn't cached
+                synchronized (CACHE) {
+                    CACHE.put(key, new FileReaderNodeSettings(result));
+                }
+            }
+            return result;
+        } finally {
+            if (!sampleFile.delete()) {
+                LOGGER.debug("Unable to delete sample file \"" + sampleFile.getAbsolutePath() + "\"");
+            }
+        }
+    }
+
+    private static File getLocalFile(final FileReaderNodeSettings userSettings) {
+        final File file = FileUtil.getFileFromURL(userSettings.getDataFileLocation());
+        return file != null && file.isFile() ? file : null;
+    }
+
+    private static String createCacheKey(final File file, final FileReaderNodeSettings userSettings,
+        final int numberOfSamples) throws IOException {
+        // the flags telling which settings are set by the user are not part of the config
+        final NodeSettings config = new NodeSettings("user_settings");
+        userSettings.saveToConfiguration(config);
+        return file.getCanonicalPath() + "\n" + file.length() + "\n" + file.lastModified() + "\n" + numberOfSamples
+            + "\n" + userSettings.isCharsetUserSet() + userSettings.isCommentUserSet()
+            + userSettings.isDelimiterUserSet() + userSettings.isQuoteUserSet() + userSettings.isWhiteSpaceUserSet()
+            + userSettings.isFileHasColumnHeadersUserSet() + userSettings.isFileHasRowHeadersUserSet()
+            + userSettings.isIgnoreEmptyLinesUserSet() + userSettings.ignoreDelimsAtEORUserSet()
+            + userSettings.decimalSeparatorUserSet() + "\n" + config;
+    }
+
+    /*
+     * Reads the samples in parallel and writes them to the sample file. Returns false if interrupted.
+     */
+    private static boolean writeSamples(final File file, final File sampleFile, final int numberOfSamples,
+        final FileReaderExecutionMonitor exec) throws IOException {
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL
+            .createSubPool(Math.min(numberOfSamples, ThreadPoolUtil.getMaxThreads()));
+        final List<Future<byte[]>> futures = new ArrayList<Future<byte[]>>(numberOfSamples);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+                OutputStream out = new BufferedOutputStream(new FileOutputStream(sampleFile))) {
+            final long size = channel.size();
+            for (int i = 0; i < numberOfSamples; i++) {
+                final long start = i * (size / numberOfSamples);
+                futures.add(pool.enqueue(() -> readSample(channel, start, size)));
+            }
+            for (int i = 0; i < numberOfSamples; i++) {
+                if (exec.wasInterrupted()) {
+                    return false;
+                }
+                out.write(waitFor(pool, futures.get(i)));
+                exec.setProgress((i + 1) / (double)numberOfSamples);
+            }
+            return true;
+        } finally {
+            for (Future<byte[]> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /*
+     * Reads the sample at the start position. All but the first sample begin after the first line feed, all but the
+     * one at the end of the file end with the last line feed.
+     */
+    private static byte[] readSample(final FileChannel channel, final long start, final long size)
+        throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate((int)Math.min(SAMPLE_SIZE, size - start));
+        while (buffer.hasRemaining() && channel.read(buffer, start + buffer.position()) >= 0) {
+            // read until the sample is complete
+        }
+        final byte[] bytes = buffer.array();
+        final int length = buffer.position();
+        int from = 0;
+        if (start > 0) {
+            while (from < length && bytes[from++] != '\n') {
+                // skip the partial first line
+            }
+        }
+        int to = length;
+        if (start + length < size) {
+            while (to > from && bytes[to - 1] != '\n') {
+                to--;
+            }
+        }
+        return Arrays.copyOfRange(bytes, from, to);
+    }
+
+    private static byte[] waitFor(final ThreadPool pool, final Future<byte[]> future) throws IOException {
+        try {
+            return ThreadPoolUtil.waitFor(pool, future);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Reading the samples was interrupted");
+        } catch (ExecutionException e) {
+            final Exception cause = ThreadPoolUtil.throwIfUnchecked(e);
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
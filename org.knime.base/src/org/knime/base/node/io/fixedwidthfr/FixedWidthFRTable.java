@@ -130,7 +130,7 @@ public CloseableRowIterator iterator() {
      */
     protected CloseableRowIterator createRowIterator(final FixedWidthFRSettings nodeSettings,
         final DataTableSpec tableSpec, final ExecutionContext exec) throws IOException {
-        return new FixedWidthRowIterator(nodeSettings, tableSpec, exec);
+        return new FixedWidthRowIterator(nodeSettings, tableSpec, exec, true);
     }
 
     /**
@@ -0,0 +1,262 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.io.fixedwidthfr;
+
+import org.knime.base.node.io.filereader.DataCellFactory;
+import org.knime.base.node.io.filereader.FileReaderException;
+import org.knime.base.node.io.filereader.NumberTokenParser;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.node.ExecutionContext;
+
+/**
+ * Creates a row from a line of a fixed width file. The tokens are addressed by their offsets in the line instead of
+ * being cut off the line, and integer, long and double cells are parsed from the characters directly. The rows are
+ * the same as the ones the {@link FixedWidthRowIterator} creates with the {@link FixedWidthTokenizer}.
+ * <p>
+ * Requires that each line contains exactly one row, see {@link #supports(FixedWidthFRSettings, DataTableSpec)}. An
+ * instance is not thread-safe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class FixedWidthLineParser {
+
+    /** The kinds of cells that are created from the characters directly. */
+    private static final byte GENERIC = 0;
+
+    private static final byte INT = 1;
+
+    private static final byte LONG = 2;
+
+    private static final byte DOUBLE = 3;
+
+    private final DataTableSpec m_tableSpec;
+
+    private final int[] m_colWidths;
+
+    private final boolean[] m_includes;
+
+    private final boolean m_hasRowHeader;
+
+    private final String[] m_missingValuePatterns;
+
+    private final String[] m_formatParameters;
+
+    // for each created column, the kind of cells
+    private final byte[] m_kinds;
+
+    private final DataCellFactory m_dataCellFactory;
+
+    private final NumberTokenParser m_numberParser = new NumberTokenParser();
+
+    /**
+     * @param nodeSettings the settings, must be supported
+     * @param tableSpec the spec of the rows to create
+     * @param exec the execution context passed to the cell factory
+     */
+    FixedWidthLineParser(final FixedWidthFRSettings nodeSettings, final DataTableSpec tableSpec,
+        final ExecutionContext exec) {
+        m_tableSpec = tableSpec;
+        m_colWidths = nodeSettings.getColWidths();
+        m_hasRowHeader = nodeSettings.getHasRowHeader();
+        m_includes = nodeSettings.getIncludes();
+        m_missingValuePatterns = nodeSettings.getMissingValuePatterns();
+        m_formatParameters = nodeSettings.getFormatParameters();
+        m_kinds = new byte[tableSpec.getNumColumns()];
+        for (int i = 0; i < m_kinds.length; i++) {
+            final DataType type = tableSpec.getColumnSpec(i).getType();
+            if (m_formatParameters[i] != null) {
+                m_kinds[i] = GENERIC;
+            } else if (type.equals(IntCell.TYPE)) {
+                m_kinds[i] = INT;
+            } else if (type.equals(LongCell.TYPE)) {
+                m_kinds[i] = LONG;
+            } else if (type.equals(DoubleCell.TYPE)) {
+                m_kinds[i] = DOUBLE;
+            } else {
+                m_kinds[i] = GENERIC;
+            }
+        }
+        m_dataCellFactory = new DataCellFactory(exec);
+    }
+
+    /**
+     * @param nodeSettings the settings
+     * @param tableSpec the spec of the rows to create
+     * @return <code>true</code> if the included columns of a line (apart from the row header) fill exactly one row,
+     *         otherwise the tokenizer continues a row on the next line
+     */
+    static boolean supports(final FixedWidthFRSettings nodeSettings, final DataTableSpec tableSpec) {
+        final boolean[] includes = nodeSettings.getIncludes();
+        final boolean hasRowHeader = nodeSettings.getHasRowHeader();
+        int tokens = 0;
+        for (int i = 0; i < includes.length; i++) {
+            if (includes[i] || (i == 0 && hasRowHeader)) {
+                tokens++;
+            }
+        }
+        return tokens == tableSpec.getNumColumns() + (hasRowHeader ? 1 : 0)
+            && nodeSettings.getMissingValuePatterns().length >= tableSpec.getNumColumns()
+            && nodeSettings.getFormatParameters().length >= tableSpec.getNumColumns();
+    }
+
+    /**
+     * @param line the characters containing the line
+     * @param start the index of the first character of the line
+     * @param end the index after the last character of the line (without the line terminator)
+     * @param rowID the row ID, <code>null</code> if it is read from the line
+     * @param lineNumber the number of the line in the file, for error messages
+     * @return the row
+     * @throws FileReaderException if a cell couldn't be created
+     */
+    DataRow parse(final CharSequence line, final int start, final int end, final String rowID,
+        final int lineNumber) {
+        final int rowLength = m_tableSpec.getNumColumns();
+        final DataCell[] row = new DataCell[rowLength];
+        String rowHeader = rowID;
+        boolean reachedEndOfLine = false;
+        int pos = start;
+        int createdCols = 0;
+        for (int col = 0; col < m_colWidths.length && createdCols < rowLength; col++) {
+            // the token boundaries, like the tokenizer cuts them off
+            final int tokenStart = pos;
+            final int remaining = end - pos;
+            if (m_colWidths[col] < remaining) {
+                pos += m_colWidths[col];
+            } else if (remaining > 0) {
+                pos = end;
+            } else {
+                reachedEndOfLine = true;
+            }
+            if (col == 0 && m_hasRowHeader) {
+                rowHeader = line.subSequence(tokenStart, pos).toString();
+            } else if (m_includes[col]) {
+                // no more characters in this line but we need more columns, just add missing cells
+                row[createdCols] = reachedEndOfLine ? new MissingCell(null)
+                    : createCell(line, tokenStart, pos, createdCols, lineNumber, rowHeader, row);
+                createdCols++;
+            }
+        }
+        return new DefaultRow(rowHeader, row);
+    }
+
+    private DataCell createCell(final CharSequence line, final int start, final int end, final int col,
+        final int lineNumber, final String rowHeader, final DataCell[] row) {
+        final String missingValuePattern = m_missingValuePatterns[col];
+        if (missingValuePattern != null && missingValuePattern.contentEquals(line.subSequence(start, end))) {
+            return DataType.getMissingCell();
+        }
+        switch (m_kinds[col]) {
+            case INT:
+                if (m_numberParser.parseLong(line, start, end) && m_numberParser.getLong() >= Integer.MIN_VALUE
+                    && m_numberParser.getLong() <= Integer.MAX_VALUE) {
+                    return new IntCell((int)m_numberParser.getLong());
+                }
+                break;
+            case LONG:
+                if (m_numberParser.parseLong(line, start, end)) {
+                    return new LongCell(m_numberParser.getLong());
+                }
+                break;
+            case DOUBLE:
+                if (m_numberParser.parseDouble(line, start, end)) {
+                    return new DoubleCell(m_numberParser.getDouble());
+                }
+                break;
+            default:
+                break;
+        }
+        m_dataCellFactory.setMissingValuePattern(missingValuePattern);
+        m_dataCellFactory.setFormatParameter(m_formatParameters[col]);
+        final DataCell result = m_dataCellFactory.createDataCellOfType(m_tableSpec.getColumnSpec(col).getType(),
+            line.subSequence(start, end).toString());
+        if (result != null) {
+            return result;
+        }
+        // something went wrong during cell creation.
+        String errorMsg = m_dataCellFactory.getErrorMessage();
+        errorMsg += " In line " + lineNumber + " (" + rowHeader + ") at column #" + col + " ('"
+            + m_tableSpec.getColumnSpec(col).getName() + "').";
+        throw createException(errorMsg, lineNumber, rowHeader, row);
+    }
+
+    /**
+     * Creates the exception object, storing the last read items in the row of the exception.
+     *
+     * @param msg the error message
+     * @param lineNumber the number of the line
+     * @param rowHeader the header of the row
+     * @param cellsRead the cells read so far, <code>null</code> for the cells not read
+     * @return the exception
+     */
+    static FileReaderException createException(final String msg, final int lineNumber, final String rowHeader,
+        final DataCell[] cellsRead) {
+        DataCell[] errCells = new DataCell[cellsRead.length];
+        System.arraycopy(cellsRead, 0, errCells, 0, errCells.length);
+
+        for (int c = 0; c < errCells.length; c++) {
+            if (errCells[c] == null) {
+                errCells[c] = DataType.getMissingCell();
+            }
+        }
+
+        String errRowHeader = "ERROR_ROW (" + rowHeader.toString() + ")";
+
+        DataRow errRow = new DefaultRow(errRowHeader, errCells);
+
+        return new FileReaderException(msg, errRow, lineNumber);
+    }
+}
@@ -58,7 +58,6 @@
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
-import org.knime.core.data.DataType;
 import org.knime.core.data.MissingCell;
 import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.data.def.DefaultRow;
@@ -96,6 +95,18 @@ public class FixedWidthRowIterator extends CloseableRowIterator {
 
     private boolean m_exceptionThrown;
 
+    // creates the rows from the lines if each line contains one row, otherwise null
+    private FixedWidthLineParser m_lineParser;
+
+    // the line read ahead by hasNext, null if none
+    private String m_line;
+
+    // the number of the line read last (starting at 1)
+    private int m_currentLine;
+
+    // reads the rows with multiple threads, null if they are read by this iterator
+    private ParallelFixedWidthReader m_parallelReader;
+
     /**
      *
      * @param nodeSettings the current node settings
@@ -105,6 +116,19 @@ public class FixedWidthRowIterator extends CloseableRowIterator {
      */
     FixedWidthRowIterator(final FixedWidthFRSettings nodeSettings, final DataTableSpec tableSpec,
         final ExecutionContext exec) throws IOException {
+        this(nodeSettings, tableSpec, exec, false);
+    }
+
+    /**
+     * @param nodeSettings the current node settings
+     * @param tableSpec the DataTableSpec
+     * @param exec the execution context
+     * @param allowParallel if large files may be read with multiple threads (requires an execution context)
+     * @throws IOException thrown by the BufferedFileReader
+     * @see ParallelFixedWidthReader
+     */
+    FixedWidthRowIterator(final FixedWidthFRSettings nodeSettings, final DataTableSpec tableSpec,
+        final ExecutionContext exec, final boolean allowParallel) throws IOException {
 
         m_tableSpec = tableSpec;
         m_nodeSettings = nodeSettings;
@@ -112,7 +136,15 @@ public class FixedWidthRowIterator extends CloseableRowIterator {
         m_lastReport = 0;
 
         m_inputStream = m_nodeSettings.createNewInputReader();
-        m_tokenizer = new FixedWidthTokenizer(m_inputStream, m_nodeSettings);
+        if (allowParallel && exec != null
+            && ParallelFixedWidthReader.supports(m_nodeSettings, tableSpec, m_inputStream)) {
+            m_parallelReader = new ParallelFixedWidthReader(m_nodeSettings, tableSpec, m_inputStream, exec);
+        } else if (FixedWidthLineParser.supports(m_nodeSettings, tableSpec)) {
+            m_lineParser = new FixedWidthLineParser(m_nodeSettings, tableSpec, exec);
+        } else {
+            // a row continues on the next line
+            m_tokenizer = new FixedWidthTokenizer(m_inputStream, m_nodeSettings);
+        }
         m_missingValuePatterns = m_nodeSettings.getMissingValuePatterns();
         m_formatParameters = m_nodeSettings.getFormatParameters();
 
@@ -128,6 +160,10 @@ public class FixedWidthRowIterator extends CloseableRowIterator {
     public boolean hasNext() {
         if (m_exceptionThrown) {
             return false;
+        } else if (m_parallelReader != null) {
+            return m_parallelReader.hasNext();
+        } else if (m_lineParser != null) {
+            return readLine() != null;
         } else {
             String token;
 
@@ -150,6 +186,17 @@ public boolean hasNext() {
      */
     @Override
     public DataRow next() {
+        if (m_parallelReader != null) {
+            try {
+                return m_parallelReader.next();
+            } catch (FileReaderException e) {
+                m_exceptionThrown = true;
+                close();
+                throw e;
+            }
+        } else if (m_lineParser != null) {
+            return nextFromLine();
+        }
 
         int rowLength = m_tableSpec.getNumColumns();
         int createdCols = 0;
@@ -209,13 +256,64 @@ public DataRow next() {
             createdCols++;
         }
 
+        reportProgress();
+        return new DefaultRow(rowHeader, row);
+    }
+
+    /*
+     * Returns the line of the next row, reading it if necessary, or null at the end of the file.
+     */
+    private String readLine() {
+        if (m_line == null) {
+            try {
+                if (m_currentLine == 0 && m_nodeSettings.getHasColHeaders()) {
+                    // skip first row if we have column headers
+                    m_inputStream.readLine();
+                    m_currentLine++;
+                }
+                m_line = m_inputStream.readLine();
+                if (m_line != null) {
+                    m_currentLine++;
+                }
+            } catch (IOException e) {
+                m_exceptionThrown = true;
+                throw FixedWidthLineParser.createException("I/O error while reading '"
+                    + m_nodeSettings.getFileLocation() + "': " + e.getMessage(), m_currentLine, "Row" + m_lineNumber,
+                    new DataCell[m_tableSpec.getNumColumns()]);
+            }
+        }
+        return m_line;
+    }
+
+    /*
+     * Creates the next row from a line, without tokenizing it.
+     */
+    private DataRow nextFromLine() {
+        final String line = readLine();
+        if (line == null) {
+            throw new NoSuchElementException("The row iterator proceeded beyond the last line of '"
+                + m_nodeSettings.getFileLocation().toString() + "'.");
+        }
+        m_line = null;
+        final String rowHeader = m_nodeSettings.getHasRowHeader() ? null : "Row" + m_lineNumber++;
+        final DataRow row;
+        try {
+            row = m_lineParser.parse(line, 0, line.length(), rowHeader, m_currentLine);
+        } catch (FileReaderException e) {
+            m_exceptionThrown = true;
+            throw e;
+        }
+        reportProgress();
+        return row;
+    }
+
+    private void reportProgress() {
         double readBytes = m_inputStream.getNumberOfBytesRead();
         if (m_exec != null && m_inputStream.getFileSize() > 0 && readBytes / PROGRESS_JUNK_SIZE > m_lastReport) {
             // assert readBytes <= m_frSettings.getDataFileSize();
             m_exec.setProgress(readBytes / m_inputStream.getFileSize());
             m_lastReport++;
         }
-        return new DefaultRow(rowHeader, row);
     }
 
     /**
@@ -226,6 +324,9 @@ public DataRow next() {
      */
     @Override
     public void close() {
+        if (m_parallelReader != null) {
+            m_parallelReader.dispose();
+        }
         try {
             m_inputStream.close();
         } catch (IOException ioe) {
@@ -248,19 +349,6 @@ private FileReaderException prepareForException(final String msg, final int line
          */
         m_exceptionThrown = true;
 
-        DataCell[] errCells = new DataCell[cellsRead.length];
-        System.arraycopy(cellsRead, 0, errCells, 0, errCells.length);
-
-        for (int c = 0; c < errCells.length; c++) {
-            if (errCells[c] == null) {
-                errCells[c] = DataType.getMissingCell();
-            }
-        }
-
-        String errRowHeader = "ERROR_ROW (" + rowHeader.toString() + ")";
-
-        DataRow errRow = new DefaultRow(errRowHeader, errCells);
-
-        return new FileReaderException(msg, errRow, lineNumber);
+        return FixedWidthLineParser.createException(msg, lineNumber, rowHeader, cellsRead);
     }
 }
\ No newline at end of file
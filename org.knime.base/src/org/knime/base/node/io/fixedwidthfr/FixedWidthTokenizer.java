@@ -81,6 +81,9 @@ public class FixedWidthTokenizer {
 
     private String m_line;
 
+    // the position of the next token in the line
+    private int m_linePos;
+
     private int m_currentLine;
 
     /**
@@ -133,6 +136,7 @@ public String nextToken() {
             if (m_currentLine == 1 && m_nodeSettings.getHasColHeaders()) {
                 // skip first row if we have column headers
                 m_line = m_inputStream.readLine();
+                m_linePos = 0;
                 m_currentLine++;
                 if (m_line == null) {
                     // EOF
@@ -154,6 +158,7 @@ public String nextToken() {
                 try {
                     m_currentLine++;
                     m_line = m_inputStream.readLine();
+                    m_linePos = 0;
                     m_reachedEndOfLine = false;
                     if (m_line == null) {
                         // EOF
@@ -167,14 +172,16 @@ public String nextToken() {
             include = m_includes[m_currentCol];
             tokenLength = m_colWidths[m_currentCol++];
 
-            if (tokenLength < m_line.length()) {
-                m_lastToken = m_line.substring(0, tokenLength);
-                m_line = m_line.substring(tokenLength, m_line.length());
-            } else if (m_line.length() > 0) {
-                m_lastToken = m_line;
-                m_line = "";
+            // use an offset, copying the remainder of the line for each token is quadratic in the number of columns
+            final int remaining = m_line.length() - m_linePos;
+            if (tokenLength < remaining) {
+                m_lastToken = m_line.substring(m_linePos, m_linePos + tokenLength);
+                m_linePos += tokenLength;
+            } else if (remaining > 0) {
+                m_lastToken = m_line.substring(m_linePos);
+                m_linePos = m_line.length();
             } else {
-                m_lastToken = m_line;
+                m_lastToken = "";
                 m_reachedEndOfLine = true;
             }
 
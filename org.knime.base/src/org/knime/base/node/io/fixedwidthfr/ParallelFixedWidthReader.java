@@ -0,0 +1,388 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.io.fixedwidthfr;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.knime.base.node.io.filereader.FileReaderException;
+import org.knime.base.node.util.BufferedFileReader;
+import org.knime.base.util.concurrent.ThreadPoolUtil;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Reads the rows of a fixed width file with multiple threads. The file is read sequentially and split into chunks of
+ * complete lines. The lines of each chunk are converted into rows by a {@link FixedWidthLineParser} on a thread of
+ * the global thread pool. The rows are returned in the order of the file; the rows, the row IDs and the exceptions
+ * are the same as if the file was read line by line.
+ * <p>
+ * Only settings with one row per line are supported, see
+ * {@link #supports(FixedWidthFRSettings, DataTableSpec, BufferedFileReader)}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ParallelFixedWidthReader {
+
+    /** Files smaller than this (in bytes) are read by a single iterator. */
+    private static final long MIN_FILE_SIZE = 16L * 1024 * 1024;
+
+    /** The minimal number of characters in a chunk. */
+    private static final int CHUNK_SIZE = 1024 * 1024;
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final FixedWidthFRSettings m_nodeSettings;
+
+    private final DataTableSpec m_tableSpec;
+
+    private final BufferedFileReader m_source;
+
+    private final ExecutionContext m_exec;
+
+    private final char[] m_readBuffer = new char[READ_BUFFER_SIZE];
+
+    private final StringBuilder m_buffer = new StringBuilder();
+
+    private final int m_nrThreads;
+
+    private final ThreadPool m_pool;
+
+    // the chunks being parsed, in the order of the file
+    private final ArrayDeque<Future<ParsedChunk>> m_pending;
+
+    private ParsedChunk m_current;
+
+    private int m_currentIndex;
+
+    private boolean m_eof;
+
+    private int m_chunkCount;
+
+    // the number of the first line of the next chunk (starting at 1)
+    private int m_nextLineNumber;
+
+    // the index of the first row of the next chunk
+    private int m_nextRowIndex;
+
+    private boolean m_done;
+
+    /**
+     * @param nodeSettings the settings
+     * @param tableSpec the spec of the rows to create
+     * @param source the source to read from
+     * @param exec the execution context to report the progress to
+     */
+    ParallelFixedWidthReader(final FixedWidthFRSettings nodeSettings, final DataTableSpec tableSpec,
+        final BufferedFileReader source, final ExecutionContext exec) {
+        m_nodeSettings = nodeSettings;
+        m_tableSpec = tableSpec;
+        m_source = source;
+        m_exec = exec;
+        m_nrThreads = ThreadPoolUtil.getMaxThreads();
+        m_pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(m_nrThreads);
+        m_pending = new ArrayDeque<Future<ParsedChunk>>();
+        m_nextLineNumber = 1;
+    }
+
+    /**
+     * @param nodeSettings the settings
+     * @param tableSpec the spec of the rows to create
+     * @param source the source to read from
+     * @return <code>true</code> if the lines can be parsed independently and the file is large enough to pay off
+     */
+    static boolean supports(final FixedWidthFRSettings nodeSettings, final DataTableSpec tableSpec,
+        final BufferedFileReader source) {
+        return source != null && source.getFileSize() >= MIN_FILE_SIZE
+            && ThreadPoolUtil.getMaxThreads() >= 2
+            && FixedWidthLineParser.supports(nodeSettings, tableSpec);
+    }
+
+    /**
+     * @return true if there are more rows, or an exception to throw
+     * @see FixedWidthRowIterator#hasNext()
+     */
+    boolean hasNext() {
+        if (m_done) {
+            return false;
+        }
+        while (m_current == null || m_currentIndex >= m_current.m_rows.size()) {
+            if (m_current != null && m_current.m_exception != null) {
+                // next() throws it
+                return true;
+            }
+            m_current = nextParsedChunk();
+            m_currentIndex = 0;
+            if (m_current == null) {
+                m_done = true;
+                dispose();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the next row
+     * @throws FileReaderException if the row couldn't be created
+     * @see FixedWidthRowIterator#next()
+     */
+    DataRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("The row iterator proceeded beyond the last line of '"
+                + m_nodeSettings.getFileLocation().toString() + "'.");
+        }
+        if (m_currentIndex < m_current.m_rows.size()) {
+            final int index = m_currentIndex++;
+            final DataRow result = m_current.m_rows.get(index);
+            // release the row, the chunk may be large
+            m_current.m_rows.set(index, null);
+            return result;
+        }
+        final FileReaderException exception = m_current.m_exception;
+        m_done = true;
+        dispose();
+        throw exception;
+    }
+
+    /**
+     * Cancels the parsing of the pending chunks.
+     */
+    void dispose() {
+        for (Future<ParsedChunk> future : m_pending) {
+            future.cancel(true);
+        }
+        m_pending.clear();
+        m_current = null;
+    }
+
+    /*
+     * Submits chunks until each thread has one to work on, and returns the parsed first pending chunk.
+     */
+    private ParsedChunk nextParsedChunk() {
+        fillPending();
+        final Future<ParsedChunk> future = m_pending.poll();
+        if (future == null) {
+            return null;
+        }
+        final ParsedChunk result;
+        try {
+            result = ThreadPoolUtil.waitFor(m_pool, future);
+        } catch (ExecutionException e) {
+            dispose();
+            throw new IllegalStateException(ThreadPoolUtil.throwIfUnchecked(e));
+        } catch (InterruptedException e) {
+            dispose();
+            throw createInterruptedException();
+        }
+        fillPending();
+        if (m_source.getFileSize() > 0) {
+            m_exec.setProgress(result.m_chunk.m_bytesRead / (double)m_source.getFileSize());
+        }
+        return result;
+    }
+
+    private FileReaderException createInterruptedException() {
+        Thread.currentThread().interrupt();
+        return new FileReaderException("Reading '" + m_nodeSettings.getFileLocation() + "' was interrupted.", null,
+            -1);
+    }
+
+    private void fillPending() {
+        while (m_pending.size() < m_nrThreads) {
+            final Chunk chunk;
+            try {
+                chunk = nextChunk();
+            } catch (IOException e) {
+                dispose();
+                throw new FileReaderException("I/O error while reading '" + m_nodeSettings.getFileLocation() + "': "
+                    + e.getMessage(), null, -1);
+            }
+            if (chunk == null) {
+                return;
+            }
+            m_pending.add(m_pool.enqueue(() -> parse(chunk)));
+        }
+    }
+
+    /*
+     * Reads the next chunk of complete lines from the source, null at the end of the source. A chunk ends after a
+     * line feed; a carriage return before it is part of the line terminator, like BufferedFileReader#readLine
+     * treats it.
+     */
+    private Chunk nextChunk() throws IOException {
+        int cut = -1;
+        while (cut < 0) {
+            if (m_buffer.length() >= CHUNK_SIZE) {
+                cut = m_buffer.lastIndexOf("\n");
+                cut = cut < 0 ? -1 : cut + 1;
+            }
+            if (cut < 0) {
+                if (m_eof) {
+                    cut = m_buffer.length();
+                } else {
+                    final int read = m_source.read(m_readBuffer);
+                    if (read < 0) {
+                        m_eof = true;
+                    } else {
+                        m_buffer.append(m_readBuffer, 0, read);
+                    }
+                }
+            }
+        }
+        if (cut == 0) {
+            return null;
+        }
+        final String text = m_buffer.substring(0, cut);
+        m_buffer.delete(0, cut);
+        final boolean skipFirstLine = m_chunkCount++ == 0 && m_nodeSettings.getHasColHeaders();
+        final Chunk chunk = new Chunk(text, m_nextLineNumber, m_nextRowIndex, skipFirstLine,
+            m_source.getNumberOfBytesRead());
+        int lines = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                lines++;
+            }
+        }
+        if (text.charAt(text.length() - 1) != '\n') {
+            // the last line of the file without line terminator
+            lines++;
+        }
+        m_nextLineNumber += lines;
+        m_nextRowIndex += skipFirstLine ? lines - 1 : lines;
+        return chunk;
+    }
+
+    /*
+     * Converts the lines of the chunk into rows. Stops at the first error.
+     */
+    private ParsedChunk parse(final Chunk chunk) {
+        final FixedWidthLineParser parser = new FixedWidthLineParser(m_nodeSettings, m_tableSpec, m_exec);
+        final boolean hasRowHeader = m_nodeSettings.getHasRowHeader();
+        final String text = chunk.m_text;
+        final List<DataRow> rows = new ArrayList<DataRow>();
+        int lineNumber = chunk.m_firstLineNumber;
+        int rowIndex = chunk.m_firstRowIndex;
+        int start = 0;
+        while (start < text.length()) {
+            int next = text.indexOf('\n', start);
+            next = next < 0 ? text.length() : next + 1;
+            int end = next;
+            if (end > start && text.charAt(end - 1) == '\n') {
+                end--;
+            }
+            if (end > start && text.charAt(end - 1) == '\r') {
+                end--;
+            }
+            if (!(chunk.m_skipFirstLine && start == 0)) {
+                final String rowID = hasRowHeader ? null : "Row" + rowIndex++;
+                try {
+                    rows.add(parser.parse(text, start, end, rowID, lineNumber));
+                } catch (FileReaderException e) {
+                    return new ParsedChunk(chunk, rows, e);
+                }
+            }
+            lineNumber++;
+            start = next;
+        }
+        return new ParsedChunk(chunk, rows, null);
+    }
+
+    /** A part of the file starting at the beginning of a line. */
+    private static final class Chunk {
+
+        private final String m_text;
+
+        // the number of the first line of the chunk in the file (starting at 1)
+        private final int m_firstLineNumber;
+
+        // the index of the first row of the chunk, for the row IDs
+        private final int m_firstRowIndex;
+
+        // if the first line contains the column headers
+        private final boolean m_skipFirstLine;
+
+        // the number of bytes read from the source after the chunk was read
+        private final long m_bytesRead;
+
+        Chunk(final String text, final int firstLineNumber, final int firstRowIndex,
+            final boolean skipFirstLine, final long bytesRead) {
+            m_text = text;
+            m_firstLineNumber = firstLineNumber;
+            m_firstRowIndex = firstRowIndex;
+            m_skipFirstLine = skipFirstLine;
+            m_bytesRead = bytesRead;
+        }
+    }
+
+    /** The rows of a chunk. */
+    private static final class ParsedChunk {
+
+        private final Chunk m_chunk;
+
+        private final List<DataRow> m_rows;
+
+        // the error after the rows, null if all lines were converted
+        private final FileReaderException m_exception;
+
+        ParsedChunk(final Chunk chunk, final List<DataRow> rows, final FileReaderException exception) {
+            m_chunk = chunk;
+            m_rows = rows;
+            m_exception = exception;
+        }
+    }
+}
@@ -50,13 +50,11 @@
 import java.net.URL;
 
 import org.apache.commons.lang.StringUtils;
-import org.knime.base.node.util.BufferedFileReader;
 import org.knime.core.data.DataColumnSpecCreator;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.RowKey;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.StringCell;
-import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
@@ -65,12 +63,22 @@
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.BufferedDataTableRowOutput;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
 import org.knime.core.node.util.CheckUtils;
 
 /** Model implementation of the line reader node.
  * @author Bernd Wiswedel, KNIME AG, Zurich, Switzerland
  */
 final class LineReaderNodeModel extends NodeModel {
+    /** The number of rows after which the progress is updated. */
+    private static final int PROGRESS_INTERVAL = 1000;
+
     private LineReaderConfig m_config;
 
     /** No input, one output. */
@@ -89,53 +97,67 @@ protected DataTableSpec[] configure(final DataTableSpec[] inSpecs)
     @Override
     protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
             final ExecutionContext exec) throws Exception {
-        URL url = m_config.getURL();
-        BufferedDataContainer container;
-        try (BufferedFileReader fileReader = BufferedFileReader.createNewReader(url)) {
-            DataTableSpec spec = createOutputSpec(fileReader);
-            container = exec.createDataContainer(spec);
-            try {
-                long fileSize = fileReader.getFileSize();
-                int currentRow = 0;
-                final int limitRows = m_config.getLimitRowCount();
-                final boolean isSkipEmpty = m_config.isSkipEmptyLines();
-                final boolean matchRegex = !"".equals(m_config.getRegex());
-                String line;
-                String rowPrefix = m_config.getRowPrefix();
-                while ((line = fileReader.readLine()) != null) {
-                    String progMessage = "Reading row " + (currentRow + 1);
-                    if (fileSize > 0) {
-                        long numberOfBytesRead = fileReader.getNumberOfBytesRead();
-                        double prog = (double)numberOfBytesRead / fileSize;
-                        exec.setProgress(prog, progMessage);
-                    } else {
-                        exec.setMessage(progMessage);
-                    }
-                    exec.checkCanceled();
-                    if (isSkipEmpty && line.trim().length() == 0) {
-                        // do not increment currentRow
-                        continue;
-                    }
-                    if (matchRegex && !line.matches(m_config.getRegex())) {
-                        //do not increment currentRow
-                        continue;
-                    }
-                    if (limitRows > 0 && currentRow >= limitRows) {
-                        setWarningMessage("Read only " + limitRows + " row(s) due to user settings.");
-                        break;
+        DataTableSpec spec;
+        try (ParallelLineReader reader = openReader()) {
+            spec = createOutputSpec(reader);
+        }
+        BufferedDataTableRowOutput output = new BufferedDataTableRowOutput(exec.createDataContainer(spec));
+        createStreamableOperator(null, null).runFinal(new PortInput[0], new PortOutput[] {output}, exec);
+        return new BufferedDataTable[] {output.getDataTable()};
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+            final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        return new StreamableOperator() {
+
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs,
+                    final ExecutionContext exec) throws Exception {
+                RowOutput output = (RowOutput)outputs[0];
+                try (ParallelLineReader reader = openReader()) {
+                    // skips the column header
+                    createOutputSpec(reader);
+                    long currentRow = 0;
+                    final int limitRows = m_config.getLimitRowCount();
+                    String line;
+                    String rowPrefix = m_config.getRowPrefix();
+                    while ((line = reader.readLine()) != null) {
+                        if (currentRow % PROGRESS_INTERVAL == 0) {
+                            final long row = currentRow + 1;
+                            double prog = reader.getProgress();
+                            if (prog >= 0) {
+                                exec.setProgress(prog, () -> "Reading row " + row);
+                            } else {
+                                exec.setMessage(() -> "Reading row " + row);
+                            }
+                        }
+                        exec.checkCanceled();
+                        if (limitRows > 0 && currentRow >= limitRows) {
+                            setWarningMessage("Read only " + limitRows + " row(s) due to user settings.");
+                            break;
+                        }
+                        RowKey key = new RowKey(rowPrefix + (currentRow++));
+                        DefaultRow row = new DefaultRow(key, new StringCell(line));
+                        output.push(row);
                     }
-                    RowKey key = new RowKey(rowPrefix + (currentRow++));
-                    DefaultRow row = new DefaultRow(key, new StringCell(line));
-                    container.addRowToTable(row);
+                } finally {
+                    output.close();
                 }
-            } finally {
-                container.close();
             }
-        }
-        return new BufferedDataTable[] {container.getTable()};
+        };
     }
 
-    private DataTableSpec createOutputSpec(final BufferedFileReader fileReader) throws InvalidSettingsException {
+    private ParallelLineReader openReader() throws InvalidSettingsException, IOException {
+        CheckUtils.checkSettingNotNull(m_config, "No source location provided! Please enter a valid location.");
+        return ParallelLineReader.open(m_config.getURL(), m_config.isSkipEmptyLines(), m_config.getRegex());
+    }
+
+    /*
+     * Reads the column header from the reader if it's to be read, the reader is null during configure.
+     */
+    private DataTableSpec createOutputSpec(final ParallelLineReader reader) throws InvalidSettingsException {
         CheckUtils.checkSettingNotNull(m_config, "No source location provided! Please enter a valid location.");
         final URL url = m_config.getURL();
         String warning = CheckUtils.checkSourceFile(url.toString());
@@ -144,13 +166,11 @@ private DataTableSpec createOutputSpec(final BufferedFileReader fileReader) thro
         }
         String colName;
         if (m_config.isReadColumnHeader()) {
-            if (fileReader == null) { // during configure time
+            if (reader == null) { // during configure time
                 return null;
             }
-            final boolean isSkipEmpty = m_config.isSkipEmptyLines();
             try {
-                while ((colName = fileReader.readLine()) != null && isSkipEmpty && colName.trim().length() == 0) {
-                }
+                colName = reader.readHeader();
             } catch (IOException e) {
                 throw new InvalidSettingsException(e);
             }
@@ -0,0 +1,461 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.io.linereader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+import org.knime.base.node.util.BufferedFileReader;
+import org.knime.base.util.concurrent.ThreadPoolUtil;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.FileUtil;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Reads the lines of a file for the Line Reader node, skipping empty lines and lines not matching the regular
+ * expression if requested. Lines end with a line feed; a carriage return before it is removed, like
+ * {@link BufferedFileReader#readLine()} does.
+ * <p>
+ * Local uncompressed files in a charset in which a line feed byte is always a line feed (such as UTF-8 or the
+ * ISO-8859 charsets) are read in chunks of bytes. The line feeds are searched in the bytes, the lines are decoded
+ * and filtered on the threads of the global thread pool, and the lines are returned in the order of the file. Other
+ * sources are read by a {@link BufferedFileReader}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ParallelLineReader implements Closeable {
+
+    /** The number of bytes of a chunk. */
+    private static final int CHUNK_SIZE = 4 * 1024 * 1024;
+
+    /** The number of bytes read at a time for a line continuing after the end of its chunk. */
+    private static final int READ_SIZE = 64 * 1024;
+
+    private final boolean m_skipEmpty;
+
+    // null if all lines are accepted
+    private final Pattern m_regex;
+
+    // the reader if the file is not read in chunks
+    private final BufferedFileReader m_fileReader;
+
+    private final FileChannel m_channel;
+
+    private final Charset m_charset;
+
+    private final long m_size;
+
+    // null if the chunks are parsed by the calling thread
+    private final ThreadPool m_pool;
+
+    private final int m_maxPending;
+
+    // the chunks being parsed, in the order of the file
+    private final ArrayDeque<Future<Chunk>> m_pending = new ArrayDeque<Future<Chunk>>();
+
+    private long m_nextChunkStart;
+
+    private Chunk m_current;
+
+    private int m_currentIndex;
+
+    private double m_progress;
+
+    private ParallelLineReader(final BufferedFileReader fileReader, final boolean skipEmpty, final Pattern regex) {
+        m_fileReader = fileReader;
+        m_skipEmpty = skipEmpty;
+        m_regex = regex;
+        m_channel = null;
+        m_charset = null;
+        m_size = fileReader.getFileSize();
+        m_pool = null;
+        m_maxPending = 0;
+        m_progress = -1;
+    }
+
+    private ParallelLineReader(final FileChannel channel, final Charset charset, final boolean skipEmpty,
+        final Pattern regex) throws IOException {
+        m_fileReader = null;
+        m_skipEmpty = skipEmpty;
+        m_regex = regex;
+        m_channel = channel;
+        m_charset = charset;
+        m_size = channel.size();
+        final int nrThreads = ThreadPoolUtil.getMaxThreads();
+        if (nrThreads > 1 && m_size > CHUNK_SIZE) {
+            m_pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(nrThreads);
+            // keep the threads busy while the rows of the first pending chunk are processed
+            m_maxPending = 2 * nrThreads;
+        } else {
+            m_pool = null;
+            m_maxPending = 0;
+        }
+    }
+
+    /**
+     * Opens the source, in the default charset.
+     *
+     * @param url the location of the file
+     * @param skipEmpty whether lines containing only white spaces are skipped
+     * @param regex the regular expression the lines must match, <code>null</code> or empty to accept all lines
+     * @return a new reader
+     * @throws IOException if the file can't be opened
+     */
+    static ParallelLineReader open(final URL url, final boolean skipEmpty, final String regex) throws IOException {
+        final Pattern pattern = regex == null || regex.isEmpty() ? null : Pattern.compile(regex);
+        final Charset charset = Charset.defaultCharset();
+        final File file = FileUtil.getFileFromURL(url);
+        if (file != null && file.isFile() && isLineFeedSafe(charset)) {
+            final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+            if (!isCompressed(channel)) {
+                return new ParallelLineReader(channel, charset, skipEmpty, pattern);
+            }
+            channel.close();
+        }
+        return new ParallelLineReader(BufferedFileReader.createNewReader(url), skipEmpty, pattern);
+    }
+
+    /*
+     * True if the byte of a line feed only occurs as line feed in the charset, and a carriage return is encoded
+     * like in ASCII.
+     */
+    private static boolean isLineFeedSafe(final Charset charset) {
+        if (!charset.equals(StandardCharsets.UTF_8) && charset.newEncoder().maxBytesPerChar() != 1) {
+            return false;
+        }
+        return Arrays.equals("\n\r".getBytes(charset), new byte[]{'\n', '\r'});
+    }
+
+    /*
+     * The BufferedFileReader decompresses gzip and zip files.
+     */
+    private static boolean isCompressed(final FileChannel channel) throws IOException {
+        final ByteBuffer magic = ByteBuffer.allocate(2);
+        while (magic.hasRemaining() && channel.read(magic, magic.position()) >= 0) {
+            // read the first two bytes
+        }
+        if (magic.position() < 2) {
+            return false;
+        }
+        final int first = magic.get(0) & 0xff;
+        final int second = magic.get(1) & 0xff;
+        return (first == 0x1f && second == 0x8b) || (first == 'P' && second == 'K');
+    }
+
+    /**
+     * Reads the column header, must be called before the first line is read. The column header is the first line
+     * (or the first non-empty line if empty lines are skipped), it is neither filtered nor returned by
+     * {@link #readLine()}.
+     *
+     * @return the column header, <code>null</code> if the file has no (non-empty) line
+     * @throws IOException if the file can't be read
+     */
+    String readHeader() throws IOException {
+        if (m_fileReader != null) {
+            String line;
+            while ((line = m_fileReader.readLine()) != null && m_skipEmpty && isBlank(line)) {
+                // skip empty lines
+            }
+            return line;
+        }
+        Chunk chunk;
+        while ((chunk = nextChunk()) != null) {
+            if (chunk.m_hasFirstLine) {
+                m_current = chunk;
+                // lines before the first line of the chunk are not accepted
+                m_currentIndex = chunk.m_firstLineAccepted ? 1 : 0;
+                return chunk.m_firstLine;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the next line that is accepted by the filters, <code>null</code> at the end of the file
+     * @throws IOException if the file can't be read
+     */
+    String readLine() throws IOException {
+        if (m_fileReader != null) {
+            String line;
+            while ((line = m_fileReader.readLine()) != null && !accept(line)) {
+                // skip filtered lines
+            }
+            return line;
+        }
+        while (m_current == null || m_currentIndex >= m_current.m_lines.size()) {
+            m_current = nextChunk();
+            m_currentIndex = 0;
+            if (m_current == null) {
+                return null;
+            }
+        }
+        final int index = m_currentIndex++;
+        final String line = m_current.m_lines.get(index);
+        // release the line, the chunk may be large
+        m_current.m_lines.set(index, null);
+        return line;
+    }
+
+    /**
+     * @return the fraction of the file read, negative if unknown
+     */
+    double getProgress() {
+        if (m_fileReader != null) {
+            return m_size > 0 ? m_fileReader.getNumberOfBytesRead() / (double)m_size : -1;
+        }
+        return m_progress;
+    }
+
+    /**
+     * Cancels the parsing of the pending chunks and closes the file.
+     *
+     * @throws IOException if closing the file fails
+     */
+    @Override
+    public void close() throws IOException {
+        for (Future<Chunk> future : m_pending) {
+            future.cancel(true);
+        }
+        m_pending.clear();
+        m_current = null;
+        if (m_fileReader != null) {
+            m_fileReader.close();
+        } else {
+            m_channel.close();
+        }
+    }
+
+    private boolean accept(final String line) {
+        if (m_skipEmpty && isBlank(line)) {
+            return false;
+        }
+        return m_regex == null || m_regex.matcher(line).matches();
+    }
+
+    private static boolean isBlank(final String line) {
+        return line.trim().isEmpty();
+    }
+
+    /*
+     * Returns the parsed next chunk, null at the end of the file.
+     */
+    private Chunk nextChunk() throws IOException {
+        if (m_pool == null) {
+            if (m_nextChunkStart >= m_size) {
+                return null;
+            }
+            final Chunk chunk = parse(m_nextChunkStart);
+            m_nextChunkStart = chunk.m_end;
+            m_progress = chunk.m_end / (double)m_size;
+            return chunk;
+        }
+        while (m_pending.size() < m_maxPending && m_nextChunkStart < m_size) {
+            final long start = m_nextChunkStart;
+            m_pending.add(m_pool.enqueue(() -> parse(start)));
+            m_nextChunkStart = Math.min(m_size, start + CHUNK_SIZE);
+        }
+        final Future<Chunk> future = m_pending.poll();
+        if (future == null) {
+            return null;
+        }
+        final Chunk chunk = waitFor(future);
+        m_progress = chunk.m_end / (double)m_size;
+        return chunk;
+    }
+
+    private Chunk waitFor(final Future<Chunk> future) throws IOException {
+        try {
+            return ThreadPoolUtil.waitFor(m_pool, future);
+        } catch (ExecutionException e) {
+            final Exception cause = ThreadPoolUtil.throwIfUnchecked(e);
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Reading the file was interrupted.", e);
+        }
+    }
+
+    /*
+     * Decodes and filters the lines starting in the chunk of bytes beginning at the start position. The last line
+     * may end after the chunk. Called by the worker threads.
+     */
+    private Chunk parse(final long start) throws IOException {
+        final long end = Math.min(m_size, start + CHUNK_SIZE);
+        // the byte before the chunk tells whether a line starts at its beginning
+        final long from = start == 0 ? 0 : start - 1;
+        final byte[] buf = new byte[(int)(end - from)];
+        read(buf, 0, buf.length, from);
+        final Chunk chunk = new Chunk(end);
+        int s = 0;
+        if (start > 0) {
+            final int lf = indexOfLineFeed(buf, 0, buf.length);
+            if (lf < 0) {
+                // a line covering the entire chunk
+                return chunk;
+            }
+            s = lf + 1;
+        }
+        while (s < buf.length) {
+            final int lf = indexOfLineFeed(buf, s, buf.length);
+            if (lf < 0) {
+                add(chunk, readLastLine(buf, s, end));
+                break;
+            }
+            add(chunk, decode(buf, s, lf));
+            s = lf + 1;
+        }
+        return chunk;
+    }
+
+    private void add(final Chunk chunk, final String line) {
+        final boolean accepted = accept(line);
+        if (!chunk.m_hasFirstLine && !(m_skipEmpty && isBlank(line))) {
+            chunk.m_hasFirstLine = true;
+            chunk.m_firstLine = line;
+            chunk.m_firstLineAccepted = accepted;
+        }
+        if (accepted) {
+            chunk.m_lines.add(line);
+        }
+    }
+
+    /*
+     * Decodes the line starting at the position in the buffer and continuing after the end of the buffer, which is
+     * at the position end of the file.
+     */
+    private String readLastLine(final byte[] buf, final int s, final long end) throws IOException {
+        final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        line.write(buf, s, buf.length - s);
+        final byte[] next = new byte[READ_SIZE];
+        long pos = end;
+        while (pos < m_size) {
+            final int length = (int)Math.min(next.length, m_size - pos);
+            read(next, 0, length, pos);
+            final int lf = indexOfLineFeed(next, 0, length);
+            if (lf >= 0) {
+                line.write(next, 0, lf);
+                break;
+            }
+            line.write(next, 0, length);
+            pos += length;
+        }
+        final byte[] bytes = line.toByteArray();
+        return decode(bytes, 0, bytes.length);
+    }
+
+    private void read(final byte[] buf, final int offset, final int length, final long position) throws IOException {
+        final ByteBuffer target = ByteBuffer.wrap(buf, offset, length);
+        while (target.hasRemaining()) {
+            if (m_channel.read(target, position + target.position() - offset) < 0) {
+                throw new IOException("Unexpected end of file.");
+            }
+        }
+    }
+
+    /*
+     * A plain loop over the bytes, the JIT compiles it to a tight (unrolled) loop.
+     */
+    private static int indexOfLineFeed(final byte[] buf, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            if (buf[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /*
+     * Decodes the bytes of a line without its line feed, and removes a trailing carriage return.
+     */
+    private String decode(final byte[] buf, final int from, final int to) {
+        int lineEnd = to;
+        if (lineEnd > from && buf[lineEnd - 1] == '\r') {
+            lineEnd--;
+        }
+        return new String(buf, from, lineEnd - from, m_charset);
+    }
+
+    /** The accepted lines starting in a chunk of bytes. */
+    private static final class Chunk {
+
+        // the end of the chunk in the file
+        private final long m_end;
+
+        private final List<String> m_lines = new ArrayList<String>();
+
+        // the first line of the chunk that is not skipped as empty line, the column header if it's the first one
+        private boolean m_hasFirstLine;
+
+        private String m_firstLine;
+
+        private boolean m_firstLineAccepted;
+
+        Chunk(final long end) {
+            m_end = end;
+        }
+    }
+}
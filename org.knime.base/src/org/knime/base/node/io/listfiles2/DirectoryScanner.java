@@ -0,0 +1,400 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.io.listfiles2;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.SoftReference;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Lists the files in a local directory tree. The directories are listed in parallel by the tasks of a fork-join
+ * pool, while the files found are returned by an iterator in the order of a depth first traversal, each directory in
+ * the order of its directory stream (the order of {@link Files#walk(Path, java.nio.file.FileVisitOption...)}). Only
+ * the files whose name is accepted by the filter are kept.
+ * <p>
+ * At most as many directories as the pool has threads are listed ahead of the iterator. Further sub directories are
+ * started once the iterator consumed a listing, or listed by the iterator itself when it reaches them, hence the
+ * memory is bounded by the depth of the tree rather than its size.
+ * <p>
+ * Optionally the listing of each directory is cached in memory together with the modification time of the
+ * directory. A directory whose modification time didn't change since it was listed is not listed again; a file
+ * system changes the modification time of a directory when an entry is added, removed or renamed. The cache holds
+ * the listings of the {@link #MAX_CACHED_DIRECTORIES} most recently listed directories.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class DirectoryScanner implements AutoCloseable {
+
+    /**
+     * Listings of directories modified less than this many milliseconds before they were listed are not cached, as
+     * some file systems store the modification time with a resolution of seconds only.
+     */
+    private static final long MIN_CACHE_AGE = 2000;
+
+    private static final byte OTHER = 0;
+
+    private static final byte FILE = 1;
+
+    private static final byte DIRECTORY = 2;
+
+    /** The largest number of directories whose listing is cached. */
+    private static final int MAX_CACHED_DIRECTORIES = 100000;
+
+    /** The cached listings, least recently used first, released if memory gets low. */
+    private static final Map<Path, SoftReference<Listing>> CACHE =
+        Collections.synchronizedMap(new LinkedHashMap<Path, SoftReference<Listing>>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Path, SoftReference<Listing>> eldest) {
+                return size() > MAX_CACHED_DIRECTORIES;
+            }
+        });
+
+    private final Predicate<String> m_nameFilter;
+
+    private final boolean m_recursive;
+
+    private final boolean m_useCache;
+
+    private final ForkJoinPool m_pool;
+
+    // the number of directory tasks started and not yet consumed by the iterator
+    private final AtomicInteger m_started = new AtomicInteger();
+
+    /**
+     * @param nameFilter accepts the names of the files to return
+     * @param recursive whether to list the sub directories as well
+     * @param useCache whether to reuse the listings of unmodified directories
+     */
+    DirectoryScanner(final Predicate<String> nameFilter, final boolean recursive, final boolean useCache) {
+        m_nameFilter = nameFilter;
+        m_recursive = recursive;
+        m_useCache = useCache;
+        // listing directories is mostly waiting for the (network) file system
+        m_pool = new ForkJoinPool(Math.max(4, 2 * Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Starts listing the directory.
+     *
+     * @param root the directory to list
+     * @return the files in the directory (and its sub directories) accepted by the filter; the iterator throws an
+     *         {@link UncheckedIOException} if a directory can't be listed
+     */
+    Iterator<Path> scan(final Path root) {
+        final DirectoryTask task = new DirectoryTask(root);
+        tryStart(task);
+        return new FileIterator(task);
+    }
+
+    /*
+     * Starts listing the directory on the pool unless as many directories as the pool has threads are listed ahead
+     * of the iterator already.
+     */
+    private void tryStart(final DirectoryTask task) {
+        if (m_started.incrementAndGet() > m_pool.getParallelism()) {
+            m_started.decrementAndGet();
+            return;
+        }
+        task.m_started = true;
+        if (ForkJoinTask.getPool() == m_pool) {
+            task.fork();
+        } else {
+            m_pool.execute(task);
+        }
+    }
+
+    /*
+     * Returns the entries of the directory, waits for the task if it was started, lists it in the current thread
+     * otherwise.
+     */
+    private List<Entry> consume(final DirectoryTask task) {
+        if (!task.m_started) {
+            return task.compute();
+        }
+        try {
+            // rethrows the exception of the task
+            return task.join();
+        } finally {
+            m_started.decrementAndGet();
+        }
+    }
+
+    /**
+     * Stops listing the directories.
+     */
+    @Override
+    public void close() {
+        m_pool.shutdownNow();
+    }
+
+    /** Returns the files found by the tasks in the order of a depth first traversal. */
+    private final class FileIterator implements Iterator<Path> {
+
+        // the listed directories being traversed, the current one on top
+        private final ArrayDeque<Cursor> m_stack = new ArrayDeque<Cursor>();
+
+        private DirectoryTask m_nextDirectory;
+
+        private Path m_next;
+
+        FileIterator(final DirectoryTask root) {
+            m_nextDirectory = root;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (m_next == null) {
+                if (m_nextDirectory != null) {
+                    m_stack.push(new Cursor(consume(m_nextDirectory)));
+                    m_nextDirectory = null;
+                }
+                if (m_stack.isEmpty()) {
+                    return false;
+                }
+                final Cursor top = m_stack.peek();
+                if (top.m_pos >= top.m_entries.size()) {
+                    m_stack.pop();
+                    continue;
+                }
+                top.startAhead();
+                final Entry entry = top.m_entries.get(top.m_pos++);
+                if (entry.m_directory != null) {
+                    m_nextDirectory = entry.m_directory;
+                } else {
+                    m_next = entry.m_file;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Path next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Path result = m_next;
+            m_next = null;
+            return result;
+        }
+    }
+
+    /** The entries of a listed directory and the position of the iterator in them. */
+    private final class Cursor {
+
+        private final List<Entry> m_entries;
+
+        private int m_pos;
+
+        // the position up to which the sub directories were started
+        private int m_startPos;
+
+        Cursor(final List<Entry> entries) {
+            m_entries = entries;
+        }
+
+        /*
+         * Starts the next sub directories not yet started, as long as the number of started directories permits.
+         */
+        void startAhead() {
+            m_startPos = Math.max(m_startPos, m_pos);
+            while (m_startPos < m_entries.size() && m_started.get() < m_pool.getParallelism()) {
+                final DirectoryTask task = m_entries.get(m_startPos++).m_directory;
+                if (task != null && !task.m_started) {
+                    tryStart(task);
+                }
+            }
+        }
+    }
+
+    /** Lists a directory, and starts the tasks listing its sub directories if the pool has capacity left. */
+    private final class DirectoryTask extends RecursiveTask<List<Entry>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Path m_dir;
+
+        // whether the task was forked, set before by the thread that created the task or by the iterator
+        private boolean m_started;
+
+        DirectoryTask(final Path dir) {
+            m_dir = dir;
+        }
+
+        @Override
+        protected List<Entry> compute() {
+            final Listing listing;
+            try {
+                listing = getListing(m_dir);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            final List<Entry> result = new ArrayList<Entry>();
+            for (int i = 0; i < listing.m_names.length; i++) {
+                final byte kind = listing.m_kinds[i];
+                if (kind == FILE && m_nameFilter.test(listing.m_names[i])) {
+                    result.add(new Entry(m_dir.resolve(listing.m_names[i]), null));
+                } else if (kind == DIRECTORY && m_recursive) {
+                    final DirectoryTask task = new DirectoryTask(m_dir.resolve(listing.m_names[i]));
+                    tryStart(task);
+                    result.add(new Entry(null, task));
+                }
+            }
+            return result;
+        }
+    }
+
+    /*
+     * Returns the names and kinds of the entries of the directory, from the cache if possible.
+     */
+    private Listing getListing(final Path dir) throws IOException {
+        if (!m_useCache) {
+            return list(dir);
+        }
+        final long modified = Files.getLastModifiedTime(dir).toMillis();
+        final SoftReference<Listing> ref = CACHE.get(dir);
+        final Listing cached = ref == null ? null : ref.get();
+        if (cached != null && cached.m_modified == modified) {
+            return cached;
+        }
+        final long now = System.currentTimeMillis();
+        final Listing listing = list(dir);
+        listing.m_modified = modified;
+        if (now - modified >= MIN_CACHE_AGE) {
+            CACHE.put(dir, new SoftReference<Listing>(listing));
+        } else if (ref != null) {
+            CACHE.remove(dir);
+        }
+        return listing;
+    }
+
+    private static Listing list(final Path dir) throws IOException {
+        final List<String> names = new ArrayList<String>();
+        final List<Byte> kinds = new ArrayList<Byte>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path entry : stream) {
+                names.add(entry.getFileName().toString());
+                kinds.add(kindOf(entry));
+            }
+        }
+        final Listing listing = new Listing(names.toArray(new String[names.size()]), new byte[kinds.size()]);
+        for (int i = 0; i < listing.m_kinds.length; i++) {
+            listing.m_kinds[i] = kinds.get(i);
+        }
+        return listing;
+    }
+
+    /*
+     * Like Files#walk, symbolic links to directories are not followed, symbolic links to files are returned.
+     */
+    private static byte kindOf(final Path entry) {
+        try {
+            final BasicFileAttributes attrs =
+                Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            if (attrs.isDirectory()) {
+                return DIRECTORY;
+            } else if (attrs.isRegularFile()) {
+                return FILE;
+            } else if (attrs.isSymbolicLink() && Files.isRegularFile(entry)) {
+                return FILE;
+            }
+        } catch (IOException e) {
+            // deleted in the meantime
+        }
+        return OTHER;
+    }
+
+    /** The entries of a directory. */
+    private static final class Listing {
+
+        private final String[] m_names;
+
+        private final byte[] m_kinds;
+
+        // the modification time of the directory when it was listed
+        private long m_modified;
+
+        Listing(final String[] names, final byte[] kinds) {
+            m_names = names;
+            m_kinds = kinds;
+        }
+    }
+
+    /** A file or a directory in a listing. */
+    private static final class Entry {
+
+        private final Path m_file;
+
+        private final DirectoryTask m_directory;
+
+        Entry(final Path file, final DirectoryTask directory) {
+            m_file = file;
+            m_directory = directory;
+        }
+    }
+}
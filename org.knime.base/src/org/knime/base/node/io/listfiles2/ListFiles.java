@@ -46,12 +46,15 @@
 package org.knime.base.node.io.listfiles2;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLDecoder;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -65,10 +68,11 @@
 import org.knime.core.data.RowKey;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.StringCell;
-import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.streamable.BufferedDataTableRowOutput;
+import org.knime.core.node.streamable.RowOutput;
 import org.knime.core.util.FileUtil;
 
 /**
@@ -95,10 +99,10 @@ public enum Filter {
     /** RowId counter. */
     private long m_currentRowID;
 
-    /** Output container. */
-    private BufferedDataContainer m_dc;
+    /** Output. */
+    private RowOutput m_output;
 
-    /** extensions in case of extension filter. */
+    /** extensions in case of extension filter, lower case if the filter is case insensitive. */
     private String[] m_extensions;
 
     /** regular expression in case of an wildcard or
@@ -121,8 +125,20 @@ public enum Filter {
      */
     public BufferedDataTable search(
             final ExecutionContext exec) throws Exception {
+        BufferedDataTableRowOutput output = new BufferedDataTableRowOutput(exec.createDataContainer(SPEC));
+        search(output, exec);
+        return output.getDataTable();
+    }
+
+    /** Searches file system according to settings, and pushes the search hits as soon as they are found.
+     * @param output The output receiving the search hits, closed when the search is done.
+     * @param exec Progress/cancelation
+     * @throws Exception If anything goes wrong.
+     * @since 3.8
+     */
+    public void search(final RowOutput output, final ExecutionContext exec) throws Exception {
         Collection<URL> roots = m_settings.getRootsFromLocationString();
-        m_dc = exec.createDataContainer(SPEC);
+        m_output = output;
         String extString = m_settings.getExtensionsString();
         Filter filter = m_settings.getFilter();
         switch (filter) {
@@ -131,6 +147,11 @@ public BufferedDataTable search(
         case Extensions:
             // extensions had to be splitted
             m_extensions = extString.split(";");
+            if (!m_settings.isCaseSensitive()) {
+                for (int i = 0; i < m_extensions.length; i++) {
+                    m_extensions[i] = m_extensions[i].toLowerCase();
+                }
+            }
             break;
         case RegExp:
             // no break;
@@ -153,25 +174,57 @@ public BufferedDataTable search(
             // transform wildcard to regExp.
         }
         m_currentRowID = 0;
-        for (URL u : roots) {
-            exec.setProgress("Scanning " + ("file".equalsIgnoreCase(u.getProtocol()) ? u.getPath() : u));
-            addLocation(u, exec, true);
+        try (DirectoryScanner scanner =
+            new DirectoryScanner(this::satisfiesFilter, m_settings.isRecursive(), m_settings.isCacheListings())) {
+            for (URL u : roots) {
+                exec.setProgress("Scanning " + ("file".equalsIgnoreCase(u.getProtocol()) ? u.getPath() : u));
+                if ("file".equalsIgnoreCase(u.getProtocol())) {
+                    addLocation(scanner, Paths.get(u.toURI()), exec);
+                } else {
+                    addLocation(u, exec, true);
+                }
+            }
         }
 
-        m_dc.close();
-        return m_dc.getTable();
+        m_output.close();
+    }
+
+    /**
+     * Adds all files of a given local folder to the output table, as they are found.
+     *
+     * @param scanner lists the folder
+     * @param root folder to be analyzed
+     * @throws CanceledExecutionException if user canceld.
+     * @throws IOException if a folder can't be listed
+     * @throws InterruptedException if pushing the row was interrupted
+     */
+    private void addLocation(final DirectoryScanner scanner, final Path root, final ExecutionContext exec)
+            throws CanceledExecutionException, IOException, InterruptedException {
+        Iterator<Path> files = scanner.scan(root);
+        try {
+            while (files.hasNext()) {
+                exec.checkCanceled();
+                Path file = files.next();
+                addRow(new StringCell(file.toString()), file.toUri().toURL().toString());
+                final long count = m_currentRowID;
+                exec.setMessage(() -> count + " files found");
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 
     /**
-     * Recursive method to add all Files of a given folder to the output table.
+     * Adds all files of a given folder to the output table.
      *
      * @param loc folder to be analyzed
      * @throws CanceledExecutionException if user canceld.
      * @throws URISyntaxException
      * @throws IOException
+     * @throws InterruptedException if pushing the row was interrupted
      */
     private void addLocation(final URL root, final ExecutionContext exec, final boolean isRootDir)
-            throws CanceledExecutionException, IOException, URISyntaxException {
+            throws CanceledExecutionException, IOException, URISyntaxException, InterruptedException {
         exec.checkCanceled();
 
         for (URL u : FileUtil.listFiles(root, u -> satisfiesFilter(u), m_settings.isRecursive())) {
@@ -180,9 +233,9 @@ private void addLocation(final URL root, final ExecutionContext exec, final bool
     }
 
     /**
-     * Checks if the given File name satisfies the selected filter requirements.
+     * Checks if the given URL satisfies the selected filter requirements.
      *
-     * @param name filename
+     * @param url the URL of the file
      * @return True if satisfies the file else False
      */
     private boolean satisfiesFilter(final URL url) {
@@ -192,31 +245,33 @@ private boolean satisfiesFilter(final URL url) {
         } catch (UnsupportedEncodingException e) {
             decodedPath = url.getPath();
         }
+        return satisfiesFilter(FilenameUtils.getName(decodedPath));
+    }
+
+    /**
+     * Checks if the given File name satisfies the selected filter requirements.
+     *
+     * @param name filename
+     * @return True if satisfies the file else False
+     */
+    private boolean satisfiesFilter(final String name) {
         switch (m_settings.getFilter()) {
         case None:
             return true;
         case Extensions:
-            if (m_settings.isCaseSensitive()) {
-                // check if one of the extensions matches
-                for (String ext : m_extensions) {
-                    if (decodedPath.endsWith(ext)) {
-                        return true;
-                    }
-                }
-            } else {
-                // case insensitive check on toLowerCase
-                String lowname = url.getPath().toLowerCase();
-                for (String ext : m_extensions) {
-                    if (lowname.endsWith(ext.toLowerCase())) {
-                        return true;
-                    }
+            // case insensitive check on toLowerCase
+            String checkedName = m_settings.isCaseSensitive() ? name : name.toLowerCase();
+            // check if one of the extensions matches
+            for (String ext : m_extensions) {
+                if (checkedName.endsWith(ext)) {
+                    return true;
                 }
             }
             return false;
         case RegExp:
             // no break;
         case Wildcards:
-            Matcher matcher = m_regExpPattern.matcher(FilenameUtils.getName(decodedPath));
+            Matcher matcher = m_regExpPattern.matcher(name);
             return matcher.matches();
         default:
             return false;
@@ -228,16 +283,22 @@ private boolean satisfiesFilter(final URL url) {
      *
      * @param file
      */
-    private void addLocationToContainer(final URL url) throws UnsupportedEncodingException, URISyntaxException {
-        DataCell[] row = new DataCell[2];
+    private void addLocationToContainer(final URL url) throws URISyntaxException, InterruptedException {
+        DataCell location;
         if ("file".equalsIgnoreCase(url.getProtocol())) {
-            row[0] = new StringCell(Paths.get(url.toURI()).toString());
+            location = new StringCell(Paths.get(url.toURI()).toString());
         } else {
-            row[0] = new MissingCell("URL is remote and does not have a local location");
+            location = new MissingCell("URL is remote and does not have a local location");
         }
-        row[1] = new StringCell(url.toString());
+        addRow(location, url.toString());
+    }
+
+    private void addRow(final DataCell location, final String url) throws InterruptedException {
+        DataCell[] row = new DataCell[2];
+        row[0] = location;
+        row[1] = new StringCell(url);
 
-        m_dc.addRowToTable(new DefaultRow(RowKey.createRowKey(m_currentRowID), row));
+        m_output.push(new DefaultRow(RowKey.createRowKey(m_currentRowID), row));
         m_currentRowID++;
     }
 
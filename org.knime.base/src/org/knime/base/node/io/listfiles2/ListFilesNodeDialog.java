@@ -103,6 +103,8 @@ public class ListFilesNodeDialog extends NodeDialogPane implements ItemListener
 
     private JCheckBox m_recursive;
 
+    private JCheckBox m_cacheListings;
+
     private JRadioButton m_filterALLRadio;
 
     private JRadioButton m_filterExtensionsRadio;
@@ -202,6 +204,9 @@ private JPanel createLocationPanel() {
         m_recursive = new JCheckBox();
         m_recursive.setText("include sub folders");
 
+        m_cacheListings = new JCheckBox();
+        m_cacheListings.setText("reuse the listings of unmodified folders");
+
         GridBagConstraints c = new GridBagConstraints();
         c.fill = GridBagConstraints.HORIZONTAL;
         c.gridwidth = 1;
@@ -215,6 +220,9 @@ private JPanel createLocationPanel() {
         c.gridy++;
         panel.add(m_recursive, c);
 
+        c.gridy++;
+        panel.add(m_cacheListings, c);
+
         return panel;
     }
 
@@ -288,6 +296,7 @@ protected void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSetti
         ListFilesSettings set = new ListFilesSettings();
         set.setLocationString(location);
         set.setRecursive(m_recursive.isSelected());
+        set.setCacheListings(m_cacheListings.isSelected());
         set.setCaseSensitive(m_caseSensitive.isSelected());
         String extensions = m_extensionField.getEditor().getItem().toString();
         set.setExtensionsString(extensions);
@@ -352,6 +361,7 @@ protected void loadSettingsFrom(final NodeSettingsRO settings, final DataTableSp
         String loc = set.getLocationString();
         m_localdirectory.setSelectedFile(loc);
         m_recursive.setSelected(set.isRecursive());
+        m_cacheListings.setSelected(set.isCacheListings());
         String ext = set.getExtensionsString();
         m_extensionField.getEditor().setItem(ext == null ? "" : ext);
         switch (set.getFilter()) {
@@ -56,6 +56,13 @@
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.BufferedDataTableRowOutput;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
 
 /**
  * This is the model implementation of List Files.
@@ -80,9 +87,26 @@ protected ListFilesNodeModel() {
     @Override
     protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
             final ExecutionContext exec) throws Exception {
-        ListFiles lister = new ListFiles(m_settings);
-        BufferedDataTable table = lister.search(exec);
-        return new BufferedDataTable[] {table};
+        BufferedDataTableRowOutput output = new BufferedDataTableRowOutput(exec.createDataContainer(ListFiles.SPEC));
+        createStreamableOperator(null, null).runFinal(new PortInput[0], new PortOutput[] {output}, exec);
+        return new BufferedDataTable[] {output.getDataTable()};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+            final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        return new StreamableOperator() {
+
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs,
+                    final ExecutionContext exec) throws Exception {
+                ListFiles lister = new ListFiles(m_settings);
+                lister.search((RowOutput)outputs[0], exec);
+            }
+        };
     }
 
     /** {@inheritDoc} */
@@ -90,6 +90,9 @@ class ListFilesSettings {
     /** Key to store the extension_settings. */
     public static final String EXTENSIONS_SETTINGS = "extensions";
 
+    /** Key to store the listing cache flag, added in 3.8. */
+    public static final String CACHE_LISTINGS_SETTINGS = "cache_listings";
+
     /** the folders to be analyzed. */
     private String m_locationString = null;
 
@@ -105,6 +108,9 @@ class ListFilesSettings {
     /** Filter type. */
     private Filter m_filter = Filter.None;
 
+    /** Flag to reuse the listings of unmodified directories. */
+    private boolean m_cacheListings = false;
+
     /** @return the locationString */
     public String getLocationString() {
         return m_locationString;
@@ -161,6 +167,16 @@ public void setFilter(final Filter filter) {
         m_filter = filter;
     }
 
+    /** @return whether the listings of directories not modified since the last search are reused */
+    public boolean isCacheListings() {
+        return m_cacheListings;
+    }
+
+    /** @param cacheListings whether the listings of directories not modified since the last search are reused */
+    public void setCacheListings(final boolean cacheListings) {
+        m_cacheListings = cacheListings;
+    }
+
     /**
      * Split location string by ";" and return individual directories.
      *
@@ -224,6 +240,8 @@ protected void loadSettingsInModel(final NodeSettingsRO settings) throws Invalid
             throw new InvalidSettingsException("Invalid filter: " + filterS);
         }
         m_caseSensitive = settings.getBoolean(CASE_SENSITIVE_STRING);
+        // added in 3.8
+        m_cacheListings = settings.getBoolean(CACHE_LISTINGS_SETTINGS, false);
     }
 
     /**
@@ -246,6 +264,7 @@ protected void loadSettingsInDialog(final NodeSettingsRO settings) {
             m_filter = defFilter;
         }
         m_caseSensitive = settings.getBoolean(CASE_SENSITIVE_STRING, false);
+        m_cacheListings = settings.getBoolean(CACHE_LISTINGS_SETTINGS, false);
     }
 
     /**
@@ -259,6 +278,7 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         settings.addBoolean(RECURSIVE_SETTINGS, m_recursive);
         settings.addString(FILTER_SETTINGS, m_filter.name());
         settings.addBoolean(CASE_SENSITIVE_STRING, m_caseSensitive);
+        settings.addBoolean(CACHE_LISTINGS_SETTINGS, m_cacheListings);
 
         if (m_locationString != null) {
             StringHistory h = StringHistory.getInstance(LIST_FILES_HISTORY_ID);
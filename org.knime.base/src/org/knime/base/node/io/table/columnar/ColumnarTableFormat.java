@@ -0,0 +1,286 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.io.table.columnar;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.NodeSettingsRO;
+
+/**
+ * Constants and helpers of the columnar table format. A file consists of
+ * <ul>
+ * <li>the header: {@link #MAGIC}, the version and the table spec, so that the spec can be read from the beginning of
+ * a stream,</li>
+ * <li>the blocks of up to {@link #ROWS_PER_BLOCK} rows; for each block the row keys and then each column are
+ * encoded and compressed separately, so that single columns can be read,</li>
+ * <li>the footer: for each block the number of rows, the positions of the compressed columns
+ * and the minimum and maximum of the numeric columns,</li>
+ * <li>the position of the footer and {@link #MAGIC}.</li>
+ * </ul>
+ * The encoded column of a block starts with the missing values (a flag and, if any, a bit set). Int, long and double
+ * values follow as fixed size values, boolean values as bit set. Strings are dictionary encoded if there are at
+ * most half as many distinct strings as rows, otherwise they follow as length and UTF-8 bytes.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ColumnarTableFormat {
+
+    /** The first and the last bytes of a file. */
+    static final byte[] MAGIC = "KNIMECOL".getBytes(StandardCharsets.US_ASCII);
+
+    static final int VERSION = 1;
+
+    /** The maximal number of rows in a block. */
+    static final int ROWS_PER_BLOCK = 32 * 1024;
+
+    /** The length of the trailer: the footer position and the magic bytes. */
+    static final int TRAILER_LENGTH = 8 + MAGIC.length;
+
+    static final byte NO_STATS = 0;
+
+    static final byte LONG_STATS = 1;
+
+    static final byte DOUBLE_STATS = 2;
+
+    static final byte PLAIN = 0;
+
+    static final byte DICTIONARY = 1;
+
+    /** The supported column types. */
+    enum ColumnType {
+        /** {@link IntCell}. */
+        INT,
+        /** {@link LongCell}. */
+        LONG,
+        /** {@link DoubleCell}. */
+        DOUBLE,
+        /** {@link BooleanCell}. */
+        BOOLEAN,
+        /** {@link StringCell}. */
+        STRING;
+
+        /**
+         * @param type a column type
+         * @return the column type storing the cells of the type, <code>null</code> if the type isn't supported
+         */
+        static ColumnType of(final DataType type) {
+            if (IntCell.TYPE.equals(type)) {
+                return INT;
+            } else if (LongCell.TYPE.equals(type)) {
+                return LONG;
+            } else if (DoubleCell.TYPE.equals(type)) {
+                return DOUBLE;
+            } else if (BooleanCell.TYPE.equals(type)) {
+                return BOOLEAN;
+            } else if (StringCell.TYPE.equals(type)) {
+                return STRING;
+            }
+            return null;
+        }
+    }
+
+    private ColumnarTableFormat() {
+    }
+
+    /**
+     * @param in the beginning of a file, not closed
+     * @return <code>true</code> if the file starts with the magic bytes
+     * @throws IOException if reading fails
+     */
+    static boolean startsWithMagic(final InputStream in) throws IOException {
+        final byte[] start = new byte[MAGIC.length];
+        int read = 0;
+        while (read < start.length) {
+            final int n = in.read(start, read, start.length - read);
+            if (n < 0) {
+                return false;
+            }
+            read += n;
+        }
+        return Arrays.equals(start, MAGIC);
+    }
+
+    /**
+     * @param out the output
+     * @param spec the spec to write as the end of the header
+     * @throws IOException if writing fails
+     */
+    static void writeHeader(final DataOutputStream out, final DataTableSpec spec) throws IOException {
+        out.write(MAGIC);
+        out.writeInt(VERSION);
+        final NodeSettings specSettings = new NodeSettings("table.spec");
+        spec.save(specSettings);
+        final ByteArrayOutputStream specXML = new ByteArrayOutputStream();
+        specSettings.saveToXML(specXML);
+        out.writeInt(specXML.size());
+        specXML.writeTo(out);
+    }
+
+    /**
+     * Reads the header, which doesn't need the rest of the file.
+     *
+     * @param in the beginning of a file, not closed
+     * @return the spec of the table
+     * @throws IOException if reading fails or the file isn't a columnar table of a known version
+     */
+    static DataTableSpec readHeader(final DataInputStream in) throws IOException {
+        if (!startsWithMagic(in)) {
+            throw new IOException("Not a columnar table");
+        }
+        final int version = in.readInt();
+        if (version > VERSION) {
+            throw new IOException("The columnar table was written by a newer version (" + version
+                + ") and can't be read");
+        }
+        final int specLength = in.readInt();
+        if (specLength < 0) {
+            throw new IOException("Corrupt header in columnar table");
+        }
+        final byte[] specXML = new byte[specLength];
+        in.readFully(specXML);
+        final NodeSettingsRO specSettings = NodeSettings.loadFromXML(new ByteArrayInputStream(specXML));
+        try {
+            return DataTableSpec.load(specSettings);
+        } catch (InvalidSettingsException e) {
+            throw new IOException("Unable to read the spec of the columnar table: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param raw the bytes to compress
+     * @param length the number of bytes to compress
+     * @return the compressed bytes
+     */
+    static byte[] compress(final byte[] raw, final int length) {
+        // the fastest level, most of the gain comes from the columnar layout and the encodings
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw, 0, length);
+            deflater.finish();
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, length / 4));
+            final byte[] buffer = new byte[64 * 1024];
+            while (!deflater.finished()) {
+                final int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * @param compressed the compressed bytes
+     * @param rawLength the number of uncompressed bytes
+     * @return the uncompressed bytes
+     * @throws IOException if the bytes are corrupt
+     */
+    static byte[] decompress(final byte[] compressed, final int rawLength) throws IOException {
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            final byte[] raw = new byte[rawLength];
+            int n = 0;
+            while (n < rawLength) {
+                final int inflated = inflater.inflate(raw, n, rawLength - n);
+                if (inflated == 0 && (inflater.finished() || inflater.needsInput())) {
+                    throw new IOException("Corrupt block in columnar table, " + n + " of " + rawLength
+                        + " bytes decompressed");
+                }
+                n += inflated;
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt block in columnar table: " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * @param out the output
+     * @param s the string, written as length and UTF-8 bytes
+     * @throws IOException if writing fails
+     */
+    static void writeString(final DataOutputStream out, final String s) throws IOException {
+        final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * @param in the input
+     * @return the string written by {@link #writeString(DataOutputStream, String)}
+     * @throws IOException if reading fails
+     */
+    static String readString(final DataInputStream in) throws IOException {
+        final byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
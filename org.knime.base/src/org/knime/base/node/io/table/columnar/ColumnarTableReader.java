@@ -0,0 +1,658 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.io.table.columnar;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.knime.base.node.io.table.columnar.ColumnarTableFormat.ColumnType;
+import org.knime.base.util.concurrent.ThreadPoolUtil;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Reads a table written by the {@link ColumnarTableWriter}. Only the columns asked for are read and decompressed
+ * (projection), and blocks whose minimum and maximum don't overlap a {@link RangeFilter} are skipped without reading
+ * them. The blocks are read and decoded on the threads of the global thread pool; the rows are returned in the order
+ * of the table.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @see ColumnarTableWriter
+ * @since 3.8
+ */
+public final class ColumnarTableReader implements AutoCloseable {
+
+    private final Path m_file;
+
+    private final FileChannel m_channel;
+
+    private final DataTableSpec m_spec;
+
+    private final ColumnType[] m_types;
+
+    private final Block[] m_blocks;
+
+    private final long m_rowCount;
+
+    /**
+     * A filter on the values of a numeric column. A row satisfies the filter if the value in the column is not missing
+     * and between the minimum and the maximum (both inclusive).
+     */
+    public static final class RangeFilter {
+
+        private final int m_column;
+
+        private final double m_min;
+
+        private final double m_max;
+
+        /**
+         * @param column the index of an int, long or double column in the table spec
+         * @param min the minimal value, inclusive
+         * @param max the maximal value, inclusive
+         */
+        public RangeFilter(final int column, final double min, final double max) {
+            m_column = column;
+            m_min = min;
+            m_max = max;
+        }
+
+        /** @return the index of the filtered column */
+        public int getColumn() {
+            return m_column;
+        }
+
+        /** @return the minimal value, inclusive */
+        public double getMin() {
+            return m_min;
+        }
+
+        /** @return the maximal value, inclusive */
+        public double getMax() {
+            return m_max;
+        }
+
+        boolean accepts(final double value) {
+            return value >= m_min && value <= m_max;
+        }
+    }
+
+    /**
+     * @param in the beginning of a file, not closed
+     * @return <code>true</code> if the file starts like a columnar table
+     * @throws IOException if reading fails
+     */
+    public static boolean isColumnarTable(final InputStream in) throws IOException {
+        return ColumnarTableFormat.startsWithMagic(in);
+    }
+
+    /**
+     * Reads the spec from the beginning of a columnar table, the rest of the table isn't needed. Useful for remote
+     * files, which are read with random access only after they have been copied.
+     *
+     * @param in the beginning of a file, not closed
+     * @return the spec of the table
+     * @throws IOException if reading fails or the file isn't a columnar table
+     */
+    public static DataTableSpec readDataTableSpec(final InputStream in) throws IOException {
+        try {
+            return ColumnarTableFormat.readHeader(new DataInputStream(in));
+        } catch (EOFException e) {
+            throw new IOException("Corrupt header in columnar table", e);
+        }
+    }
+
+    /**
+     * Opens the file and reads its header and footer.
+     *
+     * @param file a file written by the {@link ColumnarTableWriter}
+     * @throws IOException if the file can't be read or isn't a columnar table
+     */
+    public ColumnarTableReader(final Path file) throws IOException {
+        m_file = file;
+        m_channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            final long size = m_channel.size();
+            if (size < ColumnarTableFormat.MAGIC.length + 8 + ColumnarTableFormat.TRAILER_LENGTH) {
+                throw new IOException("File '" + file + "' is not a columnar table, it is too short");
+            }
+            final DataInputStream trailer =
+                read(size - ColumnarTableFormat.TRAILER_LENGTH, ColumnarTableFormat.TRAILER_LENGTH);
+            final long footerPosition = trailer.readLong();
+            if (!ColumnarTableFormat.startsWithMagic(trailer)) {
+                throw new IOException("File '" + file + "' is not a columnar table or it is truncated");
+            }
+            // the channel stream is not closed, it would close the channel
+            m_spec = ColumnarTableFormat.readHeader(
+                new DataInputStream(new BufferedInputStream(Channels.newInputStream(m_channel.position(0)))));
+            final long footerLength = size - ColumnarTableFormat.TRAILER_LENGTH - footerPosition;
+            if (footerPosition < 0 || footerLength < 0 || footerLength > Integer.MAX_VALUE) {
+                throw new IOException("Corrupt footer in columnar table '" + file + "'");
+            }
+            final DataInputStream footer = read(footerPosition, (int)footerLength);
+            final int columnCount = footer.readInt();
+            if (columnCount != m_spec.getNumColumns()) {
+                throw new IOException("Corrupt footer in columnar table '" + file + "'");
+            }
+            m_types = new ColumnType[columnCount];
+            for (int c = 0; c < columnCount; c++) {
+                m_types[c] = ColumnType.of(m_spec.getColumnSpec(c).getType());
+                if (m_types[c] == null) {
+                    throw new IOException("Unsupported type of column \"" + m_spec.getColumnSpec(c).getName()
+                        + "\" in columnar table '" + file + "'");
+                }
+            }
+            m_blocks = new Block[footer.readInt()];
+            long rowCount = 0;
+            for (int b = 0; b < m_blocks.length; b++) {
+                m_blocks[b] = Block.read(footer, columnCount);
+                rowCount += m_blocks[b].m_rowCount;
+            }
+            m_rowCount = rowCount;
+        } catch (IOException | RuntimeException e) {
+            m_channel.close();
+            if (e instanceof EOFException) {
+                throw new IOException("Corrupt columnar table '" + file + "'", e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return the spec of the table
+     */
+    public DataTableSpec getDataTableSpec() {
+        return m_spec;
+    }
+
+    /**
+     * @param columns the indices of the columns to read
+     * @return the spec of the rows returned by {@link #iterator(int[], RangeFilter)}
+     */
+    public DataTableSpec getDataTableSpec(final int[] columns) {
+        final DataColumnSpec[] specs = new DataColumnSpec[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            specs[i] = m_spec.getColumnSpec(columns[i]);
+        }
+        return new DataTableSpec(m_spec.getName(), specs);
+    }
+
+    /**
+     * @return the number of rows of the table
+     */
+    public long size() {
+        return m_rowCount;
+    }
+
+    /**
+     * @return an iterator over all rows and columns
+     */
+    public CloseableRowIterator iterator() {
+        final int[] all = new int[m_types.length];
+        for (int c = 0; c < all.length; c++) {
+            all[c] = c;
+        }
+        return iterator(all, null);
+    }
+
+    /**
+     * @param columns the indices of the columns to read, in the order of the cells of the returned rows
+     * @param filter the filter the rows must satisfy, <code>null</code> to return all rows
+     * @return an iterator over the rows satisfying the filter, with the cells of the columns
+     * @throws IllegalArgumentException if a column index is out of range or the filter isn't on a numeric column
+     */
+    public CloseableRowIterator iterator(final int[] columns, final RangeFilter filter) {
+        for (int c : columns) {
+            if (c < 0 || c >= m_types.length) {
+                throw new IllegalArgumentException("Invalid column index " + c + ", table has " + m_types.length
+                    + " columns");
+            }
+        }
+        if (filter != null) {
+            final int c = filter.getColumn();
+            if (c < 0 || c >= m_types.length
+                || (m_types[c] != ColumnType.INT && m_types[c] != ColumnType.LONG && m_types[c] != ColumnType.DOUBLE)) {
+                throw new IllegalArgumentException("Range filters are only supported on int, long and double columns");
+            }
+        }
+        return new BlockIterator(columns.clone(), filter);
+    }
+
+    /**
+     * Closes the file. Open iterators fail afterwards.
+     *
+     * @throws IOException if closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        m_channel.close();
+    }
+
+    /*
+     * Reads the bytes at the position, thread-safe.
+     */
+    private DataInputStream read(final long position, final int length) throws IOException {
+        return new DataInputStream(new ByteArrayInputStream(readBytes(position, length)));
+    }
+
+    private byte[] readBytes(final long position, final int length) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (m_channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of columnar table '" + m_file + "'");
+            }
+        }
+        return buffer.array();
+    }
+
+    private DataInputStream readChunk(final Chunk chunk) throws IOException {
+        final byte[] raw = ColumnarTableFormat.decompress(readBytes(chunk.m_position, chunk.m_length),
+            chunk.m_rawLength);
+        return new DataInputStream(new ByteArrayInputStream(raw));
+    }
+
+    /*
+     * Reads the rows of the block satisfying the filter. Called by the worker threads.
+     */
+    private DataRow[] readBlock(final Block block, final int[] columns, final RangeFilter filter)
+        throws IOException {
+        final int n = block.m_rowCount;
+        BitSet selected = null;
+        DataCell[] filterCells = null;
+        if (filter != null) {
+            final int fc = filter.getColumn();
+            filterCells = readColumn(block, fc);
+            selected = new BitSet(n);
+            for (int r = 0; r < n; r++) {
+                final DataCell cell = filterCells[r];
+                if (!cell.isMissing() && filter.accepts(((DoubleValue)cell).getDoubleValue())) {
+                    selected.set(r);
+                }
+            }
+            if (selected.isEmpty()) {
+                return new DataRow[0];
+            }
+        }
+        final DataCell[][] cells = new DataCell[columns.length][];
+        for (int i = 0; i < columns.length; i++) {
+            if (filter != null && columns[i] == filter.getColumn()) {
+                cells[i] = filterCells;
+            } else {
+                // the column might be projected more than once
+                final int index = indexOf(columns, columns[i], i);
+                cells[i] = index < i ? cells[index] : readColumn(block, columns[i]);
+            }
+        }
+        final DataInputStream keys = readChunk(block.m_keys);
+        final DataRow[] rows = new DataRow[selected == null ? n : selected.cardinality()];
+        int i = 0;
+        for (int r = 0; r < n; r++) {
+            final String key = ColumnarTableFormat.readString(keys);
+            if (selected != null && !selected.get(r)) {
+                continue;
+            }
+            final DataCell[] rowCells = new DataCell[columns.length];
+            for (int c = 0; c < columns.length; c++) {
+                rowCells[c] = cells[c][r];
+            }
+            rows[i++] = new DefaultRow(new RowKey(key), rowCells);
+        }
+        return rows;
+    }
+
+    private static int indexOf(final int[] values, final int value, final int end) {
+        for (int i = 0; i < end; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private DataCell[] readColumn(final Block block, final int col) throws IOException {
+        final int n = block.m_rowCount;
+        final DataInputStream in = readChunk(block.m_columns[col]);
+        BitSet missing = null;
+        if (in.readByte() != 0) {
+            final byte[] bits = new byte[(n + 7) / 8];
+            in.readFully(bits);
+            missing = BitSet.valueOf(bits);
+        }
+        final DataCell missingCell = DataType.getMissingCell();
+        final DataCell[] cells = new DataCell[n];
+        switch (m_types[col]) {
+            case INT:
+                for (int r = 0; r < n; r++) {
+                    final int v = in.readInt();
+                    cells[r] = missing != null && missing.get(r) ? missingCell : new IntCell(v);
+                }
+                break;
+            case LONG:
+                for (int r = 0; r < n; r++) {
+                    final long v = in.readLong();
+                    cells[r] = missing != null && missing.get(r) ? missingCell : new LongCell(v);
+                }
+                break;
+            case DOUBLE:
+                for (int r = 0; r < n; r++) {
+                    final double v = in.readDouble();
+                    cells[r] = missing != null && missing.get(r) ? missingCell : new DoubleCell(v);
+                }
+                break;
+            case BOOLEAN:
+                final byte[] bits = new byte[(n + 7) / 8];
+                in.readFully(bits);
+                final BitSet values = BitSet.valueOf(bits);
+                for (int r = 0; r < n; r++) {
+                    cells[r] = missing != null && missing.get(r) ? missingCell : BooleanCell.get(values.get(r));
+                }
+                break;
+            case STRING:
+                readStrings(in, missing, cells);
+                break;
+            default:
+                throw new IllegalStateException("Unknown column type: " + m_types[col]);
+        }
+        return cells;
+    }
+
+    private static void readStrings(final DataInputStream in, final BitSet missing, final DataCell[] cells)
+        throws IOException {
+        final DataCell missingCell = DataType.getMissingCell();
+        final int n = cells.length;
+        if (in.readByte() == ColumnarTableFormat.PLAIN) {
+            for (int r = 0; r < n; r++) {
+                final String s = ColumnarTableFormat.readString(in);
+                cells[r] = missing != null && missing.get(r) ? missingCell : new StringCell(s);
+            }
+            return;
+        }
+        // the cells of equal strings are shared
+        final StringCell[] dictionary = new StringCell[in.readInt()];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = new StringCell(ColumnarTableFormat.readString(in));
+        }
+        for (int r = 0; r < n; r++) {
+            final int index;
+            if (dictionary.length <= 1 << 8) {
+                index = in.readUnsignedByte();
+            } else if (dictionary.length <= 1 << 16) {
+                index = in.readUnsignedShort();
+            } else {
+                index = in.readInt();
+            }
+            cells[r] = missing != null && missing.get(r) ? missingCell : dictionary[index];
+        }
+    }
+
+    /** The position and length of a compressed column of a block, and its minimum and maximum. */
+    private static final class Chunk {
+
+        private long m_position;
+
+        private int m_length;
+
+        private int m_rawLength;
+
+        private byte m_statsKind;
+
+        private double m_min;
+
+        private double m_max;
+
+        static Chunk read(final DataInputStream in) throws IOException {
+            final Chunk chunk = new Chunk();
+            chunk.m_position = in.readLong();
+            chunk.m_length = in.readInt();
+            chunk.m_rawLength = in.readInt();
+            chunk.m_statsKind = in.readByte();
+            if (chunk.m_statsKind == ColumnarTableFormat.LONG_STATS) {
+                // rounding may widen the range only
+                chunk.m_min = in.readLong();
+                chunk.m_max = in.readLong();
+            } else if (chunk.m_statsKind == ColumnarTableFormat.DOUBLE_STATS) {
+                chunk.m_min = in.readDouble();
+                chunk.m_max = in.readDouble();
+            }
+            return chunk;
+        }
+
+        /** @return <code>false</code> if no value of the chunk satisfies the filter */
+        boolean mayMatch(final RangeFilter filter) {
+            if (m_statsKind == ColumnarTableFormat.NO_STATS) {
+                // all values are missing (or NaN)
+                return false;
+            }
+            return m_max >= filter.getMin() && m_min <= filter.getMax();
+        }
+    }
+
+    /** The entry of a block in the footer. */
+    private static final class Block {
+
+        private int m_rowCount;
+
+        private Chunk m_keys;
+
+        private Chunk[] m_columns;
+
+        static Block read(final DataInputStream in, final int columnCount) throws IOException {
+            final Block block = new Block();
+            block.m_rowCount = in.readInt();
+            block.m_keys = Chunk.read(in);
+            block.m_columns = new Chunk[columnCount];
+            for (int c = 0; c < columnCount; c++) {
+                block.m_columns[c] = Chunk.read(in);
+            }
+            return block;
+        }
+    }
+
+    /** Reads the blocks ahead on the pool and returns their rows in order. */
+    private final class BlockIterator extends CloseableRowIterator {
+
+        private final int[] m_columns;
+
+        private final RangeFilter m_filter;
+
+        private final int m_nrThreads;
+
+        private final ThreadPool m_pool;
+
+        // the blocks being read, in the order of the table
+        private final ArrayDeque<Future<DataRow[]>> m_pending = new ArrayDeque<Future<DataRow[]>>();
+
+        private int m_nextBlock;
+
+        private DataRow[] m_current = new DataRow[0];
+
+        private int m_currentIndex;
+
+        private boolean m_done;
+
+        BlockIterator(final int[] columns, final RangeFilter filter) {
+            m_columns = columns;
+            m_filter = filter;
+            m_nrThreads = ThreadPoolUtil.getMaxThreads();
+            m_pool = m_nrThreads > 1 ? KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(m_nrThreads) : null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext() {
+            if (m_done) {
+                return false;
+            }
+            while (m_currentIndex >= m_current.length) {
+                final DataRow[] rows = nextBlock();
+                if (rows == null) {
+                    close();
+                    return false;
+                }
+                m_current = rows;
+                m_currentIndex = 0;
+            }
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public DataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("The row iterator proceeded beyond the last row of '" + m_file
+                    + "'.");
+            }
+            final DataRow row = m_current[m_currentIndex];
+            // release the rows, the block may be large
+            m_current[m_currentIndex++] = null;
+            return row;
+        }
+
+        /**
+         * Cancels the reading of the pending blocks.
+         */
+        @Override
+        public void close() {
+            if (m_done) {
+                return;
+            }
+            m_done = true;
+            for (Future<DataRow[]> future : m_pending) {
+                future.cancel(true);
+            }
+            m_pending.clear();
+            m_current = new DataRow[0];
+        }
+
+        private DataRow[] nextBlock() {
+            fillPending();
+            final Future<DataRow[]> future = m_pending.poll();
+            if (future == null) {
+                return null;
+            }
+            final DataRow[] result;
+            try {
+                result = waitFor(future);
+            } catch (ExecutionException e) {
+                close();
+                final Exception cause = ThreadPoolUtil.throwIfUnchecked(e);
+                throw new IllegalStateException("Unable to read columnar table '" + m_file + "': "
+                    + cause.getMessage(), cause);
+            } catch (InterruptedException e) {
+                close();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Reading '" + m_file + "' was interrupted.");
+            }
+            fillPending();
+            return result;
+        }
+
+        private DataRow[] waitFor(final Future<DataRow[]> future) throws ExecutionException, InterruptedException {
+            return m_pool == null ? future.get() : ThreadPoolUtil.waitFor(m_pool, future);
+        }
+
+        /*
+         * Submits the next blocks not skipped by the filter until each thread has one to work on.
+         */
+        private void fillPending() {
+            final int maxPending = m_pool == null ? 1 : m_nrThreads;
+            while (m_pending.size() < maxPending && m_nextBlock < m_blocks.length) {
+                final Block block = m_blocks[m_nextBlock++];
+                if (m_filter != null && !block.m_columns[m_filter.getColumn()].mayMatch(m_filter)) {
+                    continue;
+                }
+                if (m_pool == null) {
+                    final CompletableFuture<DataRow[]> future = new CompletableFuture<DataRow[]>();
+                    try {
+                        future.complete(readBlock(block, m_columns, m_filter));
+                    } catch (IOException | RuntimeException e) {
+                        future.completeExceptionally(e);
+                    }
+                    m_pending.add(future);
+                } else {
+                    m_pending.add(m_pool.enqueue(() -> readBlock(block, m_columns, m_filter)));
+                }
+            }
+        }
+    }
+}
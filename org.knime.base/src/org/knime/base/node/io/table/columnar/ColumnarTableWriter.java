@@ -0,0 +1,468 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.io.table.columnar;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.knime.base.node.io.table.columnar.ColumnarTableFormat.ColumnType;
+import org.knime.base.util.concurrent.ThreadPoolUtil;
+import org.knime.core.data.BooleanValue;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.StringValue;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Writes a table in the columnar table format: the rows are collected in blocks, the columns of each block are
+ * encoded and compressed separately (in parallel on the threads of the global thread pool) and written in the order
+ * of the columns. Only tables with int, long, double, boolean and string columns are supported, see
+ * {@link #supports(DataTableSpec)}. Missing cells are written as missing values without error message.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @see ColumnarTableReader
+ * @since 3.8
+ */
+public final class ColumnarTableWriter implements AutoCloseable {
+
+    private final OutputStream m_out;
+
+    private final ColumnType[] m_types;
+
+    private final ThreadPool m_pool;
+
+    private final int m_maxPending;
+
+    // the blocks being encoded, in the order of the table
+    private final ArrayDeque<PendingBlock> m_pending = new ArrayDeque<PendingBlock>();
+
+    // the footer entries of the blocks written
+    private final ByteArrayOutputStream m_index = new ByteArrayOutputStream();
+
+    private final DataOutputStream m_indexOut = new DataOutputStream(m_index);
+
+    private int m_blockCount;
+
+    private List<DataRow> m_block = new ArrayList<DataRow>();
+
+    // the number of bytes written
+    private long m_position;
+
+    private boolean m_closed;
+
+    /**
+     * @param spec a table spec
+     * @return <code>true</code> if all columns are int, long, double, boolean or string columns
+     */
+    public static boolean supports(final DataTableSpec spec) {
+        for (int c = 0; c < spec.getNumColumns(); c++) {
+            if (ColumnType.of(spec.getColumnSpec(c).getType()) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates a writer and writes the header.
+     *
+     * @param out the stream to write to, closed by {@link #close()}
+     * @param spec the spec of the table to write
+     * @throws IOException if writing fails
+     * @throws IllegalArgumentException if the spec isn't supported, see {@link #supports(DataTableSpec)}
+     */
+    public ColumnarTableWriter(final OutputStream out, final DataTableSpec spec) throws IOException {
+        if (!supports(spec)) {
+            throw new IllegalArgumentException("Only int, long, double, boolean and string columns are supported");
+        }
+        m_out = new BufferedOutputStream(out, 64 * 1024);
+        m_types = new ColumnType[spec.getNumColumns()];
+        for (int c = 0; c < m_types.length; c++) {
+            m_types[c] = ColumnType.of(spec.getColumnSpec(c).getType());
+        }
+        final int nrThreads = ThreadPoolUtil.getMaxThreads();
+        m_pool = nrThreads > 1 ? KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(nrThreads) : null;
+        m_maxPending = 2;
+        final ByteArrayOutputStream header = new ByteArrayOutputStream();
+        final DataOutputStream headerOut = new DataOutputStream(header);
+        ColumnarTableFormat.writeHeader(headerOut, spec);
+        headerOut.flush();
+        write(header.toByteArray());
+    }
+
+    /**
+     * @param row the next row, its cells must be compatible to the spec
+     * @throws IOException if writing fails
+     */
+    public void addRow(final DataRow row) throws IOException {
+        m_block.add(row);
+        if (m_block.size() == ColumnarTableFormat.ROWS_PER_BLOCK) {
+            submitBlock();
+        }
+    }
+
+    /**
+     * Writes the remaining rows and the footer, and closes the stream.
+     *
+     * @throws IOException if writing fails
+     */
+    @Override
+    public void close() throws IOException {
+        if (m_closed) {
+            return;
+        }
+        m_closed = true;
+        try {
+            if (!m_block.isEmpty()) {
+                submitBlock();
+            }
+            while (!m_pending.isEmpty()) {
+                writeBlock(m_pending.poll());
+            }
+            final long footerPosition = m_position;
+            final ByteArrayOutputStream footer = new ByteArrayOutputStream();
+            final DataOutputStream footerOut = new DataOutputStream(footer);
+            footerOut.writeInt(m_types.length);
+            footerOut.writeInt(m_blockCount);
+            m_indexOut.flush();
+            m_index.writeTo(footerOut);
+            footerOut.writeLong(footerPosition);
+            footerOut.write(ColumnarTableFormat.MAGIC);
+            footerOut.flush();
+            write(footer.toByteArray());
+        } finally {
+            for (PendingBlock block : m_pending) {
+                block.cancel();
+            }
+            m_out.close();
+        }
+    }
+
+    private void write(final byte[] bytes) throws IOException {
+        m_out.write(bytes);
+        m_position += bytes.length;
+    }
+
+    /*
+     * Encodes the columns of the block on the pool, or directly if there is no pool. Writes the first pending block
+     * if too many blocks are pending.
+     */
+    private void submitBlock() throws IOException {
+        final List<DataRow> rows = m_block;
+        m_block = new ArrayList<DataRow>();
+        final PendingBlock block = new PendingBlock(rows.size(), m_types.length + 1);
+        for (int c = -1; c < m_types.length; c++) {
+            final int col = c;
+            if (m_pool == null) {
+                block.m_columns.add(CompletableFuture.completedFuture(encode(rows, col)));
+            } else {
+                block.m_columns.add(m_pool.enqueue(() -> encode(rows, col)));
+            }
+        }
+        m_pending.add(block);
+        if (m_pending.size() > m_maxPending) {
+            writeBlock(m_pending.poll());
+        }
+    }
+
+    private void writeBlock(final PendingBlock block) throws IOException {
+        m_indexOut.writeInt(block.m_rowCount);
+        for (Future<EncodedColumn> future : block.m_columns) {
+            final EncodedColumn column = waitFor(future);
+            m_indexOut.writeLong(m_position);
+            m_indexOut.writeInt(column.m_data.length);
+            m_indexOut.writeInt(column.m_rawLength);
+            m_indexOut.writeByte(column.m_statsKind);
+            if (column.m_statsKind == ColumnarTableFormat.LONG_STATS) {
+                m_indexOut.writeLong(column.m_longMin);
+                m_indexOut.writeLong(column.m_longMax);
+            } else if (column.m_statsKind == ColumnarTableFormat.DOUBLE_STATS) {
+                m_indexOut.writeDouble(column.m_doubleMin);
+                m_indexOut.writeDouble(column.m_doubleMax);
+            }
+            write(column.m_data);
+        }
+        m_blockCount++;
+    }
+
+    private EncodedColumn waitFor(final Future<EncodedColumn> future) throws IOException {
+        try {
+            return m_pool == null ? future.get() : ThreadPoolUtil.waitFor(m_pool, future);
+        } catch (ExecutionException e) {
+            final Exception cause = ThreadPoolUtil.throwIfUnchecked(e);
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Writing the table was interrupted.", e);
+        }
+    }
+
+    /*
+     * Encodes and compresses the column (-1 for the row keys) of the rows. Called by the worker threads.
+     */
+    private EncodedColumn encode(final List<DataRow> rows, final int col) throws IOException {
+        final ByteArrayOutputStream raw = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(raw);
+        final EncodedColumn result = new EncodedColumn();
+        if (col < 0) {
+            for (DataRow row : rows) {
+                ColumnarTableFormat.writeString(out, row.getKey().getString());
+            }
+        } else {
+            final int n = rows.size();
+            final DataCell[] cells = new DataCell[n];
+            final BitSet missing = new BitSet(n);
+            for (int r = 0; r < n; r++) {
+                cells[r] = rows.get(r).getCell(col);
+                if (cells[r].isMissing()) {
+                    missing.set(r);
+                }
+            }
+            if (missing.isEmpty()) {
+                out.writeByte(0);
+            } else {
+                out.writeByte(1);
+                writeBits(out, missing, n);
+            }
+            switch (m_types[col]) {
+                case INT:
+                    encodeInts(cells, out, result);
+                    break;
+                case LONG:
+                    encodeLongs(cells, out, result);
+                    break;
+                case DOUBLE:
+                    encodeDoubles(cells, out, result);
+                    break;
+                case BOOLEAN:
+                    final BitSet values = new BitSet(n);
+                    for (int r = 0; r < n; r++) {
+                        if (!cells[r].isMissing() && ((BooleanValue)cells[r]).getBooleanValue()) {
+                            values.set(r);
+                        }
+                    }
+                    writeBits(out, values, n);
+                    break;
+                case STRING:
+                    encodeStrings(cells, out);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown column type: " + m_types[col]);
+            }
+        }
+        out.flush();
+        final byte[] bytes = raw.toByteArray();
+        result.m_rawLength = bytes.length;
+        result.m_data = ColumnarTableFormat.compress(bytes, bytes.length);
+        return result;
+    }
+
+    private static void writeBits(final DataOutputStream out, final BitSet bits, final int n) throws IOException {
+        final byte[] bytes = new byte[(n + 7) / 8];
+        final byte[] set = bits.toByteArray();
+        System.arraycopy(set, 0, bytes, 0, set.length);
+        out.write(bytes);
+    }
+
+    private static void encodeInts(final DataCell[] cells, final DataOutputStream out, final EncodedColumn result)
+        throws IOException {
+        for (DataCell cell : cells) {
+            if (cell.isMissing()) {
+                out.writeInt(0);
+            } else {
+                final int v = ((IntValue)cell).getIntValue();
+                out.writeInt(v);
+                result.addToStats(v);
+            }
+        }
+    }
+
+    private static void encodeLongs(final DataCell[] cells, final DataOutputStream out, final EncodedColumn result)
+        throws IOException {
+        for (DataCell cell : cells) {
+            if (cell.isMissing()) {
+                out.writeLong(0);
+            } else {
+                final long v = ((LongValue)cell).getLongValue();
+                out.writeLong(v);
+                result.addToStats(v);
+            }
+        }
+    }
+
+    private static void encodeDoubles(final DataCell[] cells, final DataOutputStream out,
+        final EncodedColumn result) throws IOException {
+        for (DataCell cell : cells) {
+            if (cell.isMissing()) {
+                out.writeDouble(0);
+            } else {
+                final double v = ((DoubleValue)cell).getDoubleValue();
+                out.writeDouble(v);
+                result.addToStats(v);
+            }
+        }
+    }
+
+    /*
+     * Dictionary encodes the strings if there are at most half as many distinct strings as cells.
+     */
+    private static void encodeStrings(final DataCell[] cells, final DataOutputStream out) throws IOException {
+        final Map<String, Integer> dictionary = new HashMap<String, Integer>();
+        final List<String> values = new ArrayList<String>();
+        final int[] indices = new int[cells.length];
+        final int maxSize = cells.length / 2;
+        for (int r = 0; r < cells.length && dictionary.size() <= maxSize; r++) {
+            if (!cells[r].isMissing()) {
+                final String s = ((StringValue)cells[r]).getStringValue();
+                Integer index = dictionary.get(s);
+                if (index == null) {
+                    index = values.size();
+                    dictionary.put(s, index);
+                    values.add(s);
+                }
+                indices[r] = index;
+            }
+        }
+        if (dictionary.size() > maxSize) {
+            out.writeByte(ColumnarTableFormat.PLAIN);
+            for (DataCell cell : cells) {
+                ColumnarTableFormat.writeString(out, cell.isMissing() ? "" : ((StringValue)cell).getStringValue());
+            }
+            return;
+        }
+        out.writeByte(ColumnarTableFormat.DICTIONARY);
+        out.writeInt(values.size());
+        for (String s : values) {
+            ColumnarTableFormat.writeString(out, s);
+        }
+        for (int index : indices) {
+            if (values.size() <= 1 << 8) {
+                out.writeByte(index);
+            } else if (values.size() <= 1 << 16) {
+                out.writeShort(index);
+            } else {
+                out.writeInt(index);
+            }
+        }
+    }
+
+    /** The compressed column of a block. */
+    private static final class EncodedColumn {
+
+        private byte[] m_data;
+
+        private int m_rawLength;
+
+        private byte m_statsKind = ColumnarTableFormat.NO_STATS;
+
+        private long m_longMin = Long.MAX_VALUE;
+
+        private long m_longMax = Long.MIN_VALUE;
+
+        private double m_doubleMin = Double.POSITIVE_INFINITY;
+
+        private double m_doubleMax = Double.NEGATIVE_INFINITY;
+
+        void addToStats(final long v) {
+            m_statsKind = ColumnarTableFormat.LONG_STATS;
+            m_longMin = Math.min(m_longMin, v);
+            m_longMax = Math.max(m_longMax, v);
+        }
+
+        void addToStats(final double v) {
+            if (Double.isNaN(v)) {
+                // NaN never satisfies a range
+                return;
+            }
+            m_statsKind = ColumnarTableFormat.DOUBLE_STATS;
+            m_doubleMin = Math.min(m_doubleMin, v);
+            m_doubleMax = Math.max(m_doubleMax, v);
+        }
+    }
+
+    /** The columns of a block being encoded. */
+    private static final class PendingBlock {
+
+        private final int m_rowCount;
+
+        // the row keys first
+        private final List<Future<EncodedColumn>> m_columns;
+
+        PendingBlock(final int rowCount, final int columnCount) {
+            m_rowCount = rowCount;
+            m_columns = new ArrayList<Future<EncodedColumn>>(columnCount);
+        }
+
+        void cancel() {
+            for (Future<EncodedColumn> future : m_columns) {
+                future.cancel(true);
+            }
+        }
+    }
+}
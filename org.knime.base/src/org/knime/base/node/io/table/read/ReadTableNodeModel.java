@@ -52,7 +52,13 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.function.Function;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -61,10 +67,12 @@
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.input.CountingInputStream;
+import org.knime.base.node.io.table.columnar.ColumnarTableReader;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTable;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.RowIterator;
+import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.data.container.ContainerTable;
 import org.knime.core.data.container.DataContainer;
 import org.knime.core.data.util.NonClosableInputStream;
@@ -195,6 +203,12 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
     @Override
     protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
         final ExecutionContext exec) throws Exception {
+        if (isColumnarTable()) {
+            final BufferedDataTableRowOutput[] c = new BufferedDataTableRowOutput[1];
+            readColumnarTable(spec -> c[0] = new BufferedDataTableRowOutput(exec.createDataContainer(spec, true)),
+                exec);
+            return new BufferedDataTable[]{c[0].getDataTable()};
+        }
         exec.setMessage("Extracting temporary table");
         ContainerTable table = extractTable(exec.createSubExecutionContext(0.4));
         exec.setMessage("Reading into final format");
@@ -205,10 +219,18 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
     }
 
     void execute(final ContainerTable table, final RowOutput output, final ExecutionContext exec) throws Exception {
+        push(table.iterator(), table.size(), output, exec);
+    }
+
+    /*
+     * Pushes the rows up to the row limit to the output and closes it.
+     */
+    private void push(final RowIterator it, final long size, final RowOutput output, final ExecutionContext exec)
+        throws Exception {
         long limit = m_limitCheckerModel.getBooleanValue() ? m_limitSpinnerModel.getIntValue() : Long.MAX_VALUE;
-        final long rowCount = Math.min(limit, table.size());
+        final long rowCount = Math.min(limit, size);
         long row = 0L;
-        for (RowIterator it = table.iterator(); it.hasNext() && row < limit; row++) {
+        for (; it.hasNext() && row < limit; row++) {
             final DataRow next = it.next();
             final long rowFinal = row;
             exec.setProgress(row / (double)rowCount,
@@ -219,6 +241,76 @@ void execute(final ContainerTable table, final RowOutput output, final Execution
         output.close();
     }
 
+    /**
+     * Reads a table written in the columnar format, see {@link ColumnarTableReader}.
+     *
+     * @param outputFactory creates the output for the spec of the table
+     * @param exec the execution context
+     */
+    private void readColumnarTable(final Function<DataTableSpec, RowOutput> outputFactory,
+        final ExecutionContext exec) throws Exception {
+        final Path localFile = resolveLocalFile();
+        final Path file;
+        if (localFile != null) {
+            file = localFile;
+        } else {
+            exec.setMessage("Copying remote table");
+            file = copyToTempFile();
+        }
+        try (ColumnarTableReader reader = new ColumnarTableReader(file)) {
+            final RowOutput output = outputFactory.apply(reader.getDataTableSpec());
+            exec.setMessage("Reading columnar table");
+            try (CloseableRowIterator it = reader.iterator()) {
+                push(it, reader.size(), output, exec);
+            }
+        } finally {
+            if (localFile == null) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /*
+     * Returns the spec of a table written in the columnar format. The spec is in the header, remote files are not
+     * copied.
+     */
+    private DataTableSpec peekColumnarTableSpec() throws IOException, InvalidSettingsException {
+        try (InputStream in = new BufferedInputStream(openInputStream())) {
+            return ColumnarTableReader.readDataTableSpec(in);
+        }
+    }
+
+    private boolean isColumnarTable() throws IOException, InvalidSettingsException {
+        try (InputStream in = openInputStream()) {
+            return ColumnarTableReader.isColumnarTable(in);
+        }
+    }
+
+    /*
+     * Returns the local file to read, null if it's a remote location. The columnar format is read with random
+     * access.
+     */
+    private Path resolveLocalFile() {
+        try {
+            return FileUtil.resolveToPath(FileUtil.toURL(m_fileName.getStringValue()));
+        } catch (IOException | URISyntaxException | InvalidPathException e) {
+            LOGGER.debug("Unable to resolve '" + m_fileName.getStringValue() + "' to a local file: "
+                + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private Path copyToTempFile() throws IOException, InvalidSettingsException {
+        final Path file = DataContainer.createTempFile(PREFERRED_FILE_EXTENSION).toPath();
+        try (InputStream in = openInputStream()) {
+            Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | InvalidSettingsException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+
     /**
      * @param exec
      * @return
@@ -294,6 +386,9 @@ protected DataTableSpec[] configure(final DataTableSpec[] inSpecs)
         }
         InputStream in = null;
         try {
+            if (isColumnarTable()) {
+                return new DataTableSpec[]{peekColumnarTableSpec()};
+            }
             in = openInputStream();
             DataTableSpec spec = peekDataTableSpec(in);
             if (spec == null) { // if written with 1.3.x and before
@@ -380,6 +475,10 @@ public StreamableOperator createStreamableOperator(final PartitionInfo partition
             @Override
             public void runFinal(final PortInput[] inputs, final PortOutput[] outputs,
                 final ExecutionContext exec) throws Exception {
+                if (isColumnarTable()) {
+                    readColumnarTable(spec -> (RowOutput)outputs[0], exec);
+                    return;
+                }
                 exec.setMessage("Extract temporary table");
                 ContainerTable table = extractTable(exec.createSubExecutionContext(0.4));
                 exec.setMessage("Streaming Output");
@@ -105,6 +105,8 @@ public void stateChanged(final ChangeEvent e) {
 
         addDialogComponent(fileChooser);
         addDialogComponent(overwriteOK);
+        addDialogComponent(new DialogComponentBoolean(WriteTableNodeModel.createColumnarFormatModel(),
+            "Write columnar format (int, long, double, boolean and string columns only)"));
     }
 
 }
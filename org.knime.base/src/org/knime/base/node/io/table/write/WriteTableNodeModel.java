@@ -54,6 +54,8 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 
+import org.knime.base.node.io.table.columnar.ColumnarTableWriter;
+import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.container.DataContainer;
 import org.knime.core.node.BufferedDataTable;
@@ -133,6 +135,16 @@ public void close() throws IOException {
     private final SettingsModelBoolean m_overwriteOK =
         new SettingsModelBoolean(CFG_OVERWRITE_OK, false);
 
+    private final SettingsModelBoolean m_columnarFormat = createColumnarFormatModel();
+
+    /** Config identifier for writing the columnar format. */
+    static final String CFG_COLUMNAR_FORMAT = "columnarFormat";
+
+    /** @return the model of the option to write the columnar format */
+    static final SettingsModelBoolean createColumnarFormatModel() {
+        return new SettingsModelBoolean(CFG_COLUMNAR_FORMAT, false);
+    }
+
     /** Creates new NodeModel with one input, no output ports. */
     public WriteTableNodeModel() {
         super(1, 0);
@@ -145,6 +157,7 @@ public WriteTableNodeModel() {
     protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_fileName.saveSettingsTo(settings);
         m_overwriteOK.saveSettingsTo(settings);
+        m_columnarFormat.saveSettingsTo(settings);
     }
 
     /**
@@ -170,6 +183,12 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
         } catch (InvalidSettingsException ise) {
             m_overwriteOK.setBooleanValue(true);
         }
+        try {
+            // property added in v3.8 -- if missing (old flow), write the classic format
+            m_columnarFormat.loadSettingsFrom(settings);
+        } catch (InvalidSettingsException ise) {
+            m_columnarFormat.setBooleanValue(false);
+        }
     }
 
     /**
@@ -184,8 +203,20 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
         URL url = FileUtil.toURL(m_fileName.getStringValue());
         Path localPath = FileUtil.resolveToPath(url);
 
+        boolean columnar = m_columnarFormat.getBooleanValue();
+        if (columnar && !ColumnarTableWriter.supports(in.getDataTableSpec())) {
+            setWarningMessage("The columnar format supports int, long, double, boolean and string columns only, "
+                + "table written in the classic format");
+            columnar = false;
+        }
+
         try {
-            if (localPath != null) {
+            if (columnar) {
+                try (OutputStream os = localPath != null ? Files.newOutputStream(localPath)
+                    : new DeferredOpenOutputStream(url)) {
+                    writeColumnar(in, os, exec);
+                }
+            } else if (localPath != null) {
                 DataContainer.writeToZip(in, localPath.toFile(), exec);
             } else {
                 try (OutputStream os = new DeferredOpenOutputStream(url)) {
@@ -207,6 +238,22 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
         }
     }
 
+    private static void writeColumnar(final BufferedDataTable in, final OutputStream os,
+        final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
+        final long rowCount = in.size();
+        long row = 0;
+        try (ColumnarTableWriter writer = new ColumnarTableWriter(os, in.getDataTableSpec())) {
+            for (DataRow r : in) {
+                final long rowFinal = row;
+                exec.setProgress(row / (double)rowCount,
+                    () -> String.format("Row %,d/%,d (%s)", rowFinal + 1, rowCount, r.getKey()));
+                exec.checkCanceled();
+                writer.addRow(r);
+                row++;
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
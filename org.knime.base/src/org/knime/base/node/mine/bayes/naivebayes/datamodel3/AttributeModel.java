@@ -352,6 +352,20 @@ String getMissingValueHeader(final Collection<String> colNames) {
     abstract double getLogProbabilityInternal(final String classValue, final DataCell attributeValue,
         double logProbThreshold);
 
+    /**
+     * Creates the scoring form of this model for the given class values. Compatibility checks and the handling of
+     * ignored missing values are done by the caller. Subclasses should override this method to precompute the log
+     * probabilities per class, the default implementation delegates to
+     * {@link #getLogProbabilityInternal(String, DataCell, double)} for each class value.
+     *
+     * @param classValues the class values in the order the log probabilities are accumulated in
+     * @param logProbThreshold see {@link #getLogProbabilityInternal(String, DataCell, double)}
+     * @return the compiled attribute model
+     */
+    CompiledNaiveBayesModel.CompiledAttribute compile(final List<String> classValues, final double logProbThreshold) {
+        return new CompiledNaiveBayesModel.GenericAttribute(this, classValues, logProbThreshold);
+    }
+
     /**
      * @param totalNoOfRecs the total number of records in the training data
      * @return the HTML view of this attribute model
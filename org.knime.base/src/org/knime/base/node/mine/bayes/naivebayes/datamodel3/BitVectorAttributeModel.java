@@ -664,6 +664,88 @@ public String toString() {
         return classModel.getLogProbability(attributeValue, logProbThreshold);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    CompiledNaiveBayesModel.CompiledAttribute compile(final List<String> classValues, final double logProbThreshold) {
+        final int noOfClasses = classValues.size();
+        final BitVectorClassValue[] classModels = new BitVectorClassValue[noOfClasses];
+        int vectorLength = -1;
+        for (int c = 0; c < noOfClasses; c++) {
+            final BitVectorClassValue classModel = m_classValues.get(classValues.get(c));
+            if (classModel != null) {
+                if (classModel.getNoOfRows() == 0 || classModel.m_bitCounts == null
+                    || (vectorLength >= 0 && vectorLength != classModel.getVectorLength())) {
+                    // keep the behavior of the uncompiled model for these degenerated models
+                    return super.compile(classValues, logProbThreshold);
+                }
+                vectorLength = classModel.getVectorLength();
+            }
+            classModels[c] = classModel;
+        }
+        if (vectorLength < 0) {
+            return super.compile(classValues, logProbThreshold);
+        }
+        final int length = vectorLength;
+        // log probabilities of a set respectively unset bit, indexed by bit * noOfClasses + class
+        final double[] setLogProbs = new double[length * noOfClasses];
+        final double[] unsetLogProbs = new double[length * noOfClasses];
+        final double[] missingLogProbs = new double[noOfClasses];
+        final boolean[] unknownClass = new boolean[noOfClasses];
+        for (int c = 0; c < noOfClasses; c++) {
+            final BitVectorClassValue classModel = classModels[c];
+            if (classModel == null) {
+                unknownClass[c] = true;
+                continue;
+            }
+            final double noOfRows4Class = classModel.getNoOfRows();
+            for (int i = 0; i < length; i++) {
+                setLogProbs[i * noOfClasses + c] = getLogProbability(
+                    classModel.getNoOfRows4AttributeValue(i, true), noOfRows4Class, logProbThreshold);
+                unsetLogProbs[i * noOfClasses + c] = getLogProbability(
+                    classModel.getNoOfRows4AttributeValue(i, false), noOfRows4Class, logProbThreshold);
+            }
+            missingLogProbs[c] = length
+                * getLogProbability(classModel.getNoOfMissingValueRecs(), noOfRows4Class, logProbThreshold);
+        }
+        return (attributeValue, logProbs) -> {
+            if (attributeValue.isMissing()) {
+                for (int c = 0; c < noOfClasses; c++) {
+                    logProbs[c] += unknownClass[c] ? logProbThreshold : missingLogProbs[c];
+                }
+                return;
+            }
+            final BitVectorValue bitVec = (BitVectorValue)attributeValue;
+            if (bitVec.length() != length) {
+                throw new IllegalArgumentException("Illegal bit vector length");
+            }
+            // sum up per class first to add the same values in the same order as the uncompiled model
+            final double[] combinedProbabilities = new double[noOfClasses];
+            for (int i = 0; i < length; i++) {
+                final double[] bitLogProbs = bitVec.get(i) ? setLogProbs : unsetLogProbs;
+                final int offset = i * noOfClasses;
+                for (int c = 0; c < noOfClasses; c++) {
+                    combinedProbabilities[c] += bitLogProbs[offset + c];
+                }
+            }
+            for (int c = 0; c < noOfClasses; c++) {
+                logProbs[c] += unknownClass[c] ? logProbThreshold : combinedProbabilities[c];
+            }
+        };
+    }
+
+    /**
+     * Same computation as {@link BitVectorClassValue#getLogProbability(DataCell, double)} for a single bit.
+     */
+    private static double getLogProbability(final double noOfRows, final double noOfRows4Class,
+        final double logProbThreshold) {
+        if (noOfRows > 0) {
+            return FastMath.log(noOfRows / noOfRows4Class);
+        }
+        return logProbThreshold;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,255 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.bayes.naivebayes.datamodel3;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.commons.math3.util.FastMath;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+
+/**
+ * Scoring form of a {@link NaiveBayesModel} for a fixed input table spec. The attribute models are resolved to column
+ * indices once and nominal as well as bit vector attribute models are converted into dense log probability tables, so
+ * scoring a row requires neither attribute name nor per class lookups. The compiled model is immutable and can be used
+ * to score rows concurrently.
+ *
+ * <p>
+ * The log probabilities are summed up in the same order as in {@link NaiveBayesModel}, hence the results are identical.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class CompiledNaiveBayesModel {
+
+    /**
+     * Adds the logarithm of the probability of a single attribute value to the log probability of each class.
+     */
+    interface CompiledAttribute {
+
+        /**
+         * @param attributeValue the attribute value, might be missing
+         * @param logProbs the log probabilities per class to add to
+         */
+        void addLogProbabilities(DataCell attributeValue, double[] logProbs);
+    }
+
+    private final DataType m_classColType;
+
+    /** The class values in the order of the class model, which determines the winner in case of ties. */
+    private final String[] m_classValues;
+
+    /** For each position in the sorted class values the index in {@link #m_classValues}. */
+    private final int[] m_sortedClassIdxs;
+
+    private final double[] m_logPriors;
+
+    private final int[] m_colIdxs;
+
+    private final AttributeModel[] m_models;
+
+    private final CompiledAttribute[] m_attributes;
+
+    /**
+     * Type that was most recently checked for compatibility per attribute. Racy writes are benign as they only
+     * result in additional checks.
+     */
+    private final DataType[] m_checkedTypes;
+
+    CompiledNaiveBayesModel(final NaiveBayesModel model, final Collection<String> classValues,
+        final DataTableSpec tableSpec, final double logProbThreshold) {
+        m_classColType = model.getClassColumnDataType();
+        m_classValues = classValues.toArray(new String[0]);
+        final List<String> classValueList = new ArrayList<>(classValues);
+        final List<String> sortedClassValues = model.getSortedClassValues();
+        m_sortedClassIdxs = new int[sortedClassValues.size()];
+        for (int i = 0; i < m_sortedClassIdxs.length; i++) {
+            m_sortedClassIdxs[i] = classValueList.indexOf(sortedClassValues.get(i));
+        }
+        m_logPriors = new double[m_classValues.length];
+        for (int c = 0; c < m_classValues.length; c++) {
+            m_logPriors[c] = FastMath.log(model.getClassPriorProbability(m_classValues[c]));
+        }
+        final List<Integer> colIdxs = new ArrayList<>();
+        final List<AttributeModel> models = new ArrayList<>();
+        for (int i = 0, length = tableSpec.getNumColumns(); i < length; i++) {
+            final AttributeModel attrModel = model.getAttributeModel(tableSpec.getColumnSpec(i).getName());
+            //skip unknown attributes and the class value column
+            if (attrModel != null && !(attrModel instanceof ClassAttributeModel)) {
+                colIdxs.add(i);
+                models.add(attrModel);
+            }
+        }
+        m_colIdxs = colIdxs.stream().mapToInt(Integer::intValue).toArray();
+        m_models = models.toArray(new AttributeModel[0]);
+        m_attributes = new CompiledAttribute[m_models.length];
+        for (int a = 0; a < m_models.length; a++) {
+            m_attributes[a] = m_models[a].compile(classValueList, logProbThreshold);
+        }
+        m_checkedTypes = new DataType[m_models.length];
+    }
+
+    /**
+     * Calculates the log probability of each class (in the order of the class model) for the given row.
+     */
+    private double[] getLogClassProbabilities(final DataRow row) {
+        final double[] logProbs = m_logPriors.clone();
+        for (int a = 0; a < m_attributes.length; a++) {
+            final DataCell cell = row.getCell(m_colIdxs[a]);
+            final AttributeModel model = m_models[a];
+            final DataType type = cell.getType();
+            if (m_checkedTypes[a] != type) {
+                if (!model.isCompatible(type)) {
+                    throw new IllegalArgumentException(String.format(
+                        "Value in column '%s' (%s) is not " + "compatible with attribute model %s (Column type %s)",
+                        model.getAttributeName(), cell, model.getType(), type));
+                }
+                m_checkedTypes[a] = type;
+            }
+            if (cell.isMissing() && model.ignoreMissingVals()) {
+                // we add 0, i.e., we multiply by 1
+                continue;
+            }
+            m_attributes[a].addLogProbabilities(cell, logProbs);
+        }
+        return logProbs;
+    }
+
+    /**
+     * Returns the {@link DataCell} of the class with the highest probability for the given row.
+     *
+     * @param row a row of the table this model was compiled for
+     * @return the class attribute {@link DataCell} with the highest probability for the given attribute values
+     * @see NaiveBayesModel#getMostLikelyClassCell(String[], DataRow)
+     */
+    public DataCell getMostLikelyClassCell(final DataRow row) {
+        return NaiveBayesModel.createPredictedClassCell(m_classColType,
+            m_classValues[getMostLikelyClassIdx(row, getLogClassProbabilities(row))]);
+    }
+
+    /**
+     * Returns the {@link DataCell} of the class with the highest probability together with the probabilities of all
+     * classes, which requires a single pass over the attributes only.
+     *
+     * @param row a row of the table this model was compiled for
+     * @param normalize set to <code>true</code> if the probability values should be normalized
+     * @param classProbs array of the size of the number of classes the probabilities are written to in the order of
+     *            {@link NaiveBayesModel#getSortedClassValues()}
+     * @return the class attribute {@link DataCell} with the highest probability for the given attribute values
+     * @see NaiveBayesModel#getClassProbabilities(String[], DataRow, List, boolean)
+     */
+    public DataCell predict(final DataRow row, final boolean normalize, final double[] classProbs) {
+        final double[] logProbs = getLogClassProbabilities(row);
+        final int winner = getMostLikelyClassIdx(row, logProbs);
+        for (int i = 0; i < m_sortedClassIdxs.length; i++) {
+            final int k = m_sortedClassIdxs[i];
+            if (normalize) {
+                // see NaiveBayesModel#getClassProbabilities for the derivation
+                classProbs[i] = 1.0 / Arrays.stream(logProbs).map(prob -> FastMath.exp(prob - logProbs[k])).sum();
+            } else {
+                classProbs[i] = FastMath.exp(logProbs[k]);
+            }
+        }
+        return NaiveBayesModel.createPredictedClassCell(m_classColType, m_classValues[winner]);
+    }
+
+    /**
+     * @return the number of class values
+     */
+    public int getNoOfClassValues() {
+        return m_classValues.length;
+    }
+
+    private static int getMostLikelyClassIdx(final DataRow row, final double[] logProbs) {
+        double maxProbability = Double.NEGATIVE_INFINITY;
+        int mostLikelyClass = -1;
+        for (int c = 0; c < logProbs.length; c++) {
+            if (logProbs[c] > maxProbability) {
+                maxProbability = logProbs[c];
+                mostLikelyClass = c;
+            }
+        }
+        // If this happens we have a bug, or the pmml threshold is 0
+        if (mostLikelyClass < 0) {
+            throw new IllegalStateException(
+                NaiveBayesModel.ZERO_PROB_EXCEPTION + " for row " + row.getKey().getString());
+        }
+        return mostLikelyClass;
+    }
+
+    /**
+     * Fallback that delegates to the {@link AttributeModel} for each class.
+     */
+    static final class GenericAttribute implements CompiledAttribute {
+
+        private final AttributeModel m_model;
+
+        private final String[] m_classValues;
+
+        private final double m_logProbThreshold;
+
+        GenericAttribute(final AttributeModel model, final List<String> classValues, final double logProbThreshold) {
+            m_model = model;
+            m_classValues = classValues.toArray(new String[0]);
+            m_logProbThreshold = logProbThreshold;
+        }
+
+        @Override
+        public void addLogProbabilities(final DataCell attributeValue, final double[] logProbs) {
+            for (int c = 0; c < m_classValues.length; c++) {
+                logProbs[c] += m_model.getLogProbabilityInternal(m_classValues[c], attributeValue, m_logProbThreshold);
+            }
+        }
+    }
+}
@@ -111,7 +111,7 @@ public final class NaiveBayesModel {
     public static final double DEFAULT_MIN_PROB_THRESHOLD = 1e-4;
 
     /** All classes have zero probability exception. */
-    private static final String ZERO_PROB_EXCEPTION = "All potential classes have a zero probability. This is most "
+    static final String ZERO_PROB_EXCEPTION = "All potential classes have a zero probability. This is most "
         + "likely due to a standard deviation and/or minimum probability value approx. 0.";
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(NaiveBayesModel.class);
@@ -983,6 +983,27 @@ public DataCell getMostLikelyClassCell(final String[] attributeNames, final Data
         return createPredictedClassCell(getClassColumnDataType(), mostLikelyClass);
     }
 
+    /**
+     * Creates the scoring form of this model for tables with the given spec. Use it instead of the row wise methods of
+     * this class if many rows of the same table are scored.
+     *
+     * @param tableSpec the spec of the table to score
+     * @return the compiled model for the given table spec
+     * @since 3.8
+     */
+    public CompiledNaiveBayesModel compile(final DataTableSpec tableSpec) {
+        if (tableSpec == null) {
+            throw new NullPointerException("Table spec must not be null");
+        }
+        final double probabilityThreshold;
+        if (hasPMMLThreshold()) {
+            probabilityThreshold = m_pmmlZeroProbThreshold.doubleValue();
+        } else {
+            probabilityThreshold = DEFAULT_MIN_PROB_THRESHOLD;
+        }
+        return new CompiledNaiveBayesModel(this, getClassValues(), tableSpec, FastMath.log(probabilityThreshold));
+    }
+
     /**
      * @param dataType the {@link DataType} to convert to
      * @param val the value to convert
@@ -990,7 +1011,7 @@ public DataCell getMostLikelyClassCell(final String[] attributeNames, final Data
      *
      * @see PMMLDataDictionaryTranslator#getKNIMEDataType(Enum)
      */
-    private static DataCell createPredictedClassCell(final DataType dataType, final String val) {
+    static DataCell createPredictedClassCell(final DataType dataType, final String val) {
         if (dataType.isCompatible(BooleanValue.class)) {
             return BooleanCellFactory.create(Boolean.parseBoolean(val));
         } else if (dataType.isCompatible(IntValue.class)) {
@@ -645,6 +645,70 @@ public String toString() {
         return classVal.getLogProbability(attributeValue, logProbThreshold);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    CompiledNaiveBayesModel.CompiledAttribute compile(final List<String> classValues, final double logProbThreshold) {
+        final NominalClassValue[] classVals = new NominalClassValue[classValues.size()];
+        final Map<String, Integer> valueIdxs = new HashMap<>();
+        for (int c = 0; c < classVals.length; c++) {
+            classVals[c] = m_classValues.get(classValues.get(c));
+            if (classVals[c] != null) {
+                if (classVals[c].getNoOfRows() == 0) {
+                    // keep the exception of the uncompiled model for the rows it would be thrown for
+                    return super.compile(classValues, logProbThreshold);
+                }
+                for (final String attrVal : classVals[c].m_recsByAttrValue.keySet()) {
+                    valueIdxs.putIfAbsent(attrVal, valueIdxs.size());
+                }
+            }
+        }
+        final int unknownIdx = valueIdxs.size();
+        final int missingIdx = unknownIdx + 1;
+        final double[][] logProbs = new double[missingIdx + 1][classVals.length];
+        for (int c = 0; c < classVals.length; c++) {
+            final NominalClassValue classVal = classVals[c];
+            if (classVal == null) {
+                for (final double[] valueLogProbs : logProbs) {
+                    valueLogProbs[c] = logProbThreshold;
+                }
+                continue;
+            }
+            final double noOfRows4Class = classVal.getNoOfRows();
+            for (final Map.Entry<String, Integer> e : valueIdxs.entrySet()) {
+                logProbs[e.getValue()][c] =
+                    getLogProbability(classVal.getNoOfRows4AttributeValue(e.getKey()), noOfRows4Class, logProbThreshold);
+            }
+            logProbs[unknownIdx][c] = logProbThreshold;
+            logProbs[missingIdx][c] =
+                getLogProbability(classVal.getNoOfMissingValueRecs(), noOfRows4Class, logProbThreshold);
+        }
+        return (attributeValue, classLogProbs) -> {
+            final int idx;
+            if (attributeValue.isMissing()) {
+                idx = missingIdx;
+            } else {
+                idx = valueIdxs.getOrDefault(attributeValue.toString(), unknownIdx);
+            }
+            final double[] valueLogProbs = logProbs[idx];
+            for (int c = 0; c < valueLogProbs.length; c++) {
+                classLogProbs[c] += valueLogProbs[c];
+            }
+        };
+    }
+
+    /**
+     * Same computation as {@link NominalClassValue#getLogProbability(DataCell, double)} for a given row count.
+     */
+    private static double getLogProbability(final double noOfRows, final double noOfRows4Class,
+        final double logProbThreshold) {
+        if (noOfRows > 0) {
+            return FastMath.log(noOfRows / noOfRows4Class);
+        }
+        return logProbThreshold;
+    }
+
     /**
      * {@inheritDoc}
      */
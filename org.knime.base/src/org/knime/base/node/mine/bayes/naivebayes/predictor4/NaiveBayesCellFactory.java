@@ -49,6 +49,7 @@
 import java.util.List;
 
 import org.knime.base.data.append.column.AppendedCellFactory;
+import org.knime.base.node.mine.bayes.naivebayes.datamodel3.CompiledNaiveBayesModel;
 import org.knime.base.node.mine.bayes.naivebayes.datamodel3.NaiveBayesModel;
 import org.knime.base.node.mine.util.PredictorHelper;
 import org.knime.core.data.DataCell;
@@ -57,19 +58,18 @@
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
-import org.knime.core.data.RowKey;
-import org.knime.core.data.container.CellFactory;
+import org.knime.core.data.container.AbstractCellFactory;
 import org.knime.core.data.def.DoubleCell;
-import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.port.pmml.PMMLDataDictionaryTranslator;
 
 /**
  * Naive Bayes <code>AppendCellFactory</code> class which uses the given <code>NaiveBayesModel</code> to predict the
- * class membership of each row.
+ * class membership of each row. The model is compiled for the input table spec once and rows are processed
+ * concurrently.
  *
  * @author Tobias Koetter, KNIME AG, Zurich, Switzerland
  */
-final class NaiveBayesCellFactory implements AppendedCellFactory, CellFactory {
+final class NaiveBayesCellFactory extends AbstractCellFactory implements AppendedCellFactory {
 
     /**
      * The <code>NaiveBayesModel</code> which holds all necessary information to calculate the probability for new
@@ -77,18 +77,11 @@ final class NaiveBayesCellFactory implements AppendedCellFactory, CellFactory {
      */
     private final NaiveBayesModel m_model;
 
-    private final List<String> m_sortedClassVals;
-
-    private final DataTableSpec m_tableSpec;
-
-    private final String[] m_attributeNames;
+    /** The model compiled for the input table spec, which is used to score the rows. */
+    private final CompiledNaiveBayesModel m_compiledModel;
 
     private final boolean m_inclClassProbVals;
 
-    private final String m_columnName;
-
-    private final String m_suffix;
-
     /**
      * Constructor for class NaiveBayesAlgorithm.
      *
@@ -101,22 +94,18 @@ final class NaiveBayesCellFactory implements AppendedCellFactory, CellFactory {
      */
     NaiveBayesCellFactory(final NaiveBayesModel model, final String columnName, final DataTableSpec tableSpec,
         final boolean inclClassProbVals, final String suffix) {
-        this.m_columnName = columnName;
-        this.m_suffix = suffix;
-        if (model == null) {
-            throw new NullPointerException("Model must not be null.");
-        }
+        super(true, createResultColSpecs(checkNotNull(model, "Model"), columnName,
+            checkNotNull(tableSpec, "TableSpec"), inclClassProbVals, suffix));
         m_model = model;
-        m_sortedClassVals = model.getSortedClassValues();
-        if (tableSpec == null) {
-            throw new NullPointerException("TableSpec must not be null.");
-        }
-        m_tableSpec = tableSpec;
+        m_compiledModel = model.compile(tableSpec);
         m_inclClassProbVals = inclClassProbVals;
-        m_attributeNames = new String[tableSpec.getNumColumns()];
-        for (int i = 0, length = tableSpec.getNumColumns(); i < length; i++) {
-            m_attributeNames[i] = tableSpec.getColumnSpec(i).getName();
+    }
+
+    private static <T> T checkNotNull(final T obj, final String name) {
+        if (obj == null) {
+            throw new NullPointerException(name + " must not be null.");
         }
+        return obj;
     }
 
     /**
@@ -181,14 +170,6 @@ private static DataColumnSpec createPredictedClassColSpec(final String classColu
         return classColSpec;
     }
 
-    /**
-     * @return the specification of the result columns in the order they should be append at the end of the original
-     *         table specification
-     */
-    DataColumnSpec[] getResultColumnsSpec() {
-        return createResultColSpecs(m_model, m_columnName, m_tableSpec, m_inclClassProbVals, m_suffix);
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -213,37 +194,18 @@ public String toString() {
      */
     @Override
     public DataCell[] getCells(final DataRow row) {
-        final DataCell predictedClassCell = m_model.getMostLikelyClassCell(m_attributeNames, row);
-        if (predictedClassCell == null) {
-            throw new IllegalStateException("No class found for row with id " + row.getKey());
-        }
         if (!m_inclClassProbVals) {
-            return new DataCell[]{predictedClassCell};
+            return new DataCell[]{m_compiledModel.getMostLikelyClassCell(row)};
         }
-        final Collection<DataCell> resultCells = new ArrayList<>(m_sortedClassVals.size() + 1);
-        final double[] classProbs = m_model.getClassProbabilities(m_attributeNames, row, m_sortedClassVals, true);
+        final double[] classProbs = new double[m_compiledModel.getNoOfClassValues()];
+        final DataCell predictedClassCell = m_compiledModel.predict(row, true, classProbs);
+        final DataCell[] resultCells = new DataCell[classProbs.length + 1];
         //add the probability per class
-        for (final double classVal : classProbs) {
-            resultCells.add(new DoubleCell(classVal));
+        for (int i = 0; i < classProbs.length; i++) {
+            resultCells[i] = new DoubleCell(classProbs[i]);
         }
         //add the class cell last
-        resultCells.add(predictedClassCell);
-        return resultCells.toArray(new DataCell[0]);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public DataColumnSpec[] getColumnSpecs() {
-        return getResultColumnsSpec();
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void setProgress(final int curRowNr, final int rowCount, final RowKey lastKey, final ExecutionMonitor exec) {
-        exec.setProgress(1.0 / rowCount * curRowNr);
+        resultCells[classProbs.length] = predictedClassCell;
+        return resultCells;
     }
 }
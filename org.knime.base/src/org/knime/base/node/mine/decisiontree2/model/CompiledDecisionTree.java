@@ -0,0 +1,718 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.decisiontree2.model;
+
+import java.awt.Color;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.knime.base.node.mine.decisiontree2.PMMLArrayType;
+import org.knime.base.node.mine.decisiontree2.PMMLBooleanOperator;
+import org.knime.base.node.mine.decisiontree2.PMMLCompoundPredicate;
+import org.knime.base.node.mine.decisiontree2.PMMLFalsePredicate;
+import org.knime.base.node.mine.decisiontree2.PMMLMissingValueStrategy;
+import org.knime.base.node.mine.decisiontree2.PMMLNoTrueChildStrategy;
+import org.knime.base.node.mine.decisiontree2.PMMLOperator;
+import org.knime.base.node.mine.decisiontree2.PMMLPredicate;
+import org.knime.base.node.mine.decisiontree2.PMMLSetOperator;
+import org.knime.base.node.mine.decisiontree2.PMMLSimplePredicate;
+import org.knime.base.node.mine.decisiontree2.PMMLSimpleSetPredicate;
+import org.knime.base.node.mine.decisiontree2.PMMLTruePredicate;
+import org.knime.base.util.concurrent.ThreadPoolUtil;
+import org.knime.core.data.BooleanValue;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.util.Pair;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Flattened form of a PMML {@link DecisionTree} for a fixed input table spec. The nodes are laid out breadth first, so
+ * the children of a node occupy a contiguous range of node indices, and the predicates are stored in primitive arrays
+ * with resolved column indices and parsed thresholds. Evaluating a row is a loop over these arrays without any column
+ * name lookups or spec caching, hence a compiled tree can be used by several threads concurrently.
+ *
+ * <p>
+ * The evaluation follows the semantics of {@link DecisionTreeNodeSplitPMML} and the {@link PMMLPredicate}
+ * implementations exactly, including the missing value and no true child strategies.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class CompiledDecisionTree {
+
+    /** Evaluation results of a predicate. */
+    private static final byte FALSE = 0, TRUE = 1, UNKNOWN = 2;
+
+    /** Predicate kinds. */
+    private static final byte CONSTANT_TRUE = 0, CONSTANT_FALSE = 1, SIMPLE = 2, STRING_SET = 3, DOUBLE_SET = 4,
+            COMPOUND = 5;
+
+    /** States of the numeric threshold of a simple predicate. */
+    private static final byte THRESHOLD_VALID = 0, THRESHOLD_EMPTY = 1, THRESHOLD_INVALID = 2;
+
+    private final DecisionTree m_tree;
+
+    private final DataTableSpec m_spec;
+
+    private final DecisionTreeNode[] m_nodes;
+
+    private final int[] m_parent;
+
+    /** Index of the first child or -1 for leaves. */
+    private final int[] m_firstChild;
+
+    private final int[] m_childCount;
+
+    /** Index of the default child or -1 if it does not exist. */
+    private final int[] m_defaultChild;
+
+    /** Column index of the split attribute or -1 if the node has no single split attribute. */
+    private final int[] m_splitColumn;
+
+    /** Index of the predicate that leads from the parent to the node. */
+    private final int[] m_nodePredicate;
+
+    private final PMMLMissingValueStrategy[] m_mvStrategy;
+
+    private final PMMLNoTrueChildStrategy[] m_ntcStrategy;
+
+    private final byte[] m_predKind;
+
+    private final int[] m_predColumn;
+
+    private final PMMLOperator[] m_predOperator;
+
+    private final String[] m_predThreshold;
+
+    private final double[] m_predDoubleThreshold;
+
+    private final byte[] m_predThresholdState;
+
+    private final PMMLSetOperator[] m_predSetOperator;
+
+    private final List<Set<String>> m_predStringSet;
+
+    /** The bits of the double values of a set predicate in ascending order. */
+    private final long[][] m_predDoubleSet;
+
+    private final PMMLBooleanOperator[] m_predBooleanOperator;
+
+    private final int[][] m_predOperands;
+
+    /**
+     * Whether the column type of the last evaluated cell is treated numerically, per predicate. Racy updates are benign
+     * since the holder is immutable.
+     */
+    private final TypeCategory[] m_predTypeCategory;
+
+    private static final class TypeCategory {
+
+        private final DataType m_type;
+
+        private final boolean m_numeric;
+
+        private TypeCategory(final DataType type) {
+            m_type = type;
+            // bool is compatible to double, too, but compared as string (see PMMLSimplePredicate)
+            m_numeric = !type.isCompatible(BooleanValue.class) && type.isCompatible(DoubleValue.class);
+        }
+    }
+
+    private CompiledDecisionTree(final DecisionTree tree, final DataTableSpec spec, final List<DecisionTreeNode> nodes,
+        final int nrPreds) {
+        m_tree = tree;
+        m_spec = spec;
+        final int nrNodes = nodes.size();
+        m_nodes = nodes.toArray(new DecisionTreeNode[nrNodes]);
+        m_parent = new int[nrNodes];
+        m_firstChild = new int[nrNodes];
+        m_childCount = new int[nrNodes];
+        m_defaultChild = new int[nrNodes];
+        m_splitColumn = new int[nrNodes];
+        m_nodePredicate = new int[nrNodes];
+        m_mvStrategy = new PMMLMissingValueStrategy[nrNodes];
+        m_ntcStrategy = new PMMLNoTrueChildStrategy[nrNodes];
+        m_predKind = new byte[nrPreds];
+        m_predColumn = new int[nrPreds];
+        m_predOperator = new PMMLOperator[nrPreds];
+        m_predThreshold = new String[nrPreds];
+        m_predDoubleThreshold = new double[nrPreds];
+        m_predThresholdState = new byte[nrPreds];
+        m_predSetOperator = new PMMLSetOperator[nrPreds];
+        m_predStringSet = new ArrayList<>(nrPreds);
+        m_predDoubleSet = new long[nrPreds][];
+        m_predBooleanOperator = new PMMLBooleanOperator[nrPreds];
+        m_predOperands = new int[nrPreds][];
+        m_predTypeCategory = new TypeCategory[nrPreds];
+    }
+
+    /**
+     * Compiles the given tree for tables with the given spec.
+     *
+     * @param tree the tree to compile
+     * @param spec the spec of the tables to predict
+     * @return the compiled tree or <code>null</code> if the tree contains nodes or predicates that are not supported or
+     *         refers to columns that are not contained in the spec
+     */
+    static CompiledDecisionTree compile(final DecisionTree tree, final DataTableSpec spec) {
+        // lay out the nodes breadth first
+        final List<DecisionTreeNode> nodes = new ArrayList<>();
+        int nrPreds = 0;
+        final Queue<DecisionTreeNode> queue = new ArrayDeque<>();
+        if (tree.getRootNode() == null) {
+            return null;
+        }
+        queue.add(tree.getRootNode());
+        while (!queue.isEmpty()) {
+            final DecisionTreeNode node = queue.poll();
+            nodes.add(node);
+            if (node instanceof DecisionTreeNodeSplitPMML) {
+                final DecisionTreeNodeSplitPMML split = (DecisionTreeNodeSplitPMML)node;
+                final DecisionTreeNode[] children = split.getChildren();
+                final PMMLPredicate[] splitPred = split.getSplitPred();
+                if (children == null || splitPred == null || children.length != splitPred.length) {
+                    return null;
+                }
+                for (final DecisionTreeNode child : children) {
+                    if (child == null) {
+                        return null;
+                    }
+                    queue.add(child);
+                }
+                for (final PMMLPredicate pred : splitPred) {
+                    nrPreds += getNumberOfPredicates(pred);
+                }
+            } else if (!(node instanceof DecisionTreeNodeLeaf)) {
+                return null;
+            }
+        }
+        final CompiledDecisionTree compiled = new CompiledDecisionTree(tree, spec, nodes, nrPreds);
+        return compiled.init(nodes, new ArrayList<>(nrPreds)) ? compiled : null;
+    }
+
+    /**
+     * @return the number of predicates including the operands of compound predicates
+     */
+    private static int getNumberOfPredicates(final PMMLPredicate pred) {
+        int count = 1;
+        if (pred instanceof PMMLCompoundPredicate) {
+            for (final PMMLPredicate operand : ((PMMLCompoundPredicate)pred).getPredicates()) {
+                count += getNumberOfPredicates(operand);
+            }
+        }
+        return count;
+    }
+
+    private boolean init(final List<DecisionTreeNode> nodes, final List<PMMLPredicate> predicates) {
+        m_nodePredicate[0] = -1;
+        m_parent[0] = -1;
+        int nextChild = 1;
+        for (int n = 0; n < m_nodes.length; n++) {
+            m_splitColumn[n] = -1;
+            m_defaultChild[n] = -1;
+            if (!(m_nodes[n] instanceof DecisionTreeNodeSplitPMML)) {
+                m_firstChild[n] = -1;
+                continue;
+            }
+            final DecisionTreeNodeSplitPMML split = (DecisionTreeNodeSplitPMML)m_nodes[n];
+            final String splitAttr = split.getSplitAttr();
+            if (splitAttr != null && !splitAttr.isEmpty()) {
+                m_splitColumn[n] = m_spec.findColumnIndex(splitAttr);
+                if (m_splitColumn[n] < 0) {
+                    return false;
+                }
+            }
+            m_mvStrategy[n] = split.getMVStrategy();
+            m_ntcStrategy[n] = split.getNTCStrategy();
+            final DecisionTreeNode[] children = split.getChildren();
+            final PMMLPredicate[] splitPred = split.getSplitPred();
+            m_firstChild[n] = nextChild;
+            m_childCount[n] = children.length;
+            for (int i = 0; i < children.length; i++) {
+                final int child = nextChild + i;
+                assert nodes.get(child) == children[i];
+                m_parent[child] = n;
+                m_nodePredicate[child] = addPredicate(splitPred[i], predicates);
+                if (m_nodePredicate[child] < 0) {
+                    return false;
+                }
+                if (split.getDefaultChildIndex() != -1 && m_defaultChild[n] < 0
+                    && children[i].getOwnIndex() == split.getDefaultChildIndex()) {
+                    m_defaultChild[n] = child;
+                }
+            }
+            nextChild += children.length;
+        }
+        return true;
+    }
+
+    /**
+     * Adds the given predicate and its operands to the predicate arrays.
+     *
+     * @return the index of the predicate or -1 if it cannot be compiled
+     */
+    private int addPredicate(final PMMLPredicate pred, final List<PMMLPredicate> predicates) {
+        final int p = predicates.size();
+        assert p < m_predKind.length;
+        predicates.add(pred);
+        m_predStringSet.add(null);
+        m_predColumn[p] = -1;
+        if (pred instanceof PMMLTruePredicate) {
+            m_predKind[p] = CONSTANT_TRUE;
+        } else if (pred instanceof PMMLFalsePredicate) {
+            m_predKind[p] = CONSTANT_FALSE;
+        } else if (pred instanceof PMMLSimplePredicate) {
+            final PMMLSimplePredicate simple = (PMMLSimplePredicate)pred;
+            m_predKind[p] = SIMPLE;
+            m_predOperator[p] = simple.getOperator();
+            m_predThreshold[p] = simple.getThreshold();
+            final String threshold = simple.getThreshold();
+            if (threshold == null || threshold.isEmpty()) {
+                m_predThresholdState[p] = THRESHOLD_EMPTY;
+            } else {
+                try {
+                    m_predDoubleThreshold[p] = Double.parseDouble(threshold);
+                    m_predThresholdState[p] = THRESHOLD_VALID;
+                } catch (NumberFormatException e) {
+                    // fails on numeric cells only, as in the predicate
+                    m_predThresholdState[p] = THRESHOLD_INVALID;
+                }
+            }
+        } else if (pred instanceof PMMLSimpleSetPredicate) {
+            final PMMLSimpleSetPredicate set = (PMMLSimpleSetPredicate)pred;
+            m_predSetOperator[p] = set.getSetOperator();
+            if (set.getArrayType() == PMMLArrayType.STRING) {
+                m_predKind[p] = STRING_SET;
+                m_predStringSet.set(p, set.getValues() == null ? null : new HashSet<>(set.getValues()));
+            } else if (set.getArrayType() == PMMLArrayType.INT || set.getArrayType() == PMMLArrayType.REAL) {
+                m_predKind[p] = DOUBLE_SET;
+                if (set.getValues() != null) {
+                    try {
+                        // Set<Double>#contains compares the bits of the values
+                        m_predDoubleSet[p] = set.getValues().stream()
+                            .mapToLong(v -> Double.doubleToLongBits(Double.parseDouble(v))).sorted().distinct()
+                            .toArray();
+                    } catch (NumberFormatException e) {
+                        return -1;
+                    }
+                }
+            } else {
+                return -1;
+            }
+        } else if (pred instanceof PMMLCompoundPredicate) {
+            final PMMLCompoundPredicate compound = (PMMLCompoundPredicate)pred;
+            m_predKind[p] = COMPOUND;
+            m_predBooleanOperator[p] = compound.getBooleanOperator();
+            final List<PMMLPredicate> operands = compound.getPredicates();
+            m_predOperands[p] = new int[operands.size()];
+            for (int i = 0; i < m_predOperands[p].length; i++) {
+                m_predOperands[p][i] = addPredicate(operands.get(i), predicates);
+                if (m_predOperands[p][i] < 0) {
+                    return -1;
+                }
+            }
+            return p;
+        } else {
+            return -1;
+        }
+        if (m_predKind[p] != CONSTANT_TRUE && m_predKind[p] != CONSTANT_FALSE) {
+            m_predColumn[p] = m_spec.findColumnIndex(pred.getSplitAttribute());
+            if (m_predColumn[p] < 0) {
+                return -1;
+            }
+        }
+        return p;
+    }
+
+    /**
+     * @return the number of nodes of the tree
+     */
+    public int getNumberOfNodes() {
+        return m_nodes.length;
+    }
+
+    /**
+     * @param node the index of the node
+     * @return the node of the decision tree with the given index
+     */
+    public DecisionTreeNode getNode(final int node) {
+        return m_nodes[node];
+    }
+
+    /**
+     * Determines the node where the prediction of the given row ends, see
+     * {@link DecisionTreeNode#getWinnerNode(DataRow, DataTableSpec)}.
+     *
+     * @param row a row of the table the tree was compiled for
+     * @return the index of the winner node or a negative value <code>-(n + 1)</code> if no branch of the node with
+     *         index <code>n</code> matched and the no true child strategy requests a null prediction
+     */
+    public int getWinnerNode(final DataRow row) {
+        int node = 0;
+        while (m_firstChild[node] >= 0) {
+            final int splitColumn = m_splitColumn[node];
+            if (splitColumn >= 0 && row.getCell(splitColumn).isMissing()) {
+                // we cannot determine the split at this node because value is missing
+                return node;
+            }
+            final int child = getMatchingChild(node, row);
+            if (child < 0) {
+                return -(node + 1);
+            } else if (child == node) {
+                return node;
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    /**
+     * Determines the winner nodes of a batch of rows in parallel.
+     *
+     * @param rows rows of the table the tree was compiled for
+     * @param pool the pool to run the chunks in
+     * @param nrChunks the number of chunks the rows are divided into
+     * @return the winner node for each row, see {@link #getWinnerNode(DataRow)}
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    public int[] getWinnerNodes(final List<? extends DataRow> rows, final ThreadPool pool, final int nrChunks)
+        throws CanceledExecutionException {
+        final int[] winners = new int[rows.size()];
+        final int chunkSize = (rows.size() + nrChunks - 1) / Math.max(nrChunks, 1);
+        if (chunkSize == 0) {
+            return winners;
+        }
+        final List<Future<Void>> futures = new ArrayList<>(nrChunks);
+        try {
+            for (int start = 0; start < rows.size(); start += chunkSize) {
+                final int from = start;
+                final int to = Math.min(start + chunkSize, rows.size());
+                futures.add(pool.enqueue(() -> {
+                    for (int i = from; i < to; i++) {
+                        winners[i] = getWinnerNode(rows.get(i));
+                    }
+                    return null;
+                }));
+            }
+            ThreadPoolUtil.runInvisible(pool, () -> {
+                for (Future<Void> future : futures) {
+                    future.get();
+                }
+                return null;
+            });
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(ThreadPoolUtil.throwIfUnchecked(e));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Prediction canceled");
+        } finally {
+            for (Future<Void> future : futures) {
+                future.cancel(true);
+            }
+        }
+        return winners;
+    }
+
+    /**
+     * Returns the winning class and the class counts of all classes for a winner node, see
+     * {@link DecisionTreeNode#getWinnerAndClasscounts(DataRow, DataTableSpec)}.
+     *
+     * @param winner the winner node as returned by {@link #getWinnerNode(DataRow)}
+     * @return class the decision tree predicts and the class counts
+     */
+    public Pair<DataCell, LinkedHashMap<DataCell, Double>> getWinnerAndClasscounts(final int winner) {
+        return DecisionTreeNode.getWinnerAndClasscounts(winner < 0 ? null : m_nodes[winner]);
+    }
+
+    /**
+     * Adds the row to the nodes of the tree for HiLiting purposes, see
+     * {@link DecisionTree#addCoveredPattern(DataRow, DataTableSpec)}. Must not be called concurrently.
+     *
+     * @param row the row
+     * @param winner the winner node of the row as returned by {@link #getWinnerNode(DataRow)}
+     * @throws Exception if something went wrong (unknown attribute for example)
+     */
+    public void addCoveredPattern(final DataRow row, final int winner) throws Exception {
+        addCovered(row, winner, true);
+    }
+
+    /**
+     * Adds the color of the row to the nodes of the tree, see
+     * {@link DecisionTree#addCoveredColor(DataRow, DataTableSpec)}. Must not be called concurrently.
+     *
+     * @param row the row
+     * @param winner the winner node of the row as returned by {@link #getWinnerNode(DataRow)}
+     * @throws Exception if something went wrong (unknown attribute for example)
+     */
+    public void addCoveredColor(final DataRow row, final int winner) throws Exception {
+        addCovered(row, winner, false);
+    }
+
+    private void addCovered(final DataRow row, final int winner, final boolean addPattern) throws Exception {
+        int node = winner < 0 ? -(winner + 1) : winner;
+        if (winner >= 0 && m_firstChild[node] >= 0 && m_splitColumn[node] >= 0
+            && row.getCell(m_splitColumn[node]).isMissing()) {
+            // a missing value distributes the row among all children, let the tree handle this rare case
+            if (addPattern) {
+                m_tree.addCoveredPattern(row, m_spec);
+            } else {
+                m_tree.addCoveredColor(row, m_spec);
+            }
+            return;
+        }
+        final Color col = m_spec.getRowColor(row).getColor();
+        if (winner < 0) {
+            // the node without matching child ignores the row, its ancestors don't
+            node = m_parent[node];
+        } else if (m_firstChild[node] < 0) {
+            final DecisionTreeNodeLeaf leaf = (DecisionTreeNodeLeaf)m_nodes[node];
+            if (addPattern) {
+                leaf.addCoveredPattern(row, m_spec, 1.0);
+            } else {
+                leaf.addCoveredColor(row, m_spec, 1.0);
+            }
+            node = m_parent[node];
+        }
+        for (; node >= 0; node = m_parent[node]) {
+            m_nodes[node].addColorToMap(col, 1.0);
+        }
+    }
+
+    /**
+     * @return the index of the matching child, the node itself for last prediction or -1 for null prediction
+     * @see DecisionTreeNodeSplitPMML
+     */
+    private int getMatchingChild(final int node, final DataRow row) {
+        final int firstChild = m_firstChild[node];
+        for (int child = firstChild, end = firstChild + m_childCount[node]; child < end; child++) {
+            final byte result = evaluate(m_nodePredicate[child], row);
+            if (result == TRUE) {
+                return child;
+            } else if (result == UNKNOWN) {
+                // Apply the missing value strategy
+                switch (m_mvStrategy[node]) {
+                    case NONE:
+                        /* missing counts as false
+                        -> continue with next predicate */
+                        break;
+                    case DEFAULT_CHILD:
+                        if (m_defaultChild[node] < 0) {
+                            // throws the appropriate exception
+                            ((DecisionTreeNodeSplitPMML)m_nodes[node]).getDefaultChild();
+                        }
+                        return m_defaultChild[node];
+                    case LAST_PREDICTION:
+                        return node;
+                    default:
+                        throw new UnsupportedOperationException(
+                            "Missing value strategy '" + m_mvStrategy[node] + "' is not supported yet.");
+                }
+            }
+        }
+        if (m_ntcStrategy[node] == PMMLNoTrueChildStrategy.RETURN_LAST_PREDICTION) {
+            return node;
+        }
+        return -1;
+    }
+
+    private byte evaluate(final int p, final DataRow row) {
+        switch (m_predKind[p]) {
+            case CONSTANT_TRUE:
+                return TRUE;
+            case CONSTANT_FALSE:
+                return FALSE;
+            case SIMPLE:
+                return evaluateSimple(p, row.getCell(m_predColumn[p]));
+            case STRING_SET: {
+                final DataCell cell = row.getCell(m_predColumn[p]);
+                if (cell.isMissing()) {
+                    return UNKNOWN;
+                }
+                final Set<String> values = m_predStringSet.get(p);
+                if (values == null) {
+                    return FALSE;
+                }
+                return toResult(values.contains(cell.toString()) == (m_predSetOperator[p] == PMMLSetOperator.IS_IN));
+            }
+            case DOUBLE_SET: {
+                final DataCell cell = row.getCell(m_predColumn[p]);
+                if (cell.isMissing()) {
+                    return UNKNOWN;
+                }
+                final double value = ((DoubleValue)cell).getDoubleValue();
+                final long[] values = m_predDoubleSet[p];
+                if (values == null) {
+                    return FALSE;
+                }
+                final boolean contained = Arrays.binarySearch(values, Double.doubleToLongBits(value)) >= 0;
+                return toResult(contained == (m_predSetOperator[p] == PMMLSetOperator.IS_IN));
+            }
+            case COMPOUND:
+                return evaluateCompound(p, row);
+            default:
+                throw new IllegalStateException("Unknown predicate kind " + m_predKind[p]);
+        }
+    }
+
+    /** @see PMMLSimplePredicate#evaluate(DataRow, DataTableSpec) */
+    private byte evaluateSimple(final int p, final DataCell cell) {
+        final PMMLOperator op = m_predOperator[p];
+        if (cell.isMissing()) {
+            if (op == PMMLOperator.IS_MISSING || op == PMMLOperator.IS_NOT_MISSING) {
+                return toResult(op.evaluate((String)null, m_predThreshold[p]));
+            }
+            return UNKNOWN;
+        }
+        TypeCategory category = m_predTypeCategory[p];
+        if (category == null || category.m_type != cell.getType()) {
+            category = new TypeCategory(cell.getType());
+            m_predTypeCategory[p] = category;
+        }
+        if (!category.m_numeric) {
+            return toResult(op.evaluate(cell.toString(), m_predThreshold[p]));
+        }
+        final double value = ((DoubleValue)cell).getDoubleValue();
+        switch (m_predThresholdState[p]) {
+            case THRESHOLD_EMPTY:
+                return toResult(op.evaluate(value, null));
+            case THRESHOLD_INVALID:
+                // throws the same exception as the predicate
+                Double.parseDouble(m_predThreshold[p]);
+                throw new IllegalStateException("Invalid threshold " + m_predThreshold[p]);
+            default:
+                return toResult(evaluate(op, value, m_predDoubleThreshold[p]));
+        }
+    }
+
+    /** Same as {@link PMMLOperator#evaluate(Double, Double)} for non null values but without boxing. */
+    private static boolean evaluate(final PMMLOperator op, final double a, final double b) {
+        switch (op) {
+            case EQUAL:
+                return Double.doubleToLongBits(a) == Double.doubleToLongBits(b);
+            case NOT_EQUAL:
+                return Double.doubleToLongBits(a) != Double.doubleToLongBits(b);
+            case LESS_THAN:
+                return a < b;
+            case LESS_OR_EQUAL:
+                return a <= b;
+            case GREATER_THAN:
+                return a > b;
+            case GREATER_OR_EQUAL:
+                return a >= b;
+            case IS_MISSING:
+                return false;
+            case IS_NOT_MISSING:
+                return true;
+            default:
+                return op.evaluate(a, b);
+        }
+    }
+
+    /** @see PMMLCompoundPredicate#evaluate(DataRow, DataTableSpec) */
+    private byte evaluateCompound(final int p, final DataRow row) {
+        final PMMLBooleanOperator op = m_predBooleanOperator[p];
+        byte eval = FALSE;
+        int count = 0;
+        search: for (final int operand : m_predOperands[p]) {
+            eval = evaluate(operand, row);
+            switch (op) {
+                case AND:
+                    if (eval != TRUE) {
+                        // break evaluation on first negative result
+                        break search;
+                    }
+                    break;
+                case OR:
+                    if (eval != FALSE) {
+                        // break evaluation on first positive result
+                        break search;
+                    }
+                    break;
+                case XOR:
+                    if (eval == UNKNOWN) {
+                        break search;
+                    } else if (eval == TRUE) {
+                        // count positive results
+                        count++;
+                    }
+                    break;
+                case SURROGATE:
+                    if (eval == UNKNOWN) {
+                        // just continue on unknown result (missing values)
+                        continue;
+                    } else {
+                        // break the loop to return the evaluation result
+                        break search;
+                    }
+                default:
+                    break;
+            }
+        }
+        if (op == PMMLBooleanOperator.XOR) {
+            eval = toResult(count % 2 != 0);
+        }
+        return eval;
+    }
+
+    private static byte toResult(final boolean result) {
+        return result ? TRUE : FALSE;
+    }
+}
@@ -209,6 +209,20 @@ public LinkedHashMap<DataCell, Double> getClassCounts(final DataRow row,
         return m_rootNode.getWinnerAndClasscounts(row, spec);
     }
 
+    /**
+     * Compiles this tree into a flat form that predicts the rows of tables
+     * with the given spec without any column name lookups and can be used by
+     * several threads concurrently.
+     *
+     * @param spec the spec of the tables to predict
+     * @return the compiled tree or <code>null</code> if this tree contains
+     *         nodes or predicates that cannot be compiled
+     * @since 3.8
+     */
+    public CompiledDecisionTree compile(final DataTableSpec spec) {
+        return CompiledDecisionTree.compile(this, spec);
+    }
+
     /**
      * Clean all color information in the entire tree.
      */
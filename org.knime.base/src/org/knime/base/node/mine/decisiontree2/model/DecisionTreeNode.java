@@ -300,7 +300,20 @@ public LinkedHashMap<DataCell, Double> getClassCounts() {
     public final Pair<DataCell, LinkedHashMap<DataCell, Double>>
             getWinnerAndClasscounts(final DataRow row,
             final DataTableSpec spec) throws Exception {
-        DecisionTreeNode winnerNode = getWinnerNode(row, spec);
+        return getWinnerAndClasscounts(getWinnerNode(row, spec));
+    }
+
+    /**
+     * Returns the winning class and the class counts of all classes for the
+     * node a prediction ended in.
+     *
+     * @param winnerNode the node returned by
+     *            {@link #getWinnerNode(DataRow, DataTableSpec)}, might be
+     *            <code>null</code>
+     * @return class of pattern the decision tree predicts and the class counts
+     */
+    static Pair<DataCell, LinkedHashMap<DataCell, Double>>
+            getWinnerAndClasscounts(final DecisionTreeNode winnerNode) {
         LinkedHashMap<DataCell, Double> classCounts;
         DataCell winner = null;
 
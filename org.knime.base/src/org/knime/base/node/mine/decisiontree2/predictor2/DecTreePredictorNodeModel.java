@@ -62,8 +62,10 @@
 import java.util.zip.GZIPOutputStream;
 
 import org.knime.base.node.mine.decisiontree2.PMMLDecisionTreeTranslator;
+import org.knime.base.node.mine.decisiontree2.model.CompiledDecisionTree;
 import org.knime.base.node.mine.decisiontree2.model.DecisionTree;
 import org.knime.base.node.mine.util.PredictorHelper;
+import org.knime.base.util.concurrent.ThreadPoolUtil;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnDomain;
 import org.knime.core.data.DataColumnDomainCreator;
@@ -72,6 +74,7 @@
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.StringValue;
+import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.data.def.BooleanCell;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.DoubleCell;
@@ -82,6 +85,7 @@
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.ModelContent;
 import org.knime.core.node.ModelContentRO;
 import org.knime.core.node.NodeLogger;
@@ -99,6 +103,7 @@
 import org.knime.core.node.util.CheckUtils;
 import org.knime.core.pmml.PMMLModelType;
 import org.knime.core.util.Pair;
+import org.knime.core.util.ThreadPool;
 import org.knime.core.util.UniqueNameGenerator;
 import org.w3c.dom.Node;
 
@@ -113,6 +118,9 @@ public final class DecTreePredictorNodeModel extends NodeModel {
     /** Index of input model (=decision tree) port. */
     public static final int INMODELPORT = 0;
 
+    /** The number of rows whose winner nodes are determined in parallel at once. */
+    private static final int BATCH_SIZE = 10000;
+
     /** The node logger for this class. */
     private static final NodeLogger LOGGER =
             NodeLogger.getLogger(DecTreePredictorNodeModel.class);
@@ -268,69 +276,59 @@ public PortObject[] execute(final PortObject[] inPorts,
         final long numberRows = inData.size();
         exec.setMessage("Classifying...");
         List<String> predictionValues = getPredictionStrings((PMMLPortObjectSpec)inPorts[INMODELPORT].getSpec());
-        for (DataRow thisRow : inData) {
-            DataCell cl = null;
-            LinkedHashMap<String, Double> classDistrib = null;
-            try {
-                Pair<DataCell, LinkedHashMap<DataCell, Double>> pair
-                        = decTree.getWinnerAndClasscounts(
-                                thisRow, inData.getDataTableSpec());
-                cl = pair.getFirst();
-                LinkedHashMap<DataCell, Double> classCounts =
-                   pair.getSecond();
-
-                classDistrib = getDistribution(classCounts);
-                if (coveredPattern < m_maxNumCoveredPattern.getIntValue()) {
-                    // remember this one for HiLite support
-                    decTree.addCoveredPattern(thisRow, inData
-                            .getDataTableSpec());
-                    coveredPattern++;
-                } else {
-                    // too many patterns for HiLite - at least remember color
-                    decTree.addCoveredColor(thisRow, inData
-                            .getDataTableSpec());
-                }
-                nrPattern++;
-            } catch (Exception e) {
-                LOGGER.error("Decision Tree evaluation failed: "
-                        + e.getMessage());
-                throw e;
-            }
-            if (cl == null) {
-                LOGGER.error("Decision Tree evaluation failed: result empty");
-                throw new Exception("Decision Tree evaluation failed.");
-            }
-
-            DataCell[] newCells = new DataCell[outSpec.getNumColumns()];
-            int numInCells = thisRow.getNumCells();
-            for (int i = 0; i < numInCells; i++) {
-                newCells[i] = thisRow.getCell(i);
-            }
-
-            if (m_showDistribution.getBooleanValue()) {
-                assert predictionValues.size() >= newCells.length - 1 - numInCells : "Could not determine the prediction values: "
-                    + newCells.length + "; " + numInCells + "; " + predictionValues;
-                for (int i = numInCells; i < newCells.length - 1; i++) {
-                    String predClass = predictionValues.get(i - numInCells);
-                    if (classDistrib != null
-                            && classDistrib.get(predClass) != null) {
-                        newCells[i] = new DoubleCell(
-                                classDistrib.get(predClass));
+        final DataTableSpec inSpec = inData.getDataTableSpec();
+        final CompiledDecisionTree compiledTree = decTree.compile(inSpec);
+        if (compiledTree != null) {
+            nrPattern = predictCompiled(compiledTree, inData, outData, predictionValues, exec);
+            coveredPattern = Math.min(nrPattern, m_maxNumCoveredPattern.getIntValue());
+        } else {
+            for (DataRow thisRow : inData) {
+                DataCell cl = null;
+                LinkedHashMap<String, Double> classDistrib = null;
+                try {
+                    Pair<DataCell, LinkedHashMap<DataCell, Double>> pair
+                            = decTree.getWinnerAndClasscounts(
+                                    thisRow, inSpec);
+                    cl = pair.getFirst();
+                    LinkedHashMap<DataCell, Double> classCounts =
+                       pair.getSecond();
+
+                    classDistrib = getDistribution(classCounts);
+                    if (coveredPattern < m_maxNumCoveredPattern.getIntValue()) {
+                        // remember this one for HiLite support
+                        decTree.addCoveredPattern(thisRow, inSpec);
+                        coveredPattern++;
                     } else {
-                        newCells[i] = new DoubleCell(0.0);
+                        // too many patterns for HiLite - at least remember color
+                        decTree.addCoveredColor(thisRow, inSpec);
                     }
+                    nrPattern++;
+                } catch (Exception e) {
+                    LOGGER.error("Decision Tree evaluation failed: "
+                            + e.getMessage());
+                    throw e;
                 }
-            }
-            newCells[newCells.length - 1] = cl;
+                if (cl == null) {
+                    LOGGER.error("Decision Tree evaluation failed: result empty");
+                    throw new Exception("Decision Tree evaluation failed.");
+                }
+
+                DataCell[] newCells = new DataCell[outSpec.getNumColumns()];
+                int numInCells = thisRow.getNumCells();
+                for (int i = 0; i < numInCells; i++) {
+                    newCells[i] = thisRow.getCell(i);
+                }
+                fillPredictionCells(newCells, numInCells, cl, classDistrib, predictionValues);
 
-            outData.addRowToTable(new DefaultRow(thisRow.getKey(), newCells));
+                outData.addRowToTable(new DefaultRow(thisRow.getKey(), newCells));
 
-            rowCount++;
-            if (rowCount % 100 == 0) {
-                exec.setProgress(rowCount / (double) numberRows,
-                        "Classifying... Row " + rowCount + " of " + numberRows);
+                rowCount++;
+                if (rowCount % 100 == 0) {
+                    exec.setProgress(rowCount / (double) numberRows,
+                            "Classifying... Row " + rowCount + " of " + numberRows);
+                }
+                exec.checkCanceled();
             }
-            exec.checkCanceled();
         }
         if (coveredPattern < nrPattern) {
             // let the user know that we did not store all available pattern
@@ -345,6 +343,113 @@ public PortObject[] execute(final PortObject[] inPorts,
         return new BufferedDataTable[]{outData.getTable()};
     }
 
+    /**
+     * Predicts the rows with the compiled tree. The rows are read in batches whose winner nodes are determined in
+     * parallel, the output rows and the HiLite information are then created in the order of the input table. The
+     * prediction cells are created only once per winner node.
+     *
+     * @return the number of predicted rows
+     */
+    private long predictCompiled(final CompiledDecisionTree compiledTree, final BufferedDataTable inData,
+        final BufferedDataContainer outData, final List<String> predictionValues, final ExecutionContext exec)
+        throws Exception {
+        final int nrThreads = ThreadPoolUtil.getMaxThreads();
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(nrThreads);
+        final int nrOutCells = outData.getTableSpec().getNumColumns();
+        // the prediction cells per winner node, the last entry is used for null predictions
+        final DataCell[][] predictionCells = new DataCell[compiledTree.getNumberOfNodes() + 1][];
+        final long numberRows = inData.size();
+        final List<DataRow> batch = new ArrayList<>(BATCH_SIZE);
+        long rowCount = 0;
+        try (CloseableRowIterator it = inData.iterator()) {
+            while (it.hasNext()) {
+                batch.clear();
+                while (it.hasNext() && batch.size() < BATCH_SIZE) {
+                    batch.add(it.next());
+                }
+                final int[] winners;
+                try {
+                    winners = compiledTree.getWinnerNodes(batch, pool, nrThreads);
+                } catch (RuntimeException e) {
+                    LOGGER.error("Decision Tree evaluation failed: " + e.getMessage());
+                    throw e;
+                }
+                for (int r = 0; r < winners.length; r++) {
+                    final DataRow thisRow = batch.get(r);
+                    final int winner = winners[r];
+                    final int cellsIdx = winner < 0 ? predictionCells.length - 1 : winner;
+                    if (predictionCells[cellsIdx] == null) {
+                        final Pair<DataCell, LinkedHashMap<DataCell, Double>> pair =
+                            compiledTree.getWinnerAndClasscounts(winner);
+                        if (pair.getFirst() == null) {
+                            LOGGER.error("Decision Tree evaluation failed: result empty");
+                            throw new Exception("Decision Tree evaluation failed.");
+                        }
+                        final int nrPredictionCells = nrOutCells - inData.getDataTableSpec().getNumColumns();
+                        final DataCell[] cells = new DataCell[nrPredictionCells];
+                        fillPredictionCells(cells, 0, pair.getFirst(), getDistribution(pair.getSecond()),
+                            predictionValues);
+                        predictionCells[cellsIdx] = cells;
+                    }
+                    try {
+                        if (rowCount < m_maxNumCoveredPattern.getIntValue()) {
+                            // remember this one for HiLite support
+                            compiledTree.addCoveredPattern(thisRow, winner);
+                        } else {
+                            // too many patterns for HiLite - at least remember color
+                            compiledTree.addCoveredColor(thisRow, winner);
+                        }
+                    } catch (Exception e) {
+                        LOGGER.error("Decision Tree evaluation failed: " + e.getMessage());
+                        throw e;
+                    }
+                    final DataCell[] newCells = new DataCell[nrOutCells];
+                    final int numInCells = thisRow.getNumCells();
+                    for (int i = 0; i < numInCells; i++) {
+                        newCells[i] = thisRow.getCell(i);
+                    }
+                    System.arraycopy(predictionCells[cellsIdx], 0, newCells, numInCells, nrOutCells - numInCells);
+                    outData.addRowToTable(new DefaultRow(thisRow.getKey(), newCells));
+                    rowCount++;
+                    if (rowCount % 100 == 0) {
+                        exec.setProgress(rowCount / (double)numberRows,
+                            "Classifying... Row " + rowCount + " of " + numberRows);
+                    }
+                    exec.checkCanceled();
+                }
+            }
+        }
+        return rowCount;
+    }
+
+    /**
+     * Fills the class probabilities (if enabled) and the predicted class into the given array.
+     *
+     * @param newCells the cells to fill
+     * @param numInCells the index of the first cell to fill
+     * @param cl the predicted class
+     * @param classDistrib the class distribution, might be <code>null</code>
+     * @param predictionValues the class values of the probability columns
+     */
+    private void fillPredictionCells(final DataCell[] newCells, final int numInCells, final DataCell cl,
+        final LinkedHashMap<String, Double> classDistrib, final List<String> predictionValues) {
+        if (m_showDistribution.getBooleanValue()) {
+            assert predictionValues.size() >= newCells.length - 1 - numInCells : "Could not determine the prediction values: "
+                + newCells.length + "; " + numInCells + "; " + predictionValues;
+            for (int i = numInCells; i < newCells.length - 1; i++) {
+                String predClass = predictionValues.get(i - numInCells);
+                if (classDistrib != null
+                        && classDistrib.get(predClass) != null) {
+                    newCells[i] = new DoubleCell(
+                            classDistrib.get(predClass));
+                } else {
+                    newCells[i] = new DoubleCell(0.0);
+                }
+            }
+        }
+        newCells[newCells.length - 1] = cl;
+    }
+
     /**
      * @param spec
      * @return
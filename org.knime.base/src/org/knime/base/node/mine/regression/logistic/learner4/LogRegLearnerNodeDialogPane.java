@@ -130,6 +130,7 @@ public final class LogRegLearnerNodeDialogPane extends NodeDialogPane {
     private JTextField m_seedField;
     private JButton m_newSeedButton;
     private JSpinner m_chunkSizeSpinner;
+    private JSpinner m_numberOfThreadsSpinner;
 
     /**
      * Create new dialog for linear regression model.
@@ -165,6 +166,7 @@ public LogRegLearnerNodeDialogPane() {
         m_seedField = new JTextField(NUMBER_INPUT_FIELD_COLS);
         m_newSeedButton = new JButton("New");
         m_chunkSizeSpinner = new JSpinner(new SpinnerNumberModel(LogRegLearnerSettings.DEFAULT_CHUNK_SIZE, 1, Integer.MAX_VALUE, 1000));
+        m_numberOfThreadsSpinner = new JSpinner(new SpinnerNumberModel(LogRegLearnerSettings.DEFAULT_NUMBER_OF_THREADS, 1, Integer.MAX_VALUE, 1));
 
         // register listeners
         m_selectionPanel.addActionListener(new ActionListener() {
@@ -224,6 +226,7 @@ public void itemStateChanged(final ItemEvent e) {
             @Override
             public void actionPerformed(final ActionEvent e) {
                 m_chunkSizeSpinner.setEnabled(!m_inMemoryCheckBox.isSelected());
+                m_numberOfThreadsSpinner.setEnabled(m_inMemoryCheckBox.isSelected());
             }
         });
 
@@ -298,6 +301,7 @@ private void setEnabledSGRelated(final boolean enable) {
         m_initialLearningRateField.setEnabled(enable);
         m_priorComboBox.setEnabled(enable);
         m_priorVarianceSpinner.setEnabled(enable);
+        m_numberOfThreadsSpinner.setEnabled(enable && m_inMemoryCheckBox.isSelected());
     }
 
     private JPanel createAdvancedSettingsPanel() {
@@ -396,6 +400,11 @@ private JPanel createDataHandlingPanel() {
         panel.add(m_chunkSizeSpinner, c);
         c.gridx = 0;
         c.gridy++;
+        panel.add(new JLabel("Number of threads:"), c);
+        c.gridx++;
+        panel.add(m_numberOfThreadsSpinner, c);
+        c.gridx = 0;
+        c.gridy++;
         c.gridwidth = 3;
         panel.add(m_useSeedCheckBox, c);
         c.gridy++;
@@ -619,6 +628,8 @@ protected void loadSettingsFrom(final NodeSettingsRO s, final PortObjectSpec[] s
         m_seedField.setText(Long.toString(seed != null ? seed : System.currentTimeMillis()));
         m_chunkSizeSpinner.setValue(settings.getChunkSize());
         m_chunkSizeSpinner.setEnabled(!settings.isInMemory());
+        m_numberOfThreadsSpinner.setValue(settings.getNumberOfThreads());
+        m_numberOfThreadsSpinner.setEnabled(settings.getSolver() != Solver.IRLS && settings.isInMemory());
     }
 
     /**
@@ -671,6 +682,7 @@ protected void saveSettingsTo(final NodeSettingsWO s) throws InvalidSettingsExce
         settings.setSeed(seed);
 
         settings.setChunkSize((int)m_chunkSizeSpinner.getValue());
+        settings.setNumberOfThreads((int)m_numberOfThreadsSpinner.getValue());
 
         settings.validate();
 
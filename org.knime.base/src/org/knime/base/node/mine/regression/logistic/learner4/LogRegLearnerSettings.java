@@ -231,6 +231,7 @@ public boolean hasInitialValue() {
     private static final String CFG_IN_MEMORY = "inMemory";
     private static final String CFG_CHUNK_SIZE = "chunkSize";
     private static final String CFG_CALC_COVMATRIX = "calcCoefficientStatistics";
+    private static final String CFG_NUMBER_OF_THREADS = "numberOfThreads";
 
     static final Solver DEFAULT_SOLVER = Solver.SAG;
     static final boolean DEFAULT_PERFORM_LAZY = true;
@@ -244,6 +245,7 @@ public boolean hasInitialValue() {
     static final boolean DEFAULT_IN_MEMORY = true;
     static final int DEFAULT_CHUNK_SIZE = 10000;
     static final boolean DEFAULT_CALC_COVMATRIX = true;
+    static final int DEFAULT_NUMBER_OF_THREADS = 1;
 
 
     private String m_targetColumn;
@@ -275,6 +277,7 @@ public boolean hasInitialValue() {
     private boolean m_inMemory;
     private Long m_seed;
     private int m_chunkSize;
+    private int m_numberOfThreads;
 
 
     /**
@@ -297,6 +300,7 @@ public LogRegLearnerSettings() {
         m_seed = System.currentTimeMillis();
         m_chunkSize = DEFAULT_CHUNK_SIZE;
         m_calcCovMatrix = DEFAULT_CALC_COVMATRIX;
+        m_numberOfThreads = DEFAULT_NUMBER_OF_THREADS;
     }
 
 
@@ -342,6 +346,9 @@ public void loadSettings(final NodeSettingsRO settings)
 
         m_calcCovMatrix = settings.getBoolean(CFG_CALC_COVMATRIX);
 
+        // added in 3.8
+        m_numberOfThreads = settings.getInt(CFG_NUMBER_OF_THREADS, DEFAULT_NUMBER_OF_THREADS);
+
         validate();
 
 
@@ -390,6 +397,7 @@ public void loadSettingsForDialog(final NodeSettingsRO settings, final DataTable
 
         m_calcCovMatrix = settings.getBoolean(CFG_CALC_COVMATRIX, DEFAULT_CALC_COVMATRIX);
 
+        m_numberOfThreads = settings.getInt(CFG_NUMBER_OF_THREADS, DEFAULT_NUMBER_OF_THREADS);
     }
 
     /**
@@ -424,6 +432,7 @@ public void saveSettings(final NodeSettingsWO settings) {
         settings.addInt(CFG_CHUNK_SIZE, m_chunkSize);
 
         settings.addBoolean(CFG_CALC_COVMATRIX, m_calcCovMatrix);
+        settings.addInt(CFG_NUMBER_OF_THREADS, m_numberOfThreads);
     }
 
     /**
@@ -438,6 +447,8 @@ public void validate() throws InvalidSettingsException {
         CheckUtils.checkSetting(m_epsilon >= 0, "Epsilon must be positive but was %g.", m_epsilon);
         CheckUtils.checkSetting(m_initialLearningRate > 0, "The initial learning rate must be larger than 0 but was %g.", m_initialLearningRate);
         CheckUtils.checkSetting(m_chunkSize > 0, "The chunk size must be larger than 0 but was %d", m_chunkSize);
+        CheckUtils.checkSetting(m_numberOfThreads > 0, "The number of threads must be larger than 0 but was %d",
+            m_numberOfThreads);
 
     }
 
@@ -745,5 +756,20 @@ public boolean isCalcCovMatrix() {
     public void setCalcCovMatrix(final boolean calcCovMatrix) {
         m_calcCovMatrix = calcCovMatrix;
     }
-}
 
+
+    /**
+     * @return the number of threads used by the SAG solver
+     */
+    public int getNumberOfThreads() {
+        return m_numberOfThreads;
+    }
+
+
+    /**
+     * @param numberOfThreads the number of threads used by the SAG solver
+     */
+    public void setNumberOfThreads(final int numberOfThreads) {
+        m_numberOfThreads = numberOfThreads;
+    }
+}
@@ -0,0 +1,597 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.regression.logistic.learner4.data;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import org.knime.base.node.mine.regression.logistic.learner4.data.TrainingRow.FeatureIterator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.container.DataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * {@link TrainingData} implementation that encodes all rows once into a single compressed sparse row (CSR) block.
+ * The feature indices and values of all rows are stored in two contiguous arrays and the rows are addressed via
+ * an offset array, which avoids one object (plus two arrays) per row as held by {@link InMemoryData}.
+ * If the block does not fit into the heap budget, it is spilled to a temporary file and memory-mapped.
+ *
+ * <p>
+ * Random rows are drawn from the same seeded pseudo random number generator as in {@link InMemoryData}, i.e. the
+ * same seed results in the same sequence of rows.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class CompressedSparseRowData extends AbstractTrainingData<ClassificationTrainingRow>
+    implements ShardableTrainingData<ClassificationTrainingRow> {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(CompressedSparseRowData.class);
+
+    /** Bytes per non-zero entry (one int index and one float value). */
+    private static final int BYTES_PER_ENTRY = Integer.BYTES + Float.BYTES;
+
+    /** Number of entries per mapped segment, must be a power of 2. */
+    private static final int SEGMENT_SIZE = 1 << 27;
+
+    private static final int SEGMENT_SHIFT = Integer.numberOfTrailingZeros(SEGMENT_SIZE);
+
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private final long[] m_offsets;
+
+    private final int[] m_categories;
+
+    private final FeatureStore m_store;
+
+    /**
+     * Encodes all rows of <b>data</b> using a heap budget of a quarter of the maximum heap size.
+     *
+     * @param data the {@link BufferedDataTable} that contains the data to learn on
+     * @param seed used to generate pseudo random numbers
+     * @param rowBuilder used to create {@link TrainingRow} objects from {@link DataRow} objects
+     * @param exec used for progress reporting and cancellation
+     * @throws CanceledExecutionException if the user cancels the node execution
+     */
+    public CompressedSparseRowData(final BufferedDataTable data, final Long seed,
+        final TrainingRowBuilder<ClassificationTrainingRow> rowBuilder, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        this(data, seed, rowBuilder, Runtime.getRuntime().maxMemory() / 4, exec);
+    }
+
+    /**
+     * Encodes all rows of <b>data</b>.
+     *
+     * @param data the {@link BufferedDataTable} that contains the data to learn on
+     * @param seed used to generate pseudo random numbers
+     * @param rowBuilder used to create {@link TrainingRow} objects from {@link DataRow} objects
+     * @param heapBudget the maximal number of bytes the feature block may occupy on the heap before it is spilled
+     *            to a memory-mapped file
+     * @param exec used for progress reporting and cancellation
+     * @throws CanceledExecutionException if the user cancels the node execution
+     */
+    public CompressedSparseRowData(final BufferedDataTable data, final Long seed,
+        final TrainingRowBuilder<ClassificationTrainingRow> rowBuilder, final long heapBudget,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        super(data, seed, rowBuilder);
+        final int nRows = getRowCount();
+        m_offsets = new long[nRows + 1];
+        m_categories = new int[nRows];
+        final StoreBuilder storeBuilder = new StoreBuilder(heapBudget);
+        int id = 0;
+        try {
+            for (DataRow row : data) {
+                exec.checkCanceled();
+                final ClassificationTrainingRow trainingRow = rowBuilder.build(row, id);
+                m_categories[id] = trainingRow.getCategory();
+                for (FeatureIterator iter = trainingRow.getFeatureIterator(); iter.next();) {
+                    storeBuilder.add(iter.getFeatureIndex(), (float)iter.getFeatureValue());
+                }
+                id++;
+                m_offsets[id] = storeBuilder.size();
+                exec.setProgress(id / (double)nRows);
+            }
+            m_store = storeBuilder.build();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not write the training data to a temporary file.", e);
+        } finally {
+            storeBuilder.discard();
+        }
+    }
+
+    /**
+     * @return the total number of non-zero features over all rows
+     */
+    public long getNonZeroCount() {
+        return m_offsets[m_offsets.length - 1];
+    }
+
+    /**
+     * @return <code>true</code> if the feature block is memory-mapped rather than held on the heap
+     */
+    public boolean isMemoryMapped() {
+        return m_store instanceof MappedFeatureStore;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ClassificationTrainingRow getRandomRow() {
+        return getRow(getRandomDataGenerator().nextInt(m_categories.length));
+    }
+
+    /**
+     * Random access to the row with the given id.
+     *
+     * @param id the id of the row, i.e. its position in the input table
+     * @return the row with id <b>id</b>
+     */
+    public ClassificationTrainingRow getRow(final int id) {
+        return new CsrRow(id, id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<ClassificationTrainingRow> iterator() {
+        return new RowIterator(m_categories.length, this::getRow);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<TrainingData<ClassificationTrainingRow>> split(final int nShards) {
+        final int nRows = getRowCount();
+        if (nShards < 1 || nShards > nRows) {
+            throw new IllegalArgumentException(
+                "The number of shards must be between 1 and " + nRows + " but was " + nShards + ".");
+        }
+        final Random random = getRandomDataGenerator();
+        final int[] permutation = new int[nRows];
+        for (int i = 0; i < nRows; i++) {
+            permutation[i] = i;
+        }
+        for (int i = nRows - 1; i > 0; i--) {
+            final int r = random.nextInt(i + 1);
+            final int swap = permutation[r];
+            permutation[r] = permutation[i];
+            permutation[i] = swap;
+        }
+        final List<TrainingData<ClassificationTrainingRow>> shards = new ArrayList<>(nShards);
+        for (int s = 0; s < nShards; s++) {
+            final int from = (int)((long)nRows * s / nShards);
+            final int to = (int)((long)nRows * (s + 1) / nShards);
+            final int[] positions = Arrays.copyOfRange(permutation, from, to);
+            // sorted positions result in a sequential access pattern when iterating a shard
+            Arrays.sort(positions);
+            shards.add(new Shard(positions, random.nextLong()));
+        }
+        return shards;
+    }
+
+    /** A subset of the rows whose ids are the indices into the positions array. */
+    private final class Shard implements TrainingData<ClassificationTrainingRow> {
+
+        private final int[] m_positions;
+
+        private final Random m_random;
+
+        Shard(final int[] positions, final long seed) {
+            m_positions = positions;
+            m_random = new Random(seed);
+        }
+
+        private ClassificationTrainingRow getRow(final int id) {
+            return new CsrRow(m_positions[id], id);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Iterator<ClassificationTrainingRow> iterator() {
+            return new RowIterator(m_positions.length, this::getRow);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getRowCount() {
+            return m_positions.length;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getFeatureCount() {
+            return CompressedSparseRowData.this.getFeatureCount();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getTargetDimension() {
+            return CompressedSparseRowData.this.getTargetDimension();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ClassificationTrainingRow getRandomRow() {
+            return getRow(m_random.nextInt(m_positions.length));
+        }
+    }
+
+    private static final class RowIterator implements Iterator<ClassificationTrainingRow> {
+
+        private final int m_nRows;
+
+        private final IntFunction<ClassificationTrainingRow> m_rowAccess;
+
+        private int m_next = 0;
+
+        RowIterator(final int nRows, final IntFunction<ClassificationTrainingRow> rowAccess) {
+            m_nRows = nRows;
+            m_rowAccess = rowAccess;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return m_next < m_nRows;
+        }
+
+        @Override
+        public ClassificationTrainingRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return m_rowAccess.apply(m_next++);
+        }
+    }
+
+    private final class CsrRow implements ClassificationTrainingRow {
+
+        /** Position of the row in the CSR block. */
+        private final int m_pos;
+
+        private final int m_id;
+
+        CsrRow(final int pos, final int id) {
+            m_pos = pos;
+            m_id = id;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getId() {
+            return m_id;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getCategory() {
+            return m_categories[m_pos];
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public FeatureIterator getFeatureIterator() {
+            return new CsrFeatureIterator(m_offsets[m_pos] - 1, m_offsets[m_pos + 1]);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return "[id=" + m_id + "; numNonZero=" + (m_offsets[m_pos + 1] - m_offsets[m_pos]) + "]";
+        }
+    }
+
+    private final class CsrFeatureIterator implements FeatureIterator {
+
+        private long m_pos;
+
+        private final long m_end;
+
+        CsrFeatureIterator(final long pos, final long end) {
+            m_pos = pos;
+            m_end = end;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext() {
+            return m_pos < m_end - 1;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean next() {
+            return ++m_pos < m_end;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getFeatureIndex() {
+            return m_store.getIndex(m_pos);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double getFeatureValue() {
+            return m_store.getValue(m_pos);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public FeatureIterator spawn() {
+            return new CsrFeatureIterator(m_pos - 1, m_end);
+        }
+    }
+
+    /** Random access to the feature indices and values of the CSR block. */
+    private interface FeatureStore {
+
+        int getIndex(long pos);
+
+        float getValue(long pos);
+    }
+
+    private static final class HeapFeatureStore implements FeatureStore {
+
+        private final int[] m_indices;
+
+        private final float[] m_values;
+
+        HeapFeatureStore(final int[] indices, final float[] values) {
+            m_indices = indices;
+            m_values = values;
+        }
+
+        @Override
+        public int getIndex(final long pos) {
+            return m_indices[(int)pos];
+        }
+
+        @Override
+        public float getValue(final long pos) {
+            return m_values[(int)pos];
+        }
+    }
+
+    /**
+     * Off-heap store that maps one file containing the indices and one containing the values in segments of
+     * {@link #SEGMENT_SIZE} entries (a single mapping is limited to 2GB).
+     */
+    private static final class MappedFeatureStore implements FeatureStore {
+
+        private final IntBuffer[] m_indices;
+
+        private final FloatBuffer[] m_values;
+
+        MappedFeatureStore(final File indexFile, final File valueFile, final long size) throws IOException {
+            final int nSegments = (int)((size + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT);
+            m_indices = new IntBuffer[nSegments];
+            m_values = new FloatBuffer[nSegments];
+            try (RandomAccessFile indexRaf = new RandomAccessFile(indexFile, "r");
+                    FileChannel indexChannel = indexRaf.getChannel();
+                    RandomAccessFile valueRaf = new RandomAccessFile(valueFile, "r");
+                    FileChannel valueChannel = valueRaf.getChannel()) {
+                for (int s = 0; s < nSegments; s++) {
+                    final long first = (long)s << SEGMENT_SHIFT;
+                    final long entries = Math.min(SEGMENT_SIZE, size - first);
+                    m_indices[s] =
+                        indexChannel.map(MapMode.READ_ONLY, first * Integer.BYTES, entries * Integer.BYTES).asIntBuffer();
+                    m_values[s] =
+                        valueChannel.map(MapMode.READ_ONLY, first * Float.BYTES, entries * Float.BYTES).asFloatBuffer();
+                }
+            }
+        }
+
+        @Override
+        public int getIndex(final long pos) {
+            return m_indices[(int)(pos >>> SEGMENT_SHIFT)].get((int)(pos & SEGMENT_MASK));
+        }
+
+        @Override
+        public float getValue(final long pos) {
+            return m_values[(int)(pos >>> SEGMENT_SHIFT)].get((int)(pos & SEGMENT_MASK));
+        }
+    }
+
+    /**
+     * Collects the entries on the heap until the heap budget is exceeded and from then on uses the heap arrays as
+     * write buffers for two temporary files, which are memory-mapped once all rows are encoded.
+     */
+    private static final class StoreBuilder {
+
+        private final long m_maxHeapEntries;
+
+        private int[] m_indices = new int[1024];
+
+        private float[] m_values = new float[1024];
+
+        /** Number of entries in the heap buffer. */
+        private int m_bufferSize = 0;
+
+        /** Number of entries already written to the files. */
+        private long m_flushed = 0;
+
+        private File m_indexFile;
+
+        private File m_valueFile;
+
+        private DataOutputStream m_indexOut;
+
+        private DataOutputStream m_valueOut;
+
+        StoreBuilder(final long heapBudget) {
+            m_maxHeapEntries = Math.min(Math.max(heapBudget / BYTES_PER_ENTRY, 1024), Integer.MAX_VALUE - 8);
+        }
+
+        long size() {
+            return m_flushed + m_bufferSize;
+        }
+
+        void add(final int index, final float value) throws IOException {
+            if (m_bufferSize == m_indices.length) {
+                if (m_indexFile == null && m_bufferSize < m_maxHeapEntries) {
+                    final int newCapacity = (int)Math.min(2L * m_bufferSize, m_maxHeapEntries);
+                    m_indices = Arrays.copyOf(m_indices, newCapacity);
+                    m_values = Arrays.copyOf(m_values, newCapacity);
+                } else {
+                    flush();
+                }
+            }
+            m_indices[m_bufferSize] = index;
+            m_values[m_bufferSize] = value;
+            m_bufferSize++;
+        }
+
+        private void flush() throws IOException {
+            if (m_indexFile == null) {
+                m_indexFile = DataContainer.createTempFile(".csr");
+                m_valueFile = DataContainer.createTempFile(".csr");
+                LOGGER.debug("Training data exceeds the heap budget, spilling it to temporary files.");
+                m_indexOut = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(m_indexFile), 1 << 16));
+                m_valueOut = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(m_valueFile), 1 << 16));
+            }
+            for (int i = 0; i < m_bufferSize; i++) {
+                m_indexOut.writeInt(m_indices[i]);
+            }
+            for (int i = 0; i < m_bufferSize; i++) {
+                m_valueOut.writeFloat(m_values[i]);
+            }
+            m_flushed += m_bufferSize;
+            m_bufferSize = 0;
+        }
+
+        FeatureStore build() throws IOException {
+            if (m_indexFile == null) {
+                // positions beyond the size are never accessed, hence there is no need to trim the arrays
+                return new HeapFeatureStore(m_indices, m_values);
+            }
+            flush();
+            m_indexOut.close();
+            m_valueOut.close();
+            m_indexOut = null;
+            m_valueOut = null;
+            return new MappedFeatureStore(m_indexFile, m_valueFile, m_flushed);
+        }
+
+        /** Releases the write buffers, closes the streams and deletes the temporary files. */
+        void discard() {
+            m_indices = null;
+            m_values = null;
+            closeQuietly(m_indexOut);
+            closeQuietly(m_valueOut);
+            // the mappings stay valid after the files are deleted on most platforms
+            deleteQuietly(m_indexFile);
+            deleteQuietly(m_valueFile);
+        }
+
+        private static void closeQuietly(final DataOutputStream out) {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    LOGGER.debug("Could not close temporary training data file.", e);
+                }
+            }
+        }
+
+        private static void deleteQuietly(final File file) {
+            if (file != null && !file.delete()) {
+                file.deleteOnExit();
+            }
+        }
+    }
+
+}
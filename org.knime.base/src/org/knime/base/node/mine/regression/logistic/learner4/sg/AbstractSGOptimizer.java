@@ -104,38 +104,83 @@ public AbstractSGOptimizer(final TrainingData<T> data, final Loss<T> loss, final
 
     public LogRegLearnerResult optimize(final int maxEpoch, final TrainingData<T> data, final Progress progress) throws CanceledExecutionException {
 
-        final int nRows = data.getRowCount();
         final int nFets = data.getFeatureCount();
         final int nCats = data.getTargetDimension();
-        final U updater = m_updaterFactory.create();
+        final U updater = createUpdater();
 
         final WeightMatrix<T> beta = new SimpleWeightMatrix<>(nFets, nCats, true);
         int epoch = 0;
         for (; epoch < maxEpoch; epoch++) {
-            // notify learning rate strategy that a new epoch starts
-            m_lrStrategy.startNewEpoch(epoch);
             progress.setProgress(((double)epoch) / maxEpoch, "Start epoch " + epoch + " of " + maxEpoch);
-            for (int k = 0; k < nRows; k++) {
-                progress.checkCanceled();
-                T x = data.getRandomRow();
-                prepareIteration(beta, x, updater, m_regUpdater, k);
-                double[] prediction = beta.predict(x);
-                double[] sig = m_loss.gradient(x, prediction);
-                double stepSize = m_lrStrategy.getCurrentLearningRate(x, prediction, sig);
-                // beta is updated in two steps
-                m_regUpdater.update(beta, stepSize, k);
-                performUpdate(x, updater, sig, beta, stepSize, k);
-                double scale = beta.getScale();
-                if (scale > 1e10 || scale < -1e10 || (scale > 0 && scale < 1e-10) || (scale < 0 && scale > -1e-10)) {
-                    normalize(beta, updater, k);
-                    beta.normalize();
-                }
-            }
-            postProcessEpoch(beta, updater, m_regUpdater);
-            if (m_stoppingCriterion.checkConvergence(beta)) {
+            runEpoch(epoch, data, beta, updater, progress);
+            if (checkConvergence(beta)) {
                 break;
             }
         }
+        return createResult(beta, epoch, maxEpoch);
+    }
+
+    /**
+     * Creates a new updater whose state (e.g. the gradient memory of SAG) persists across epochs.
+     *
+     * @return a new updater
+     */
+    U createUpdater() {
+        return m_updaterFactory.create();
+    }
+
+    /**
+     * Performs one pass of (on average) one update per row of <b>data</b> on <b>beta</b>.
+     *
+     * @param epoch the current epoch
+     * @param data the data to draw the rows from
+     * @param beta current estimate of the coefficient matrix
+     * @param updater the updater used for the current run
+     * @param progress used to check for cancellation
+     * @throws CanceledExecutionException if the execution is canceled
+     */
+    void runEpoch(final int epoch, final TrainingData<T> data, final WeightMatrix<T> beta, final U updater,
+        final Progress progress) throws CanceledExecutionException {
+        // notify learning rate strategy that a new epoch starts
+        m_lrStrategy.startNewEpoch(epoch);
+        final int nRows = data.getRowCount();
+        for (int k = 0; k < nRows; k++) {
+            progress.checkCanceled();
+            T x = data.getRandomRow();
+            prepareIteration(beta, x, updater, m_regUpdater, k);
+            double[] prediction = beta.predict(x);
+            double[] sig = m_loss.gradient(x, prediction);
+            double stepSize = m_lrStrategy.getCurrentLearningRate(x, prediction, sig);
+            // beta is updated in two steps
+            m_regUpdater.update(beta, stepSize, k);
+            performUpdate(x, updater, sig, beta, stepSize, k);
+            double scale = beta.getScale();
+            if (scale > 1e10 || scale < -1e10 || (scale > 0 && scale < 1e-10) || (scale < 0 && scale > -1e-10)) {
+                normalize(beta, updater, k);
+                beta.normalize();
+            }
+        }
+        postProcessEpoch(beta, updater, m_regUpdater);
+    }
+
+    /**
+     * @param beta current estimate of the coefficient matrix
+     * @return true if the stopping criterion considers the training as converged
+     */
+    boolean checkConvergence(final WeightMatrix<T> beta) {
+        return m_stoppingCriterion.checkConvergence(beta);
+    }
+
+    /**
+     * Creates the result for the final coefficient matrix <b>beta</b> including the loss and (if requested) the
+     * covariance matrix, both calculated on the full training data.
+     *
+     * @param beta the final coefficient matrix
+     * @param epoch the number of performed epochs
+     * @param maxEpoch the maximal number of epochs
+     * @return the result of the training
+     */
+    LogRegLearnerResult createResult(final WeightMatrix<T> beta, final int epoch, final int maxEpoch) {
         StringBuilder warnBuilder = new StringBuilder();
         if (epoch >= maxEpoch) {
             warnBuilder.append("The algorithm did not reach convergence after the specified number of epochs. "
@@ -0,0 +1,199 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.regression.logistic.learner4.sg;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.knime.base.node.mine.regression.logistic.learner4.LogRegLearnerResult;
+import org.knime.base.node.mine.regression.logistic.learner4.data.TrainingData;
+import org.knime.base.node.mine.regression.logistic.learner4.data.TrainingRow;
+import org.knime.base.util.concurrent.ThreadPoolUtil;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Trains on several shards of the training data in parallel (iterative parameter mixing).
+ * In each epoch every shard optimizer starts from the current coefficient matrix and performs one epoch on its shard,
+ * afterwards the coefficient matrices of the shards are averaged (weighted by the shard sizes).
+ * Each shard keeps its own updater (e.g. the SAG gradient memory) across epochs, hence the eager and lazy updaters as
+ * well as the priors work unchanged.
+ * Convergence and the final result are determined by the optimizer on the full data.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @param <T> The type of row we are dealing with
+ */
+final class ParallelSGOptimizer <T extends TrainingRow> {
+
+    private final AbstractSGOptimizer<T, ?, ?> m_optimizer;
+    private final List<ShardWorker<T, ?>> m_workers;
+
+    /**
+     * @param optimizer optimizer on the full data, used for the stopping criterion and the final result
+     * @param shardOptimizers one optimizer per shard of the training data
+     */
+    ParallelSGOptimizer(final AbstractSGOptimizer<T, ?, ?> optimizer,
+        final List<? extends AbstractSGOptimizer<T, ?, ?>> shardOptimizers) {
+        m_optimizer = optimizer;
+        m_workers = new ArrayList<>(shardOptimizers.size());
+        for (AbstractSGOptimizer<T, ?, ?> shardOptimizer : shardOptimizers) {
+            m_workers.add(createWorker(shardOptimizer));
+        }
+    }
+
+    private static <T extends TrainingRow, U extends Updater<T>> ShardWorker<T, U> createWorker(
+        final AbstractSGOptimizer<T, U, ?> shardOptimizer) {
+        return new ShardWorker<>(shardOptimizer);
+    }
+
+    LogRegLearnerResult optimize(final int maxEpoch, final Progress progress) throws CanceledExecutionException {
+        final TrainingData<T> data = m_optimizer.getData();
+        final WeightMatrix<T> beta = new SimpleWeightMatrix<>(data.getFeatureCount(), data.getTargetDimension(), true);
+        final double[][] betaMat = beta.getWeightVector();
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(m_workers.size());
+        int epoch = 0;
+        for (; epoch < maxEpoch; epoch++) {
+            progress.setProgress(((double)epoch) / maxEpoch, "Start epoch " + epoch + " of " + maxEpoch
+                + " on " + m_workers.size() + " threads");
+            final int currentEpoch = epoch;
+            final List<Future<Void>> futures = new ArrayList<>(m_workers.size());
+            for (ShardWorker<T, ?> worker : m_workers) {
+                futures.add(pool.enqueue(() -> {
+                    worker.runEpoch(currentEpoch, betaMat, progress);
+                    return null;
+                }));
+            }
+            waitForWorkers(pool, futures);
+            average(betaMat, data.getRowCount());
+            if (m_optimizer.checkConvergence(beta)) {
+                break;
+            }
+        }
+        return m_optimizer.createResult(beta, epoch, maxEpoch);
+    }
+
+    private static void waitForWorkers(final ThreadPool pool, final List<Future<Void>> futures)
+        throws CanceledExecutionException {
+        try {
+            ThreadPoolUtil.runInvisible(pool, () -> {
+                for (Future<Void> future : futures) {
+                    future.get();
+                }
+                return null;
+            });
+        } catch (ExecutionException e) {
+            final Exception cause = ThreadPoolUtil.throwIfUnchecked(e);
+            if (cause instanceof CanceledExecutionException) {
+                throw (CanceledExecutionException)cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Training canceled");
+        } finally {
+            for (Future<Void> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private void average(final double[][] betaMat, final int nRows) {
+        for (int c = 0; c < betaMat.length; c++) {
+            final double[] avg = betaMat[c];
+            for (int i = 0; i < avg.length; i++) {
+                avg[i] = 0.0;
+            }
+            for (ShardWorker<T, ?> worker : m_workers) {
+                final double weight = worker.getRowCount() / (double)nRows;
+                final double[] shardBeta = worker.getWeightVector()[c];
+                for (int i = 0; i < avg.length; i++) {
+                    avg[i] += weight * shardBeta[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Holds the state of a single shard, i.e. its optimizer, updater and coefficient matrix.
+     */
+    private static final class ShardWorker <T extends TrainingRow, U extends Updater<T>> {
+
+        private final AbstractSGOptimizer<T, U, ?> m_shardOptimizer;
+        private final U m_updater;
+        private final WeightMatrix<T> m_beta;
+
+        ShardWorker(final AbstractSGOptimizer<T, U, ?> shardOptimizer) {
+            m_shardOptimizer = shardOptimizer;
+            m_updater = shardOptimizer.createUpdater();
+            final TrainingData<T> data = shardOptimizer.getData();
+            m_beta = new SimpleWeightMatrix<>(data.getFeatureCount(), data.getTargetDimension(), true);
+        }
+
+        void runEpoch(final int epoch, final double[][] globalBeta, final Progress progress)
+            throws CanceledExecutionException {
+            final double[][] beta = m_beta.getWeightVector();
+            for (int c = 0; c < beta.length; c++) {
+                System.arraycopy(globalBeta[c], 0, beta[c], 0, beta[c].length);
+            }
+            m_shardOptimizer.runEpoch(epoch, m_shardOptimizer.getData(), m_beta, m_updater, progress);
+        }
+
+        int getRowCount() {
+            return m_shardOptimizer.getData().getRowCount();
+        }
+
+        double[][] getWeightVector() {
+            return m_beta.getWeightVector();
+        }
+    }
+
+}
@@ -48,12 +48,15 @@
  */
 package org.knime.base.node.mine.regression.logistic.learner4.sg;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.knime.base.node.mine.regression.logistic.learner4.LogRegLearner;
 import org.knime.base.node.mine.regression.logistic.learner4.LogRegLearnerResult;
 import org.knime.base.node.mine.regression.logistic.learner4.LogRegLearnerSettings;
 import org.knime.base.node.mine.regression.logistic.learner4.data.ClassificationTrainingRow;
+import org.knime.base.node.mine.regression.logistic.learner4.data.ShardableTrainingData;
 import org.knime.base.node.mine.regression.logistic.learner4.data.TrainingData;
 import org.knime.base.node.mine.regression.logistic.learner4.sg.LineSearchLearningRateStrategy.StepSizeType;
 import org.knime.core.node.CanceledExecutionException;
@@ -84,12 +87,12 @@ public SagLogRegLearner(final LogRegLearnerSettings settings) {
 
     private LearningRateStrategy<ClassificationTrainingRow> createLearningRateStrategy(
         final LogRegLearnerSettings settings, final TrainingData<ClassificationTrainingRow> data,
-        final Loss<ClassificationTrainingRow> loss) throws InvalidSettingsException {
+        final Loss<ClassificationTrainingRow> loss, final double priorScale) throws InvalidSettingsException {
         switch (settings.getLearningRateStrategy()) {
             case Fixed:
                 return new FixedLearningRateStrategy<>(settings.getInitialLearningRate());
             case LineSearch:
-                double lambda = 1 / settings.getPriorVariance();
+                double lambda = priorScale / settings.getPriorVariance();
                 return new LineSearchLearningRateStrategy<>(data, loss, lambda, StepSizeType.Default);
             default:
                 throw new InvalidSettingsException("Unknown learning rate strategy \"" + settings.getLearningRateStrategy() + "\".");
@@ -97,7 +100,8 @@ private LearningRateStrategy<ClassificationTrainingRow> createLearningRateStrate
     }
 
     private RegularizationUpdater createRegularizationUpdater(final LogRegLearnerSettings settings,
-        final TrainingData<ClassificationTrainingRow> data) throws InvalidSettingsException {
+        final TrainingData<ClassificationTrainingRow> data, final double priorScale, final boolean lazy)
+        throws InvalidSettingsException {
         Prior prior;
         switch (settings.getPrior()) {
             case Gauss:
@@ -111,7 +115,10 @@ private RegularizationUpdater createRegularizationUpdater(final LogRegLearnerSet
             default:
                 throw new InvalidSettingsException("Unknown prior type \"" + settings.getPrior() + "\".");
         }
-        if (settings.isPerformLazy()) {
+        if (priorScale != 1.0) {
+            prior = new ScaledPrior(prior, priorScale);
+        }
+        if (lazy) {
             return new LazyPriorUpdater(prior, data.getRowCount(), true);
         } else {
             return new EagerPriorUpdater(prior, data.getRowCount(), true);
@@ -150,13 +157,19 @@ private UpdaterFactory<ClassificationTrainingRow, EagerUpdater<ClassificationTra
         }
     }
 
-    private AbstractSGOptimizer createOptimizer(
-        final LogRegLearnerSettings settings, final TrainingData<ClassificationTrainingRow> data) throws InvalidSettingsException {
+    /**
+     * Creates the optimizer for <b>data</b>.
+     * When training on a shard of the full data, <b>priorScale</b> is the fraction of rows in the shard,
+     * which ensures that the averaged shard objectives weight the prior as the objective on the full data.
+     */
+    private AbstractSGOptimizer createOptimizer(final LogRegLearnerSettings settings,
+        final TrainingData<ClassificationTrainingRow> data, final double priorScale) throws InvalidSettingsException {
         final Loss<ClassificationTrainingRow> loss = MultinomialLoss.INSTANCE;
         final StoppingCriterion<ClassificationTrainingRow> stoppingCriterion =
                 new BetaChangeStoppingCriterion<>(data.getFeatureCount(), data.getTargetDimension(), settings.getEpsilon());
-        LearningRateStrategy<ClassificationTrainingRow> lrs = createLearningRateStrategy(settings, data, loss);
-        RegularizationUpdater regUpdater = createRegularizationUpdater(settings, data);
+        LearningRateStrategy<ClassificationTrainingRow> lrs = createLearningRateStrategy(settings, data, loss, priorScale);
+        RegularizationUpdater regUpdater =
+                createRegularizationUpdater(settings, data, priorScale, settings.isPerformLazy());
         if (settings.isPerformLazy()) {
             UpdaterFactory<ClassificationTrainingRow, LazyUpdater<ClassificationTrainingRow>> updaterFactory = createLazyUpdater(settings, data);
             return new LazySGOptimizer<ClassificationTrainingRow, LazyUpdater<ClassificationTrainingRow>, LazyRegularizationUpdater>(
@@ -169,19 +182,58 @@ private AbstractSGOptimizer createOptimizer(
 
     }
 
+    /**
+     * Creates the optimizer on the full <b>data</b> that is used by the {@link ParallelSGOptimizer} only to check the
+     * convergence and to create the result.
+     * It is never trained, hence it avoids the per-row state (cumulative step sizes, squared norms) of the lazy prior
+     * and the line search.
+     */
+    private AbstractSGOptimizer createResultOptimizer(final LogRegLearnerSettings settings,
+        final TrainingData<ClassificationTrainingRow> data) throws InvalidSettingsException {
+        final StoppingCriterion<ClassificationTrainingRow> stoppingCriterion =
+                new BetaChangeStoppingCriterion<>(data.getFeatureCount(), data.getTargetDimension(), settings.getEpsilon());
+        RegularizationUpdater regUpdater = createRegularizationUpdater(settings, data, 1.0, false);
+        return new EagerSgOptimizer<>(data, MultinomialLoss.INSTANCE,
+                new EagerSagUpdater.EagerSagUpdaterFactory<>(data.getRowCount(), data.getFeatureCount(),
+                    data.getTargetDimension()),
+                regUpdater, new FixedLearningRateStrategy<>(settings.getInitialLearningRate()), stoppingCriterion,
+                m_settings.isCalcCovMatrix());
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public LogRegLearnerResult learn(final TrainingData<ClassificationTrainingRow> data, final ExecutionMonitor progressMonitor)
         throws CanceledExecutionException, InvalidSettingsException {
-        AbstractSGOptimizer sgOpt = createOptimizer(m_settings, data);
+        m_warning = null;
+        AbstractSGOptimizer sgOpt;
 
         SimpleProgress progMon = new SimpleProgress(progressMonitor.getProgressMonitor());
-        LogRegLearnerResult result = sgOpt.optimize(m_settings.getMaxEpoch(), data, progMon);
+        final int nThreads = Math.min(m_settings.getNumberOfThreads(), data.getRowCount());
+        LogRegLearnerResult result;
+        if (nThreads > 1 && data instanceof ShardableTrainingData) {
+            List<TrainingData<ClassificationTrainingRow>> shards =
+                ((ShardableTrainingData<ClassificationTrainingRow>)data).split(nThreads);
+            sgOpt = createResultOptimizer(m_settings, data);
+            List<AbstractSGOptimizer<ClassificationTrainingRow, ?, ?>> shardOptimizers = new ArrayList<>(nThreads);
+            for (TrainingData<ClassificationTrainingRow> shard : shards) {
+                double priorScale = shard.getRowCount() / (double)data.getRowCount();
+                shardOptimizers.add(createOptimizer(m_settings, shard, priorScale));
+            }
+            result = new ParallelSGOptimizer<ClassificationTrainingRow>(sgOpt, shardOptimizers)
+                    .optimize(m_settings.getMaxEpoch(), progMon);
+        } else {
+            if (nThreads > 1) {
+                m_warning = "Training on multiple threads requires the data to be held in memory. "
+                    + "Training was performed on a single thread.";
+            }
+            sgOpt = createOptimizer(m_settings, data, 1.0);
+            result = sgOpt.optimize(m_settings.getMaxEpoch(), data, progMon);
+        }
         Optional<String> warning = sgOpt.getWarning();
         if (warning.isPresent()) {
-            m_warning = warning.get();
+            m_warning = m_warning == null ? warning.get() : m_warning + "\n" + warning.get();
         }
         return result;
     }
@@ -73,15 +73,17 @@
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.NotConfigurableException;
 import org.knime.core.node.defaultnodesettings.DialogComponent;
+import org.knime.core.node.defaultnodesettings.DialogComponentBoolean;
 import org.knime.core.node.defaultnodesettings.DialogComponentColumnNameSelection;
 import org.knime.core.node.defaultnodesettings.DialogComponentNumber;
+import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
 import org.knime.core.node.defaultnodesettings.SettingsModelDouble;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.core.node.port.PortObjectSpec;
 
 /**
  * Dialog for the SVM Learner. Lets the user choose the overlapping penalty,
- * class column and the kernel with its parameters.
+ * class column, the solver and the kernel with its parameters.
  *
  * @author cebron, University of Konstanz
  */
@@ -95,6 +97,8 @@ public class SVMLearnerNodeDialog extends NodeDialogPane {
 
     private final ArrayList<KernelPanel> m_kernelPanels;
 
+    private final SettingsModelBoolean m_secondOrderSolver;
+
     /**
      * Constructor.
      */
@@ -114,6 +118,15 @@ public SVMLearnerNodeDialog() {
                         SVMLearnerNodeModel.DEFAULT_PARAMC),
                 "Overlapping penalty: ", .1));
 
+        m_secondOrderSolver =
+                SVMLearnerNodeModel.createSecondOrderSolverModel();
+        this.addDialogComponent(new DialogComponentBoolean(m_secondOrderSolver,
+                "Use second order solver with kernel cache"));
+        this.addDialogComponent(new DialogComponentNumber(
+                SVMLearnerNodeModel.createKernelCacheSizeModel(
+                        m_secondOrderSolver),
+                "Kernel cache size (MB): ", 64));
+
         JPanel kernelsettingsPanel = new JPanel();
         kernelsettingsPanel.setLayout(new BoxLayout(kernelsettingsPanel,
                 BoxLayout.Y_AXIS));
@@ -192,6 +205,11 @@ protected void loadSettingsFrom(final NodeSettingsRO settings,
         for (DialogComponent comp : m_components) {
             comp.loadSettingsFrom(settings, specs);
         }
+        if (!settings.containsKey(
+                SVMLearnerNodeModel.CFG_SECOND_ORDER_SOLVER)) {
+            // old workflows keep the original solver
+            m_secondOrderSolver.setBooleanValue(false);
+        }
         String selected =
                 settings.getString(SVMLearnerNodeModel.CFG_KERNELTYPE,
                         KernelFactory.getDefaultKernelType().toString());
@@ -86,7 +86,9 @@
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
 import org.knime.core.node.defaultnodesettings.SettingsModelDouble;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
@@ -129,6 +131,18 @@ public class SVMLearnerNodeModel extends NodeModel {
      */
     public static final String CFG_KERNELTYPE = "kernel_type";
 
+    /**
+     * Key to store whether the second order solver is used in the NodeSettings.
+     * @since 3.8
+     */
+    public static final String CFG_SECOND_ORDER_SOLVER = "second_order_solver";
+
+    /**
+     * Key to store the size of the kernel cache (in MB) in the NodeSettings.
+     * @since 3.8
+     */
+    public static final String CFG_KERNEL_CACHE_SIZE = "kernel_cache_size";
+
     /** Keys under which to save the parameters. */
     public static final String KEY_CATEG_COUNT = "Category count";
 
@@ -141,6 +155,12 @@ public class SVMLearnerNodeModel extends NodeModel {
     /** Default c parameter. */
     public static final double DEFAULT_PARAMC = 1.0;
 
+    /**
+     * Default size of the kernel cache in MB.
+     * @since 3.8
+     */
+    public static final int DEFAULT_KERNEL_CACHE_SIZE = 256;
+
     /*
      * The c parameter value.
      */
@@ -153,6 +173,18 @@ public class SVMLearnerNodeModel extends NodeModel {
     private final SettingsModelString m_classcol =
             new SettingsModelString(CFG_CLASSCOL, "");
 
+    /*
+     * Whether to use the second order solver.
+     */
+    private final SettingsModelBoolean m_secondOrderSolver =
+            createSecondOrderSolverModel();
+
+    /*
+     * The kernel cache size in MB, shared by all binary problems.
+     */
+    private final SettingsModelIntegerBounded m_kernelCacheSize =
+            createKernelCacheSizeModel(m_secondOrderSolver);
+
     /*
      * The chosen kernel
      */
@@ -196,6 +228,29 @@ public class SVMLearnerNodeModel extends NodeModel {
         return kernelParameters;
     }
 
+    /**
+     * @return the model for the second order solver flag
+     */
+    static SettingsModelBoolean createSecondOrderSolverModel() {
+        return new SettingsModelBoolean(CFG_SECOND_ORDER_SOLVER, true);
+    }
+
+    /**
+     * @param secondOrderSolver the model of the second order solver flag,
+     *            the cache size is only enabled if the flag is set
+     * @return the model for the kernel cache size in MB
+     */
+    static SettingsModelIntegerBounded createKernelCacheSizeModel(
+            final SettingsModelBoolean secondOrderSolver) {
+        final SettingsModelIntegerBounded model =
+                new SettingsModelIntegerBounded(CFG_KERNEL_CACHE_SIZE,
+                        DEFAULT_KERNEL_CACHE_SIZE, 1, Integer.MAX_VALUE);
+        secondOrderSolver.addChangeListener(
+            e -> model.setEnabled(secondOrderSolver.getBooleanValue()));
+        model.setEnabled(secondOrderSolver.getBooleanValue());
+        return model;
+    }
+
     /**
      *
      */
@@ -292,12 +347,18 @@ protected PortObject[] execute(final PortObject[] inData,
 
         final Svm[] svms = new Svm[categories.size()];
         exec.setMessage("Training SVM");
+        // the binary problems may be trained concurrently, they share the cache
+        final long kernelCacheSize =
+                m_kernelCacheSize.getIntValue() * 1024L * 1024L
+                        / categories.size();
         final BinarySvmRunnable[] bst =
                 new BinarySvmRunnable[categories.size()];
         for (int i = 0; i < categories.size(); i++) {
             bst[i] =
                     new BinarySvmRunnable(inputDataArr, categories.get(i),
                             kernel, m_paramC.getDoubleValue(),
+                            m_secondOrderSolver.getBooleanValue(),
+                            kernelCacheSize,
                             exec.createSubProgress((1.0 / categories.size())));
 
         }
@@ -468,6 +529,14 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
             throws InvalidSettingsException {
         m_paramC.loadSettingsFrom(settings);
         m_classcol.loadSettingsFrom(settings);
+        // added in 3.8, old workflows keep the original solver
+        if (settings.containsKey(CFG_SECOND_ORDER_SOLVER)) {
+            m_secondOrderSolver.loadSettingsFrom(settings);
+            m_kernelCacheSize.loadSettingsFrom(settings);
+        } else {
+            m_secondOrderSolver.setBooleanValue(false);
+            m_kernelCacheSize.setIntValue(DEFAULT_KERNEL_CACHE_SIZE);
+        }
         if (settings.containsKey(CFG_KERNELTYPE)) {
             m_kernelType =
                     KernelType.valueOf(settings.getString(CFG_KERNELTYPE));
@@ -553,6 +622,8 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         settings.addString(CFG_KERNELTYPE, m_kernelType.toString());
         m_paramC.saveSettingsTo(settings);
         m_classcol.saveSettingsTo(settings);
+        m_secondOrderSolver.saveSettingsTo(settings);
+        m_kernelCacheSize.saveSettingsTo(settings);
         for (Map.Entry<KernelType, Vector<SettingsModelDouble>>
         entry : m_kernelParameters
                 .entrySet()) {
@@ -601,6 +672,11 @@ protected void validateSettings(final NodeSettingsRO settings)
 
         m_paramC.validateSettings(settings);
         m_classcol.validateSettings(settings);
+        // added in 3.8
+        if (settings.containsKey(CFG_SECOND_ORDER_SOLVER)) {
+            m_secondOrderSolver.validateSettings(settings);
+            m_kernelCacheSize.validateSettings(settings);
+        }
     }
 
     private static final class LearnColumnsAndColumnRearrangerTuple {
@@ -0,0 +1,705 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.mine.svm.learner;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.knime.base.node.mine.svm.kernel.Kernel;
+import org.knime.base.node.mine.svm.util.DoubleVector;
+import org.knime.base.util.concurrent.ThreadPoolUtil;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Solver for the dual problem of the binary C-SVM using sequential minimal optimization with second order working
+ * set selection and shrinking, as described in:
+ *
+ * Working Set Selection Using Second Order Information for Training Support Vector Machines, by Rong-En Fan, Pai-Hsuen
+ * Chen and Chih-Jen Lin, and LIBSVM: A Library for Support Vector Machines, by Chih-Chung Chang and Chih-Jen Lin.
+ *
+ * Rows of the matrix <code>Q<sub>ij</sub> = y<sub>i</sub> y<sub>j</sub> K(x<sub>i</sub>, x<sub>j</sub>)</code> are
+ * kept in a least recently used cache of bounded size. Kernel rows and the gradient updates of large problems are
+ * computed in parallel.
+ *
+ * The variable names used in this class follow the notations from the papers.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class SecondOrderSmo {
+
+    /** Used instead of a non-positive curvature of the objective function along the working set direction. */
+    private static final double TAU = 1.0e-12;
+
+    /** Minimal number of kernel evaluations or gradient updates for which the work is split across threads. */
+    private static final int PARALLEL_THRESHOLD = 50000;
+
+    private static final byte LOWER_BOUND = 0;
+
+    private static final byte UPPER_BOUND = 1;
+
+    private static final byte FREE = 2;
+
+    private final DoubleVector[] m_inputData;
+
+    private final Kernel m_kernel;
+
+    private final double m_paramC;
+
+    /** The stopping tolerance, the optimization stops once the maximal violation is below it. */
+    private final double m_eps;
+
+    private final int m_maxIteration;
+
+    private final int m_l;
+
+    private final byte[] m_y;
+
+    private final double[] m_alpha;
+
+    private final byte[] m_alphaStatus;
+
+    /** The gradient of the objective function. */
+    private final double[] m_g;
+
+    /** The part of the gradient contributed by the alphas at their upper bound. */
+    private final double[] m_gBar;
+
+    /** The diagonal of Q. */
+    private final double[] m_qd;
+
+    /** The indices of the vectors, the first m_activeSize are the ones not shrunk. */
+    private final int[] m_active;
+
+    private int m_activeSize;
+
+    private boolean m_unshrink;
+
+    private final KernelRowCache m_cache;
+
+    private final int m_nrChunks;
+
+    private final ThreadPool m_pool;
+
+    private double m_rho;
+
+    private boolean m_maxIterationReached;
+
+    /**
+     * @param inputData the input vectors
+     * @param targets the target of each input vector, either 1 or -1
+     * @param kernel the kernel to use
+     * @param paramC the "C" from the problem constraints
+     * @param eps the stopping tolerance
+     * @param maxIteration the maximal number of iterations
+     * @param cacheSize the maximal number of bytes used to cache kernel rows
+     */
+    SecondOrderSmo(final DoubleVector[] inputData, final byte[] targets, final Kernel kernel, final double paramC,
+        final double eps, final int maxIteration, final long cacheSize) {
+        m_inputData = inputData;
+        m_kernel = kernel;
+        m_paramC = paramC;
+        m_eps = eps;
+        m_maxIteration = maxIteration;
+        m_l = inputData.length;
+        m_y = targets;
+        m_alpha = new double[m_l];
+        m_alphaStatus = new byte[m_l];
+        m_g = new double[m_l];
+        m_gBar = new double[m_l];
+        m_qd = new double[m_l];
+        m_active = new int[m_l];
+        m_nrChunks = ThreadPoolUtil.getMaxThreads();
+        m_pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(m_nrChunks);
+        m_cache = new KernelRowCache((int)Math.max(2, Math.min(m_l, cacheSize / (8L * Math.max(1, m_l)))), m_l);
+    }
+
+    /**
+     * Solves the problem.
+     *
+     * @param exec used to check for cancellation
+     * @return the Lagrange coefficients
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    double[] solve(final ExecutionMonitor exec) throws CanceledExecutionException {
+        for (int i = 0; i < m_l; i++) {
+            m_qd[i] = m_kernel.evaluate(m_inputData[i], m_inputData[i]);
+            m_active[i] = i;
+            m_alphaStatus[i] = LOWER_BOUND;
+            // all alphas are zero, hence the gradient equals the linear term
+            m_g[i] = -1.0;
+        }
+        m_activeSize = m_l;
+        m_unshrink = false;
+
+        final int[] workingSet = new int[2];
+        int iteration = 0;
+        int counter = Math.min(m_l, 1000) + 1;
+        while (iteration < m_maxIteration) {
+            if (--counter == 0) {
+                counter = Math.min(m_l, 1000);
+                exec.checkCanceled();
+                doShrinking(exec);
+            }
+            if (!selectWorkingSet(workingSet, exec)) {
+                // optimal for the active set, check again with all vectors
+                reconstructGradient(exec);
+                m_activeSize = m_l;
+                if (!selectWorkingSet(workingSet, exec)) {
+                    break;
+                }
+                // shrink at the next iteration
+                counter = 1;
+            }
+            iteration++;
+            updatePair(workingSet[0], workingSet[1], exec);
+        }
+        if (iteration >= m_maxIteration) {
+            m_maxIterationReached = true;
+            if (m_activeSize < m_l) {
+                reconstructGradient(exec);
+                m_activeSize = m_l;
+            }
+        }
+        m_rho = calculateRho();
+        return m_alpha;
+    }
+
+    /**
+     * @return the offset of the decision function, which is subtracted from the weighted sum of kernel values
+     */
+    double getRho() {
+        return m_rho;
+    }
+
+    /**
+     * @return whether the optimization stopped because the maximal number of iterations was reached
+     */
+    boolean isMaxIterationReached() {
+        return m_maxIterationReached;
+    }
+
+    private boolean isUpperBound(final int i) {
+        return m_alphaStatus[i] == UPPER_BOUND;
+    }
+
+    private boolean isLowerBound(final int i) {
+        return m_alphaStatus[i] == LOWER_BOUND;
+    }
+
+    private boolean isFree(final int i) {
+        return m_alphaStatus[i] == FREE;
+    }
+
+    private void updateAlphaStatus(final int i) {
+        if (m_alpha[i] >= m_paramC) {
+            m_alphaStatus[i] = UPPER_BOUND;
+        } else if (m_alpha[i] <= 0) {
+            m_alphaStatus[i] = LOWER_BOUND;
+        } else {
+            m_alphaStatus[i] = FREE;
+        }
+    }
+
+    /**
+     * Analytically solves the two variable sub problem of i and j and updates the gradients.
+     */
+    private void updatePair(final int i, final int j, final ExecutionMonitor exec) throws CanceledExecutionException {
+        final double[] qi = getQ(i, m_activeSize, exec);
+        final double[] qj = getQ(j, m_activeSize, exec);
+        final double oldAi = m_alpha[i];
+        final double oldAj = m_alpha[j];
+        double ai = oldAi;
+        double aj = oldAj;
+        if (m_y[i] != m_y[j]) {
+            double quadCoef = m_qd[i] + m_qd[j] + 2 * qi[j];
+            if (quadCoef <= 0) {
+                quadCoef = TAU;
+            }
+            final double delta = (-m_g[i] - m_g[j]) / quadCoef;
+            final double diff = ai - aj;
+            ai += delta;
+            aj += delta;
+            if (diff > 0) {
+                if (aj < 0) {
+                    aj = 0;
+                    ai = diff;
+                }
+            } else if (ai < 0) {
+                ai = 0;
+                aj = -diff;
+            }
+            if (diff > 0) {
+                if (ai > m_paramC) {
+                    ai = m_paramC;
+                    aj = m_paramC - diff;
+                }
+            } else if (aj > m_paramC) {
+                aj = m_paramC;
+                ai = m_paramC + diff;
+            }
+        } else {
+            double quadCoef = m_qd[i] + m_qd[j] - 2 * qi[j];
+            if (quadCoef <= 0) {
+                quadCoef = TAU;
+            }
+            final double delta = (m_g[i] - m_g[j]) / quadCoef;
+            final double sum = ai + aj;
+            ai -= delta;
+            aj += delta;
+            if (sum > m_paramC) {
+                if (ai > m_paramC) {
+                    ai = m_paramC;
+                    aj = sum - m_paramC;
+                }
+            } else if (aj < 0) {
+                aj = 0;
+                ai = sum;
+            }
+            if (sum > m_paramC) {
+                if (aj > m_paramC) {
+                    aj = m_paramC;
+                    ai = sum - m_paramC;
+                }
+            } else if (ai < 0) {
+                ai = 0;
+                aj = sum;
+            }
+        }
+        m_alpha[i] = ai;
+        m_alpha[j] = aj;
+
+        final double deltaAi = ai - oldAi;
+        final double deltaAj = aj - oldAj;
+        final int[] active = m_active;
+        final double[] g = m_g;
+        forEachChunk(m_activeSize, (from, to) -> {
+            for (int t = from; t < to; t++) {
+                final int k = active[t];
+                g[k] += qi[k] * deltaAi + qj[k] * deltaAj;
+            }
+        });
+
+        updateGBar(i, exec);
+        updateGBar(j, exec);
+    }
+
+    /**
+     * Updates the alpha status of i and, if it entered or left the upper bound, the corresponding part of the
+     * gradient.
+     */
+    private void updateGBar(final int i, final ExecutionMonitor exec) throws CanceledExecutionException {
+        final boolean wasUpperBound = isUpperBound(i);
+        updateAlphaStatus(i);
+        if (wasUpperBound != isUpperBound(i)) {
+            final double[] qi = getQ(i, m_l, exec);
+            final double factor = wasUpperBound ? -m_paramC : m_paramC;
+            for (int k = 0; k < m_l; k++) {
+                m_gBar[k] += factor * qi[k];
+            }
+        }
+    }
+
+    /**
+     * Selects the maximal violating vector i and, among the vectors violating the optimality conditions together with
+     * i, the one giving the largest decrease of the objective function.
+     *
+     * @return <code>false</code> if the active set is optimal
+     */
+    private boolean selectWorkingSet(final int[] workingSet, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        double gMax = Double.NEGATIVE_INFINITY;
+        double gMax2 = Double.NEGATIVE_INFINITY;
+        int gMaxIdx = -1;
+        int gMinIdx = -1;
+        double objDiffMin = Double.POSITIVE_INFINITY;
+
+        for (int t = 0; t < m_activeSize; t++) {
+            final int k = m_active[t];
+            if (m_y[k] == 1) {
+                if (!isUpperBound(k) && -m_g[k] >= gMax) {
+                    gMax = -m_g[k];
+                    gMaxIdx = k;
+                }
+            } else if (!isLowerBound(k) && m_g[k] >= gMax) {
+                gMax = m_g[k];
+                gMaxIdx = k;
+            }
+        }
+
+        final int i = gMaxIdx;
+        final double[] qi = i != -1 ? getQ(i, m_activeSize, exec) : null;
+        for (int t = 0; t < m_activeSize; t++) {
+            final int j = m_active[t];
+            final double gradDiff;
+            final double quadCoef;
+            if (m_y[j] == 1) {
+                if (isLowerBound(j)) {
+                    continue;
+                }
+                gradDiff = gMax + m_g[j];
+                if (m_g[j] >= gMax2) {
+                    gMax2 = m_g[j];
+                }
+                if (gradDiff <= 0) {
+                    continue;
+                }
+                quadCoef = m_qd[i] + m_qd[j] - 2.0 * m_y[i] * qi[j];
+            } else {
+                if (isUpperBound(j)) {
+                    continue;
+                }
+                gradDiff = gMax - m_g[j];
+                if (-m_g[j] >= gMax2) {
+                    gMax2 = -m_g[j];
+                }
+                if (gradDiff <= 0) {
+                    continue;
+                }
+                quadCoef = m_qd[i] + m_qd[j] + 2.0 * m_y[i] * qi[j];
+            }
+            final double objDiff = -(gradDiff * gradDiff) / (quadCoef > 0 ? quadCoef : TAU);
+            if (objDiff <= objDiffMin) {
+                gMinIdx = j;
+                objDiffMin = objDiff;
+            }
+        }
+
+        if (gMax + gMax2 < m_eps || gMinIdx == -1) {
+            return false;
+        }
+        workingSet[0] = gMaxIdx;
+        workingSet[1] = gMinIdx;
+        return true;
+    }
+
+    private boolean beShrunk(final int i, final double gMax1, final double gMax2) {
+        if (isUpperBound(i)) {
+            return m_y[i] == 1 ? -m_g[i] > gMax1 : -m_g[i] > gMax2;
+        } else if (isLowerBound(i)) {
+            return m_y[i] == 1 ? m_g[i] > gMax2 : m_g[i] > gMax1;
+        }
+        return false;
+    }
+
+    /**
+     * Removes the vectors from the active set whose alphas are likely to stay at their bounds.
+     */
+    private void doShrinking(final ExecutionMonitor exec) throws CanceledExecutionException {
+        // max { -y_i * grad(f)_i | i in I_up(alpha) }
+        double gMax1 = Double.NEGATIVE_INFINITY;
+        // max { y_i * grad(f)_i | i in I_low(alpha) }
+        double gMax2 = Double.NEGATIVE_INFINITY;
+        for (int t = 0; t < m_activeSize; t++) {
+            final int i = m_active[t];
+            if (m_y[i] == 1) {
+                if (!isUpperBound(i) && -m_g[i] >= gMax1) {
+                    gMax1 = -m_g[i];
+                }
+                if (!isLowerBound(i) && m_g[i] >= gMax2) {
+                    gMax2 = m_g[i];
+                }
+            } else {
+                if (!isUpperBound(i) && -m_g[i] >= gMax2) {
+                    gMax2 = -m_g[i];
+                }
+                if (!isLowerBound(i) && m_g[i] >= gMax1) {
+                    gMax1 = m_g[i];
+                }
+            }
+        }
+
+        if (!m_unshrink && gMax1 + gMax2 <= m_eps * 10) {
+            // close to the optimum, continue with all vectors once
+            m_unshrink = true;
+            reconstructGradient(exec);
+            m_activeSize = m_l;
+        }
+
+        for (int t = 0; t < m_activeSize; t++) {
+            if (beShrunk(m_active[t], gMax1, gMax2)) {
+                m_activeSize--;
+                while (m_activeSize > t) {
+                    if (!beShrunk(m_active[m_activeSize], gMax1, gMax2)) {
+                        final int tmp = m_active[t];
+                        m_active[t] = m_active[m_activeSize];
+                        m_active[m_activeSize] = tmp;
+                        break;
+                    }
+                    m_activeSize--;
+                }
+            }
+        }
+    }
+
+    /**
+     * Recomputes the gradient of the shrunk vectors.
+     */
+    private void reconstructGradient(final ExecutionMonitor exec) throws CanceledExecutionException {
+        if (m_activeSize == m_l) {
+            return;
+        }
+        for (int t = m_activeSize; t < m_l; t++) {
+            final int j = m_active[t];
+            m_g[j] = m_gBar[j] - 1.0;
+        }
+        int nrFree = 0;
+        for (int t = 0; t < m_activeSize; t++) {
+            if (isFree(m_active[t])) {
+                nrFree++;
+            }
+        }
+        if ((long)nrFree * m_l > 2L * m_activeSize * (m_l - m_activeSize)) {
+            for (int t = m_activeSize; t < m_l; t++) {
+                exec.checkCanceled();
+                final int i = m_active[t];
+                final double[] qi = getQ(i, m_activeSize, exec);
+                for (int s = 0; s < m_activeSize; s++) {
+                    final int j = m_active[s];
+                    if (isFree(j)) {
+                        m_g[i] += m_alpha[j] * qi[j];
+                    }
+                }
+            }
+        } else {
+            for (int s = 0; s < m_activeSize; s++) {
+                final int i = m_active[s];
+                if (isFree(i)) {
+                    exec.checkCanceled();
+                    final double[] qi = getQ(i, m_l, exec);
+                    final double alphaI = m_alpha[i];
+                    for (int t = m_activeSize; t < m_l; t++) {
+                        final int j = m_active[t];
+                        m_g[j] += alphaI * qi[j];
+                    }
+                }
+            }
+        }
+        // all vectors are active once the gradient is reconstructed, cached partial rows become invalid
+        m_cache.invalidatePartialRows();
+    }
+
+    private double calculateRho() {
+        int nrFree = 0;
+        double ub = Double.POSITIVE_INFINITY;
+        double lb = Double.NEGATIVE_INFINITY;
+        double sumFree = 0;
+        for (int t = 0; t < m_activeSize; t++) {
+            final int i = m_active[t];
+            final double yG = m_y[i] * m_g[i];
+            if (isUpperBound(i)) {
+                if (m_y[i] == -1) {
+                    ub = Math.min(ub, yG);
+                } else {
+                    lb = Math.max(lb, yG);
+                }
+            } else if (isLowerBound(i)) {
+                if (m_y[i] == 1) {
+                    ub = Math.min(ub, yG);
+                } else {
+                    lb = Math.max(lb, yG);
+                }
+            } else {
+                nrFree++;
+                sumFree += yG;
+            }
+        }
+        return nrFree > 0 ? sumFree / nrFree : (ub + lb) / 2;
+    }
+
+    /**
+     * Returns row i of Q, at least the entries of the first <code>length</code> active vectors are valid.
+     */
+    private double[] getQ(final int i, final int length, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final boolean complete = length == m_l;
+        double[] row = m_cache.get(i, complete);
+        if (row == null) {
+            row = m_cache.allocate(i, complete);
+            final double[] q = row;
+            final DoubleVector xi = m_inputData[i];
+            final byte yi = m_y[i];
+            final int[] active = m_active;
+            // the work per kernel evaluation grows with the number of attributes
+            final int work = length * Math.max(1, xi.getNumberValues());
+            final RangeTask task = (from, to) -> {
+                for (int t = from; t < to; t++) {
+                    final int k = active[t];
+                    q[k] = yi * m_y[k] * m_kernel.evaluate(xi, m_inputData[k]);
+                }
+            };
+            if (work >= PARALLEL_THRESHOLD) {
+                runChunked(length, task);
+            } else {
+                task.run(0, length);
+            }
+            exec.checkCanceled();
+        }
+        return row;
+    }
+
+    /**
+     * Runs the task on [0, length), in parallel if the range is large enough.
+     */
+    private void forEachChunk(final int length, final RangeTask task) throws CanceledExecutionException {
+        if (length >= PARALLEL_THRESHOLD) {
+            runChunked(length, task);
+        } else {
+            task.run(0, length);
+        }
+    }
+
+    private void runChunked(final int length, final RangeTask task) throws CanceledExecutionException {
+        final int chunkSize = (length + m_nrChunks - 1) / m_nrChunks;
+        final List<Future<Void>> futures = new ArrayList<>(m_nrChunks);
+        for (int from = 0; from < length; from += chunkSize) {
+            final int start = from;
+            final int end = Math.min(length, from + chunkSize);
+            futures.add(m_pool.enqueue(() -> {
+                task.run(start, end);
+                return null;
+            }));
+        }
+        try {
+            ThreadPoolUtil.runInvisible(m_pool, () -> {
+                for (Future<Void> future : futures) {
+                    future.get();
+                }
+                return null;
+            });
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(ThreadPoolUtil.throwIfUnchecked(e));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("SVM training canceled");
+        } finally {
+            for (Future<Void> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /** Work on a range of indices. */
+    @FunctionalInterface
+    private interface RangeTask {
+        void run(int from, int to);
+    }
+
+    /**
+     * Least recently used cache of rows of Q. Rows are indexed by the original index of the vectors. A partial row
+     * only holds the entries of the vectors that were active when it was computed, which remain valid as long as the
+     * active set only shrinks.
+     */
+    private static final class KernelRowCache {
+
+        private final Map<Integer, CachedRow> m_rows;
+
+        private final int m_rowLength;
+
+        private int m_generation;
+
+        KernelRowCache(final int capacity, final int rowLength) {
+            m_rowLength = rowLength;
+            m_rows = new LinkedHashMap<Integer, CachedRow>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Integer, CachedRow> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        /**
+         * @return the cached row or <code>null</code> if the row has to be computed
+         */
+        double[] get(final int i, final boolean complete) {
+            final CachedRow row = m_rows.get(i);
+            if (row == null || !(row.m_complete || (!complete && row.m_generation == m_generation))) {
+                return null;
+            }
+            return row.m_values;
+        }
+
+        /**
+         * @return the array to store the row in, reusing the one of an invalid cached row
+         */
+        double[] allocate(final int i, final boolean complete) {
+            final CachedRow old = m_rows.remove(i);
+            final double[] values = old != null ? old.m_values : new double[m_rowLength];
+            m_rows.put(i, new CachedRow(values, complete, m_generation));
+            return values;
+        }
+
+        void invalidatePartialRows() {
+            m_generation++;
+        }
+    }
+
+    private static final class CachedRow {
+
+        private final double[] m_values;
+
+        private final boolean m_complete;
+
+        private final int m_generation;
+
+        CachedRow(final double[] values, final boolean complete, final int generation) {
+            m_values = values;
+            m_complete = complete;
+            m_generation = generation;
+        }
+    }
+}
@@ -71,6 +71,9 @@
  *
  * The variable names used in this class follow the notations from the papers.
  *
+ * Alternatively the problem is solved with second order working set selection,
+ * shrinking and a cache of kernel rows, see {@link SecondOrderSmo}.
+ *
  * @author Stefan, University of Konstanz
  * @author Nicolas Cebron, University of Konstanz
  */
@@ -134,6 +137,17 @@ public class SvmAlgorithm {
      */
     private Set<Integer> m_i0, m_i1, m_i2, m_i3, m_i4;
 
+    /*
+     * whether to use the second order solver instead of Keerthi's algorithm.
+     */
+    private final boolean m_secondOrder;
+
+    /*
+     * the maximal number of bytes used to cache kernel rows (second order
+     * solver only).
+     */
+    private final long m_kernelCacheSize;
+
     /** Maximal iteration. */
     private final int m_maxIteration;
 
@@ -163,6 +177,31 @@ public class SvmAlgorithm {
     public SvmAlgorithm(final DoubleVector[] inputData,
             final String positiveClass, final Kernel kernel,
             final double paramC) {
+        this(inputData, positiveClass, kernel, paramC, false, 0);
+    }
+
+    /**
+     * Constructor that allows to choose the second order solver.
+     *
+     * @param inputData the input vectors
+     * @param positiveClass the class value for which to consider an input
+     *            vector a 'positive' example. if input vectors have other class
+     *            values, they are considered 'negative'
+     * @param paramC the "C" from the problem constraints
+     * @param kernel the kernel to use in the algorithm
+     * @param secondOrder whether to use second order working set selection
+     *            with shrinking and a kernel row cache instead of Keerthi's
+     *            algorithm
+     * @param kernelCacheSize the maximal number of bytes used to cache kernel
+     *            rows, only used by the second order solver
+     * @since 3.8
+     */
+    public SvmAlgorithm(final DoubleVector[] inputData,
+            final String positiveClass, final Kernel kernel,
+            final double paramC, final boolean secondOrder,
+            final long kernelCacheSize) {
+        m_secondOrder = secondOrder;
+        m_kernelCacheSize = kernelCacheSize;
         m_inputData = inputData;
         m_positiveClass = positiveClass;
         m_kernel = kernel;
@@ -622,6 +661,28 @@ private void mainAlgorithm(final ExecutionMonitor exec)
         m_b = (m_bLow + m_bUp) * half;
     }
 
+    /**
+     * Solves the problem with {@link SecondOrderSmo}.
+     *
+     * @param exec used to check for cancellation
+     */
+    private void secondOrderAlgorithm(final ExecutionMonitor exec)
+            throws CanceledExecutionException {
+        byte[] targets = new byte[m_inputData.length];
+        for (int i = 0; i < targets.length; ++i) {
+            targets[i] = (byte)target(i);
+        }
+        SecondOrderSmo smo = new SecondOrderSmo(m_inputData, targets, m_kernel,
+                m_paramC, 2.0 * TOLERANCE, m_maxIteration, m_kernelCacheSize);
+        double[] alpha = smo.solve(exec);
+        System.arraycopy(alpha, 0, m_alpha, 0, m_alpha.length);
+        if (smo.isMaxIterationReached()) {
+            exec.setMessage(MAXIMUM_NUMBER_OF_ITERATIONS_REACHED);
+        }
+        exec.setProgress(1.0);
+        m_b = smo.getRho();
+    }
+
     /**
      * Runs the main algorithm and return the resulting SVM.
      *
@@ -637,7 +698,11 @@ public Svm run(final ExecutionMonitor exec)
         }
         m_b = 0;
 
-        mainAlgorithm(exec);
+        if (m_secondOrder) {
+            secondOrderAlgorithm(exec);
+        } else {
+            mainAlgorithm(exec);
+        }
         int countSupportVectors = 0;
         for (int i = 0; i < m_alpha.length; ++i) {
             if (!zero(m_alpha[i])) {
@@ -83,6 +83,28 @@ public BinarySvmRunnable(final DoubleVector[] inputData,
         m_exec = exec;
     }
 
+    /**
+     * @param inputData the input data to train with
+     * @param positiveClass the positive class value
+     * @param kernel the kernel to use
+     * @param paramC overlapping penalty to use
+     * @param secondOrder whether to use the second order solver
+     * @param kernelCacheSize the maximal number of bytes used to cache kernel
+     *            rows
+     * @param exec the execution process to report to
+     * @since 3.8
+     */
+    public BinarySvmRunnable(final DoubleVector[] inputData,
+            final String positiveClass,
+            final Kernel kernel, final double paramC,
+            final boolean secondOrder, final long kernelCacheSize,
+            final ExecutionMonitor exec) {
+        m_svmAlgo = new SvmAlgorithm(inputData, positiveClass, kernel, paramC,
+                secondOrder, kernelCacheSize);
+        m_exception = null;
+        m_exec = exec;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -59,19 +59,17 @@
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
-import org.knime.core.data.RowKey;
 import org.knime.core.data.StringValue;
 import org.knime.core.data.collection.CollectionCellFactory;
 import org.knime.core.data.collection.ListCell;
 import org.knime.core.data.collection.SetCell;
-import org.knime.core.data.container.CellFactory;
+import org.knime.core.data.container.AbstractCellFactory;
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
-import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeSettings;
 import org.knime.core.node.util.CheckUtils;
@@ -80,22 +78,22 @@
 import org.knime.core.util.tokenizer.TokenizerSettings;
 
 /**
- * Creates the data cells for the new columns of the cell splitter.
+ * Creates the data cells for the new columns of the cell splitter. The values are split by a
+ * {@link CellSplitter2Scanner} whenever possible (by the tokenizer otherwise), the rows are processed concurrently.
  *
  * @author ohl, University of Konstanz
  */
-final class CellSplitter2CellFactory implements CellFactory {
+final class CellSplitter2CellFactory extends AbstractCellFactory {
 
     private final CellSplitter2Settings m_settings;
 
-    private final DataTableSpec m_inSpec;
-
-    private DataColumnSpec[] m_outSpecs = null;
-
     private final int m_colIdx;
 
     private final TokenizerSettings m_tokenizerSettings;
 
+    /** The scanner of the current thread, <code>null</code> if the settings have no delimiter. */
+    private final ThreadLocal<CellSplitter2Scanner> m_scanner;
+
     private static final StringCell EMPTY_STRINGCELL = new StringCell("");
 
     /**
@@ -105,18 +103,26 @@ final class CellSplitter2CellFactory implements CellFactory {
      * @param settings the settings object containing the user settings.
      */
     CellSplitter2CellFactory(final DataTableSpec inSpec, final CellSplitter2Settings settings) {
-        CheckUtils.checkArgumentNotNull(settings);
+        super(true, createColumnSpecs(inSpec, CheckUtils.checkArgumentNotNull(settings)));
 
         m_settings = settings;
-        m_inSpec = inSpec;
 
-        if ((m_inSpec != null) && (m_settings.getColumnName() != null)) {
-            m_colIdx = m_inSpec.findColumnIndex(m_settings.getColumnName());
+        if ((inSpec != null) && (m_settings.getColumnName() != null)) {
+            m_colIdx = inSpec.findColumnIndex(m_settings.getColumnName());
         } else {
             m_colIdx = -1;
         }
 
         m_tokenizerSettings = m_settings.createTokenizerSettings();
+
+        // the delimiter and quote are resolved once, the scanner is reset for each value
+        final String delimiter = m_settings.getDelimiterPattern();
+        final String quote = m_settings.getQuotePattern();
+        if (delimiter == null || delimiter.isEmpty()) {
+            m_scanner = null;
+        } else {
+            m_scanner = ThreadLocal.withInitial(() -> new CellSplitter2Scanner(delimiter, quote));
+        }
     }
 
     @Override
@@ -206,17 +212,27 @@ private DataCell[] tokenizeAndCreateCollectionsCell(final DataCell inputCell) {
 
         final String inputString = getInputString(inputCell);
 
-        // init the tokenizer
-        StringReader inputReader = new StringReader(inputString);
-        final Tokenizer tokenizer = prepareTokenizer(inputReader, m_tokenizerSettings);
-
         Collection<DataCell> strColl = new ArrayList<DataCell>();
-        String token = null;
-        while ((token = tokenizer.nextToken()) != null) {
-            if (m_settings.isTrim()) {
-                token = token.trim();
+        final CellSplitter2Scanner scanner = m_scanner == null ? null : m_scanner.get();
+        if (scanner != null && scanner.reset(inputString)) {
+            while (scanner.next()) {
+                if (m_settings.isTrim()) {
+                    scanner.trim();
+                }
+                strColl.add(new StringCell(scanner.getToken()));
+            }
+        } else {
+            // init the tokenizer
+            StringReader inputReader = new StringReader(inputString);
+            final Tokenizer tokenizer = prepareTokenizer(inputReader, m_tokenizerSettings);
+
+            String token = null;
+            while ((token = tokenizer.nextToken()) != null) {
+                if (m_settings.isTrim()) {
+                    token = token.trim();
+                }
+                strColl.add(new StringCell(token));
             }
-            strColl.add(new StringCell(token));
         }
 
         if (m_settings.isOutputAsList()) {
@@ -257,6 +273,26 @@ private DataCell[] tokenizeAndCreateCells(final DataCell inputCell, final int nu
 
         final String inputString = getInputString(inputCell);
 
+        final CellSplitter2Scanner scanner = m_scanner == null ? null : m_scanner.get();
+        if (scanner != null && scanner.reset(inputString)) {
+            for (int col = 0; col < result.length; col++) {
+                if (!scanner.next()) {
+                    result[col] = createMissingTokenCell(col);
+                    continue;
+                }
+                if (col == result.length - 1 && scanner.hasNext()) {
+                    // this is the last column - store the entire rest (including this token) in it
+                    scanner.extendToEnd();
+                }
+                if (m_settings.isTrim()) {
+                    scanner.trim();
+                }
+                result[col] = createDataCell(scanner.getInput(), scanner.getTokenStart(), scanner.getTokenEnd(),
+                    m_settings.getTypeOfColumn(col));
+            }
+            return result;
+        }
+
         // init the tokenizer
         StringReader inputReader = new StringReader(inputString);
         final Tokenizer tokenizer = prepareTokenizer(inputReader, m_tokenizerSettings);
@@ -294,30 +330,36 @@ private DataCell[] tokenizeAndCreateCells(final DataCell inputCell, final int nu
             }
 
             if (token == null) {
-                if (m_settings.isUseEmptyString() && m_settings.getTypeOfColumn(col).equals(StringCell.TYPE)) {
-                    // create empty string cells - not missing cells.
-                    result[col] = EMPTY_STRINGCELL;
-                } else {
-                    result[col] = DataType.getMissingCell();
-                }
+                result[col] = createMissingTokenCell(col);
             } else {
                 if (m_settings.isTrim()) {
                     token = token.trim();
                 }
-                result[col] = createDataCell(token, m_settings.getTypeOfColumn(col));
+                result[col] = createDataCell(token, 0, token.length(), m_settings.getTypeOfColumn(col));
             }
         }
         return result;
     }
 
-    private static DataCell createDataCell(final String token, final DataType type) {
+    /** The cell for a column there is no token left for. */
+    private DataCell createMissingTokenCell(final int col) {
+        if (m_settings.isUseEmptyString() && m_settings.getTypeOfColumn(col).equals(StringCell.TYPE)) {
+            // create empty string cells - not missing cells.
+            return EMPTY_STRINGCELL;
+        }
+        return DataType.getMissingCell();
+    }
+
+    /** Creates the cell for the token from <code>start</code> to <code>end</code> in <code>input</code>. */
+    private static DataCell createDataCell(final String input, final int start, final int end, final DataType type) {
         if (type.equals(StringCell.TYPE)) {
-            return new StringCell(token);
+            return new StringCell(input.substring(start, end));
 
         } else if (type.equals(DoubleCell.TYPE)) {
-            if (token.isEmpty()) {
+            if (start == end) {
                 return DataType.getMissingCell();
             }
+            final String token = input.substring(start, end);
             try {
                 double val = Double.parseDouble(token);
                 return new DoubleCell(val);
@@ -327,9 +369,14 @@ private static DataCell createDataCell(final String token, final DataType type)
             }
 
         } else if (type.equals(IntCell.TYPE)) {
-            if (token.isEmpty()) {
+            if (start == end) {
                 return DataType.getMissingCell();
             }
+            final long fastVal = CellSplitter2Scanner.parseInt(input, start, end);
+            if (fastVal != CellSplitter2Scanner.NO_INT) {
+                return new IntCell((int)fastVal);
+            }
+            final String token = input.substring(start, end);
             try {
                 int val = Integer.parseInt(token);
                 return new IntCell(val);
@@ -364,15 +411,23 @@ private static String readAll(final Reader src) {
         return temp.toString();
     }
 
-    @Override
-    public DataColumnSpec[] getColumnSpecs() {
+    /**
+     * Creates the specs of the new columns.
+     *
+     * @param inSpec the spec of the input table
+     * @param settings the settings containing the number and types of the new columns
+     * @return the specs of the new columns (empty if the settings are incomplete)
+     */
+    private static DataColumnSpec[] createColumnSpecs(final DataTableSpec inSpec,
+        final CellSplitter2Settings settings) {
+        DataColumnSpec[] outSpecs = null;
 
         // make sure number of column is set or guessed but only if output as
         // columns is specified
-        if (m_settings.isOutputAsCols() && m_outSpecs == null) {
-            int colNum = m_settings.getNumOfCols();
-            if (m_settings.isGuessNumOfCols()) {
-                colNum = m_settings.getNumOfColsGuessed();
+        if (settings.isOutputAsCols()) {
+            int colNum = settings.getNumOfCols();
+            if (settings.isGuessNumOfCols()) {
+                colNum = settings.getNumOfColsGuessed();
             }
 
             if (colNum < 1) {
@@ -381,51 +436,51 @@ public DataColumnSpec[] getColumnSpecs() {
                 // don't call getColumnSpec on this rearranger
                 // with incomplete settings
                 assert false;
-                m_outSpecs = new DataColumnSpec[0];
+                outSpecs = new DataColumnSpec[0];
             }
         }
         // make sure settings are correct and complete
-        if (m_outSpecs == null) {
-            String msg = m_settings.getStatus(m_inSpec);
+        if (outSpecs == null) {
+            String msg = settings.getStatus(inSpec);
             if (msg != null) {
                 // don't call getColumnSpec on this rearranger
                 // with incomplete settings
                 assert false;
-                m_outSpecs = new DataColumnSpec[0];
+                outSpecs = new DataColumnSpec[0];
             }
         }
         // no input spec, no output spec. tit for tat.
-        if (m_outSpecs == null) {
-            if (m_inSpec == null) {
+        if (outSpecs == null) {
+            if (inSpec == null) {
                 // don't call getColumnSpec on this rearranger
                 // if you don't have an input spec.
                 assert false;
-                m_outSpecs = new DataColumnSpec[0];
+                outSpecs = new DataColumnSpec[0];
             }
         }
 
-        final UniqueNameGenerator uniqueNames = new UniqueNameGenerator(m_inSpec);
+        final UniqueNameGenerator uniqueNames = new UniqueNameGenerator(inSpec);
 
         // now, create the output specs
-        if (m_outSpecs == null) {
+        if (outSpecs == null) {
 
             // create regular columns output spec if output as column is
             // specified
-            if (m_settings.isOutputAsCols()) {
-                int colNum = m_settings.getNumOfCols();
-                if (m_settings.isGuessNumOfCols()) {
-                    colNum = m_settings.getNumOfColsGuessed();
+            if (settings.isOutputAsCols()) {
+                int colNum = settings.getNumOfCols();
+                if (settings.isGuessNumOfCols()) {
+                    colNum = settings.getNumOfColsGuessed();
                 }
 
-                m_outSpecs = new DataColumnSpec[colNum];
-                String selColName = m_settings.getColumnName();
+                outSpecs = new DataColumnSpec[colNum];
+                String selColName = settings.getColumnName();
 
                 Tokenizer tokenizer = null;
                 StringReader inputReader = null;
-                if (m_settings.isSplitColumnNames()) {
+                if (settings.isSplitColumnNames()) {
                     /* If split column names is set, we need to split the selected column name with the same tokenizer as used later for the cell data. */
                     inputReader = new StringReader(selColName);
-                    tokenizer = prepareTokenizer(inputReader, m_settings.createTokenizerSettings());
+                    tokenizer = prepareTokenizer(inputReader, settings.createTokenizerSettings());
                 }
 
                 for (int col = 0; col < colNum; col++) {
@@ -465,17 +520,17 @@ public DataColumnSpec[] getColumnSpecs() {
                         colName = selColName + "_Arr[" + col + "]";
                     }
 
-                    final DataType colType = m_settings.getTypeOfColumn(col);
-                    m_outSpecs[col] = uniqueNames.newColumn(colName, colType);
+                    final DataType colType = settings.getTypeOfColumn(col);
+                    outSpecs[col] = uniqueNames.newColumn(colName, colType);
                 }
 
                 // create list or set cell output spec
             } else {
-                m_outSpecs = new DataColumnSpec[1];
-                String selColName = m_settings.getColumnName();
+                outSpecs = new DataColumnSpec[1];
+                String selColName = settings.getColumnName();
 
                 String colName;
-                if (m_settings.isOutputAsList()) {
+                if (settings.isOutputAsList()) {
                     colName = selColName + "_SplitResultList";
                 } else {
                     colName = selColName + "_SplitResultSet";
@@ -483,33 +538,21 @@ public DataColumnSpec[] getColumnSpecs() {
 
                 DataType colType = null;
                 // list cell type
-                if (m_settings.isOutputAsList()) {
+                if (settings.isOutputAsList()) {
                     colType = ListCell.getCollectionType(StringCell.TYPE);
                     // set cell type otherwise (there is no other option left)
                 } else {
                     colType = SetCell.getCollectionType(StringCell.TYPE);
                 }
-                m_outSpecs[0] = uniqueNames.newColumn(colName, colType);
+                outSpecs[0] = uniqueNames.newColumn(colName, colType);
             }
 
         }
 
-        return m_outSpecs;
+        return outSpecs;
 
     }
 
-    /**
-     * {@inheritDoc}
-     *
-     * @deprecated
-     */
-    @Deprecated
-    @Override
-    public void setProgress(final int curRowNr, final int rowCount, final RowKey lastKey, final ExecutionMonitor exec) {
-        exec.setProgress((double)curRowNr / (double)rowCount,
-            "processing row #" + curRowNr + " of " + rowCount + " (" + lastKey.getString() + ")");
-    }
-
     /**
      * Analyzes the values in the user selected column and tries to figure out how many columns are needed to hold the
      * splitted values and of which type the new resulting column have to be. <br>
@@ -597,6 +640,8 @@ static CellSplitter2Settings createNewColumnTypes(final BufferedDataTable table,
             throw new IllegalStateException("Incorrect user settings");
         }
 
+        final CellSplitter2Scanner scanner = CellSplitter2Scanner.create(userSettings);
+
         long rowCnt = 0;
         final long numOfRows =
             userSettings.hasScanLimit() ? Math.min(userSettings.scanLimit(), table.size()) : table.size();
@@ -621,63 +666,36 @@ static CellSplitter2Settings createNewColumnTypes(final BufferedDataTable table,
                 inputString = inputCell.toString();
             }
 
-            // init the tokenizer
-            final StringReader inputReader = new StringReader(inputString);
-            // the reader is no good if it doesn't support the mark operation
-            assert inputReader.markSupported();
-
-            final Tokenizer tokenizer = new Tokenizer(inputReader);
-            tokenizer.setSettings(tokenizerSettings);
-            int addedColIdx = -1;
-
-            // read tokens from the input, analyze the tokens and set the type
-            while (true) {
-                String token = tokenizer.nextToken();
-                addedColIdx++;
-                if (token == null) {
-                    // done with that input string from that row
-                    break;
+            if (scanner != null && scanner.reset(inputString)) {
+                // analyze the tokens on the characters of the input
+                int addedColIdx = 0;
+                while (scanner.next()) {
+                    scanner.trim();
+                    guessTypeOfColumn(result, addedColIdx++, scanner.getInput(), scanner.getTokenStart(),
+                        scanner.getTokenEnd());
                 }
-
-                token = token.trim();
-
-                DataType colType = IntCell.TYPE;
-
-                // if we already got that many columns, verify the type
-                if (addedColIdx < result.getNumOfColsGuessed()) {
-                    colType = result.getTypeOfColumn(addedColIdx);
-                } else {
-                    // otherwise init the type with int
-                    result.addColumnOfType(colType);
-                }
-
-                if (colType.equals(IntCell.TYPE)) {
-                    // try converting it to an integer
-                    try {
-                        Integer.parseInt(token);
-                    } catch (NumberFormatException nfe) {
-                        // that wasn't really an integer. Try double.
-                        colType = DoubleCell.TYPE;
-                    }
-                } // fall through. No else here.
-
-                if (colType.equals(DoubleCell.TYPE)) {
-                    // try converting it to a double
-                    try {
-                        Double.parseDouble(token);
-                    } catch (NumberFormatException nfe) {
-                        // that wasn't really a double. Use string.
-                        colType = StringCell.TYPE;
-                    }
+            } else {
+                // init the tokenizer
+                final StringReader inputReader = new StringReader(inputString);
+                // the reader is no good if it doesn't support the mark operation
+                assert inputReader.markSupported();
+
+                final Tokenizer tokenizer = new Tokenizer(inputReader);
+                tokenizer.setSettings(tokenizerSettings);
+                int addedColIdx = 0;
+
+                // read tokens from the input, analyze the tokens and set the type
+                String token;
+                while ((token = tokenizer.nextToken()) != null) {
+                    token = token.trim();
+                    guessTypeOfColumn(result, addedColIdx++, token, 0, token.length());
                 }
-
-                // write back the type
-                result.replaceTypeOfColumn(addedColIdx, colType);
-
             }
             if (exec != null) {
                 exec.checkCanceled();
-                exec.setProgress((double)rowCnt / (double)numOfRows, "Analyzing row #" + rowCnt + " of " + numOfRows);
+                final long currentRow = rowCnt;
+                exec.setProgress((double)rowCnt / (double)numOfRows,
+                    () -> "Analyzing row #" + currentRow + " of " + numOfRows);
             }
         }
 
@@ -693,4 +711,54 @@ static CellSplitter2Settings createNewColumnTypes(final BufferedDataTable table,
 
         return result;
     }
+
+    /**
+     * Adds the column for the token to the result if it doesn't exist yet (as int column) and changes its type to
+     * double or string if the token is not an int or double. String columns are never checked again.
+     *
+     * @param result the settings to add the column to or to change the type in
+     * @param colIdx the index of the new column the token is split into
+     * @param input the string containing the (trimmed) token
+     * @param start the start index of the token in the input
+     * @param end the end index of the token in the input
+     */
+    private static void guessTypeOfColumn(final CellSplitter2Settings result, final int colIdx, final String input,
+        final int start, final int end) {
+        DataType colType = IntCell.TYPE;
+
+        // if we already got that many columns, verify the type
+        if (colIdx < result.getNumOfColsGuessed()) {
+            colType = result.getTypeOfColumn(colIdx);
+            if (colType.equals(StringCell.TYPE)) {
+                return;
+            }
+        } else {
+            // otherwise init the type with int
+            result.addColumnOfType(colType);
+        }
+
+        if (colType.equals(IntCell.TYPE)
+            && CellSplitter2Scanner.parseInt(input, start, end) == CellSplitter2Scanner.NO_INT) {
+            // not a plain integer, try converting it with the (more lenient) parser
+            try {
+                Integer.parseInt(input.substring(start, end));
+            } catch (NumberFormatException nfe) {
+                // that wasn't really an integer. Try double.
+                colType = DoubleCell.TYPE;
+            }
+        } // fall through. No else here.
+
+        if (colType.equals(DoubleCell.TYPE)) {
+            // try converting it to a double
+            try {
+                Double.parseDouble(input.substring(start, end));
+            } catch (NumberFormatException nfe) {
+                // that wasn't really a double. Use string.
+                colType = StringCell.TYPE;
+            }
+        }
+
+        // write back the type
+        result.replaceTypeOfColumn(colIdx, colType);
+    }
 }
@@ -60,6 +60,15 @@
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.OutputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortObjectInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.StreamableOperator;
 
 /**
  * Model of the node that splits one column into many, based on a user specified delimiter.
@@ -136,6 +145,44 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         return new BufferedDataTable[]{outTable};
     }
 
+    /** Whether the number and types of the new columns are guessed from the data. */
+    private boolean isGuessing() {
+        return m_settings.isGuessNumOfCols() && m_settings.isOutputAsCols();
+    }
+
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        if (isGuessing()) {
+            // the entire table is analyzed before the values can be split
+            return new InputPortRole[]{InputPortRole.NONDISTRIBUTED_NONSTREAMABLE};
+        }
+        return new InputPortRole[]{InputPortRole.DISTRIBUTED_STREAMABLE};
+    }
+
+    @Override
+    public OutputPortRole[] getOutputPortRoles() {
+        return new OutputPortRole[]{OutputPortRole.DISTRIBUTED};
+    }
+
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+        final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        if (!isGuessing()) {
+            return createColumnRearranger((DataTableSpec)inSpecs[0]).createStreamableFunction();
+        }
+        return new StreamableOperator() {
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final ExecutionContext exec)
+                throws Exception {
+                final BufferedDataTable table = (BufferedDataTable)((PortObjectInput)inputs[0]).getPortObject();
+                m_settings = CellSplitter2CellFactory.createNewColumnTypes(table, m_settings,
+                    exec.createSubExecutionContext(0.5));
+                createColumnRearranger(table.getDataTableSpec()).createStreamableFunction().runFinal(
+                    new PortInput[]{new DataTableRowInput(table)}, outputs, exec.createSubExecutionContext(0.5));
+            }
+        };
+    }
+
     private ColumnRearranger createColumnRearranger(final DataTableSpec inTableSpec) {
         final ColumnRearranger c = new ColumnRearranger(inTableSpec);
         if (m_settings.isRemoveInputColumn()) {
@@ -0,0 +1,231 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.cellsplit2;
+
+/**
+ * Splits a string at a delimiter working directly on the characters of the string, without the reader, the
+ * tokenizer and the string builder the {@link org.knime.core.util.tokenizer.Tokenizer} needs for each value. The
+ * current token is given by its start and end index in the input string; a string is only created if the token is
+ * needed as string.
+ * <p>
+ * Only inputs that are tokenized exactly like by the tokenizer are accepted (see {@link #reset(String)}), i.e. inputs
+ * that are not empty, don't end with the delimiter and don't contain the quote pattern. All others must be split by
+ * the tokenizer.
+ * <p>
+ * An instance is not thread-safe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class CellSplitter2Scanner {
+
+    /** Returned by {@link #parseInt(String, int, int)} if the characters are not a plain integer. */
+    static final long NO_INT = Long.MIN_VALUE;
+
+    private final String m_delimiter;
+
+    private final String m_quote;
+
+    private String m_input;
+
+    // start of the next token, -1 if there is none
+    private int m_pos = -1;
+
+    private int m_tokenStart;
+
+    private int m_tokenEnd;
+
+    /**
+     * @param delimiter the delimiter to split at, not empty
+     * @param quote the quote pattern, <code>null</code> or empty if no quotes are set
+     */
+    CellSplitter2Scanner(final String delimiter, final String quote) {
+        m_delimiter = delimiter;
+        m_quote = (quote == null || quote.isEmpty()) ? null : quote;
+    }
+
+    /**
+     * Creates a scanner for the delimiter and quote of the settings.
+     *
+     * @param settings the user settings
+     * @return a new scanner, <code>null</code> if the settings have no delimiter
+     */
+    static CellSplitter2Scanner create(final CellSplitter2UserSettings settings) {
+        final String delim = settings.getDelimiterPattern();
+        if (delim == null || delim.isEmpty()) {
+            return null;
+        }
+        return new CellSplitter2Scanner(delim, settings.getQuotePattern());
+    }
+
+    /**
+     * Starts scanning a new input string.
+     *
+     * @param input the string to split
+     * @return <code>false</code> if the input can't be split by this scanner and must be split by the tokenizer
+     */
+    boolean reset(final String input) {
+        // the tokenizer's handling of a delimiter at the end of the input and of quotes is left to the tokenizer
+        if (input.isEmpty() || input.endsWith(m_delimiter) || (m_quote != null && input.contains(m_quote))) {
+            m_pos = -1;
+            return false;
+        }
+        m_input = input;
+        m_pos = 0;
+        return true;
+    }
+
+    /**
+     * Moves to the next token.
+     *
+     * @return <code>false</code> if there is no token left
+     */
+    boolean next() {
+        if (m_pos < 0) {
+            return false;
+        }
+        m_tokenStart = m_pos;
+        final int delim = m_input.indexOf(m_delimiter, m_pos);
+        if (delim < 0) {
+            m_tokenEnd = m_input.length();
+            m_pos = -1;
+        } else {
+            m_tokenEnd = delim;
+            m_pos = delim + m_delimiter.length();
+        }
+        return true;
+    }
+
+    /**
+     * @return <code>true</code> if there is another token after the current one
+     */
+    boolean hasNext() {
+        return m_pos >= 0;
+    }
+
+    /**
+     * Extends the current token to the end of the input (including all delimiters following the token).
+     */
+    void extendToEnd() {
+        m_tokenEnd = m_input.length();
+        m_pos = -1;
+    }
+
+    /**
+     * Removes leading and trailing white spaces (as defined by {@link String#trim()}) from the current token.
+     */
+    void trim() {
+        while (m_tokenStart < m_tokenEnd && m_input.charAt(m_tokenStart) <= ' ') {
+            m_tokenStart++;
+        }
+        while (m_tokenStart < m_tokenEnd && m_input.charAt(m_tokenEnd - 1) <= ' ') {
+            m_tokenEnd--;
+        }
+    }
+
+    /**
+     * @return the input string currently scanned
+     */
+    String getInput() {
+        return m_input;
+    }
+
+    /**
+     * @return the index of the first character of the current token in the input
+     */
+    int getTokenStart() {
+        return m_tokenStart;
+    }
+
+    /**
+     * @return the index after the last character of the current token in the input
+     */
+    int getTokenEnd() {
+        return m_tokenEnd;
+    }
+
+    /**
+     * @return the current token as string
+     */
+    String getToken() {
+        return m_input.substring(m_tokenStart, m_tokenEnd);
+    }
+
+    /**
+     * Parses an integer consisting of an optional sign and ASCII digits. For everything else (including the digits
+     * of other scripts {@link Integer#parseInt(String)} accepts) {@link #NO_INT} is returned, in which case the
+     * caller must use {@link Integer#parseInt(String)} to decide.
+     *
+     * @param s the string containing the integer
+     * @param start the index of the first character
+     * @param end the index after the last character
+     * @return the integer value, or {@link #NO_INT} if the characters are not a plain integer
+     */
+    static long parseInt(final String s, final int start, final int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+            negative = s.charAt(i) == '-';
+            i++;
+        }
+        // at most 10 digits, the value can't overflow a long
+        if (i == end || end - i > 10) {
+            return NO_INT;
+        }
+        long result = 0;
+        for (; i < end; i++) {
+            final int digit = s.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return NO_INT;
+            }
+            result = result * 10 + digit;
+        }
+        result = negative ? -result : result;
+        return (result < Integer.MIN_VALUE || result > Integer.MAX_VALUE) ? NO_INT : result;
+    }
+}
@@ -475,6 +475,20 @@ void setRemoveInputColumn(final boolean b) {
         m_removeInputColumn = b;
     }
 
+    /**
+     * Returns the delimiter the values are split at, i.e. the delimiter entered by the user with the escape sequences
+     * replaced if {@link #isUseEscapeCharacter()} is set.
+     *
+     * @return the delimiter pattern, <code>null</code> if no delimiter is set
+     */
+    String getDelimiterPattern() {
+        final String delim = getDelimiter();
+        if ((delim != null) && isUseEscapeCharacter()) {
+            return StringEscapeUtils.unescapeJava(delim);
+        }
+        return delim;
+    }
+
     /**
      * Creates the TokenizerSettings from these CellSpliterUserSettings, which can be <code>null</code>.
      *
@@ -487,12 +501,8 @@ TokenizerSettings createTokenizerSettings() {
 
         final TokenizerSettings result = new TokenizerSettings();
 
-        String delim = getDelimiter();
-        if (isUseEscapeCharacter()) {
-            delim = StringEscapeUtils.unescapeJava(delim);
-        }
-        result.addDelimiterPattern(delim, /* combineConsecutive */false, /* returnAsSeperateToken */false,
-            /* includeInToken */false);
+        result.addDelimiterPattern(getDelimiterPattern(), /* combineConsecutive */false,
+            /* returnAsSeperateToken */false, /* includeInToken */false);
 
         final String quote = getQuotePattern();
         if ((quote != null) && (quote.length() > 0)) {
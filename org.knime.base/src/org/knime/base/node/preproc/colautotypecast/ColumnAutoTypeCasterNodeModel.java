@@ -46,15 +46,19 @@
 
 import java.io.File;
 import java.io.IOException;
-import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.HashSet;
+import java.util.List;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.knime.base.node.io.filereader.DataCellFactory;
+import org.knime.base.util.concurrent.ThreadPoolUtil;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
@@ -63,12 +67,11 @@
 import org.knime.core.data.DataType;
 import org.knime.core.data.RowKey;
 import org.knime.core.data.StringValue;
+import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.data.container.ColumnRearranger;
 import org.knime.core.data.container.SingleCellFactory;
 import org.knime.core.data.date.DateAndTimeCell;
 import org.knime.core.data.def.DefaultRow;
-import org.knime.core.data.def.DoubleCell;
-import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.LongCell;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.node.BufferedDataContainer;
@@ -77,6 +80,7 @@
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
@@ -84,6 +88,7 @@
 import org.knime.core.node.util.filter.InputFilter;
 import org.knime.core.node.util.filter.NameFilterConfiguration;
 import org.knime.core.node.util.filter.column.DataColumnSpecFilterConfiguration;
+import org.knime.core.util.ThreadPool;
 
 /**
  * The column type changer node model which converts a string column to a numeric or date-type column iff all
@@ -105,6 +110,9 @@ public class ColumnAutoTypeCasterNodeModel extends NodeModel {
 
     static final String MISSVALDESC_EMPTY = "<empty>";
 
+    /** The number of rows whose cells are guessed at once. */
+    private static final int ROWS_PER_CHUNK = 1024;
+
     private DataColumnSpecFilterConfiguration m_conf;
 
     private String m_dateFormat = "dd.MM.yy";
@@ -155,42 +163,33 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
 
         if (data.size() > 0) {
             // empty table check
-            SimpleDateFormat dateFormat = new SimpleDateFormat(m_dateFormat);
+            final int[] colIndices = new int[incls.length];
+            final ColumnTypeGuesser[] guessers = new ColumnTypeGuesser[incls.length];
+            for (int i = 0; i < incls.length; i++) {
+                colIndices[i] = data.getDataTableSpec().findColumnIndex(incls[i]);
+                guessers[i] = new ColumnTypeGuesser(incls[i], colIndices[i], m_dateFormat, m_missValPat,
+                    m_quickScan, m_reasons[i]);
+            }
 
+            // guess the columns of a chunk of rows in parallel
+            final int nrThreads = Math.min(ThreadPoolUtil.getMaxThreads(), incls.length);
+            final ThreadPool pool = nrThreads > 1 ? KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(nrThreads) : null;
             long numberOfRows = m_quickScan ? Math.min(m_numberOfRows, data.size()) : data.size();
-            for (DataRow row : data) {
-                if (!(0 < numberOfRows--)) {
-                    data.iterator().close();
-                    break;
-                }
-                for (int i = 0; i < incls.length; i++) {
-                    // guess for each cell in each column the best matching datatype
-                    DataCell c = row.getCell(data.getDataTableSpec().findColumnIndex(incls[i]));
-                    if (!c.isMissing() && c.toString().equals(m_missValPat)) {
-                        continue;
+            final List<DataRow> chunk = new ArrayList<DataRow>(ROWS_PER_CHUNK);
+            try (CloseableRowIterator it = data.iterator()) {
+                while (0 < numberOfRows-- && it.hasNext()) {
+                    chunk.add(it.next());
+                    if (chunk.size() == ROWS_PER_CHUNK || numberOfRows == 0 || !it.hasNext()) {
+                        guess(guessers, chunk, pool, nrThreads);
+                        progress += chunk.size();
+                        chunk.clear();
+                        exec.checkCanceled();
+                        exec.setProgress(progress / max);
                     }
-                    DataType newType = typeGuesser(c, dateFormat);
-                    if (types[i] != null) {
-                        DataType toSet = setType(types[i], newType);
-                        if (!toSet.equals(types[i])) {
-                            m_reasons[i][2] = row.getKey().getString();
-                            m_reasons[i][1] = toSet.toString();
-                            m_reasons[i][0] = incls[i];
-                        }
-                        types[i] = toSet;
-                    } else {
-                        types[i] = newType;
-                        String r = row.getKey().toString();
-                        r += m_quickScan ? (" based on a quickscan.") : "";
-                        m_reasons[i][2] = r;
-                        m_reasons[i][1] = newType.toString();
-                        m_reasons[i][0] = incls[i];
-                    }
-                    exec.checkCanceled();
                 }
-                exec.checkCanceled();
-                progress++;
-                exec.setProgress(progress / max);
+            }
+            for (int i = 0; i < incls.length; i++) {
+                types[i] = guessers[i].getType();
             }
 
             for (int i = 0; i < types.length; i++) {
@@ -205,7 +204,7 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
 
             ColumnRearranger arrange = new ColumnRearranger(data.getDataTableSpec());
             for (int i = 0; i < incls.length; i++) {
-                final int colIdx = data.getDataTableSpec().findColumnIndex(incls[i]);
+                final int colIdx = colIndices[i];
                 final DataType type = types[i];
 
                 DataColumnSpecCreator colSpecCreator = new DataColumnSpecCreator(incls[i], types[i]);
@@ -244,12 +243,16 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
 
     private SingleCellFactory
         createNumberConverter(final int colIdx, final DataType type, final DataColumnSpec colSpec) {
-        return new SingleCellFactory(colSpec) {
-            private final DataCellFactory m_fac = new DataCellFactory();
+        return new SingleCellFactory(true, colSpec) {
+            // the cells are created concurrently, the factory keeps the last error message though
+            private final ThreadLocal<DataCellFactory> m_fac = ThreadLocal.withInitial(() -> {
+                final DataCellFactory fac = new DataCellFactory();
+                fac.setMissingValuePattern(m_missValPat);
+                return fac;
+            });
 
             @Override
             public DataCell getCell(final DataRow row) {
-                m_fac.setMissingValuePattern(m_missValPat);
                 DataCell cell = row.getCell(colIdx);
                 if (!cell.isMissing()) {
 
@@ -260,7 +263,7 @@ public DataCell getCell(final DataRow row) {
 
                     // create String-, Int- or DoubleCell
 
-                    DataCell c = m_fac.createDataCellOfType(type, str);
+                    DataCell c = m_fac.get().createDataCellOfType(type, str);
                     if (c == null) {
                         throw new NumberFormatException("Can't convert '" + str + "' to " + type.toString() + ". In "
                             + row.getKey() + " Column" + colIdx + ". Disable " + "quickscan and try again.");
@@ -277,7 +280,7 @@ public DataCell getCell(final DataRow row) {
     }
 
     private SingleCellFactory createLongConverter(final int colIdx, final DataColumnSpec colSpec) {
-        return new SingleCellFactory(colSpec) {
+        return new SingleCellFactory(true, colSpec) {
             @Override
             public DataCell getCell(final DataRow row) {
 
@@ -305,10 +308,19 @@ public DataCell getCell(final DataRow row) {
     }
 
     private SingleCellFactory createDateAndTimeConverter(final int colIdx, final DataColumnSpec colSpec) {
-        return new SingleCellFactory(colSpec) {
-            private final Calendar m_cal = Calendar.getInstance(TimeZone.getDefault());
-
-            private final SimpleDateFormat m_format = new SimpleDateFormat(m_dateFormat);
+        return new SingleCellFactory(true, colSpec) {
+            // the cells are created concurrently, neither the calendar nor the format are thread-safe
+            private final ThreadLocal<Calendar> m_cal = ThreadLocal.withInitial(() -> {
+                final Calendar cal = Calendar.getInstance(TimeZone.getDefault());
+                cal.setTimeZone(TimeZone.getTimeZone("UTC"));
+                return cal;
+            });
+
+            private final ThreadLocal<SimpleDateFormat> m_format = ThreadLocal.withInitial(() -> {
+                final SimpleDateFormat format = new SimpleDateFormat(m_dateFormat);
+                format.setTimeZone(TimeZone.getTimeZone("UTC"));
+                return format;
+            });
 
             private final boolean m_hasDate;
 
@@ -317,9 +329,6 @@ private SingleCellFactory createDateAndTimeConverter(final int colIdx, final Dat
             private final boolean m_hasMillis;
 
             {
-                TimeZone timeZone = TimeZone.getTimeZone("UTC");
-                m_format.setTimeZone(timeZone);
-                m_cal.setTimeZone(timeZone);
                 m_hasDate = m_dateFormat.contains("d");
                 m_hasTime = m_dateFormat.contains("H");
                 m_hasMillis = m_dateFormat.contains("S");
@@ -333,8 +342,9 @@ public DataCell getCell(final DataRow row) {
                     String str = ((StringValue)cell).getStringValue();
                     if (!str.equals(m_missValPat)) {
                         try {
-                            m_cal.setTime(m_format.parse(str));
-                            return new DateAndTimeCell(m_cal.getTimeInMillis(), m_hasDate, m_hasTime, m_hasMillis);
+                            final Calendar cal = m_cal.get();
+                            cal.setTime(m_format.get().parse(str));
+                            return new DateAndTimeCell(cal.getTimeInMillis(), m_hasDate, m_hasTime, m_hasMillis);
                         } catch (ParseException e) {
                             throw new IllegalArgumentException("Can't convert '" + str + "' to "
                                 + DateAndTimeCell.TYPE.toString() + ". In " + row.getKey() + " Column" + colIdx
@@ -353,76 +363,47 @@ public DataCell getCell(final DataRow row) {
     }
 
     /**
-     * @param curType currently stored DataType
-     * @param newType possible new DataType
+     * Guesses the types of the rows' cells, the columns being split among the threads of the pool.
      */
-    private DataType setType(final DataType curType, final DataType newType) {
-        // if one of the types represents the missing cell type, we
-        // return the other type.
-        if (curType.equals(DataType.getMissingCell().getType())) {
-            return newType;
-        }
-        if (newType.equals(DataType.getMissingCell().getType())) {
-            return curType;
-        }
-
-        // handles also the equals case
-        if (curType.isASuperTypeOf(newType)) {
-            return curType;
-        }
-        if (newType.isASuperTypeOf(curType)) {
-            return newType;
+    private static void guess(final ColumnTypeGuesser[] guessers, final List<DataRow> rows, final ThreadPool pool,
+        final int nrThreads) throws CanceledExecutionException {
+        if (pool == null) {
+            for (final ColumnTypeGuesser guesser : guessers) {
+                guesser.guess(rows);
+            }
+            return;
         }
-
-        // if both are not super type, return default StringCell
-        return StringCell.TYPE;
-
-    }
-
-    /**
-     * try to parse all different numeric types and the date type based on the given format-pattern.
-     *
-     * @param cell
-     * @return new DataType if string could be parsed else return old DataType
-     */
-    private DataType typeGuesser(final DataCell cell, final DateFormat dateFormat) {
-        if (!cell.isMissing()) {
-            String str = cell.toString();
-
-            try {
-                dateFormat.parse(str);
-                return DateAndTimeCell.TYPE;
-            } catch (ParseException e1) {
-                // try another one
+        final List<Future<Void>> futures = new ArrayList<Future<Void>>(nrThreads);
+        try {
+            for (int t = 0; t < nrThreads; t++) {
+                final int first = t;
+                futures.add(pool.enqueue(() -> {
+                    for (int i = first; i < guessers.length; i += nrThreads) {
+                        guessers[i].guess(rows);
+                    }
+                    return null;
+                }));
             }
-
-            try {
-                Integer.parseInt(str);
-                return IntCell.TYPE;
-            } catch (NumberFormatException eInt) {
-                // try another one
+            for (final Future<Void> future : futures) {
+                waitFor(pool, future);
             }
-
-            try {
-                Long.parseLong(str);
-                return LongCell.TYPE;
-            } catch (NumberFormatException eLong) {
-                // try another one
+        } finally {
+            for (final Future<Void> future : futures) {
+                future.cancel(true);
             }
+        }
+    }
 
-            try {
-                double d = Double.parseDouble(str);
-                if (Double.isInfinite(d) && str.matches("[01]+")) {
-                    // if every cell above matched [01]+ and this cell matches to, we assume this column (until now) is
-                    // a bit-vector column. Bit-Vectors are stored in string representation.
-                    return StringCell.TYPE;
-                }
-                return DoubleCell.TYPE;
-            } catch (NumberFormatException e) {
-                // too bad
-            }
+    private static void waitFor(final ThreadPool pool, final Future<Void> future)
+        throws CanceledExecutionException {
+        try {
+            ThreadPoolUtil.waitFor(pool, future);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(ThreadPoolUtil.throwIfUnchecked(e));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Guessing the column types was interrupted.");
         }
-        return cell.getType();
     }
 
     /**
@@ -0,0 +1,382 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.colautotypecast;
+
+import java.text.DateFormat;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.List;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataType;
+import org.knime.core.data.date.DateAndTimeCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Guesses the type of a single string column from its values. The numeric forms are recognized the way
+ * {@link Integer#parseInt(String)}, {@link Long#parseLong(String)} and {@link Double#parseDouble(String)} accept them
+ * and dates by the date format, but without throwing and catching an exception for every value that doesn't match.
+ * An instance is not thread-safe, different columns can be guessed concurrently though.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ColumnTypeGuesser {
+
+    /** Returned by {@link #getIntegerType(String)} for a string that is not an integer. */
+    static final int NO_INTEGER = 0;
+
+    /** Returned by {@link #getIntegerType(String)} for an int. */
+    static final int INTEGER = 1;
+
+    /** Returned by {@link #getIntegerType(String)} for a long that is not an int. */
+    static final int LONG = 2;
+
+    private final String m_colName;
+
+    private final int m_colIdx;
+
+    private final DateFormat m_dateFormat;
+
+    private final ParsePosition m_parsePosition = new ParsePosition(0);
+
+    private final String m_missValPat;
+
+    private final boolean m_quickScan;
+
+    private final String[] m_reasons;
+
+    private DataType m_type;
+
+    /**
+     * @param colName the name of the column
+     * @param colIdx the index of the column
+     * @param dateFormat the date format pattern
+     * @param missValPat the missing value pattern, can be <code>null</code>
+     * @param quickScan <code>true</code> if only the first rows are guessed
+     * @param reasons the column name, the type and the key of the row determining the type are stored in here
+     */
+    ColumnTypeGuesser(final String colName, final int colIdx, final String dateFormat, final String missValPat,
+        final boolean quickScan, final String[] reasons) {
+        m_colName = colName;
+        m_colIdx = colIdx;
+        m_dateFormat = new SimpleDateFormat(dateFormat);
+        m_missValPat = missValPat;
+        m_quickScan = quickScan;
+        m_reasons = reasons;
+    }
+
+    /**
+     * Guesses the types of the column's cells in the given rows and widens the type of the column accordingly.
+     *
+     * @param rows the next rows of the table
+     */
+    void guess(final List<DataRow> rows) {
+        for (final DataRow row : rows) {
+            final DataCell c = row.getCell(m_colIdx);
+            if (!c.isMissing() && c.toString().equals(m_missValPat)) {
+                continue;
+            }
+            final DataType newType = guessType(c);
+            if (m_type != null) {
+                if (newType.equals(m_type)) {
+                    continue;
+                }
+                final DataType toSet = setType(m_type, newType);
+                if (!toSet.equals(m_type)) {
+                    m_reasons[2] = row.getKey().getString();
+                    m_reasons[1] = toSet.toString();
+                    m_reasons[0] = m_colName;
+                }
+                m_type = toSet;
+            } else {
+                m_type = newType;
+                String r = row.getKey().toString();
+                r += m_quickScan ? (" based on a quickscan.") : "";
+                m_reasons[2] = r;
+                m_reasons[1] = newType.toString();
+                m_reasons[0] = m_colName;
+            }
+        }
+    }
+
+    /**
+     * @return the guessed type, <code>null</code> if no cell has been guessed
+     */
+    DataType getType() {
+        return m_type;
+    }
+
+    /**
+     * @param curType currently stored DataType
+     * @param newType possible new DataType
+     */
+    private static DataType setType(final DataType curType, final DataType newType) {
+        // if one of the types represents the missing cell type, we
+        // return the other type.
+        if (curType.equals(DataType.getMissingCell().getType())) {
+            return newType;
+        }
+        if (newType.equals(DataType.getMissingCell().getType())) {
+            return curType;
+        }
+
+        // handles also the equals case
+        if (curType.isASuperTypeOf(newType)) {
+            return curType;
+        }
+        if (newType.isASuperTypeOf(curType)) {
+            return newType;
+        }
+
+        // if both are not super type, return default StringCell
+        return StringCell.TYPE;
+
+    }
+
+    /**
+     * Checks whether the cell is a date of the date format, an int, a long or a double in this order.
+     *
+     * @param cell the cell
+     * @return the matching type or the type of the cell
+     */
+    private DataType guessType(final DataCell cell) {
+        if (!cell.isMissing()) {
+            final String str = cell.toString();
+
+            // DateFormat#parse(String) fails iff the position isn't advanced
+            m_parsePosition.setIndex(0);
+            m_parsePosition.setErrorIndex(-1);
+            m_dateFormat.parse(str, m_parsePosition);
+            if (m_parsePosition.getIndex() != 0) {
+                return DateAndTimeCell.TYPE;
+            }
+
+            final int integerType = getIntegerType(str);
+            if (integerType == INTEGER) {
+                return IntCell.TYPE;
+            } else if (integerType == LONG) {
+                return LongCell.TYPE;
+            }
+
+            if (isDouble(str)) {
+                if (isBits(str) && Double.isInfinite(Double.parseDouble(str))) {
+                    // if every cell above matched [01]+ and this cell matches to, we assume this column (until now) is
+                    // a bit-vector column. Bit-Vectors are stored in string representation.
+                    return StringCell.TYPE;
+                }
+                return DoubleCell.TYPE;
+            }
+        }
+        return cell.getType();
+    }
+
+    /**
+     * @param s the string
+     * @return {@link #INTEGER} if {@link Integer#parseInt(String)} accepts the string, {@link #LONG} if only
+     *         {@link Long#parseLong(String)} does and {@link #NO_INTEGER} otherwise
+     */
+    static int getIntegerType(final String s) {
+        final int length = s.length();
+        if (length == 0) {
+            return NO_INTEGER;
+        }
+        int i = 0;
+        boolean negative = false;
+        final char first = s.charAt(0);
+        if (first < '0') {
+            if (first == '-') {
+                negative = true;
+            } else if (first != '+') {
+                return NO_INTEGER;
+            }
+            if (length == 1) {
+                return NO_INTEGER;
+            }
+            i++;
+        }
+        // accumulate negatively like Long#parseLong in order to reach Long.MIN_VALUE
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multmin = limit / 10;
+        long result = 0;
+        for (; i < length; i++) {
+            final int digit = Character.digit(s.charAt(i), 10);
+            if (digit < 0 || result < multmin) {
+                return NO_INTEGER;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return NO_INTEGER;
+            }
+            result -= digit;
+        }
+        final long value = negative ? result : -result;
+        return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? INTEGER : LONG;
+    }
+
+    /**
+     * @param str the string
+     * @return <code>true</code> if {@link Double#parseDouble(String)} accepts the string, that is if it is a possibly
+     *         signed decimal or hexadecimal floating point literal, NaN or Infinity surrounded by white spaces
+     */
+    static boolean isDouble(final String str) {
+        int end = str.length();
+        int i = 0;
+        // Double#parseDouble trims the string
+        while (i < end && str.charAt(i) <= ' ') {
+            i++;
+        }
+        while (end > i && str.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (i < end && (str.charAt(i) == '+' || str.charAt(i) == '-')) {
+            i++;
+        }
+        if (i == end) {
+            return false;
+        }
+        final char first = str.charAt(i);
+        if (first == 'N') {
+            return str.startsWith("NaN", i) && i + 3 == end;
+        }
+        if (first == 'I') {
+            return str.startsWith("Infinity", i) && i + 8 == end;
+        }
+        if (first == '0' && i + 1 < end && (str.charAt(i + 1) == 'x' || str.charAt(i + 1) == 'X')) {
+            return isHexDouble(str, i + 2, end);
+        }
+        int digits = 0;
+        while (i < end && isDigit(str.charAt(i))) {
+            i++;
+            digits++;
+        }
+        if (i < end && str.charAt(i) == '.') {
+            i++;
+            while (i < end && isDigit(str.charAt(i))) {
+                i++;
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (i < end && (str.charAt(i) == 'e' || str.charAt(i) == 'E')) {
+            i = skipExponent(str, i + 1, end);
+            if (i < 0) {
+                return false;
+            }
+        }
+        return i == end || (i + 1 == end && isTypeSuffix(str.charAt(i)));
+    }
+
+    private static boolean isHexDouble(final String str, final int start, final int end) {
+        int i = start;
+        int digits = 0;
+        while (i < end && isHexDigit(str.charAt(i))) {
+            i++;
+            digits++;
+        }
+        if (i < end && str.charAt(i) == '.') {
+            i++;
+            while (i < end && isHexDigit(str.charAt(i))) {
+                i++;
+                digits++;
+            }
+        }
+        // the binary exponent is mandatory
+        if (digits == 0 || i == end || (str.charAt(i) != 'p' && str.charAt(i) != 'P')) {
+            return false;
+        }
+        i = skipExponent(str, i + 1, end);
+        return i >= 0 && (i == end || (i + 1 == end && isTypeSuffix(str.charAt(i))));
+    }
+
+    /**
+     * @return the index after the exponent's digits or -1 if there are none
+     */
+    private static int skipExponent(final String str, final int start, final int end) {
+        int i = start;
+        if (i < end && (str.charAt(i) == '+' || str.charAt(i) == '-')) {
+            i++;
+        }
+        final int digitStart = i;
+        while (i < end && isDigit(str.charAt(i))) {
+            i++;
+        }
+        return i == digitStart ? -1 : i;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHexDigit(final char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private static boolean isTypeSuffix(final char c) {
+        return c == 'f' || c == 'F' || c == 'd' || c == 'D';
+    }
+
+    /**
+     * @return <code>true</code> if the string matches [01]+
+     */
+    private static boolean isBits(final String str) {
+        for (int i = 0; i < str.length(); i++) {
+            final char c = str.charAt(i);
+            if (c != '0' && c != '1') {
+                return false;
+            }
+        }
+        return !str.isEmpty();
+    }
+}
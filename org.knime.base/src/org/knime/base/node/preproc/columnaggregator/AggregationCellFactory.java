@@ -61,8 +61,10 @@
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
 import org.knime.core.data.RowKey;
 import org.knime.core.data.collection.CollectionCellFactory;
+import org.knime.core.data.container.AbstractCellFactory;
 import org.knime.core.data.container.CellFactory;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.util.UniqueNameGenerator;
@@ -70,12 +72,19 @@
 /**
  * {@link CellFactory} implementation that aggregates a number of
  * columns per row using the given {@link AggregationOperator}s.
+ * Common operators on numeric columns are evaluated on the values of the
+ * row in a <code>double[]</code>. If all operators can be evaluated this way,
+ * the rows are processed in parallel.
  *
  * @author Tobias Koetter, University of Konstanz
  */
-public class AggregationCellFactory implements CellFactory {
+public class AggregationCellFactory extends AbstractCellFactory {
 
     private final AggregationOperator[] m_operators;
+    /** The specialized aggregation per operator, <code>null</code> for the operators without one. */
+    private final NumericAggregation[] m_numericAggregations;
+    private final boolean m_hasNumericAggregation;
+    private final ThreadLocal<RowValues> m_rowValues;
     private final String[] m_colNames;
     private final int[] m_colIdxs;
     private final DataTableSpec m_origSpec;
@@ -119,7 +128,10 @@ public AggregationCellFactory(final DataTableSpec origSpec,
                     m_superType);
         m_dummyOrigSpec = creator.createSpec();
         m_operators = new AggregationOperator[methods.size()];
+        m_numericAggregations = new NumericAggregation[methods.size()];
         m_colNames = new String[methods.size()];
+        boolean allNumeric = true;
+        boolean anyNumeric = false;
         int i = 0;
         for (final NamedAggregationOperator method : methods) {
             final OperatorColumnSettings operatorSettings =
@@ -127,9 +139,16 @@ public AggregationCellFactory(final DataTableSpec origSpec,
                         m_dummyOrigSpec);
             m_operators[i] = method.getMethodTemplate().createOperator(
                     globalSettings, operatorSettings);
+            m_numericAggregations[i] = NumericAggregation.create(m_operators[i], m_superType);
+            allNumeric &= m_numericAggregations[i] != null;
+            anyNumeric |= m_numericAggregations[i] != null;
             m_colNames[i] = nameGen.newName(method.getName());
             i++;
         }
+        m_hasNumericAggregation = anyNumeric;
+        m_rowValues = ThreadLocal.withInitial(() -> new RowValues(m_colIdxs.length));
+        // the operators keep their state per row, hence only the specialized aggregations can run concurrently
+        setParallelProcessing(allNumeric);
     }
 
     /**
@@ -138,7 +157,13 @@ public AggregationCellFactory(final DataTableSpec origSpec,
     @Override
     public DataCell[] getCells(final DataRow row) {
         final DataCell[] cells = new DataCell[m_operators.length];
+        final RowValues values = m_hasNumericAggregation ? m_rowValues.get().read(row, m_colIdxs) : null;
         for (int i = 0; i < m_operators.length; i++) {
+            if (m_numericAggregations[i] != null) {
+                cells[i] = m_numericAggregations[i].compute(values.m_values, values.m_cells, values.m_length,
+                    m_colIdxs.length, values.m_buffer);
+                continue;
+            }
             final AggregationOperator operator = m_operators[i];
             operator.compute(row, m_colIdxs);
             cells[i] = operator.getResult();
@@ -171,4 +196,31 @@ public void setProgress(final int curRowNr, final int rowCount,
         exec.setProgress(curRowNr / (double) rowCount,
                 "Processing row " + curRowNr + " of " + rowCount);
     }
+
+    /** The reusable buffers for the values of a row, one per thread. */
+    private static final class RowValues {
+
+        private final double[] m_values;
+        private final DataCell[] m_cells;
+        private final double[] m_buffer;
+        private int m_length;
+
+        RowValues(final int size) {
+            m_values = new double[size];
+            m_cells = new DataCell[size];
+            m_buffer = new double[size];
+        }
+
+        RowValues read(final DataRow row, final int[] colIdxs) {
+            m_length = 0;
+            for (final int colIdx : colIdxs) {
+                final DataCell cell = row.getCell(colIdx);
+                if (!cell.isMissing()) {
+                    m_values[m_length] = ((DoubleValue)cell).getDoubleValue();
+                    m_cells[m_length++] = cell;
+                }
+            }
+            return this;
+        }
+    }
 }
@@ -0,0 +1,237 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.columnaggregator;
+
+import java.util.Arrays;
+
+import org.knime.base.data.aggregation.AggregationOperator;
+import org.knime.base.data.aggregation.general.CountOperator;
+import org.knime.base.data.aggregation.general.MaxOperator;
+import org.knime.base.data.aggregation.general.MinOperator;
+import org.knime.base.data.aggregation.numerical.MeanOperator;
+import org.knime.base.data.aggregation.numerical.MedianOperator;
+import org.knime.base.data.aggregation.numerical.StdDeviationOperator;
+import org.knime.base.data.aggregation.numerical.SumOperator;
+import org.knime.base.data.aggregation.numerical.VarianceOperator;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+
+/**
+ * Evaluates a common {@link AggregationOperator} on the numeric values of a row with a loop over a
+ * <code>double[]</code> instead of passing every cell to the operator. The results are the same as the ones of the
+ * operator, including the result types and the order of the floating point operations.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class NumericAggregation {
+
+    private enum Kind {
+        SUM, MEAN, VARIANCE, STD_DEVIATION, MIN, MAX, MEDIAN, COUNT;
+    }
+
+    private final Kind m_kind;
+
+    private final DataType m_sumType;
+
+    private final boolean m_inclMissing;
+
+    private final int m_maxValues;
+
+    private NumericAggregation(final Kind kind, final DataType superType, final AggregationOperator operator) {
+        m_kind = kind;
+        if (superType.isCompatible(IntValue.class)) {
+            m_sumType = IntCell.TYPE;
+        } else if (superType.isCompatible(LongValue.class)) {
+            m_sumType = LongCell.TYPE;
+        } else {
+            m_sumType = DoubleCell.TYPE;
+        }
+        m_inclMissing = operator.inclMissingCells();
+        m_maxValues = operator.getMaxUniqueValues();
+    }
+
+    /**
+     * @param operator the operator to evaluate
+     * @param superType the common super type of the aggregated columns
+     * @return the aggregation or <code>null</code> if the operator has no specialized loop for the type
+     */
+    static NumericAggregation create(final AggregationOperator operator, final DataType superType) {
+        if (!superType.isCompatible(DoubleValue.class)) {
+            return null;
+        }
+        // the order of the doubles is the order of the cells only for the types with a double or int comparator
+        final boolean ordered = DoubleCell.TYPE.equals(superType) || IntCell.TYPE.equals(superType);
+        // exact classes only, subclasses may compute something else
+        final Class<?> c = operator.getClass();
+        final Kind kind;
+        if (c == CountOperator.class) {
+            kind = Kind.COUNT;
+        } else if (operator.inclMissingCells() && c != MinOperator.class && c != MaxOperator.class) {
+            kind = null;
+        } else if (c == SumOperator.class) {
+            kind = Kind.SUM;
+        } else if (c == MeanOperator.class) {
+            kind = Kind.MEAN;
+        } else if (c == VarianceOperator.class) {
+            kind = Kind.VARIANCE;
+        } else if (c == StdDeviationOperator.class) {
+            kind = Kind.STD_DEVIATION;
+        } else if (c == MinOperator.class && ordered) {
+            kind = Kind.MIN;
+        } else if (c == MaxOperator.class && ordered) {
+            kind = Kind.MAX;
+        } else if (c == MedianOperator.class && ordered && ((MedianOperator)operator).isMeanOfMiddleValues()) {
+            kind = Kind.MEDIAN;
+        } else {
+            kind = null;
+        }
+        return kind == null ? null : new NumericAggregation(kind, superType, operator);
+    }
+
+    /**
+     * @param values the values of the cells that are not missing
+     * @param cells the cells that are not missing
+     * @param length the number of cells that are not missing
+     * @param count the number of cells including the missing ones
+     * @param buffer a buffer with at least <code>length</code> elements that may be overwritten
+     * @return the result
+     */
+    DataCell compute(final double[] values, final DataCell[] cells, final int length, final int count,
+        final double[] buffer) {
+        if (m_kind == Kind.COUNT) {
+            return new IntCell(m_inclMissing ? count : length);
+        }
+        if (length == 0) {
+            return DataType.getMissingCell();
+        }
+        switch (m_kind) {
+            case SUM:
+                return sum(values, length);
+            case MEAN:
+                double mean = 0;
+                for (int i = 0; i < length; i++) {
+                    mean = mean * ((double)i / (i + 1)) + values[i] * (1.0 / (i + 1));
+                }
+                return new DoubleCell(mean);
+            case VARIANCE:
+                return new DoubleCell(variance(values, length));
+            case STD_DEVIATION:
+                return new DoubleCell(Math.sqrt(Math.abs(variance(values, length))));
+            case MIN:
+                int min = 0;
+                for (int i = 1; i < length; i++) {
+                    if (Double.compare(values[i], values[min]) < 0) {
+                        min = i;
+                    }
+                }
+                return cells[min];
+            case MAX:
+                int max = 0;
+                for (int i = 1; i < length; i++) {
+                    if (Double.compare(values[i], values[max]) > 0) {
+                        max = i;
+                    }
+                }
+                return cells[max];
+            case MEDIAN:
+                return median(values, length, buffer);
+            default:
+                throw new IllegalStateException("Unknown aggregation: " + m_kind);
+        }
+    }
+
+    private DataCell sum(final double[] values, final int length) {
+        double sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += values[i];
+        }
+        if (IntCell.TYPE.equals(m_sumType)) {
+            return sum > Integer.MAX_VALUE ? DataType.getMissingCell() : new IntCell((int)sum);
+        } else if (LongCell.TYPE.equals(m_sumType)) {
+            return sum > Long.MAX_VALUE ? DataType.getMissingCell() : new LongCell((long)sum);
+        }
+        return new DoubleCell(sum);
+    }
+
+    private static double variance(final double[] values, final int length) {
+        if (length == 1) {
+            return 0;
+        }
+        double sum = 0;
+        double sumSquare = 0;
+        for (int i = 0; i < length; i++) {
+            final double d = values[i];
+            sum += d;
+            sumSquare += d * d;
+        }
+        final double variance = (sumSquare - ((sum * sum) / length)) / (length - 1);
+        // the same round-off correction as the variance operator
+        return variance < 0.0 && variance > -1.0E8 ? 0.0 : variance;
+    }
+
+    private DataCell median(final double[] values, final int length, final double[] buffer) {
+        if (length > m_maxValues) {
+            // the list of the median operator is limited to the maximum number of unique values
+            return DataType.getMissingCell();
+        }
+        System.arraycopy(values, 0, buffer, 0, length);
+        Arrays.sort(buffer, 0, length);
+        final int middle = length / 2;
+        if (length % 2 == 1) {
+            return new DoubleCell(buffer[middle]);
+        }
+        return new DoubleCell((buffer[middle - 1] + buffer[middle]) / 2);
+    }
+}
@@ -0,0 +1,394 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.discretization.caim2.modelcreator;
+
+import java.util.Arrays;
+
+import org.knime.base.node.preproc.discretization.caim2.DiscretizationScheme;
+import org.knime.base.node.preproc.discretization.caim2.Interval;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * The values of a column paired with the class indices of their rows, sorted by value in memory. Determines the
+ * candidate boundaries and the CAIM discretization scheme of the column like the table based implementation in
+ * {@link CAIMDiscretizationNodeModel}, but counts the quanta matrices of all candidate boundaries in a single pass
+ * over the sorted values instead of a pass over the table for each candidate.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class CAIMColumn {
+
+    /** The length of the runs sorted by insertion sort before merging. */
+    private static final int RUN_LENGTH = 32;
+
+    // sorted ascending, equal values in the order of the rows
+    private final double[] m_values;
+
+    // the class index of the value, -1 if the class is missing
+    private final int[] m_classes;
+
+    private final int m_numClasses;
+
+    /**
+     * Sorts the pairs of values and class indices. The arrays are sorted in place and must not be used afterwards.
+     *
+     * @param values the non-missing values of the column, in the order of the rows
+     * @param classes the class indices of the rows of the values, -1 for a missing class
+     * @param numClasses the number of class values
+     */
+    CAIMColumn(final double[] values, final int[] classes, final int numClasses) {
+        m_values = values;
+        m_classes = classes;
+        m_numClasses = numClasses;
+        sort(values, classes);
+    }
+
+    /**
+     * Creates the candidate boundaries like
+     * <code>CAIMDiscretizationNodeModel#createAllIntervalBoundaries</code>: the midpoints of adjacent values where
+     * the class changes.
+     *
+     * @return the candidate boundaries in ascending order
+     */
+    double[] createCandidateBoundaries() {
+        final int n = m_values.length;
+        if (n == 0) {
+            return new double[0];
+        }
+        double[] boundaries = new double[16];
+        int numBoundaries = 0;
+        double lastDifferentValue = m_values[0];
+        int firstClassOfCurrentValue = m_classes[0];
+        // needed to create a already passed candidate boundary due to a class value change
+        double lastChangeValueWithoutNewBoundary = Double.NaN;
+        boolean hasClassChanged = false;
+        for (int i = 1; i < n; i++) {
+            final double value = m_values[i];
+            final int classIndex = m_classes[i];
+            if (!hasClassChanged && firstClassOfCurrentValue != classIndex) {
+                hasClassChanged = true;
+                if (value != lastDifferentValue) {
+                    lastChangeValueWithoutNewBoundary = Double.NaN;
+                }
+            }
+            if (value != lastDifferentValue) {
+                if (hasClassChanged) {
+                    if (boundaries.length < numBoundaries + 2) {
+                        boundaries = Arrays.copyOf(boundaries, 2 * boundaries.length);
+                    }
+                    if (!Double.isNaN(lastChangeValueWithoutNewBoundary)) {
+                        boundaries[numBoundaries++] =
+                            checkBoundary((lastDifferentValue + lastChangeValueWithoutNewBoundary) / 2.0D);
+                    }
+                    boundaries[numBoundaries++] = checkBoundary((value + lastDifferentValue) / 2.0D);
+                    lastChangeValueWithoutNewBoundary = Double.NaN;
+                } else {
+                    lastChangeValueWithoutNewBoundary = lastDifferentValue;
+                }
+                lastDifferentValue = value;
+                firstClassOfCurrentValue = classIndex;
+                hasClassChanged = false;
+            }
+        }
+        return Arrays.copyOf(boundaries, numBoundaries);
+    }
+
+    private static double checkBoundary(final double boundary) {
+        if (Double.isNaN(boundary)) {
+            // as LinkedDouble
+            throw new IllegalArgumentException("Value must be a valid number");
+        }
+        return boundary;
+    }
+
+    /**
+     * Performs the CAIM search like the table based implementation in {@link CAIMDiscretizationNodeModel}: the
+     * boundary with the highest CAIM value is inserted as long as it improves the CAIM value or there are fewer
+     * intervals than class values.
+     *
+     * @param minValue the lower bound of the domain
+     * @param maxValue the upper bound of the domain
+     * @param exec to check for cancellation and report progress
+     * @return the discretization scheme
+     * @throws CanceledExecutionException if canceled
+     */
+    DiscretizationScheme discretize(final double minValue, final double maxValue, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final double[] candidates = createCandidateBoundaries();
+        final boolean[] removed = new boolean[candidates.length];
+        final DiscretizationScheme scheme = new DiscretizationScheme(new Interval(minValue, maxValue, true, true));
+        // the bounds of the intervals of the scheme, the first interval includes both bounds, the others the right
+        double[] bounds = {minValue, maxValue};
+        double globalCAIM = 0;
+        int numInsertedBounds = 0;
+        double currentCAIM = 0;
+        while (currentCAIM > globalCAIM || numInsertedBounds < m_numClasses - 1) {
+            exec.checkCanceled();
+            final int numIntervals = bounds.length - 1;
+            final Quanta quanta = new Quanta(bounds);
+            currentCAIM = 0;
+            int best = -1;
+            // the running class counts of the values up to the current candidate
+            final int[] running = new int[m_numClasses];
+            int position = quanta.m_starts[0];
+            int interval = 0;
+            final double unchangedCAIM = quanta.caim(-1, null) / numIntervals;
+            final int[] left = new int[m_numClasses];
+            for (int c = 0; c < candidates.length; c++) {
+                if (removed[c]) {
+                    continue;
+                }
+                final double b = candidates[c];
+                while (interval < numIntervals && b > bounds[interval + 1]) {
+                    interval++;
+                }
+                final double caim;
+                if (b <= bounds[0] || interval == numIntervals || b == bounds[interval + 1]) {
+                    // the scheme doesn't change, see DiscretizationScheme#insertBound
+                    caim = unchangedCAIM;
+                } else {
+                    while (position < m_values.length && m_values[position] <= b) {
+                        if (m_classes[position] >= 0) {
+                            running[m_classes[position]]++;
+                        }
+                        position++;
+                    }
+                    for (int k = 0; k < m_numClasses; k++) {
+                        left[k] = running[k] - quanta.m_countsBefore[interval][k];
+                    }
+                    caim = quanta.caim(interval, left) / (numIntervals + 1);
+                }
+                if (caim > currentCAIM) {
+                    currentCAIM = caim;
+                    best = c;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            if (currentCAIM > globalCAIM || numInsertedBounds < m_numClasses) {
+                final int numSchemeIntervals = scheme.getNumIntervals();
+                scheme.insertBound(candidates[best]);
+                removed[best] = true;
+                globalCAIM = currentCAIM;
+                if (numSchemeIntervals < scheme.getNumIntervals()) {
+                    numInsertedBounds++;
+                    exec.setMessage("Inserted bound " + numInsertedBounds);
+                    bounds = insert(bounds, candidates[best]);
+                } else {
+                    throw new IllegalStateException("Only usefull bounds should be inserted: " + candidates[best]);
+                }
+            }
+        }
+        return scheme;
+    }
+
+    private static double[] insert(final double[] bounds, final double bound) {
+        final double[] result = new double[bounds.length + 1];
+        int i = 0;
+        for (; i < bounds.length && bounds[i] < bound; i++) {
+            result[i] = bounds[i];
+        }
+        result[i] = bound;
+        System.arraycopy(bounds, i, result, i + 1, bounds.length - i);
+        return result;
+    }
+
+    /** The quanta matrix of the intervals of a scheme. */
+    private final class Quanta {
+
+        // the index of the first value of each interval, and the end of the last interval
+        private final int[] m_starts;
+
+        // the class counts of the values of the previous intervals
+        private final int[][] m_countsBefore;
+
+        private final int[][] m_counts;
+
+        private final int[] m_totals;
+
+        Quanta(final double[] bounds) {
+            final int numIntervals = bounds.length - 1;
+            m_starts = new int[numIntervals + 1];
+            m_counts = new int[numIntervals][m_numClasses];
+            m_countsBefore = new int[numIntervals][m_numClasses];
+            m_totals = new int[numIntervals];
+            int p = 0;
+            // the first interval includes its left bound
+            while (p < m_values.length && m_values[p] < bounds[0]) {
+                p++;
+            }
+            for (int i = 0; i < numIntervals; i++) {
+                m_starts[i] = p;
+                if (i > 0) {
+                    for (int k = 0; k < m_numClasses; k++) {
+                        m_countsBefore[i][k] = m_countsBefore[i - 1][k] + m_counts[i - 1][k];
+                    }
+                }
+                while (p < m_values.length && m_values[p] <= bounds[i + 1]) {
+                    if (m_classes[p] >= 0) {
+                        m_counts[i][m_classes[p]]++;
+                        m_totals[i]++;
+                    }
+                    p++;
+                }
+            }
+            m_starts[numIntervals] = p;
+        }
+
+        /**
+         * Sums the CAIM terms of the intervals in their order, as {@link QuantaMatrix2D#calculateCaim()}.
+         *
+         * @param split the interval split by the candidate, -1 for none
+         * @param left the class counts of the left part of the split interval
+         * @return the sum, to be divided by the number of intervals
+         */
+        double caim(final int split, final int[] left) {
+            double sum = 0;
+            for (int i = 0; i < m_totals.length; i++) {
+                if (i == split) {
+                    int leftMax = 0;
+                    int rightMax = 0;
+                    int leftTotal = 0;
+                    for (int k = 0; k < m_numClasses; k++) {
+                        final int right = m_counts[i][k] - left[k];
+                        leftMax = Math.max(leftMax, left[k]);
+                        rightMax = Math.max(rightMax, right);
+                        leftTotal += left[k];
+                    }
+                    sum += term(leftMax, leftTotal);
+                    sum += term(rightMax, m_totals[i] - leftTotal);
+                } else {
+                    int max = 0;
+                    for (int k = 0; k < m_numClasses; k++) {
+                        max = Math.max(max, m_counts[i][k]);
+                    }
+                    sum += term(max, m_totals[i]);
+                }
+            }
+            return sum;
+        }
+    }
+
+    private static double term(final int max, final int total) {
+        final double maxValueOfInterval = max;
+        // NaN for an empty interval, such a scheme is never chosen
+        return maxValueOfInterval / total * maxValueOfInterval;
+    }
+
+    /*
+     * Stable merge sort of the values, the class indices are moved along.
+     */
+    private static void sort(final double[] values, final int[] classes) {
+        final int n = values.length;
+        for (int lo = 0; lo < n; lo += RUN_LENGTH) {
+            insertionSort(values, classes, lo, Math.min(lo + RUN_LENGTH, n));
+        }
+        if (n <= RUN_LENGTH) {
+            return;
+        }
+        double[] srcValues = values;
+        int[] srcClasses = classes;
+        double[] dstValues = new double[n];
+        int[] dstClasses = new int[n];
+        for (int width = RUN_LENGTH; width < n; width *= 2) {
+            for (int lo = 0; lo < n; lo += 2 * width) {
+                final int mid = Math.min(lo + width, n);
+                final int hi = Math.min(lo + 2 * width, n);
+                merge(srcValues, srcClasses, lo, mid, hi, dstValues, dstClasses);
+            }
+            final double[] tmpValues = srcValues;
+            srcValues = dstValues;
+            dstValues = tmpValues;
+            final int[] tmpClasses = srcClasses;
+            srcClasses = dstClasses;
+            dstClasses = tmpClasses;
+        }
+        if (srcValues != values) {
+            System.arraycopy(srcValues, 0, values, 0, n);
+            System.arraycopy(srcClasses, 0, classes, 0, n);
+        }
+    }
+
+    private static void insertionSort(final double[] values, final int[] classes, final int lo, final int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            final double value = values[i];
+            final int classIndex = classes[i];
+            int j = i;
+            for (; j > lo && Double.compare(values[j - 1], value) > 0; j--) {
+                values[j] = values[j - 1];
+                classes[j] = classes[j - 1];
+            }
+            values[j] = value;
+            classes[j] = classIndex;
+        }
+    }
+
+    private static void merge(final double[] values, final int[] classes, final int lo, final int mid, final int hi,
+        final double[] dstValues, final int[] dstClasses) {
+        if (mid >= hi || Double.compare(values[mid - 1], values[mid]) <= 0) {
+            // already in order
+            System.arraycopy(values, lo, dstValues, lo, hi - lo);
+            System.arraycopy(classes, lo, dstClasses, lo, hi - lo);
+            return;
+        }
+        int i = lo;
+        int j = mid;
+        for (int k = lo; k < hi; k++) {
+            if (j >= hi || (i < mid && Double.compare(values[i], values[j]) <= 0)) {
+                dstValues[k] = values[i];
+                dstClasses[k] = classes[i++];
+            } else {
+                dstValues[k] = values[j];
+                dstClasses[k] = classes[j++];
+            }
+        }
+    }
+}
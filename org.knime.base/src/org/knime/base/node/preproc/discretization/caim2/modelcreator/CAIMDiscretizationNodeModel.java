@@ -52,10 +52,13 @@
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Set;
 import java.util.Vector;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -63,6 +66,7 @@
 import org.knime.base.node.preproc.discretization.caim2.DiscretizationModel;
 import org.knime.base.node.preproc.discretization.caim2.DiscretizationScheme;
 import org.knime.base.node.preproc.discretization.caim2.Interval;
+import org.knime.base.util.concurrent.ThreadPoolUtil;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnDomain;
 import org.knime.core.data.DataColumnSpec;
@@ -80,6 +84,7 @@
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.ModelContent;
 import org.knime.core.node.ModelContentRO;
 import org.knime.core.node.ModelContentWO;
@@ -93,6 +98,7 @@
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
+import org.knime.core.util.ThreadPool;
 
 /**
  * Implements the CAIM discretization algorithm. The algorithm is based on the
@@ -241,6 +247,39 @@ protected PortObject[] execute(final PortObject[] inData,
 
         BufferedDataTable data = (BufferedDataTable)inData[0];
 
+        DiscretizationScheme[] resultSchemes = discretize(data, exec, true);
+
+        // set the model
+        DataTableSpec modelSpec =
+                createModelSpec(m_includedColumnNames, data.getDataTableSpec());
+        m_discretizationModel =
+                new DiscretizationModel(resultSchemes, modelSpec);
+
+        // create an output table that replaces the included columns by
+        // interval values
+        BufferedDataTable resultTable =
+                createResultTable(exec, data, m_discretizationModel);
+
+        // log the runtime of the execute method
+        long runtime = System.currentTimeMillis() - startTime;
+
+        LOGGER.debug("Binning runtime: " + (runtime / 1000.0) + " sec.");
+
+        return new PortObject[]{resultTable, m_discretizationModel};
+    }
+
+    /**
+     * Determines the discretization schemes of the included columns.
+     *
+     * @param data the input table
+     * @param exec the execution context
+     * @param inMemory whether the columns are discretized in memory if they
+     *            fit, otherwise the table is sorted for each column
+     * @return the schemes of the included columns
+     */
+    DiscretizationScheme[] discretize(final BufferedDataTable data,
+            final ExecutionContext exec, final boolean inMemory)
+            throws Exception {
         // get class column index
         m_classifyColumnIndex =
                 data.getDataTableSpec().findColumnIndex(
@@ -251,6 +290,29 @@ protected PortObject[] execute(final PortObject[] inData,
         // create the class - index mapping
         createClassFromToIndexMaps(data.getDataTableSpec());
 
+        if (inMemory) {
+            DiscretizationScheme[] resultSchemes =
+                    discretizeInMemory(data, exec);
+            if (resultSchemes != null) {
+                return resultSchemes;
+            }
+            LOGGER.debug("Columns don't fit into memory, sorting the table for each column.");
+        }
+        return discretizeBySorting(data, exec);
+    }
+
+    /**
+     * Discretizes the included columns one after another, each by sorting the
+     * table on the column and counting the quanta matrix of each candidate
+     * boundary on the table.
+     *
+     * @param data the input table
+     * @param exec the execution context
+     * @return the schemes of the included columns
+     */
+    private DiscretizationScheme[] discretizeBySorting(
+            final BufferedDataTable data, final ExecutionContext exec)
+            throws Exception {
         // create the array with the result discretization schemes for
         // each included column
         DiscretizationScheme[] resultSchemes =
@@ -433,23 +495,176 @@ protected PortObject[] execute(final PortObject[] inData,
 
         }
 
-        // set the model
-        DataTableSpec modelSpec =
-                createModelSpec(m_includedColumnNames, data.getDataTableSpec());
-        m_discretizationModel =
-                new DiscretizationModel(resultSchemes, modelSpec);
+        return resultSchemes;
+    }
 
-        // create an output table that replaces the included columns by
-        // interval values
-        BufferedDataTable resultTable =
-                createResultTable(exec, data, m_discretizationModel);
+    /**
+     * Discretizes the included columns in memory. The values of as many
+     * columns as fit into memory are read together with the class indices in
+     * a single scan of the table; each of these columns is then sorted and
+     * searched for the best boundaries on a thread of the global thread pool,
+     * see {@link CAIMColumn}.
+     *
+     * @param data the input table
+     * @param exec the execution context
+     * @return the schemes of the included columns, <code>null</code> if not
+     *         even a single column fits into memory
+     */
+    private DiscretizationScheme[] discretizeInMemory(
+            final BufferedDataTable data, final ExecutionContext exec)
+            throws Exception {
+        final List<String> includeList = m_includedColumnNames.getIncludeList();
+        final DataTableSpec spec = data.getDataTableSpec();
+        // never discretize the class column (should never happen)
+        final List<Integer> columns = new ArrayList<Integer>();
+        for (String includedColumnName : includeList) {
+            if (!m_classColumnName.getStringValue().equals(includedColumnName)) {
+                columns.add(spec.findColumnIndex(includedColumnName));
+            }
+        }
+        final long rowCount = data.size();
+        final int nrThreads = ThreadPoolUtil.getMaxThreads();
+        final int batchSize = getInMemoryBatchSize(rowCount, nrThreads);
+        if (batchSize < 1) {
+            return null;
+        }
+        final DiscretizationScheme[] resultSchemes =
+                new DiscretizationScheme[includeList.size()];
+        final ThreadPool pool =
+                KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(nrThreads);
+        final int numClasses = m_classValues.length;
+        for (int from = 0; from < columns.size(); from += batchSize) {
+            final int to = Math.min(from + batchSize, columns.size());
+            final ExecutionContext batchExec = exec.createSubExecutionContext(
+                    (to - from) / (double)columns.size());
+            final int firstColumn = from;
+            exec.setMessage(() -> "Reading columns " + (firstColumn + 1)
+                    + " to " + to + " of " + columns.size());
+
+            // read the values of the columns and the class indices in one scan
+            final ExecutionMonitor scanExec = batchExec.createSubProgress(0.2);
+            final int[] classes = new int[(int)rowCount];
+            final double[][] values = new double[to - from][(int)rowCount];
+            final BitSet[] missing = new BitSet[to - from];
+            int r = 0;
+            for (DataRow row : data) {
+                if (r % 1000 == 0) {
+                    scanExec.checkCanceled();
+                    scanExec.setProgress(r / (double)rowCount);
+                }
+                DataCell classCell = row.getCell(m_classifyColumnIndex);
+                classes[r] = classCell.isMissing() ? -1
+                        : getClassIndex(classCell.toString());
+                for (int c = 0; c < values.length; c++) {
+                    DataCell cell = row.getCell(columns.get(from + c));
+                    if (cell.isMissing()) {
+                        if (missing[c] == null) {
+                            missing[c] = new BitSet();
+                        }
+                        missing[c].set(r);
+                    } else {
+                        values[c][r] = ((DoubleValue)cell).getDoubleValue();
+                    }
+                }
+                r++;
+            }
 
-        // log the runtime of the execute method
-        long runtime = System.currentTimeMillis() - startTime;
+            // sort and search each column on the pool
+            final ExecutionMonitor searchExec = batchExec.createSubProgress(0.8);
+            final List<Future<DiscretizationScheme>> futures =
+                    new ArrayList<Future<DiscretizationScheme>>();
+            try {
+                for (int c = 0; c < values.length; c++) {
+                    final double[] columnValues = values[c];
+                    final BitSet columnMissing = missing[c];
+                    // release the values with the finished column
+                    values[c] = null;
+                    final DataColumnDomain domain =
+                            spec.getColumnSpec(columns.get(from + c)).getDomain();
+                    final double minValue =
+                            ((DoubleValue)domain.getLowerBound()).getDoubleValue();
+                    final double maxValue =
+                            ((DoubleValue)domain.getUpperBound()).getDoubleValue();
+                    final ExecutionMonitor columnExec =
+                            searchExec.createSilentSubProgress(0);
+                    futures.add(pool.enqueue(() -> createColumn(columnValues,
+                            columnMissing, classes, numClasses).discretize(
+                            minValue, maxValue, columnExec)));
+                }
+                for (int c = 0; c < futures.size(); c++) {
+                    resultSchemes[from + c] = waitFor(pool, futures.get(c));
+                    searchExec.setProgress((c + 1) / (double)futures.size());
+                }
+            } finally {
+                for (Future<DiscretizationScheme> future : futures) {
+                    future.cancel(true);
+                }
+            }
+        }
+        return resultSchemes;
+    }
 
-        LOGGER.debug("Binning runtime: " + (runtime / 1000.0) + " sec.");
+    /**
+     * @return the number of columns to read in one scan such that the values
+     *         and the working memory of the threads take at most half of the
+     *         free memory, 0 if not even a single column fits
+     */
+    private static int getInMemoryBatchSize(final long rowCount,
+            final int nrThreads) {
+        if (rowCount > Integer.MAX_VALUE - 8) {
+            return 0;
+        }
+        final Runtime runtime = Runtime.getRuntime();
+        final long budget = (runtime.maxMemory()
+                - (runtime.totalMemory() - runtime.freeMemory())) / 2;
+        // the class indices, and per thread a copy of them, the values
+        // without missing values and the buffers of the merge sort
+        final long fixed = rowCount * 4 + nrThreads * rowCount * 24;
+        final long perColumn = Math.max(1, rowCount * 8 + rowCount / 8);
+        if (budget - fixed < perColumn) {
+            return 0;
+        }
+        return (int)Math.min(Integer.MAX_VALUE, (budget - fixed) / perColumn);
+    }
 
-        return new PortObject[]{resultTable, m_discretizationModel};
+    private int getClassIndex(final String classValue) {
+        Integer index = m_classValueToIndexMap.get(classValue);
+        if (index == null) {
+            throw new IllegalStateException("Class value '" + classValue
+                    + "' is not in the domain of the class column");
+        }
+        return index;
+    }
+
+    /*
+     * Pairs the non-missing values with the class indices of their rows.
+     * Called by the worker threads.
+     */
+    private static CAIMColumn createColumn(final double[] values,
+            final BitSet missing, final int[] classes, final int numClasses) {
+        if (missing == null) {
+            return new CAIMColumn(values, classes.clone(), numClasses);
+        }
+        final int n = values.length - missing.cardinality();
+        final double[] columnValues = new double[n];
+        final int[] columnClasses = new int[n];
+        int i = 0;
+        for (int r = 0; r < values.length; r++) {
+            if (!missing.get(r)) {
+                columnValues[i] = values[r];
+                columnClasses[i++] = classes[r];
+            }
+        }
+        return new CAIMColumn(columnValues, columnClasses, numClasses);
+    }
+
+    private static <T> T waitFor(final ThreadPool pool, final Future<T> future)
+            throws Exception {
+        try {
+            return ThreadPoolUtil.waitFor(pool, future);
+        } catch (ExecutionException e) {
+            throw ThreadPoolUtil.throwIfUnchecked(e);
+        }
     }
 
     /**
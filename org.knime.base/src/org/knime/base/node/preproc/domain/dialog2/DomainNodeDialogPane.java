@@ -83,6 +83,7 @@ public class DomainNodeDialogPane extends NodeDialogPane {
     private final DataColumnSpecFilterPanel m_filterPanelMinMax;
     private final JCheckBox m_maxValuesChecker;
     private final JSpinner m_maxValuesSpinner;
+    private final JCheckBox m_estimateDistinctValuesChecker;
     private final JRadioButton m_possValUnselectedRetainButton;
     private final JRadioButton m_possValUnselectedDropButton;
     private final JRadioButton m_minMaxUnselectedRetainButton;
@@ -100,10 +101,13 @@ public DomainNodeDialogPane() {
         JSpinner.DefaultEditor editor =
             (JSpinner.DefaultEditor) m_maxValuesSpinner.getEditor();
         editor.getTextField().setColumns(6);
+        m_estimateDistinctValuesChecker = new JCheckBox(
+                "Estimate number of values if exceeded");
         m_maxValuesChecker.addActionListener(new ActionListener() {
            @Override
         public void actionPerformed(final ActionEvent e) {
                 m_maxValuesSpinner.setEnabled(m_maxValuesChecker.isSelected());
+                m_estimateDistinctValuesChecker.setEnabled(m_maxValuesChecker.isSelected());
            }
         });
         m_minMaxUnselectedRetainButton =
@@ -156,6 +160,7 @@ private JPanel createPossValueTab() {
         southPanel.add(new JLabel("   "));
         southPanel.add(m_maxValuesChecker);
         southPanel.add(m_maxValuesSpinner);
+        southPanel.add(m_estimateDistinctValuesChecker);
         possValPanel.add(southPanel, BorderLayout.SOUTH);
         return possValPanel;
     }
@@ -185,6 +190,8 @@ protected void loadSettingsFrom(final NodeSettingsRO settings,
             m_maxValuesChecker.doClick();
         }
         m_maxValuesSpinner.setValue(maxPossValues >= 0 ? maxPossValues : DataContainer.MAX_POSSIBLE_VALUES);
+        m_estimateDistinctValuesChecker.setSelected(
+            settings.getBoolean(DomainNodeModel.CFG_ESTIMATE_DISTINCT_VALUES, false));
         boolean possValRetainUnselected = settings.getBoolean(
                 DomainNodeModel.CFG_POSSVAL_RETAIN_UNSELECTED, true);
         boolean minMaxRetainUnselected = settings.getBoolean(
@@ -217,6 +224,8 @@ protected void saveSettingsTo(final NodeSettingsWO settings)
         int maxPossVals = m_maxValuesChecker.isSelected()
             ? (Integer)m_maxValuesSpinner.getValue() : -1;
         settings.addInt(DomainNodeModel.CFG_MAX_POSS_VALUES, maxPossVals);
+        settings.addBoolean(DomainNodeModel.CFG_ESTIMATE_DISTINCT_VALUES,
+                m_estimateDistinctValuesChecker.isSelected());
         settings.addBoolean(DomainNodeModel.CFG_POSSVAL_RETAIN_UNSELECTED,
                 m_possValUnselectedRetainButton.isSelected());
         settings.addBoolean(DomainNodeModel.CFG_MIN_MAX_RETAIN_UNSELECTED,
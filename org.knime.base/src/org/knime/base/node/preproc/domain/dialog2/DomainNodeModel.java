@@ -52,8 +52,10 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
+import org.knime.base.data.util.ParallelDomainCreator;
 import org.knime.core.data.BoundedValue;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataTableDomainCreator;
@@ -103,11 +105,17 @@ public class DomainNodeModel extends NodeModel {
      * must be determined. */
     static final String CFG_MAX_POSS_VALUES = "max_poss_values";
 
+    /** Config identifier whether the number of distinct values of columns
+     * exceeding the maximum number of possible values is estimated. */
+    static final String CFG_ESTIMATE_DISTINCT_VALUES = "estimate_distinct_values";
+
     private DataColumnSpecFilterConfiguration m_possValConfig;
     private DataColumnSpecFilterConfiguration m_minMaxConfig;
     private boolean m_possValRetainUnselected = true;
     private boolean m_minMaxRetainUnselected = true;
     private int m_maxPossValues = DataContainer.MAX_POSSIBLE_VALUES;
+    /** Not available in 3.7 and before, hence defaults to false. */
+    private boolean m_estimateDistinctValues = false;
 
     /** Constructor, inits one input, one output. */
     public DomainNodeModel() {
@@ -115,14 +123,28 @@ public DomainNodeModel() {
     }
 
     private DataTableDomainCreator getDomainCreator(final DataTableSpec inputSpec) {
-        final Set<String> possValCols = new HashSet<String>();
-        possValCols.addAll(Arrays.asList(m_possValConfig.applyTo(inputSpec).getIncludes()));
-        int maxPoss = m_maxPossValues >= 0 ? m_maxPossValues : Integer.MAX_VALUE;
+        DataTableDomainCreator domainCreator = new DataTableDomainCreator(inputSpec,
+            getPossValueSelection(inputSpec), getMinMaxSelection(inputSpec));
+        domainCreator.setMaxPossibleValues(getMaxPossValues());
+        return domainCreator;
+    }
 
-        final Set<String> minMaxCols = new HashSet<String>();
-        minMaxCols.addAll(Arrays.asList(m_minMaxConfig.applyTo(inputSpec).getIncludes()));
+    private ParallelDomainCreator getParallelDomainCreator(final DataTableSpec inputSpec) {
+        ParallelDomainCreator domainCreator = new ParallelDomainCreator(inputSpec,
+            getPossValueSelection(inputSpec), getMinMaxSelection(inputSpec));
+        domainCreator.setMaxPossibleValues(getMaxPossValues());
+        domainCreator.setEstimateDistinctValues(m_estimateDistinctValues && m_maxPossValues >= 0);
+        return domainCreator;
+    }
 
-        DomainCreatorColumnSelection possValueSelection = new DomainCreatorColumnSelection() {
+    private int getMaxPossValues() {
+        return m_maxPossValues >= 0 ? m_maxPossValues : Integer.MAX_VALUE;
+    }
+
+    private DomainCreatorColumnSelection getPossValueSelection(final DataTableSpec inputSpec) {
+        final Set<String> possValCols = new HashSet<String>();
+        possValCols.addAll(Arrays.asList(m_possValConfig.applyTo(inputSpec).getIncludes()));
+        return new DomainCreatorColumnSelection() {
 
             @Override
             public boolean createDomain(final DataColumnSpec colSpec) {
@@ -136,7 +158,12 @@ public boolean dropDomain(final DataColumnSpec colSpec) {
             }
 
         };
-        DomainCreatorColumnSelection minMaxSelection = new DomainCreatorColumnSelection() {
+    }
+
+    private DomainCreatorColumnSelection getMinMaxSelection(final DataTableSpec inputSpec) {
+        final Set<String> minMaxCols = new HashSet<String>();
+        minMaxCols.addAll(Arrays.asList(m_minMaxConfig.applyTo(inputSpec).getIncludes()));
+        return new DomainCreatorColumnSelection() {
 
             @Override
             public boolean createDomain(final DataColumnSpec colSpec) {
@@ -149,10 +176,6 @@ public boolean dropDomain(final DataColumnSpec colSpec) {
             }
 
         };
-        DataTableDomainCreator domainCreator =
-            new DataTableDomainCreator(inputSpec, possValueSelection, minMaxSelection);
-        domainCreator.setMaxPossibleValues(maxPoss);
-        return domainCreator;
     }
 
     /**
@@ -161,11 +184,30 @@ public boolean dropDomain(final DataColumnSpec colSpec) {
     @Override
     protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
             final ExecutionContext exec) throws Exception {
-        DataTableDomainCreator domainCreator = getDomainCreator(inData[0].getDataTableSpec());
+        ParallelDomainCreator domainCreator = getParallelDomainCreator(inData[0].getDataTableSpec());
         domainCreator.updateDomain(inData[0], exec, inData[0].size());
+        Map<String, Long> estimates = domainCreator.getDistinctValueEstimates();
+        if (!estimates.isEmpty()) {
+            setWarningMessage(createEstimatesMessage(estimates));
+        }
         return new BufferedDataTable[]{exec.createSpecReplacerTable(inData[0], domainCreator.createSpec())};
     }
 
+    private String createEstimatesMessage(final Map<String, Long> estimates) {
+        StringBuilder b = new StringBuilder("Possible values dropped, more than ");
+        b.append(m_maxPossValues).append(" values in column(s) ");
+        int i = 0;
+        for (Map.Entry<String, Long> e : estimates.entrySet()) {
+            if (i == 3) {
+                b.append(", ... <").append(estimates.size() - i).append(" more>");
+                break;
+            }
+            b.append(i++ > 0 ? ", " : "").append('"').append(e.getKey());
+            b.append("\" (about ").append(e.getValue()).append(" distinct values)");
+        }
+        return b.toString();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -220,6 +262,7 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
             m_possValConfig.saveConfiguration(settings);
             m_minMaxConfig.saveConfiguration(settings);
             settings.addInt(CFG_MAX_POSS_VALUES, m_maxPossValues);
+            settings.addBoolean(CFG_ESTIMATE_DISTINCT_VALUES, m_estimateDistinctValues);
             settings.addBoolean(
                     CFG_POSSVAL_RETAIN_UNSELECTED, m_possValRetainUnselected);
             settings.addBoolean(
@@ -257,6 +300,8 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
         m_minMaxConfig = minMaxConfig;
 
         m_maxPossValues = settings.getInt(CFG_MAX_POSS_VALUES);
+        // added in 3.8
+        m_estimateDistinctValues = settings.getBoolean(CFG_ESTIMATE_DISTINCT_VALUES, false);
         m_minMaxRetainUnselected =
             settings.getBoolean(CFG_MIN_MAX_RETAIN_UNSELECTED);
         m_possValRetainUnselected =
@@ -49,23 +49,20 @@
 package org.knime.base.node.preproc.filter.constvalcol;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 
+import org.knime.base.data.statistics.StatisticCalculator;
+import org.knime.base.data.statistics.calculation.ColumnProfile;
 import org.knime.core.data.DataCell;
-import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
 import org.knime.core.data.DoubleValue;
-import org.knime.core.data.RowIteratorBuilder;
 import org.knime.core.data.StringValue;
-import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
 
 /**
  * A class for determining columns that only contain only (duplicates of) the same value.
@@ -145,166 +142,48 @@ public String[] determineConstantValueColumns(final BufferedDataTable inputTable
             return new String[0];
         }
 
-        /*
-         * Assemble a map of filter candidates that maps the indices of columns that potentially contain only duplicate
-         * values to a column checker object that can be used to check whether further values in that column are
-         * specified in the dialog pane and constant (i.e., identical to the first observed value).
-         */
-        Set<String> colNamesToFilterSet = new HashSet<>(Arrays.asList(colNamesToFilter));
-        String[] allColNames = inputTable.getDataTableSpec().getColumnNames();
-        Map<Integer, ConstantChecker> columnCheckers = new HashMap<>();
-        try (CloseableRowIterator rowIt = inputTable.iterator()) {
-            DataRow firstRow = rowIt.next();
-            for (int i = 0; i < allColNames.length; i++) {
-                if (colNamesToFilterSet.contains(allColNames[i])) {
-                    DataCell firstCell = firstRow.getCell(i);
-                    DataType type = inputTable.getDataTableSpec().getColumnSpec(i).getType();
-                    ConstantChecker checker = createConstantChecker(type, firstCell);
-                    if (checker.isCellSpecified(firstCell)) {
-                        columnCheckers.put(i, checker);
-                    }
-                }
-            }
+        if (colNamesToFilter.length == 0) {
+            return new String[0];
         }
 
-        RowIteratorBuilder<? extends CloseableRowIterator> iteratorBuilder = inputTable.iteratorBuilder();
-        iteratorBuilder.filterColumns(columnCheckers.keySet().stream().mapToInt(i -> i).toArray());
-
-        try (CloseableRowIterator rowIt = iteratorBuilder.build()) {
-            // the first row has already been read
-            rowIt.next();
-            /*
-             * Across all filter candidates, check if there is any cell whose value differs from the first cell's value.
-             * When found, this column is not constant and, thus, should be removed from the filter candidates. This method
-             * has a low memory footprint and operates in linear runtime. When the option to filter only constant columns
-             * with specific values is selected, columns should also be removed when they are found to contain a value other
-             * than any of the specified values.
-             */
-            final long finalSize = inputTable.size();
-            for (long i = 1; i < finalSize; i++) {
-                final long finalI = i;
-                final DataRow currentRow = rowIt.next();
-                exec.checkCanceled();
-                exec.setProgress(i / (double)inputTable.size(),
-                    () -> String.format("Row %,d/%,d (%s)", finalI + 1, finalSize, currentRow.getKey()));
-
-                for (Iterator<Entry<Integer, ConstantChecker>> it = columnCheckers.entrySet().iterator(); it
-                    .hasNext();) {
-                    Entry<Integer, ConstantChecker> entry = it.next();
-                    DataCell cell = currentRow.getCell(entry.getKey());
-                    ConstantChecker checker = entry.getValue();
-
-                    /*
-                     * Columns are removed from the filter candidates, when (a) the current cell has a value other than the
-                     * specified / allowed values or (b) it differs from the first cell in this column (i.e., this column is
-                     * not constant).
-                     */
-                    if (!(checker.isCellSpecified(cell) && checker.isCellConstant(cell))) {
-                        it.remove();
-                    }
-                }
-            }
-
-            /*
-             * Obtain the names of to-be-filtered columns from the filter candidates map.
-             */
-            return columnCheckers.keySet().stream().map(i -> allColNames[i]).toArray(String[]::new);
+        /*
+         * Profile the selected columns in one (parallel) pass. A column is no longer looked at once it is known not to
+         * be constant, and the pass stops once this holds for all columns.
+         */
+        final DataTableSpec spec = inputTable.getDataTableSpec();
+        final ColumnProfile profile = new ColumnProfile(colNamesToFilter);
+        profile.setComputeVariance(false);
+        profile.setCountMissingValues(false);
+        try {
+            new StatisticCalculator(spec, profile).evaluate(inputTable, exec);
+        } catch (InvalidSettingsException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
         }
-    }
 
-    /*
-     * A method that creates a new constant checker based on the data type and first cell of a column.
-     */
-    private ConstantChecker createConstantChecker(final DataType type, final DataCell firstCell) {
-        if (firstCell.isMissing()) {
-            return new ConstantMissingChecker();
-        } else {
-
-            if (type.isCompatible(DoubleValue.class)) {
-                return new ConstantDoubleValueChecker(firstCell);
-            } else if (type.isCompatible(StringValue.class)) {
-                return new ConstantStringValueChecker(firstCell);
-            }
-            return new ConstantCellChecker(firstCell);
-
-        }
+        /*
+         * Columns are filtered when they are constant and their value is one of the specified / allowed values.
+         */
+        Set<String> colNamesToFilterSet = new HashSet<>(Arrays.asList(colNamesToFilter));
+        return Arrays.stream(spec.getColumnNames()).filter(
+            name -> colNamesToFilterSet.contains(name) && profile.isConstant(name)
+                && isCellSpecified(spec.getColumnSpec(name).getType(), profile.getFirstCell(name)))
+            .toArray(String[]::new);
     }
 
     /*
-     * A little helper class that checks if a cell is both constant (i.e., similar to the first observed cell from the
-     * same column) and specified by the user.
+     * A method that checks if the value of a constant column is specified by the user.
      */
-    abstract class ConstantChecker {
-        abstract boolean isCellConstant(final DataCell cell);
-
-        boolean isCellSpecified(final DataCell cell) {
-            return m_filterAll || (m_filterMissing && cell.isMissing());
-        }
-    }
-
-    final class ConstantMissingChecker extends ConstantChecker {
-        @Override
-        boolean isCellConstant(final DataCell cell) {
-            return cell.isMissing();
-        }
-    }
-
-    final class ConstantCellChecker extends ConstantChecker {
-        private final DataCell m_firstCell;
-
-        ConstantCellChecker(final DataCell firstCell) {
-            m_firstCell = firstCell;
-        }
-
-        @Override
-        protected boolean isCellConstant(final DataCell cell) {
-            /*
-             * This equality check is not quite ideal. Consider a table with a single column containing only integers of
-             * value 3 and another table with a single column containing only doubles of value 3. If these tables are
-             * concatenated, the resulting table's single column will not be considered constant due to how the equality
-             * check of data cells is implemented. Having said that, there currently does not seem to be a better
-             * alternative in KNIME's API.
-             */
-            return m_firstCell.equals(cell);
-        }
-    }
-
-    final class ConstantDoubleValueChecker extends ConstantChecker {
-        private final double m_firstCellValue;
-
-        ConstantDoubleValueChecker(final DataCell firstCell) {
-            m_firstCellValue = ((DoubleValue)firstCell).getDoubleValue();
-        }
-
-        @Override
-        boolean isCellConstant(final DataCell cell) {
-            return !cell.isMissing() && ((DoubleValue)cell).getDoubleValue() == m_firstCellValue;
-        }
-
-        @Override
-        boolean isCellSpecified(final DataCell cell) {
-            return (m_filterNumeric && !cell.isMissing()
-                && ((DoubleValue)cell).getDoubleValue() == m_filterNumericValue) || super.isCellSpecified(cell);
-        }
-    }
-
-    final class ConstantStringValueChecker extends ConstantChecker {
-        private final String m_firstCellValue;
-
-        ConstantStringValueChecker(final DataCell firstCell) {
-            m_firstCellValue = ((StringValue)firstCell).getStringValue();
-        }
-
-        @Override
-        boolean isCellConstant(final DataCell cell) {
-            return !cell.isMissing() && ((StringValue)cell).getStringValue().equals(m_firstCellValue);
-        }
-
-        @Override
-        boolean isCellSpecified(final DataCell cell) {
-            return (m_filterString && !cell.isMissing()
-                && ((StringValue)cell).getStringValue().equals(m_filterStringValue)) || super.isCellSpecified(cell);
+    private boolean isCellSpecified(final DataType type, final DataCell cell) {
+        if (m_filterAll || (m_filterMissing && cell.isMissing())) {
+            return true;
+        } else if (cell.isMissing()) {
+            return false;
+        } else if (type.isCompatible(DoubleValue.class)) {
+            return m_filterNumeric && ((DoubleValue)cell).getDoubleValue() == m_filterNumericValue;
+        } else if (type.isCompatible(StringValue.class)) {
+            return m_filterString && ((StringValue)cell).getStringValue().equals(m_filterStringValue);
         }
+        return false;
     }
 
     /**
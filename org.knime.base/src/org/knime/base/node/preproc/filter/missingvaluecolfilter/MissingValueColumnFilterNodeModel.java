@@ -46,9 +46,9 @@
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Arrays;
 
-import org.knime.core.data.DataRow;
+import org.knime.base.data.statistics.StatisticCalculator;
+import org.knime.base.data.statistics.calculation.ColumnProfile;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.container.ColumnRearranger;
 import org.knime.core.node.BufferedDataTable;
@@ -91,33 +91,20 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         throws Exception {
         BufferedDataTable inputTable = inData[0];
         DataTableSpec dataTableSpec = inputTable.getDataTableSpec();
-        double[] percentages = new double[dataTableSpec.getNumColumns()];
-        Arrays.fill(percentages, -1);
-
         String[] included = m_conf.applyTo(dataTableSpec).getIncludes();
-        for (String column : included) {
-            percentages[dataTableSpec.findColumnIndex(column)] = m_percentage.getDoubleValue();
-        }
-
-        long[] missingCount = new long[dataTableSpec.getNumColumns()];
-        final double rowCount = inputTable.size();
-        double processedRows = 0;
-        for (DataRow row : inputTable) {
-            exec.setProgress(processedRows++ / rowCount);
-
-            for (int i = 0; i < row.getNumCells(); i++) {
-                    if (row.getCell(i).isMissing()) {
-                        missingCount[i]++;
-                    }
-            }
-        }
 
         ColumnRearranger r = new ColumnRearranger(dataTableSpec);
-        int alreadyRemoved = 0;
-        for (int i = 0; i < percentages.length; i++) {
-            if (percentages[i] > -1) {
-                if ((missingCount[i] / rowCount) * 100 >= percentages[i]) {
-                    r.remove(i - alreadyRemoved++);
+        final long rowCount = inputTable.size();
+        if (included.length > 0 && rowCount > 0) {
+            ColumnProfile profile = new ColumnProfile(included);
+            profile.setComputeVariance(false);
+            profile.setComputeConstant(false);
+            // the counting of a column stops as soon as it is known whether it has too many missing values
+            profile.setMissingValueLimit(getMissingValueLimit(rowCount, m_percentage.getDoubleValue()));
+            new StatisticCalculator(dataTableSpec, profile).evaluate(inputTable, exec);
+            for (String column : included) {
+                if (profile.isMissingValueLimitReached(column)) {
+                    r.remove(column);
                 }
             }
         }
@@ -125,6 +112,22 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         return new BufferedDataTable[]{exec.createColumnRearrangeTable(inputTable, r, exec)};
     }
 
+    /**
+     * @return the smallest number of missing values of a column that is removed, i.e. whose percentage is at least the
+     *         given one, or one more than the number of rows if there is none
+     */
+    private static long getMissingValueLimit(final long rowCount, final double percentage) {
+        long limit = (long)Math.ceil(percentage / 100 * rowCount);
+        // the same floating point comparison as a check of the percentage of each column
+        while (limit > 0 && ((limit - 1) / (double)rowCount) * 100 >= percentage) {
+            limit--;
+        }
+        while (limit <= rowCount && (limit / (double)rowCount) * 100 < percentage) {
+            limit++;
+        }
+        return limit;
+    }
+
     /** {@inheritDoc} */
     @Override
     protected void saveInternals(final File nodeInternDir, final ExecutionMonitor exec) throws IOException,
@@ -842,6 +842,14 @@ protected List<ColumnAggregator> getColumnAggregators() {
         return Collections.unmodifiableList(m_columnAggregators2Use);
     }
 
+    /**
+     * @return the maximum number of unique values per group
+     * @since 3.8
+     */
+    protected int getMaxUniqueValues() {
+        return m_maxUniqueValues.getIntValue();
+    }
+
     /**
      * @return column name policy used to create resulting pivot columns
      */
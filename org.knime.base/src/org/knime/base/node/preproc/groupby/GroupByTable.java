@@ -519,10 +519,25 @@ public Map<String, Collection<Pair<String, String>>> getSkippedGroupsByColName()
      * or <code>null</code> if no groups where skipped
      */
     public String getSkippedGroupsMessage(final int maxGroups, final int maxCols) {
-        if (m_skippedGroupsByColName != null && m_skippedGroupsByColName.size() > 0) {
+        return createSkippedGroupsMessage(m_skippedGroupsByColName, maxGroups, maxCols);
+    }
+
+    /**
+     * @param skippedGroupsByColName the skipped groups per column name as returned by
+     *            {@link #getSkippedGroupsByColName()}
+     * @param maxGroups the maximum number of skipped groups to display
+     * @param maxCols the maximum number of columns to display per group
+     * @return <code>String</code> message with the skipped groups per column
+     * or <code>null</code> if no groups where skipped
+     * @since 3.8
+     */
+    public static String createSkippedGroupsMessage(
+        final Map<String, Collection<Pair<String, String>>> skippedGroupsByColName, final int maxGroups,
+        final int maxCols) {
+        if (skippedGroupsByColName != null && skippedGroupsByColName.size() > 0) {
             final StringBuilder buf = new StringBuilder();
             buf.append("Skipped group(s): ");
-            final Set<String> columnNames = m_skippedGroupsByColName.keySet();
+            final Set<String> columnNames = skippedGroupsByColName.keySet();
             int columnCounter = 0;
             int groupCounter = 0;
             for (final String colName : columnNames) {
@@ -534,7 +549,7 @@ public String getSkippedGroupsMessage(final int maxGroups, final int maxCols) {
                     break;
                 }
                 buf.append(colName);
-                final Collection<Pair<String, String>> groupNameMsgs = m_skippedGroupsByColName.get(colName);
+                final Collection<Pair<String, String>> groupNameMsgs = skippedGroupsByColName.get(colName);
                 final LinkedHashSet<String> causes = new LinkedHashSet<>();
                 if (groupNameMsgs != null && !groupNameMsgs.isEmpty()) {
                     groupCounter = 0;
@@ -51,12 +51,12 @@
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 
-import org.knime.base.data.statistics.Statistics3Table;
+import org.knime.base.data.statistics.StatisticCalculator;
+import org.knime.base.data.statistics.calculation.ColumnProfile;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DoubleValue;
@@ -101,7 +101,7 @@ public LowVarFilter2NodeModel() {
      */
     @Override
     protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
-            final ExecutionContext exec) throws CanceledExecutionException {
+            final ExecutionContext exec) throws Exception {
         if (m_conf == null) {
             // auto-guess
             m_conf = createColFilterConf();
@@ -110,18 +110,32 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
                 inData[0].getDataTableSpec());
         String[] includedColumns = filter.getIncludes();
 
-        Statistics3Table statTable = new Statistics3Table(inData[0], false, 0, Collections.<String>emptyList(), exec);
         ArrayList<String> includes = new ArrayList<String>();
         DataTableSpec s = inData[0].getDataTableSpec();
         int colCount = s.getNumColumns();
         double threshold = m_varianceThreshold;
         HashSet<String> includesHash =
             new HashSet<String>(Arrays.asList(includedColumns));
+        ArrayList<String> varianceCols = new ArrayList<String>();
+        for (int i = 0; i < colCount; i++) {
+            DataColumnSpec cs = s.getColumnSpec(i);
+            if (includesHash.contains(cs.getName())
+                    && cs.getType().isCompatible(DoubleValue.class)) {
+                varianceCols.add(cs.getName());
+            }
+        }
+        ColumnProfile profile = null;
+        if (!varianceCols.isEmpty()) {
+            profile = new ColumnProfile(varianceCols.toArray(new String[varianceCols.size()]));
+            profile.setComputeConstant(false);
+            profile.setCountMissingValues(false);
+            new StatisticCalculator(s, profile).evaluate(inData[0], exec);
+        }
         for (int i = 0; i < colCount; i++) {
             DataColumnSpec cs = s.getColumnSpec(i);
             if (!includesHash.contains(cs.getName())
                     || !cs.getType().isCompatible(DoubleValue.class)
-                    || statTable.getVariance(i) > threshold) {
+                    || profile.getVariance(cs.getName()) > threshold) {
                 includes.add(cs.getName());
             }
         }
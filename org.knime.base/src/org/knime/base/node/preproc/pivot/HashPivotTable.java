@@ -0,0 +1,434 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.pivot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.knime.base.data.aggregation.AggregationOperator;
+import org.knime.base.data.aggregation.ColumnAggregator;
+import org.knime.base.data.aggregation.GlobalSettings;
+import org.knime.base.node.preproc.groupby.GroupByTable;
+import org.knime.base.node.preproc.groupby.GroupKey;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.util.Pair;
+
+/**
+ * Aggregates the input table of the pivot node in a single pass into a group id &times; pivot id &times; aggregator
+ * structure. The aggregated combinations are afterwards provided as the rows of the group-by table over the group and
+ * pivot columns in the order the {@link GroupByTable} would have created them, without materializing and sorting
+ * that table.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class HashPivotTable {
+
+    private final int[] m_groupIdx;
+
+    private final int[] m_pivotIdx;
+
+    private final ColumnAggregator[] m_aggregators;
+
+    private final int[] m_aggregatorIdx;
+
+    private final GlobalSettings m_globalSettings;
+
+    private final boolean m_appendOrder;
+
+    private final DataValueComparator[] m_groupComparators;
+
+    private final DataValueComparator[] m_pivotComparators;
+
+    private final Map<GroupKey, Integer> m_groupIds = new HashMap<>();
+
+    private final List<DataCell[]> m_groupVals = new ArrayList<>();
+
+    private final Map<GroupKey, Integer> m_pivotIds = new HashMap<>();
+
+    private final List<DataCell[]> m_pivotVals = new ArrayList<>();
+
+    private final List<AggregationOperator[]> m_operators = new ArrayList<>();
+
+    private final Map<String, Collection<Pair<String, String>>> m_skippedGroupsByColName = new LinkedHashMap<>();
+
+    /** Open addressing table of (group id, pivot id) keys, the values are the combination indices plus one. */
+    private long[] m_slotKeys = new long[1024];
+
+    private int[] m_slotVals = new int[1024];
+
+    private long[] m_comboKeys = new long[256];
+
+    private long[] m_firstRows = new long[256];
+
+    private int m_comboCount;
+
+    /** The combination indices in the order of the group-by table, set by {@link #sort(boolean)}. */
+    private int[] m_sorted;
+
+    /**
+     * @param spec the spec of the table to pivot
+     * @param groupCols the group column names
+     * @param pivotCols the pivot column names
+     * @param aggregators the aggregators to use, used as templates only
+     * @param globalSettings the global settings to create the operators with
+     * @param appendOrder <code>true</code> if the index of the first row of each combination should be appended as
+     *            last aggregation column
+     */
+    HashPivotTable(final DataTableSpec spec, final List<String> groupCols, final List<String> pivotCols,
+        final List<ColumnAggregator> aggregators, final GlobalSettings globalSettings, final boolean appendOrder) {
+        m_groupIdx = new int[groupCols.size()];
+        m_groupComparators = new DataValueComparator[m_groupIdx.length];
+        for (int i = 0; i < m_groupIdx.length; i++) {
+            m_groupIdx[i] = spec.findColumnIndex(groupCols.get(i));
+            m_groupComparators[i] = spec.getColumnSpec(m_groupIdx[i]).getType().getComparator();
+        }
+        m_pivotIdx = new int[pivotCols.size()];
+        m_pivotComparators = new DataValueComparator[m_pivotIdx.length];
+        for (int i = 0; i < m_pivotIdx.length; i++) {
+            m_pivotIdx[i] = spec.findColumnIndex(pivotCols.get(i));
+            m_pivotComparators[i] = spec.getColumnSpec(m_pivotIdx[i]).getType().getComparator();
+        }
+        m_aggregators = aggregators.toArray(new ColumnAggregator[0]);
+        m_aggregatorIdx = new int[m_aggregators.length];
+        for (int i = 0; i < m_aggregators.length; i++) {
+            m_aggregators[i].reset();
+            m_aggregatorIdx[i] = spec.findColumnIndex(m_aggregators[i].getOriginalColName());
+        }
+        m_globalSettings = globalSettings;
+        m_appendOrder = appendOrder;
+    }
+
+    /**
+     * Aggregates all rows of the given table. Gives up as soon as the memory runs low, in which case all aggregated
+     * values are released and the caller is expected to fall back to the disk based group-by.
+     *
+     * @param table the table to pivot
+     * @param exec the execution monitor to report progress to
+     * @return <code>true</code> if all rows have been aggregated, <code>false</code> if the memory ran low
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    boolean aggregate(final BufferedDataTable table, final ExecutionMonitor exec) throws CanceledExecutionException {
+        final MemoryActionIndicator memIndicator = MemoryAlertSystem.getInstance().newIndicator();
+        final long rowCount = table.size();
+        long rowIndex = 0;
+        for (final DataRow row : table) {
+            exec.checkCanceled();
+            if (memIndicator.lowMemoryActionRequired()) {
+                clear();
+                return false;
+            }
+            final int groupId = getId(row, m_groupIdx, m_groupIds, m_groupVals);
+            final int pivotId = getId(row, m_pivotIdx, m_pivotIds, m_pivotVals);
+            final AggregationOperator[] operators =
+                m_operators.get(getCombination(((long)groupId << 32) | pivotId, rowIndex));
+            for (int i = 0; i < operators.length; i++) {
+                operators[i].compute(row, m_aggregatorIdx[i]);
+            }
+            final long index = ++rowIndex;
+            exec.setProgress(index / (double)rowCount, () -> "Aggregating row " + index + " of " + rowCount);
+        }
+        return true;
+    }
+
+    private void clear() {
+        m_groupIds.clear();
+        m_groupVals.clear();
+        m_pivotIds.clear();
+        m_pivotVals.clear();
+        m_operators.clear();
+        m_slotKeys = null;
+        m_slotVals = null;
+        m_comboKeys = null;
+        m_firstRows = null;
+        m_comboCount = 0;
+    }
+
+    private static int getId(final DataRow row, final int[] idxs, final Map<GroupKey, Integer> ids,
+        final List<DataCell[]> vals) {
+        final DataCell[] cells = new DataCell[idxs.length];
+        for (int i = 0; i < idxs.length; i++) {
+            cells[i] = row.getCell(idxs[i]);
+        }
+        final Integer id = ids.get(new GroupKey(cells));
+        if (id != null) {
+            return id;
+        }
+        ids.put(new GroupKey(cells), vals.size());
+        vals.add(cells);
+        return vals.size() - 1;
+    }
+
+    private int getCombination(final long key, final long rowIndex) {
+        final int mask = m_slotKeys.length - 1;
+        int slot = hash(key) & mask;
+        while (m_slotVals[slot] != 0) {
+            if (m_slotKeys[slot] == key) {
+                return m_slotVals[slot] - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        final int combo = m_comboCount++;
+        if (combo == m_comboKeys.length) {
+            m_comboKeys = Arrays.copyOf(m_comboKeys, combo * 2);
+            m_firstRows = Arrays.copyOf(m_firstRows, combo * 2);
+        }
+        m_comboKeys[combo] = key;
+        m_firstRows[combo] = rowIndex;
+        final AggregationOperator[] operators = new AggregationOperator[m_aggregators.length];
+        for (int i = 0; i < operators.length; i++) {
+            operators[i] = m_aggregators[i].clone().getOperator(m_globalSettings);
+        }
+        m_operators.add(operators);
+        m_slotKeys[slot] = key;
+        m_slotVals[slot] = combo + 1;
+        if (2 * m_comboCount > m_slotKeys.length) {
+            rehash();
+        }
+        return combo;
+    }
+
+    private void rehash() {
+        final int capacity = m_slotKeys.length * 2;
+        m_slotKeys = new long[capacity];
+        m_slotVals = new int[capacity];
+        for (int combo = 0; combo < m_comboCount; combo++) {
+            int slot = hash(m_comboKeys[combo]) & (capacity - 1);
+            while (m_slotVals[slot] != 0) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            m_slotKeys[slot] = m_comboKeys[combo];
+            m_slotVals[slot] = combo + 1;
+        }
+    }
+
+    private static int hash(final long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int)(h ^ (h >>> 32));
+    }
+
+    /**
+     * Sorts the aggregated combinations by their group and pivot values, the missing values first.
+     *
+     * @param descending <code>true</code> to sort descending as the in-memory pivoting does, <code>false</code> to
+     *            sort ascending as the sorted group-by table
+     */
+    void sort(final boolean descending) {
+        final int[] groupRanks = rank(m_groupVals, m_groupComparators, descending);
+        final int[] pivotRanks = rank(m_pivotVals, m_pivotComparators, descending);
+        final long[] sortKeys = new long[m_comboCount];
+        for (int combo = 0; combo < m_comboCount; combo++) {
+            final long key = m_comboKeys[combo];
+            sortKeys[combo] = ((long)groupRanks[(int)(key >>> 32)] << 32) | pivotRanks[(int)key];
+        }
+        Arrays.parallelSort(sortKeys);
+        final int[] groupIds = invert(groupRanks);
+        final int[] pivotIds = invert(pivotRanks);
+        m_sorted = new int[m_comboCount];
+        for (int i = 0; i < m_comboCount; i++) {
+            final long sortKey = sortKeys[i];
+            m_sorted[i] = find(((long)groupIds[(int)(sortKey >>> 32)] << 32) | pivotIds[(int)sortKey]);
+        }
+        m_slotKeys = null;
+        m_slotVals = null;
+    }
+
+    private int find(final long key) {
+        final int mask = m_slotKeys.length - 1;
+        int slot = hash(key) & mask;
+        while (m_slotVals[slot] == 0 || m_slotKeys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return m_slotVals[slot] - 1;
+    }
+
+    private static int[] rank(final List<DataCell[]> vals, final DataValueComparator[] comparators,
+        final boolean descending) {
+        final Integer[] order = new Integer[vals.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (i1, i2) -> compare(vals.get(i1), vals.get(i2), comparators, descending));
+        final int[] ranks = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            ranks[order[i]] = i;
+        }
+        return ranks;
+    }
+
+    private static int compare(final DataCell[] c1, final DataCell[] c2, final DataValueComparator[] comparators,
+        final boolean descending) {
+        for (int i = 0; i < c1.length; i++) {
+            final boolean c1Missing = c1[i].isMissing();
+            final boolean c2Missing = c2[i].isMissing();
+            final int comp;
+            if (c1Missing || c2Missing) {
+                // missing values first in both directions
+                comp = Boolean.compare(c2Missing, c1Missing);
+            } else if (descending) {
+                comp = comparators[i].compare(c2[i], c1[i]);
+            } else {
+                comp = comparators[i].compare(c1[i], c2[i]);
+            }
+            if (comp != 0) {
+                return comp;
+            }
+        }
+        return 0;
+    }
+
+    private static int[] invert(final int[] ranks) {
+        final int[] ids = new int[ranks.length];
+        for (int i = 0; i < ranks.length; i++) {
+            ids[ranks[i]] = i;
+        }
+        return ids;
+    }
+
+    /**
+     * @return the number of group and pivot value combinations, i.e. the number of rows of the group-by table
+     */
+    long size() {
+        return m_comboCount;
+    }
+
+    /**
+     * @return the distinct pivot values in the order they first appear in the group-by table
+     */
+    List<DataCell[]> getPivotValues() {
+        final List<DataCell[]> pivots = new ArrayList<>();
+        final boolean[] seen = new boolean[m_pivotVals.size()];
+        for (final int combo : m_sorted) {
+            final int pivotId = (int)m_comboKeys[combo];
+            if (!seen[pivotId]) {
+                seen[pivotId] = true;
+                pivots.add(m_pivotVals.get(pivotId));
+            }
+        }
+        return pivots;
+    }
+
+    /**
+     * Returns the rows of the group-by table, i.e. the group values, the pivot values, the aggregation results and
+     * the optional order value. The operators are released once their row has been created, hence the rows can be
+     * iterated only once.
+     *
+     * @return the rows of the group-by table
+     */
+    Iterator<DataRow> createRowIterator() {
+        return new Iterator<DataRow>() {
+            private int m_index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return m_index < m_sorted.length;
+            }
+
+            @Override
+            public DataRow next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final int combo = m_sorted[m_index];
+                final DataCell[] groupVals = m_groupVals.get((int)(m_comboKeys[combo] >>> 32));
+                final DataCell[] pivotVals = m_pivotVals.get((int)m_comboKeys[combo]);
+                final AggregationOperator[] operators = m_operators.get(combo);
+                final DataCell[] cells =
+                    new DataCell[groupVals.length + pivotVals.length + operators.length + (m_appendOrder ? 1 : 0)];
+                System.arraycopy(groupVals, 0, cells, 0, groupVals.length);
+                System.arraycopy(pivotVals, 0, cells, groupVals.length, pivotVals.length);
+                int idx = groupVals.length + pivotVals.length;
+                for (int i = 0; i < operators.length; i++) {
+                    cells[idx++] = operators[i].getResult();
+                    if (operators[i].isSkipped()) {
+                        addSkippedGroup(m_aggregators[i].getOriginalColName(), operators[i].getSkipMessage(),
+                            cells, groupVals.length + pivotVals.length);
+                    }
+                }
+                if (m_appendOrder) {
+                    cells[idx] = new LongCell(m_firstRows[combo]);
+                }
+                m_operators.set(combo, null);
+                return new DefaultRow(RowKey.createRowKey((long)m_index++), cells);
+            }
+        };
+    }
+
+    private void addSkippedGroup(final String colName, final String skipMsg, final DataCell[] cells,
+        final int groupLength) {
+        m_skippedGroupsByColName.computeIfAbsent(colName, c -> new ArrayList<>()).add(
+            new Pair<>(GroupByTable.createSkippedGroupName(Arrays.copyOf(cells, groupLength)), skipMsg));
+    }
+
+    /**
+     * @param maxGroups the maximum number of skipped groups to display
+     * @param maxCols the maximum number of columns to display per group
+     * @return message with the skipped groups per column or <code>null</code> if no groups where skipped
+     */
+    String getSkippedGroupsMessage(final int maxGroups, final int maxCols) {
+        return GroupByTable.createSkippedGroupsMessage(m_skippedGroupsByColName, maxGroups, maxCols);
+    }
+}
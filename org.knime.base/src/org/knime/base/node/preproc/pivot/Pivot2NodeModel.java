@@ -76,12 +76,14 @@
 import org.knime.core.data.container.ColumnRearranger;
 import org.knime.core.data.container.SingleCellFactory;
 import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.LongCell;
 import org.knime.core.data.sort.BufferedDataTableSorter;
 import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
@@ -254,6 +256,8 @@ public int compare(final DataRow dr1, final DataRow dr2) {
         }
     }
 
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(Pivot2NodeModel.class);
+
     /** The column name options config key. */
     private static final String CFG_COL_NAME_OPTION = "column_name_option";
 
@@ -281,6 +285,8 @@ public int compare(final DataRow dr1, final DataRow dr2) {
 
     private final SettingsModelBoolean m_sortLexigraphcial = createSettingsLexicographical();
 
+    private boolean m_hashAggregation = true;
+
     /** Create a new pivot node model. */
     public Pivot2NodeModel() {
         super(1, 3);
@@ -431,6 +437,7 @@ private List<String> createAllColumns() {
     protected PortObject[] execute(final PortObject[] inData, final ExecutionContext exec) throws Exception {
         final BufferedDataTable table = (BufferedDataTable)inData[0];
         final List<String> groupAndPivotCols = createAllColumns();
+        final List<String> pivotCols = m_pivotCols.getIncludeList();
         final BufferedDataTable groupTable;
         final String orderPivotColumnName;
 
@@ -439,12 +446,9 @@ protected PortObject[] execute(final PortObject[] inData, final ExecutionContext
         ExecutionContext pivotExec = exec.createSubExecutionContext(0.25);
 
         double progMainTotal = 0.0;
-        double progMainTableAppendIndexForSort = isProcessInMemory() || isRetainOrder() ? 1.0 : 0.0;
-        progMainTotal += progMainTableAppendIndexForSort;
-        double progMainTableGroup = 5.0;
+        double progMainTableGroup = (isProcessInMemory() || isRetainOrder() ? 1.0 : 0.0) + 5.0
+            + (isProcessInMemory() ? 3.0 : 0.0);
         progMainTotal += progMainTableGroup;
-        double progMainTableInMemSort = isProcessInMemory() ? 3.0 : 0.0;
-        progMainTotal += progMainTableInMemSort;
         double progMainTableGetPivots = 1.0;
         progMainTotal += progMainTableGetPivots;
         double progMainTableFillPivots = 1.0;
@@ -454,87 +458,82 @@ protected PortObject[] execute(final PortObject[] inData, final ExecutionContext
         double progMainTableReplaceRowKey = isProcessInMemory() ? 1.0 : 0.0;
         progMainTotal += progMainTableReplaceRowKey;
 
-        if (isProcessInMemory() || isRetainOrder()) {
-            exec.setMessage("Keeping row order");
-            final String retainOrderCol = DataTableSpec.getUniqueColumnName(table.getDataTableSpec(), "#pivot_order#");
-            // append temp. id column with minimum-aggregation method
-            final ColumnAggregator[] colAggregators = getColumnAggregators().toArray(new ColumnAggregator[0]);
-            final Set<String> workingCols = new LinkedHashSet<String>();
-            workingCols.addAll(groupAndPivotCols);
-            for (final ColumnAggregator ca : colAggregators) {
-                workingCols.add(ca.getOriginalColName());
-            }
-            workingCols.add(retainOrderCol);
-            final BufferedDataTable appTable = GroupByTable.appendOrderColumn(
-                groupAndPivotExec.createSubExecutionContext(progMainTableAppendIndexForSort / progMainTotal), table,
-                workingCols, retainOrderCol);
-            final DataColumnSpec retainOrderColSpec = appTable.getSpec().getColumnSpec(retainOrderCol);
-            final ColumnAggregator[] aggrs = new ColumnAggregator[colAggregators.length + 1];
-            System.arraycopy(colAggregators, 0, aggrs, 0, colAggregators.length);
-            aggrs[colAggregators.length] =
-                new ColumnAggregator(retainOrderColSpec, AggregationMethods.getRowOrderMethod(), true);
-            orderPivotColumnName = getColumnNamePolicy().createColumName(aggrs[colAggregators.length]);
-            exec.setMessage("Grouping main table");
-            final GroupByTable groupByTable =
-                createGroupByTable(groupAndPivotExec.createSubExecutionContext(progMainTableGroup / progMainTotal),
-                    appTable, groupAndPivotCols, isProcessInMemory(),
-                    false /* retain order always false; handled by pivoting */, Arrays.asList(aggrs));
-            // table is not sorted by group&pivot columns; if process in memory
-            // true then sort table by group&pivot columns
-            final BufferedDataTable origGroupByTable = groupByTable.getBufferedTable();
-            if (isProcessInMemory()) {
-                exec.setMessage("Sorting group table");
-                //ensure that missing values are at the end by setting the boolean flag
-                final BufferedDataTableSorter sortedGroupByTable = new BufferedDataTableSorter(origGroupByTable,
-                    new InMemoryRowComparator(groupAndPivotCols, origGroupByTable.getSpec()));
-                groupTable = sortedGroupByTable
-                    .sort(groupAndPivotExec.createSubExecutionContext(progMainTableInMemSort / progMainTotal));
+        // aggregate the group and pivot combinations in memory and read them in the order of the group table, which
+        // saves materializing, sorting and re-reading it; fall back to the group table if the memory runs low
+        exec.setMessage("Pivoting main table");
+        final ExecutionContext groupTableExec =
+            groupAndPivotExec.createSubExecutionContext(progMainTableGroup / progMainTotal);
+        final HashPivotTable hashPivotTable = new HashPivotTable(table.getDataTableSpec(),
+            groupAndPivotCols.subList(0, groupAndPivotCols.size() - pivotCols.size()), pivotCols,
+            getColumnAggregators(), createGlobalSettings(exec, table, groupAndPivotCols, getMaxUniqueValues()),
+            isProcessInMemory() || isRetainOrder());
+        final DataTableSpec groupSpec;
+        if (m_hashAggregation && hashPivotTable.aggregate(table, groupTableExec)) {
+            hashPivotTable.sort(isProcessInMemory());
+            groupTable = null;
+            final DataTableSpec aggrSpec = GroupByTable.createGroupByTableSpec(table.getDataTableSpec(),
+                groupAndPivotCols, getColumnAggregators().toArray(new ColumnAggregator[0]), getColumnNamePolicy());
+            if (isProcessInMemory() || isRetainOrder()) {
+                orderPivotColumnName = DataTableSpec.getUniqueColumnName(aggrSpec, "#pivot_order#");
+                groupSpec = new DataTableSpec(aggrSpec,
+                    new DataTableSpec(new DataColumnSpecCreator(orderPivotColumnName, LongCell.TYPE).createSpec()));
             } else {
-                groupTable = origGroupByTable;
+                orderPivotColumnName = null;
+                groupSpec = aggrSpec;
             }
         } else {
-            exec.setMessage("Grouping main table");
-            final GroupByTable groupByTable =
-                createGroupByTable(groupAndPivotExec.createSubExecutionContext(progMainTableGroup / progMainTotal),
-                    table, groupAndPivotCols, isProcessInMemory(), false, getColumnAggregators());
-            groupTable = groupByTable.getBufferedTable();
-            orderPivotColumnName = null;
+            if (m_hashAggregation) {
+                LOGGER.debug("Memory is running low, pivoting via the sorted group table.");
+            }
+            final Pair<BufferedDataTable, String> groupTableAndOrder =
+                createGroupTable(table, groupAndPivotCols, groupTableExec);
+            groupTable = groupTableAndOrder.getFirst();
+            orderPivotColumnName = groupTableAndOrder.getSecond();
+            groupSpec = groupTable.getSpec();
         }
-        final List<String> pivotCols = m_pivotCols.getIncludeList();
-        final int[] pivotIdx = new int[pivotCols.size()];
-        final DataTableSpec groupSpec = groupTable.getSpec();
         final Set<String>[] combPivots = createCombinedPivots(groupSpec, pivotCols);
-        for (int i = 0; i < pivotIdx.length; i++) {
-            pivotIdx[i] = groupSpec.findColumnIndex(pivotCols.get(i));
-        }
         exec.setProgress("Determining pivots...");
         ExecutionContext fillExec = groupAndPivotExec.createSubExecutionContext(progMainTableGetPivots / progMainTotal);
-        final long groupTableSize = groupTable.size();
-        long groupIndex = 0;
-        for (final DataRow row : groupTable) {
+        if (groupTable == null) {
+            for (final DataCell[] pivotVals : hashPivotTable.getPivotValues()) {
+                addPivots(combPivots, pivotVals);
+            }
+        } else {
+            final int[] pivotIdx = new int[pivotCols.size()];
             for (int i = 0; i < pivotIdx.length; i++) {
-                if (combPivots[i] == null) {
-                    combPivots[i] = new LinkedHashSet<String>();
-                }
-                final DataCell cell = row.getCell(pivotIdx[i]);
-                if (cell.isMissing()) {
-                    if (!m_ignoreMissValues.getBooleanValue()) {
-                        combPivots[i].add(cell.toString());
-                    }
-                } else {
-                    combPivots[i].add(cell.toString());
+                pivotIdx[i] = groupSpec.findColumnIndex(pivotCols.get(i));
+            }
+            final long groupTableSize = groupTable.size();
+            long groupIndex = 0;
+            for (final DataRow row : groupTable) {
+                final DataCell[] pivotVals = new DataCell[pivotIdx.length];
+                for (int i = 0; i < pivotIdx.length; i++) {
+                    pivotVals[i] = row.getCell(pivotIdx[i]);
                 }
+                addPivots(combPivots, pivotVals);
+                fillExec.setProgress(groupIndex++ / (double)groupTableSize,
+                    String.format("Group \"%s\" (%d/%d)", row.getKey(), groupIndex, groupTableSize));
+                fillExec.checkCanceled();
             }
-            fillExec.setProgress(groupIndex++ / (double)groupTableSize,
-                String.format("Group \"%s\" (%d/%d)", row.getKey(), groupIndex, groupTableSize));
-            fillExec.checkCanceled();
         }
 
         final Map<String, Integer> pivotStarts = new LinkedHashMap<String, Integer>();
         final DataTableSpec outSpec = createOutSpec(groupSpec, combPivots, pivotStarts, orderPivotColumnName);
         exec.setProgress("Filling pivot table");
-        BufferedDataTable pivotTable = fillPivotTable(groupTable, outSpec, pivotStarts,
-            groupAndPivotExec.createSubExecutionContext(progMainTableFillPivots / progMainTotal), orderPivotColumnName);
+        final ExecutionContext fillPivotsExec =
+            groupAndPivotExec.createSubExecutionContext(progMainTableFillPivots / progMainTotal);
+        BufferedDataTable pivotTable = groupTable == null
+            ? fillPivotTable(groupSpec, hashPivotTable::createRowIterator, hashPivotTable.size(), outSpec, pivotStarts,
+                fillPivotsExec, orderPivotColumnName)
+            : fillPivotTable(groupTable, outSpec, pivotStarts, fillPivotsExec, orderPivotColumnName);
+        if (groupTable == null) {
+            // the skipped groups are known only once the rows of the hash pivot table have been created
+            final String warningMsg = hashPivotTable.getSkippedGroupsMessage(3, 3);
+            if (warningMsg != null) {
+                setWarningMessage(warningMsg);
+                LOGGER.info(hashPivotTable.getSkippedGroupsMessage(Integer.MAX_VALUE, Integer.MAX_VALUE));
+            }
+        }
 
         if (orderPivotColumnName != null) {
             exec.setMessage("Restoring row order");
@@ -670,6 +669,92 @@ public DataCell getCell(final DataRow row) {
             pivotRowsTable};
     }
 
+    /**
+     * @param hashAggregation whether the main table is pivoted from an in-memory hash aggregation (as long as the
+     *            memory suffices) or always from the sorted group table
+     */
+    void setHashAggregation(final boolean hashAggregation) {
+        m_hashAggregation = hashAggregation;
+    }
+
+    /**
+     * Groups the input table by the group and pivot columns and sorts the result by these columns.
+     *
+     * @param table the input table
+     * @param groupAndPivotCols the group and pivot columns
+     * @param exec the execution context
+     * @return the group table and the name of the order column or <code>null</code> if the row order is not kept
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    private Pair<BufferedDataTable, String> createGroupTable(final BufferedDataTable table,
+        final List<String> groupAndPivotCols, final ExecutionContext exec) throws CanceledExecutionException {
+        final BufferedDataTable groupTable;
+        final String orderPivotColumnName;
+        final double progAppendIndexForSort = isProcessInMemory() || isRetainOrder() ? 1.0 : 0.0;
+        final double progGroup = 5.0;
+        final double progInMemSort = isProcessInMemory() ? 3.0 : 0.0;
+        final double progTotal = progAppendIndexForSort + progGroup + progInMemSort;
+        if (isProcessInMemory() || isRetainOrder()) {
+            exec.setMessage("Keeping row order");
+            final String retainOrderCol = DataTableSpec.getUniqueColumnName(table.getDataTableSpec(), "#pivot_order#");
+            // append temp. id column with minimum-aggregation method
+            final ColumnAggregator[] colAggregators = getColumnAggregators().toArray(new ColumnAggregator[0]);
+            final Set<String> workingCols = new LinkedHashSet<String>();
+            workingCols.addAll(groupAndPivotCols);
+            for (final ColumnAggregator ca : colAggregators) {
+                workingCols.add(ca.getOriginalColName());
+            }
+            workingCols.add(retainOrderCol);
+            final BufferedDataTable appTable = GroupByTable.appendOrderColumn(
+                exec.createSubExecutionContext(progAppendIndexForSort / progTotal), table, workingCols, retainOrderCol);
+            final DataColumnSpec retainOrderColSpec = appTable.getSpec().getColumnSpec(retainOrderCol);
+            final ColumnAggregator[] aggrs = new ColumnAggregator[colAggregators.length + 1];
+            System.arraycopy(colAggregators, 0, aggrs, 0, colAggregators.length);
+            aggrs[colAggregators.length] =
+                new ColumnAggregator(retainOrderColSpec, AggregationMethods.getRowOrderMethod(), true);
+            orderPivotColumnName = getColumnNamePolicy().createColumName(aggrs[colAggregators.length]);
+            exec.setMessage("Grouping main table");
+            final GroupByTable groupByTable = createGroupByTable(exec.createSubExecutionContext(progGroup / progTotal),
+                appTable, groupAndPivotCols, isProcessInMemory(),
+                false /* retain order always false; handled by pivoting */, Arrays.asList(aggrs));
+            // table is not sorted by group&pivot columns; if process in memory
+            // true then sort table by group&pivot columns
+            final BufferedDataTable origGroupByTable = groupByTable.getBufferedTable();
+            if (isProcessInMemory()) {
+                exec.setMessage("Sorting group table");
+                //ensure that missing values are at the end by setting the boolean flag
+                final BufferedDataTableSorter sortedGroupByTable = new BufferedDataTableSorter(origGroupByTable,
+                    new InMemoryRowComparator(groupAndPivotCols, origGroupByTable.getSpec()));
+                groupTable = sortedGroupByTable.sort(exec.createSubExecutionContext(progInMemSort / progTotal));
+            } else {
+                groupTable = origGroupByTable;
+            }
+        } else {
+            exec.setMessage("Grouping main table");
+            final GroupByTable groupByTable = createGroupByTable(exec.createSubExecutionContext(progGroup / progTotal),
+                table, groupAndPivotCols, isProcessInMemory(), false, getColumnAggregators());
+            groupTable = groupByTable.getBufferedTable();
+            orderPivotColumnName = null;
+        }
+        return new Pair<BufferedDataTable, String>(groupTable, orderPivotColumnName);
+    }
+
+    private void addPivots(final Set<String>[] combPivots, final DataCell[] pivotVals) {
+        for (int i = 0; i < pivotVals.length; i++) {
+            if (combPivots[i] == null) {
+                combPivots[i] = new LinkedHashSet<String>();
+            }
+            final DataCell cell = pivotVals[i];
+            if (cell.isMissing()) {
+                if (!m_ignoreMissValues.getBooleanValue()) {
+                    combPivots[i].add(cell.toString());
+                }
+            } else {
+                combPivots[i].add(cell.toString());
+            }
+        }
+    }
+
     private DataTableSpec createOutSpec(final DataTableSpec groupSpec, final Set<String>[] combPivots,
         final Map<String, Integer> pivotStarts, final String orderPivotColumnName) throws InvalidSettingsException {
         final List<String> groupCols = getGroupByColumns();
@@ -711,18 +796,23 @@ private DataTableSpec createOutSpec(final DataTableSpec groupSpec, final Set<Str
     private BufferedDataTable fillPivotTable(final BufferedDataTable groupTable, final DataTableSpec pivotSpec,
         final Map<String, Integer> pivotStarts, final ExecutionContext exec, final String orderPivotColumnName)
         throws CanceledExecutionException {
+        return fillPivotTable(groupTable.getSpec(), groupTable, groupTable.size(), pivotSpec, pivotStarts, exec,
+            orderPivotColumnName);
+    }
+
+    private BufferedDataTable fillPivotTable(final DataTableSpec groupSpec, final Iterable<DataRow> groupRows,
+        final long totalRowCount, final DataTableSpec pivotSpec, final Map<String, Integer> pivotStarts,
+        final ExecutionContext exec, final String orderPivotColumnName) throws CanceledExecutionException {
         final BufferedDataContainer buf = exec.createDataContainer(pivotSpec);
         final List<String> pivotCols = m_pivotCols.getIncludeList();
         final int pivotCount = pivotCols.size();
         final List<String> groupCols = new ArrayList<String>(getGroupByColumns());
         groupCols.removeAll(pivotCols);
         final int groupCount = groupCols.size();
-        final DataTableSpec groupSpec = groupTable.getSpec();
         final int colCount = groupSpec.getNumColumns();
         final DataCell[] outcells = new DataCell[pivotSpec.getNumColumns()];
-        final long totalRowCount = groupTable.size();
         long rowIndex = 0;
-        for (final DataRow row : groupTable) {
+        for (final DataRow row : groupRows) {
             final RowKey origRowKey = row.getKey();
             String pivotColumn = null;
             for (int i = 0; i < colCount; i++) {
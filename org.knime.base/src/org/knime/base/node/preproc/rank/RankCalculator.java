@@ -0,0 +1,323 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.rank;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.knime.base.util.concurrent.ThreadPoolUtil;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataValueComparator;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Computes the ranks of the rows of a table in memory, without sorting the table. The group of each row and the cells
+ * of its ranking columns are read in a single scan; the row indices of each group are sorted by the ranking columns
+ * (groups in parallel on the threads of the global thread pool) and the ranks are assigned like the
+ * {@link RankAssigner RankAssigners} do on the sorted table. The ranks are returned in the order of the rows, ready
+ * to be appended in a single pass that preserves the row order. Rows with equal ranking values keep their order.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class RankCalculator {
+
+    /** The assumed memory of a cell of a ranking column, in bytes. */
+    private static final long BYTES_PER_CELL = 48;
+
+    /** The rows of a group (or of a batch of small groups) sorted by one task. */
+    private static final int MIN_ROWS_PER_TASK = 16 * 1024;
+
+    private final int[] m_groupColIndices;
+
+    private final int[] m_rankColIndices;
+
+    private final boolean[] m_ascending;
+
+    private final String m_rankMode;
+
+    /**
+     * @param groupColIndices the indices of the grouping columns
+     * @param rankColIndices the indices of the ranking columns
+     * @param ascending whether to rank the values of a ranking column in ascending order
+     * @param rankMode the rank mode, see {@link RankNodeModel.RankMode}
+     */
+    RankCalculator(final int[] groupColIndices, final int[] rankColIndices, final boolean[] ascending,
+        final String rankMode) {
+        m_groupColIndices = groupColIndices;
+        m_rankColIndices = rankColIndices;
+        m_ascending = ascending;
+        m_rankMode = rankMode;
+        if (!"Standard".equals(rankMode) && !"Dense".equals(rankMode) && !"Ordinal".equals(rankMode)) {
+            throw new IllegalArgumentException("The rank mode \"" + rankMode + "\" does not exist.");
+        }
+    }
+
+    /**
+     * @param rowCount the number of rows
+     * @param numRankCols the number of ranking columns
+     * @return <code>true</code> if the cells of the ranking columns and the indices likely fit into half of the free
+     *         memory
+     */
+    static boolean fitsInMemory(final long rowCount, final int numRankCols) {
+        if (rowCount > Integer.MAX_VALUE - 8) {
+            return false;
+        }
+        final Runtime runtime = Runtime.getRuntime();
+        final long free = runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+        // group index, sorted row index and merge buffer, rank, and the references to and the cells of the ranking
+        // columns
+        final long perRow = 4 + 4 + 4 + 8 + numRankCols * (8 + BYTES_PER_CELL);
+        return rowCount * perRow < free / 2;
+    }
+
+    /**
+     * @param table the table to rank
+     * @param exec to report progress and check for cancellation
+     * @return the rank of each row, in the order of the rows
+     * @throws CanceledExecutionException if canceled
+     */
+    long[] computeRanks(final BufferedDataTable table, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final int n = (int)table.size();
+        final DataTableSpec spec = table.getDataTableSpec();
+        final List<DataValueComparator> comparators = new ArrayList<DataValueComparator>();
+        for (int c : m_rankColIndices) {
+            comparators.add(spec.getColumnSpec(c).getType().getComparator());
+        }
+
+        // read the groups and the ranking cells
+        final ExecutionMonitor scanExec = exec.createSubProgress(0.4);
+        final Map<DataCellTuple, Integer> groups = new HashMap<DataCellTuple, Integer>();
+        final int[] groupOfRow = new int[n];
+        final DataCell[][] values = new DataCell[m_rankColIndices.length][n];
+        final List<Integer> groupSizes = new ArrayList<Integer>();
+        int r = 0;
+        for (DataRow row : table) {
+            if (r % 1000 == 0) {
+                scanExec.checkCanceled();
+                scanExec.setProgress(r / (double)n);
+            }
+            final DataCellTuple group = new DataCellTuple(row, m_groupColIndices);
+            Integer groupIndex = groups.get(group);
+            if (groupIndex == null) {
+                groupIndex = groups.size();
+                groups.put(group, groupIndex);
+                groupSizes.add(0);
+            }
+            groupOfRow[r] = groupIndex;
+            groupSizes.set(groupIndex, groupSizes.get(groupIndex) + 1);
+            for (int c = 0; c < m_rankColIndices.length; c++) {
+                values[c][r] = row.getCell(m_rankColIndices[c]);
+            }
+            r++;
+        }
+
+        // the row indices bucketed by group, in the order of the rows
+        final int[] starts = new int[groupSizes.size() + 1];
+        for (int g = 0; g < groupSizes.size(); g++) {
+            starts[g + 1] = starts[g] + groupSizes.get(g);
+        }
+        final int[] rows = new int[n];
+        final int[] next = starts.clone();
+        for (int i = 0; i < n; i++) {
+            rows[next[groupOfRow[i]]++] = i;
+        }
+
+        // sort and rank the groups, small groups together in one task
+        final ExecutionMonitor rankExec = exec.createSubProgress(0.6);
+        final long[] ranks = new long[n];
+        final int nrThreads = ThreadPoolUtil.getMaxThreads();
+        final ThreadPool pool = nrThreads > 1 ? KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(nrThreads) : null;
+        final List<Future<Void>> futures = new ArrayList<Future<Void>>();
+        try {
+            int firstGroup = 0;
+            for (int g = 1; g <= groupSizes.size(); g++) {
+                if (g < groupSizes.size() && starts[g] - starts[firstGroup] < MIN_ROWS_PER_TASK) {
+                    continue;
+                }
+                final int from = firstGroup;
+                final int to = g;
+                if (pool == null) {
+                    rankGroups(from, to, starts, rows, values, comparators, ranks, rankExec);
+                    rankExec.setProgress(starts[to] / (double)n);
+                } else {
+                    futures.add(pool.enqueue(() -> {
+                        rankGroups(from, to, starts, rows, values, comparators, ranks, rankExec);
+                        return null;
+                    }));
+                }
+                firstGroup = g;
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                waitFor(pool, futures.get(i));
+                rankExec.setProgress((i + 1) / (double)futures.size());
+            }
+        } finally {
+            for (Future<Void> future : futures) {
+                future.cancel(true);
+            }
+        }
+        return ranks;
+    }
+
+    /*
+     * Sorts and ranks the rows of the groups. Called by the worker threads.
+     */
+    private void rankGroups(final int fromGroup, final int toGroup, final int[] starts, final int[] rows,
+        final DataCell[][] values, final List<DataValueComparator> comparators, final long[] ranks,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        final int[] buffer = new int[starts[toGroup] - starts[fromGroup]];
+        for (int g = fromGroup; g < toGroup; g++) {
+            exec.checkCanceled();
+            final int from = starts[g];
+            final int to = starts[g + 1];
+            sort(rows, from, to, buffer, (a, b) -> compare(a, b, values, comparators));
+            long rank = 0;
+            long counter = 0;
+            for (int i = from; i < to; i++) {
+                counter++;
+                if (i == from || !equalValues(rows[i - 1], rows[i], values)) {
+                    // a new value, see StandardRankAssigner and DenseRankAssigner
+                    rank = "Standard".equals(m_rankMode) ? counter : rank + 1;
+                }
+                ranks[rows[i]] = "Ordinal".equals(m_rankMode) ? counter : rank;
+            }
+        }
+    }
+
+    private int compare(final int rowA, final int rowB, final DataCell[][] values,
+        final List<DataValueComparator> comparators) {
+        for (int c = 0; c < values.length; c++) {
+            final int cmp = comparators.get(c).compare(values[c][rowA], values[c][rowB]);
+            if (cmp != 0) {
+                return m_ascending[c] ? cmp : -cmp;
+            }
+        }
+        return 0;
+    }
+
+    /*
+     * As DataCellTuple#equals.
+     */
+    private static boolean equalValues(final int rowA, final int rowB, final DataCell[][] values) {
+        for (int c = 0; c < values.length; c++) {
+            if (!values[c][rowA].equals(values[c][rowB])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void waitFor(final ThreadPool pool, final Future<Void> future)
+        throws CanceledExecutionException {
+        try {
+            ThreadPoolUtil.waitFor(pool, future);
+        } catch (ExecutionException e) {
+            final Exception cause = ThreadPoolUtil.throwIfUnchecked(e);
+            if (cause instanceof CanceledExecutionException) {
+                throw (CanceledExecutionException)cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Ranking was interrupted.");
+        }
+    }
+
+    /** Compares two row indices. */
+    @FunctionalInterface
+    private interface RowComparator {
+        int compare(int rowA, int rowB);
+    }
+
+    /*
+     * Stable merge sort of the row indices in [from, to).
+     */
+    private static void sort(final int[] rows, final int from, final int to, final int[] buffer,
+        final RowComparator comparator) {
+        if (to - from < 2) {
+            return;
+        }
+        if (to - from <= 16) {
+            for (int i = from + 1; i < to; i++) {
+                final int row = rows[i];
+                int j = i;
+                for (; j > from && comparator.compare(rows[j - 1], row) > 0; j--) {
+                    rows[j] = rows[j - 1];
+                }
+                rows[j] = row;
+            }
+            return;
+        }
+        final int mid = (from + to) >>> 1;
+        sort(rows, from, mid, buffer, comparator);
+        sort(rows, mid, to, buffer, comparator);
+        if (comparator.compare(rows[mid - 1], rows[mid]) <= 0) {
+            return;
+        }
+        System.arraycopy(rows, from, buffer, 0, mid - from);
+        int i = 0;
+        int j = mid;
+        int k = from;
+        while (i < mid - from && j < to) {
+            rows[k++] = comparator.compare(buffer[i], rows[j]) <= 0 ? buffer[i++] : rows[j++];
+        }
+        System.arraycopy(buffer, i, rows, k, mid - from - i);
+    }
+}
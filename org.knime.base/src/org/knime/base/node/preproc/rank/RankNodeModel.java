@@ -188,6 +188,31 @@ public DataCell getCell(final DataRow row) {
 
     }
 
+    /** Appends the ranks computed by the {@link RankCalculator}, the rows must be processed in order. */
+    private static class RankArrayCellFactory extends SingleCellFactory {
+
+        private final long[] m_ranks;
+
+        private final boolean m_rankAsLong;
+
+        private int m_rowNum = 0;
+
+        RankArrayCellFactory(final DataColumnSpec newColSpec, final long[] ranks, final boolean rankAsLong) {
+            super(newColSpec);
+            m_ranks = ranks;
+            m_rankAsLong = rankAsLong;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public DataCell getCell(final DataRow row) {
+            final long rank = m_ranks[m_rowNum++];
+            return m_rankAsLong ? new LongCell(rank) : new IntCell((int)rank);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -218,6 +243,31 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         // get rank mode
         String rankMode = m_rankMode.getStringValue();
 
+        // set boolean array to indicate ascending ranking columns
+        String[] orderRank = m_rankOrder.getStringArrayValue();
+        boolean[] ascRank = new boolean[orderRank.length];
+        for (int i = 0; i < ascRank.length; i++) {
+            ascRank[i] = (orderRank[i].equals("Ascending")) ? true : false;
+        }
+
+        DataColumnSpec newColSpec = null;
+        boolean rankAsLong = m_rankAsLong.getBooleanValue();
+        if (rankAsLong) {
+            newColSpec = new DataColumnSpecCreator(m_rankOutColName.getStringValue(), LongCell.TYPE).createSpec();
+        } else {
+            newColSpec = new DataColumnSpecCreator(m_rankOutColName.getStringValue(), IntCell.TYPE).createSpec();
+        }
+
+        if (m_retainRowOrder.getBooleanValue() && RankCalculator.fitsInMemory(table.size(), rankColIndices.length)) {
+            // rank in memory and append the ranks in the order of the rows, no need to sort the table twice
+            final long[] ranks = new RankCalculator(groupColIndices, rankColIndices, ascRank, rankMode)
+                .computeRanks(table, exec.createSubProgress(0.5));
+            ColumnRearranger cr = new ColumnRearranger(inSpec);
+            cr.append(new RankArrayCellFactory(newColSpec, ranks, rankAsLong));
+            return new BufferedDataTable[]{
+                exec.createColumnRearrangeTable(table, cr, exec.createSubExecutionContext(0.5))};
+        }
+
         // calculate number of steps
         double numSteps = 2;
         if (m_retainRowOrder.getBooleanValue()) {
@@ -235,26 +285,12 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
             inSpec = table.getDataTableSpec();
         }
 
-        // set boolean array to indicate ascending ranking columns
-        String[] orderRank = m_rankOrder.getStringArrayValue();
-        boolean[] ascRank = new boolean[orderRank.length];
-        for (int i = 0; i < ascRank.length; i++) {
-            ascRank[i] = (orderRank[i].equals("Ascending")) ? true : false;
-        }
-
         // sort by rank
         BufferedDataTable sortedTable =
             new BufferedDataTableSorter(table, rankCols, ascRank).sort(exec.createSubExecutionContext(1 / numSteps));
 
         // prepare appending of rank column
         ColumnRearranger columnRearranger = new ColumnRearranger(sortedTable.getDataTableSpec());
-        DataColumnSpec newColSpec = null;
-        boolean rankAsLong = m_rankAsLong.getBooleanValue();
-        if (rankAsLong) {
-            newColSpec = new DataColumnSpecCreator(m_rankOutColName.getStringValue(), LongCell.TYPE).createSpec();
-        } else {
-            newColSpec = new DataColumnSpecCreator(m_rankOutColName.getStringValue(), IntCell.TYPE).createSpec();
-        }
 
         int initialHashtableCapacity = 11;
         if (!groupCols.isEmpty()) {
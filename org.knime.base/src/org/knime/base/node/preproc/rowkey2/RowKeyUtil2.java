@@ -53,6 +53,7 @@
 import java.util.Set;
 
 import org.knime.base.data.append.column.AppendedColumnTable;
+import org.knime.base.data.util.RowIDUniquifier;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
@@ -74,7 +75,6 @@
 import org.knime.core.node.streamable.DataTableRowInput;
 import org.knime.core.node.streamable.RowInput;
 import org.knime.core.node.streamable.RowOutput;
-import org.knime.core.util.MutableInteger;
 
 /**
  * Provides methods to append a new row with the row key values or
@@ -234,8 +234,9 @@ void changeRowKey(final RowInput inData, final RowOutput outData, final Executio
         if (hiliteMap) {
             m_hiliteMapping = new HashMap<RowKey, Set<RowKey>>(totalNoOfRows);
         }
-        final Map<String, MutableInteger> vals =
-            new HashMap<String, MutableInteger>(totalNoOfRows > 0 ? totalNoOfRows : 100);
+        // the keys created so far, with bounded memory; its spill directory is a temporary directory deleted on exit
+        // if the loop fails before it is closed
+        final RowIDUniquifier vals = new RowIDUniquifier();
         final double progressPerRow = 1.0 / totalNoOfRows;
         //update the progress monitor every percent
         final int checkPoint = Math.max((totalNoOfRows / 1000), 1);
@@ -271,25 +272,15 @@ void changeRowKey(final RowInput inData, final RowOutput outData, final Executio
                 } else {
                     key = keyCell.toString();
                 }
-                if (ensureUniqueness) {
-                    if (vals.containsKey(key)) {
-                        if (!keyCell.isMissing()) {
-                            m_duplicatesCounter++;
-                        }
-                        StringBuilder uniqueKey = new StringBuilder(key);
-                        final MutableInteger index = vals.get(uniqueKey.toString());
-                        while (vals.containsKey(uniqueKey.toString())) {
-                            index.inc();
-                            uniqueKey = new StringBuilder(key);
-                            uniqueKey.append("(");
-                            uniqueKey.append(index.toString());
-                            uniqueKey.append(")");
-                        }
-                        key = uniqueKey.toString();
+                if (ensureUniqueness && !vals.add(key)) {
+                    if (!keyCell.isMissing()) {
+                        m_duplicatesCounter++;
                     }
-                    //put the current key which is new into the values map
-                    final MutableInteger index = new MutableInteger(0);
-                    vals.put(key, index);
+                    String uniqueKey;
+                    do {
+                        uniqueKey = key + "(" + vals.nextSuffix(key) + ")";
+                    } while (!vals.add(uniqueKey));
+                    key = uniqueKey;
                 }
                 newKeyVal = new RowKey(key);
             } else {
@@ -313,6 +304,7 @@ void changeRowKey(final RowInput inData, final RowOutput outData, final Executio
                 }
             }
         }
+        vals.close();
         exec.setProgress(1.0, "Finished");
         outData.close();
 
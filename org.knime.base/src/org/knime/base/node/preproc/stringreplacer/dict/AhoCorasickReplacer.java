@@ -0,0 +1,457 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   18.10.2026 (KNIME AG): created
+ */
+package org.knime.base.node.preproc.stringreplacer.dict;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Replaces all occurrences of the keys of a dictionary in a string by their values, using an Aho-Corasick automaton.
+ * The strings are scanned once, no matter how many keys the dictionary has. Of overlapping occurrences the one
+ * starting first (and of these the longest) is replaced.
+ * <p>
+ * The trie of the automaton is stored as double-array (a state's children are found at <code>base[state] +
+ * code</code>, validated by <code>check</code>), which keeps dictionaries with millions of keys compact and fast to
+ * traverse. The characters are mapped to dense codes, only characters occurring in the keys have a code.
+ * <p>
+ * An instance is immutable and can be used by multiple threads concurrently.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class AhoCorasickReplacer {
+
+    private static final int ROOT = 0;
+
+    // the number of free positions tried for the children of a state before they are placed at the end
+    private static final int MAX_PROBES = 256;
+
+    private final boolean m_caseInsensitive;
+
+    private final boolean m_wholeWords;
+
+    // code of each character, 0 if the character doesn't occur in any key
+    private final char[] m_codes;
+
+    private final int[] m_base;
+
+    // parent + 1 of each state, 0 for unused positions
+    private final int[] m_check;
+
+    private final int[] m_fail;
+
+    // index of the key ending in each state, -1 if none
+    private final int[] m_output;
+
+    // next state on the failure path with an output, -1 if none
+    private final int[] m_outputLink;
+
+    private final int[] m_keyLengths;
+
+    private final String[] m_values;
+
+    /**
+     * Creates the automaton for the dictionary.
+     *
+     * @param dictionary maps the keys to their replacements, the keys must not be empty; if keys are equal but for
+     *            their case the last one in the iteration order is used (if the case is ignored)
+     * @param caseInsensitive whether the keys match regardless of the case
+     * @param wholeWords whether keys only match if they aren't preceded or followed by a letter or digit
+     */
+    AhoCorasickReplacer(final Map<String, String> dictionary, final boolean caseInsensitive,
+        final boolean wholeWords) {
+        m_caseInsensitive = caseInsensitive;
+        m_wholeWords = wholeWords;
+
+        // sort the (folded) keys, the sort is stable so that the last of equal keys can be kept
+        final String[] keys = new String[dictionary.size()];
+        final String[] entryValues = new String[keys.length];
+        int k = 0;
+        for (Map.Entry<String, String> e : dictionary.entrySet()) {
+            keys[k] = fold(e.getKey());
+            entryValues[k++] = e.getValue();
+        }
+        final Integer[] order = new Integer[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.parallelSort(order, (a, b) -> keys[a].compareTo(keys[b]));
+        final String[] sortedKeys = new String[keys.length];
+        final String[] values = new String[keys.length];
+        int n = 0;
+        for (Integer i : order) {
+            if (n > 0 && sortedKeys[n - 1].equals(keys[i])) {
+                n--;
+            }
+            sortedKeys[n] = keys[i];
+            values[n++] = entryValues[i];
+        }
+        m_values = Arrays.copyOf(values, n);
+        m_keyLengths = new int[n];
+
+        // dense codes, assigned in the order of the characters so that the sorted keys are sorted by code
+        final boolean[] used = new boolean[Character.MAX_VALUE + 1];
+        for (int i = 0; i < n; i++) {
+            final String key = sortedKeys[i];
+            m_keyLengths[i] = key.length();
+            for (int j = 0; j < key.length(); j++) {
+                used[key.charAt(j)] = true;
+            }
+        }
+        m_codes = new char[Character.MAX_VALUE + 1];
+        int numCodes = 0;
+        for (int c = 0; c < used.length; c++) {
+            if (used[c]) {
+                m_codes[c] = (char)++numCodes;
+            }
+        }
+
+        final Builder builder = new Builder(sortedKeys, n, m_codes, numCodes);
+        m_base = builder.m_base;
+        m_check = builder.m_check;
+        m_output = builder.m_output;
+        m_fail = new int[m_base.length];
+        m_outputLink = new int[m_base.length];
+        createFailureLinks(builder.m_order, builder.m_numStates);
+    }
+
+    /** Computes the failure and output links in breadth-first order of the states. */
+    private void createFailureLinks(final int[] bfsOrder, final int numStates) {
+        m_outputLink[ROOT] = -1;
+        for (int i = 1; i < numStates; i++) {
+            final int state = bfsOrder[i];
+            final int parent = m_check[state] - 1;
+            final int code = state - m_base[parent];
+            int fail = ROOT;
+            if (parent != ROOT) {
+                int f = m_fail[parent];
+                int child;
+                while ((child = child(f, code)) < 0 && f != ROOT) {
+                    f = m_fail[f];
+                }
+                fail = child < 0 ? ROOT : child;
+            }
+            m_fail[state] = fail;
+            m_outputLink[state] = m_output[fail] >= 0 ? fail : m_outputLink[fail];
+        }
+    }
+
+    private int child(final int state, final int code) {
+        // the base may be negative, the children are at positive positions
+        final int t = m_base[state] + code;
+        return (t > 0 && t < m_check.length && m_check[t] == state + 1) ? t : -1;
+    }
+
+    private char fold(final char c) {
+        return m_caseInsensitive ? Character.toLowerCase(Character.toUpperCase(c)) : c;
+    }
+
+    private String fold(final String s) {
+        if (!m_caseInsensitive) {
+            return s;
+        }
+        final char[] chars = s.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = fold(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * @return the number of (distinct) keys in the dictionary
+     */
+    int size() {
+        return m_values.length;
+    }
+
+    /**
+     * Replaces the occurrences of the keys in the string.
+     *
+     * @param s the string to search in
+     * @return the string with the keys replaced, the argument itself if no key occurs in it
+     */
+    String replace(final String s) {
+        final int length = s.length();
+        // length and value of the longest match starting at each position, created on the first match
+        int[] matchLengths = null;
+        int[] matchValues = null;
+        int state = ROOT;
+        for (int i = 0; i < length; i++) {
+            final int code = m_codes[fold(s.charAt(i))];
+            if (code == 0) {
+                state = ROOT;
+                continue;
+            }
+            int next;
+            while ((next = child(state, code)) < 0 && state != ROOT) {
+                state = m_fail[state];
+            }
+            state = next < 0 ? ROOT : next;
+            for (int out = m_output[state] >= 0 ? state : m_outputLink[state]; out >= 0; out = m_outputLink[out]) {
+                final int value = m_output[out];
+                final int matchLength = m_keyLengths[value];
+                final int start = i + 1 - matchLength;
+                if (m_wholeWords && !isWordBoundary(s, start, i + 1)) {
+                    continue;
+                }
+                if (matchLengths == null) {
+                    matchLengths = new int[length];
+                    matchValues = new int[length];
+                }
+                if (matchLength > matchLengths[start]) {
+                    matchLengths[start] = matchLength;
+                    matchValues[start] = value;
+                }
+            }
+        }
+        if (matchLengths == null) {
+            return s;
+        }
+        final StringBuilder result = new StringBuilder(length);
+        int pos = 0;
+        while (pos < length) {
+            if (matchLengths[pos] > 0) {
+                result.append(m_values[matchValues[pos]]);
+                pos += matchLengths[pos];
+            } else {
+                result.append(s.charAt(pos++));
+            }
+        }
+        return result.toString();
+    }
+
+    private static boolean isWordBoundary(final String s, final int start, final int end) {
+        return (start == 0 || !Character.isLetterOrDigit(s.charAt(start - 1)))
+            && (end == s.length() || !Character.isLetterOrDigit(s.charAt(end)));
+    }
+
+    /** Builds the double-array trie from the sorted keys, breadth-first. */
+    private static final class Builder {
+
+        private final String[] m_keys;
+
+        private final char[] m_codes;
+
+        private final int m_numCodes;
+
+        private int[] m_base;
+
+        private int[] m_check;
+
+        private int[] m_output;
+
+        // the states in the order they are created and, for the states not expanded yet, their key range and depth
+        private int[] m_order;
+
+        private int[] m_from;
+
+        private int[] m_to;
+
+        private int[] m_depth;
+
+        private int m_numStates;
+
+        // the free positions as doubly linked list (-1 terminated)
+        private int[] m_nextFree;
+
+        private int[] m_prevFree;
+
+        private int m_firstFree = -1;
+
+        private int m_lastFree = -1;
+
+        private int m_lastUsed;
+
+        Builder(final String[] keys, final int numKeys, final char[] codes, final int numCodes) {
+            m_keys = keys;
+            m_codes = codes;
+            m_numCodes = numCodes;
+            // the root occupies position 0, which is never free
+            grow(Math.max(16, 2 * numCodes));
+            m_order = new int[16];
+            m_from = new int[16];
+            m_to = new int[16];
+            m_depth = new int[16];
+            add(ROOT, 0, numKeys, 0);
+            final int[] childCodes = new int[numCodes];
+            for (int i = 0; i < m_numStates; i++) {
+                expand(i, childCodes);
+            }
+            final int size = m_lastUsed + 1;
+            m_base = Arrays.copyOf(m_base, size);
+            m_check = Arrays.copyOf(m_check, size);
+            m_output = Arrays.copyOf(m_output, size);
+            m_from = null;
+            m_to = null;
+            m_depth = null;
+            m_nextFree = null;
+            m_prevFree = null;
+        }
+
+        private void add(final int state, final int from, final int to, final int depth) {
+            if (m_numStates == m_order.length) {
+                final int newLength = m_order.length + (m_order.length >> 1);
+                m_order = Arrays.copyOf(m_order, newLength);
+                m_from = Arrays.copyOf(m_from, newLength);
+                m_to = Arrays.copyOf(m_to, newLength);
+                m_depth = Arrays.copyOf(m_depth, newLength);
+            }
+            m_order[m_numStates] = state;
+            m_from[m_numStates] = from;
+            m_to[m_numStates] = to;
+            m_depth[m_numStates++] = depth;
+        }
+
+        /** Places the children of the i-th state and queues them. */
+        private void expand(final int i, final int[] codes) {
+            final int state = m_order[i];
+            int from = m_from[i];
+            final int to = m_to[i];
+            final int depth = m_depth[i];
+            // the keys share the first depth characters, one may end here (it's sorted first)
+            if (from < to && m_keys[from].length() == depth) {
+                m_output[state] = from;
+                from++;
+            }
+            int numChildren = 0;
+            for (int k = from; k < to; k++) {
+                final int code = m_codes[m_keys[k].charAt(depth)];
+                if (numChildren == 0 || codes[numChildren - 1] != code) {
+                    codes[numChildren++] = code;
+                }
+            }
+            if (numChildren == 0) {
+                return;
+            }
+            final int base = findBase(codes, numChildren);
+            m_base[state] = base;
+            for (int c = 0; c < numChildren; c++) {
+                use(base + codes[c], state);
+            }
+            int childFrom = from;
+            for (int c = 0; c < numChildren; c++) {
+                int childTo = childFrom + 1;
+                while (childTo < to && m_codes[m_keys[childTo].charAt(depth)] == codes[c]) {
+                    childTo++;
+                }
+                add(base + codes[c], childFrom, childTo, depth + 1);
+                childFrom = childTo;
+            }
+        }
+
+        /**
+         * Finds a base all children fit in. The free positions are tried first-fit, but only a bounded number of them
+         * so that holes no node fits in don't slow down the construction; otherwise the children are placed after
+         * the last used position. States with a single child (most of them) take the first free position, they fill
+         * the holes.
+         */
+        private int findBase(final int[] codes, final int numChildren) {
+            int probes = 0;
+            for (int pos = m_firstFree; pos >= 0 && probes < MAX_PROBES; pos = m_nextFree[pos], probes++) {
+                final int base = pos - codes[0];
+                ensureCapacity(base + codes[numChildren - 1] + 1);
+                boolean fits = true;
+                for (int c = 1; c < numChildren && fits; c++) {
+                    fits = m_check[base + codes[c]] == 0;
+                }
+                if (fits) {
+                    return base;
+                }
+            }
+            final int base = m_lastUsed + 1 - codes[0];
+            ensureCapacity(base + codes[numChildren - 1] + 1);
+            return base;
+        }
+
+        private void use(final int pos, final int parent) {
+            m_check[pos] = parent + 1;
+            // unlink the position from the free list
+            final int prev = m_prevFree[pos];
+            final int next = m_nextFree[pos];
+            if (prev < 0) {
+                m_firstFree = next;
+            } else {
+                m_nextFree[prev] = next;
+            }
+            if (next < 0) {
+                m_lastFree = prev;
+            } else {
+                m_prevFree[next] = prev;
+            }
+            m_lastUsed = Math.max(m_lastUsed, pos);
+        }
+
+        private void ensureCapacity(final int size) {
+            if (size > m_check.length) {
+                grow(Math.max(size + m_numCodes, m_check.length + (m_check.length >> 1)));
+            }
+        }
+
+        /** Enlarges the arrays and appends the new positions to the free list. */
+        private void grow(final int newLength) {
+            final int oldLength = m_check == null ? 0 : m_check.length;
+            m_base = m_base == null ? new int[newLength] : Arrays.copyOf(m_base, newLength);
+            m_check = m_check == null ? new int[newLength] : Arrays.copyOf(m_check, newLength);
+            m_output = m_output == null ? new int[newLength] : Arrays.copyOf(m_output, newLength);
+            m_nextFree = m_nextFree == null ? new int[newLength] : Arrays.copyOf(m_nextFree, newLength);
+            m_prevFree = m_prevFree == null ? new int[newLength] : Arrays.copyOf(m_prevFree, newLength);
+            Arrays.fill(m_output, oldLength, newLength, -1);
+            // the root's position 0 is never free
+            for (int pos = Math.max(1, oldLength); pos < newLength; pos++) {
+                m_prevFree[pos] = m_lastFree;
+                m_nextFree[pos] = -1;
+                if (m_lastFree < 0) {
+                    m_firstFree = pos;
+                } else {
+                    m_nextFree[m_lastFree] = pos;
+                }
+                m_lastFree = pos;
+            }
+        }
+    }
+}
@@ -94,6 +94,12 @@ final class SearchReplaceDictNodeDialogPane extends NodeDialogPane {
 
     private final JTextField m_appendTextField;
 
+    private final JCheckBox m_replaceSubstringsChecker;
+
+    private final JCheckBox m_caseInsensitiveChecker;
+
+    private final JCheckBox m_wholeWordsChecker;
+
     /** Inits GUI. */
     @SuppressWarnings("unchecked")
     public SearchReplaceDictNodeDialogPane() {
@@ -145,6 +151,18 @@ public void keyTyped(final KeyEvent e) {
             }
         });
         m_appendTextField = new JTextField();
+        m_replaceSubstringsChecker = new JCheckBox("Replace occurrences within the values");
+        m_caseInsensitiveChecker = new JCheckBox("Case insensitive");
+        m_wholeWordsChecker = new JCheckBox("Whole words only");
+        m_replaceSubstringsChecker.addChangeListener(new ChangeListener() {
+            @Override
+            public void stateChanged(final ChangeEvent e) {
+                m_caseInsensitiveChecker.setEnabled(m_replaceSubstringsChecker.isSelected());
+                m_wholeWordsChecker.setEnabled(m_replaceSubstringsChecker.isSelected());
+            }
+        });
+        m_caseInsensitiveChecker.setEnabled(false);
+        m_wholeWordsChecker.setEnabled(false);
         layout();
     }
 
@@ -176,6 +194,11 @@ protected void loadSettingsFrom(final NodeSettingsRO settings, final DataTableSp
         if (appendCol != null) {
             m_appendTextField.setText(appendCol);
         }
+        m_replaceSubstringsChecker.setSelected(
+            settings.getBoolean(SearchReplaceDictNodeModel.CFG_REPLACE_SUBSTRINGS, false));
+        m_caseInsensitiveChecker.setSelected(
+            settings.getBoolean(SearchReplaceDictNodeModel.CFG_CASE_INSENSITIVE, false));
+        m_wholeWordsChecker.setSelected(settings.getBoolean(SearchReplaceDictNodeModel.CFG_WHOLE_WORDS, false));
     }
 
     /** {@inheritDoc} */
@@ -213,6 +236,9 @@ protected void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSetti
         settings.addString(SearchReplaceDictNodeModel.CFG_DICT_LOCATION, dictLoc);
         settings.addString(SearchReplaceDictNodeModel.CFG_APPEND_COLUMN, appendCol);
         settings.addChar(SearchReplaceDictNodeModel.CFG_DELIMITER_IN_DICT, delim);
+        settings.addBoolean(SearchReplaceDictNodeModel.CFG_REPLACE_SUBSTRINGS, m_replaceSubstringsChecker.isSelected());
+        settings.addBoolean(SearchReplaceDictNodeModel.CFG_CASE_INSENSITIVE, m_caseInsensitiveChecker.isSelected());
+        settings.addBoolean(SearchReplaceDictNodeModel.CFG_WHOLE_WORDS, m_wholeWordsChecker.isSelected());
     }
 
     /** Layout the GUI elements with GridBagLayout. */
@@ -237,6 +263,9 @@ private void layout() {
         g.gridy++;
         panel.add(m_appendChecker, g);
 
+        g.gridy++;
+        panel.add(m_replaceSubstringsChecker, g);
+
         g.anchor = GridBagConstraints.WEST;
         g.weightx = 1.0;
         g.fill = GridBagConstraints.HORIZONTAL;
@@ -259,6 +288,16 @@ private void layout() {
         g.gridy++;
         panel.add(m_appendTextField, g);
 
+        JPanel matchPanel = new JPanel(new GridBagLayout());
+        GridBagConstraints mg = new GridBagConstraints();
+        mg.anchor = GridBagConstraints.WEST;
+        mg.insets = new Insets(0, 0, 0, 10);
+        matchPanel.add(m_caseInsensitiveChecker, mg);
+        matchPanel.add(m_wholeWordsChecker, mg);
+        g.fill = GridBagConstraints.NONE;
+        g.gridy++;
+        panel.add(matchPanel, g);
+
         addTab("Default", panel);
 
     }
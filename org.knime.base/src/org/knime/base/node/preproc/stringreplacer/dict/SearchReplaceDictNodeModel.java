@@ -54,6 +54,7 @@
 import java.net.MalformedURLException;
 import java.nio.file.InvalidPathException;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.StringTokenizer;
 
 import org.knime.core.data.DataCell;
@@ -97,6 +98,15 @@ final class SearchReplaceDictNodeModel extends SimpleStreamableFunctionNodeModel
     /** Config key for delimiter in dictionary. */
     static final String CFG_DELIMITER_IN_DICT = "delimiter_in_dict";
 
+    /** Config key for replacing the occurrences of the keys within the values (instead of entire values). */
+    static final String CFG_REPLACE_SUBSTRINGS = "replace_substrings";
+
+    /** Config key for matching the keys case insensitive (substring replacement only). */
+    static final String CFG_CASE_INSENSITIVE = "case_insensitive";
+
+    /** Config key for matching the keys as whole words only (substring replacement only). */
+    static final String CFG_WHOLE_WORDS = "whole_words";
+
     private String m_dictFileURLString;
 
     private String m_targetColumnName;
@@ -105,8 +115,14 @@ final class SearchReplaceDictNodeModel extends SimpleStreamableFunctionNodeModel
 
     private char m_delimInDictCharacter;
 
-    /** temporarily used during execute. */
-    private HashMap<String, String> m_replacementMap;
+    private boolean m_replaceSubstrings;
+
+    private boolean m_caseInsensitive;
+
+    private boolean m_wholeWords;
+
+    /** shared by the partitions of a streamed execution, guarded by this. */
+    private Replacement m_streamingReplacement;
 
     /** One input, one output. */
     public SearchReplaceDictNodeModel() {
@@ -145,12 +161,11 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         throws Exception {
         exec.setMessage("Reading dictionary");
         ExecutionMonitor subExec = exec.createSubProgress(0.2);
-        m_replacementMap = readDictionary(subExec);
+        Replacement replacement = createReplacement(readDictionary(subExec));
         exec.setMessage("Searching & Replacing");
         DataTableSpec spec = inData[0].getDataTableSpec();
-        ColumnRearranger rearranger = createColumnRearranger(spec);
+        ColumnRearranger rearranger = createColumnRearranger(spec, replacement, false);
         BufferedDataTable result = exec.createColumnRearrangeTable(inData[0], rearranger, exec.createSubProgress(0.8));
-        m_replacementMap = null;
         return new BufferedDataTable[]{result};
     }
 
@@ -160,18 +175,71 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
     @Override
     public StreamableFunction createStreamableOperator(final PartitionInfo partitionInfo, final PortObjectSpec[] inSpecs)
         throws InvalidSettingsException {
+        final Replacement replacement;
         try {
-            m_replacementMap = readDictionary(null);
+            replacement = getStreamingReplacement();
         } catch (IOException e) {
             throw new InvalidSettingsException("Can't read dictionary file.", e);
         }
-        return createColumnRearranger((DataTableSpec) inSpecs[0]).createStreamableFunction();
+        return createColumnRearranger((DataTableSpec) inSpecs[0], replacement, true).createStreamableFunction();
+    }
+
+    /* The dictionary is read (and the automaton built) only once for all partitions of a streamed execution. */
+    private synchronized Replacement getStreamingReplacement() throws IOException {
+        if (m_streamingReplacement == null) {
+            m_streamingReplacement = createReplacement(readDictionary(null));
+        }
+        return m_streamingReplacement;
+    }
+
+    /* Called when a partition is done, partitions started later read the dictionary again. */
+    private synchronized void releaseStreamingReplacement(final Replacement replacement) {
+        if (m_streamingReplacement == replacement) {
+            m_streamingReplacement = null;
+        }
     }
 
+    private Replacement createReplacement(final HashMap<String, String> dictionary) {
+        if (m_replaceSubstrings) {
+            return new Replacement(null, new AhoCorasickReplacer(dictionary, m_caseInsensitive, m_wholeWords));
+        }
+        return new Replacement(dictionary, null);
+    }
+
+    /** The map or (if substrings are replaced) the automaton used to replace the values, only read. */
+    private static final class Replacement {
+
+        private final HashMap<String, String> m_replacementMap;
 
+        private final AhoCorasickReplacer m_substringReplacer;
 
+        Replacement(final HashMap<String, String> replacementMap, final AhoCorasickReplacer substringReplacer) {
+            m_replacementMap = replacementMap;
+            m_substringReplacer = substringReplacer;
+        }
+
+        String replace(final String cellContent) {
+            if (m_substringReplacer != null) {
+                return m_substringReplacer.replace(cellContent);
+            }
+            String replacement = m_replacementMap.get(cellContent);
+            return replacement != null ? replacement : cellContent;
+        }
+    }
+
+    /** {@inheritDoc} */
     @Override
     protected ColumnRearranger createColumnRearranger(final DataTableSpec spec) {
+        // only used for the output spec
+        return createColumnRearranger(spec, null, false);
+    }
+
+    /**
+     * @param replacement the replacement, null if only the spec is needed
+     * @param streaming whether to release the replacement of the streamed execution after the rows are processed
+     */
+    private ColumnRearranger createColumnRearranger(final DataTableSpec spec, final Replacement replacement,
+        final boolean streaming) {
         ColumnRearranger result = new ColumnRearranger(spec);
         final int targetColIndex = spec.findColumnIndex(m_targetColumnName);
         DataColumnSpecCreator newColCreator;
@@ -183,21 +251,23 @@ protected ColumnRearranger createColumnRearranger(final DataTableSpec spec) {
         } else {
             newColCreator = new DataColumnSpecCreator(m_newColumnName, StringCell.TYPE);
         }
-        CellFactory amendedCol = new SingleCellFactory(newColCreator.createSpec()) {
+        // the replacement is only read, the rows can be processed concurrently
+        CellFactory amendedCol = new SingleCellFactory(true, newColCreator.createSpec()) {
             @Override
             public DataCell getCell(final DataRow row) {
                 DataCell c = row.getCell(targetColIndex);
                 if (c.isMissing()) {
                     return c;
                 }
-                String cellContent = c.toString();
-                String replacement = m_replacementMap.get(cellContent);
-                if (replacement != null) {
-                    return new StringCell(replacement);
-                } else {
-                    // do not return original cell (maybe not compatible to
-                    // StringCell.TYPE!)
-                    return new StringCell(cellContent);
+                // do not return original cell (maybe not compatible to
+                // StringCell.TYPE!)
+                return new StringCell(replacement.replace(c.toString()));
+            }
+
+            @Override
+            public void afterProcessing() {
+                if (streaming) {
+                    releaseStreamingReplacement(replacement);
                 }
             }
         };
@@ -209,11 +279,11 @@ public DataCell getCell(final DataRow row) {
         return result;
     }
 
-    /* execution context can be null -> no progress message*/
+    /* execution context can be null -> no progress message; the map keeps the order of the file */
     private HashMap<String, String> readDictionary(final ExecutionMonitor exec) throws IOException {
         File f = FileUtil.getFileFromURL(FileUtil.toURL(m_dictFileURLString));
         BufferedReader reader = new BufferedReader(new FileReader(f));
-        HashMap<String, String> result = new HashMap<String, String>();
+        HashMap<String, String> result = new LinkedHashMap<String, String>();
         String line;
         final double size = f.length();
         long prog = 0;
@@ -231,7 +301,7 @@ private HashMap<String, String> readDictionary(final ExecutionMonitor exec) thro
                 // ignores line breaks and such, hope it's ok
                 prog += line.length();
                 if (exec != null) {
-                    exec.setProgress(prog / size, "Read dictionary entry for value \"" + value + "\"");
+                    exec.setProgress(prog / size, () -> "Read dictionary entry for value \"" + value + "\"");
                 }
             }
         } finally {
@@ -266,12 +336,18 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws I
         m_newColumnName = settings.getString(CFG_APPEND_COLUMN);
         m_dictFileURLString = settings.getString(CFG_DICT_LOCATION);
         m_delimInDictCharacter = settings.getChar(CFG_DELIMITER_IN_DICT);
+        // added in 3.8
+        m_replaceSubstrings = settings.getBoolean(CFG_REPLACE_SUBSTRINGS, false);
+        m_caseInsensitive = settings.getBoolean(CFG_CASE_INSENSITIVE, false);
+        m_wholeWords = settings.getBoolean(CFG_WHOLE_WORDS, false);
     }
 
     /** {@inheritDoc} */
     @Override
     protected void reset() {
-        m_replacementMap = null;
+        synchronized (this) {
+            m_streamingReplacement = null;
+        }
     }
 
     /** {@inheritDoc} */
@@ -289,6 +365,9 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
             settings.addString(CFG_APPEND_COLUMN, m_newColumnName);
             settings.addString(CFG_DICT_LOCATION, m_dictFileURLString);
             settings.addChar(CFG_DELIMITER_IN_DICT, m_delimInDictCharacter);
+            settings.addBoolean(CFG_REPLACE_SUBSTRINGS, m_replaceSubstrings);
+            settings.addBoolean(CFG_CASE_INSENSITIVE, m_caseInsensitive);
+            settings.addBoolean(CFG_WHOLE_WORDS, m_wholeWords);
         }
 
     }
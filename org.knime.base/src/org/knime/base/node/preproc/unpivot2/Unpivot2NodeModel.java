@@ -55,8 +55,6 @@
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
-import org.knime.base.data.append.column.AppendedColumnRow;
-import org.knime.base.data.filter.column.FilterColumnRow;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
@@ -66,7 +64,6 @@
 import org.knime.core.data.RowKey;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.StringCell;
-import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
@@ -78,9 +75,20 @@
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
 import org.knime.core.node.defaultnodesettings.SettingsModelColumnFilter2;
+import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.property.hilite.DefaultHiLiteMapper;
 import org.knime.core.node.property.hilite.HiLiteHandler;
 import org.knime.core.node.property.hilite.HiLiteTranslator;
+import org.knime.core.node.streamable.BufferedDataTableRowOutput;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.OutputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
 import org.knime.core.node.util.ConvenienceMethods;
 import org.knime.core.node.util.filter.NameFilterConfiguration.FilterResult;
 
@@ -190,56 +198,106 @@ private DataTableSpec createOutSpec(final DataTableSpec spec) throws InvalidSett
     @Override
     protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
             final ExecutionContext exec) throws Exception {
-        DataTableSpec inSpec = inData[0].getSpec();
-        String[] retainedColumns = m_retainedColumns.applyTo(inSpec).getIncludes();
-        String[] valueColumns = m_valueColumns.applyTo(inSpec).getIncludes();
-        int[] valueColumnIndices = new int[valueColumns.length];
+        final BufferedDataTableRowOutput output =
+            new BufferedDataTableRowOutput(exec.createDataContainer(createOutSpec(inData[0].getSpec())));
+        unpivot(new DataTableRowInput(inData[0]), output, inData[0].size(), exec);
+        return new BufferedDataTable[]{output.getDataTable()};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        return new InputPortRole[]{InputPortRole.NONDISTRIBUTED_STREAMABLE};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OutputPortRole[] getOutputPortRoles() {
+        // the row keys are numbered throughout the whole output
+        return new OutputPortRole[]{OutputPortRole.NONDISTRIBUTED};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+            final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        return new StreamableOperator() {
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs,
+                    final ExecutionContext exec) throws Exception {
+                unpivot((RowInput)inputs[0], (RowOutput)outputs[0], -1, exec);
+            }
+        };
+    }
+
+    private void unpivot(final RowInput input, final RowOutput output, final long rowCount,
+            final ExecutionContext exec)
+            throws InvalidSettingsException, InterruptedException, CanceledExecutionException {
+        final DataTableSpec inSpec = input.getDataTableSpec();
+        final String[] retainedColumns = m_retainedColumns.applyTo(inSpec).getIncludes();
+        final String[] valueColumns = m_valueColumns.applyTo(inSpec).getIncludes();
+        final int[] valueColumnIndices = new int[valueColumns.length];
+        // the column name cells are shared by all rows
+        final DataCell[] valueColumnNames = new DataCell[valueColumns.length];
         for (int i = 0; i < valueColumnIndices.length; i++) {
             valueColumnIndices[i] = inSpec.findColumnIndex(valueColumns[i]);
+            valueColumnNames[i] = new StringCell(valueColumns[i]);
         }
-        int[] orderColumnIdx = new int[retainedColumns.length];
+        final int[] orderColumnIdx = new int[retainedColumns.length];
         for (int i = 0; i < orderColumnIdx.length; i++) {
             orderColumnIdx[i] = inSpec.findColumnIndex(retainedColumns[i]);
         }
-        final double newRowCnt = inData[0].size() * valueColumns.length;
         final boolean enableHilite = m_enableHilite.getBooleanValue();
-        LinkedHashMap<RowKey, Set<RowKey>> map =
-            new LinkedHashMap<RowKey, Set<RowKey>>();
-        DataTableSpec outSpec = createOutSpec(inSpec);
-        BufferedDataContainer buf = exec.createDataContainer(outSpec);
+        final LinkedHashMap<RowKey, Set<RowKey>> map = new LinkedHashMap<RowKey, Set<RowKey>>();
         final boolean skipMissings = m_missingValues.getBooleanValue();
-        for (DataRow row : inData[0]) {
-            LinkedHashSet<RowKey> set = new LinkedHashSet<RowKey>();
-            FilterColumnRow crow = new FilterColumnRow(row, orderColumnIdx);
-            for (int i = 0; i < valueColumns.length; i++) {
-                String colName = valueColumns[i];
-                DataCell acell = row.getCell(valueColumnIndices[i]);
+        // row ID, column name, value and the retained cells; copied by each new row, hence reused
+        final DataCell[] cells = new DataCell[3 + orderColumnIdx.length];
+        long newRowCnt = 0;
+        long rowCnt = 0;
+        DataRow row;
+        while ((row = input.poll()) != null) {
+            final RowKey key = row.getKey();
+            cells[0] = new StringCell(key.getString());
+            for (int i = 0; i < orderColumnIdx.length; i++) {
+                cells[i + 3] = row.getCell(orderColumnIdx[i]);
+            }
+            final Set<RowKey> set = enableHilite ? new LinkedHashSet<RowKey>() : null;
+            for (int i = 0; i < valueColumnIndices.length; i++) {
+                final DataCell acell = row.getCell(valueColumnIndices[i]);
                 if (acell.isMissing() && skipMissings) {
                     // skip rows containing missing cells (in Value column(s))
                     continue;
                 }
-                RowKey rowKey = RowKey.createRowKey(buf.size());
+                final RowKey rowKey = RowKey.createRowKey(newRowCnt++);
                 if (enableHilite) {
                     set.add(rowKey);
                 }
-                DefaultRow drow = new DefaultRow(rowKey,
-                        new StringCell(row.getKey().getString()),
-                        new StringCell(colName), acell);
-                buf.addRowToTable(new AppendedColumnRow(rowKey, drow, crow));
-                exec.checkCanceled();
-                exec.setProgress(buf.size() / newRowCnt);
+                cells[1] = valueColumnNames[i];
+                cells[2] = acell;
+                output.push(new DefaultRow(rowKey, cells));
             }
             if (enableHilite) {
-                map.put(crow.getKey(), set);
+                map.put(key, set);
+            }
+            exec.checkCanceled();
+            final long finalRowCnt = ++rowCnt;
+            if (rowCount > 0) {
+                exec.setProgress(finalRowCnt / (double)rowCount,
+                    () -> "Unpivoting row " + finalRowCnt + " of " + rowCount);
+            } else {
+                exec.setMessage(() -> "Unpivoting row " + finalRowCnt);
             }
         }
-        buf.close();
-        if (enableHilite) {
-            m_trans.setMapper(new DefaultHiLiteMapper(map));
-        } else {
-            m_trans.setMapper(null);
+        output.close();
+        if (m_trans != null) {
+            m_trans.setMapper(enableHilite ? new DefaultHiLiteMapper(map) : null);
         }
-        return new BufferedDataTable[]{buf.getTable()};
     }
 
     /**
@@ -0,0 +1,151 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG): created
+ */
+package org.knime.base.util.concurrent;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Helpers for running tasks in parallel on sub pools of the {@linkplain KNIMEConstants#GLOBAL_THREAD_POOL global
+ * thread pool}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class ThreadPoolUtil {
+
+    private ThreadPoolUtil() {
+    }
+
+    /**
+     * Returns the number of threads to use for a parallel computation: the configured maximum number of threads of
+     * the global thread pool, which sub pools can't exceed anyway.
+     *
+     * @return the maximum number of threads of the global thread pool, at least 1
+     */
+    public static int getMaxThreads() {
+        return Math.max(1, KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads());
+    }
+
+    /**
+     * Waits for the result of a task submitted to a pool, see {@link #runInvisible(ThreadPool, Callable)}.
+     *
+     * @param <T> the type of the result
+     * @param pool the pool the task was submitted to
+     * @param future the future of the task
+     * @return the result of the task
+     * @throws ExecutionException if the task failed, with the exception thrown by the task as cause
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     */
+    public static <T> T waitFor(final ThreadPool pool, final Future<T> future)
+        throws ExecutionException, InterruptedException {
+        return runInvisible(pool, future::get);
+    }
+
+    /**
+     * Runs the callable, usually waiting for tasks submitted to the pool. If the current thread is a thread of a
+     * pool, it doesn't block a slot of the pool while running the callable, otherwise pools whose threads wait for
+     * other tasks in the same pool dead-lock.
+     *
+     * @param <T> the type of the result
+     * @param pool the pool the current thread might belong to
+     * @param callable the callable
+     * @return the result of the callable
+     * @throws ExecutionException if the callable failed; if it failed with an {@link ExecutionException}, e.g.
+     *             because it waited for a failed task, this exception is thrown
+     * @throws InterruptedException if the current thread was interrupted
+     */
+    public static <T> T runInvisible(final ThreadPool pool, final Callable<T> callable)
+        throws ExecutionException, InterruptedException {
+        try {
+            try {
+                return pool.runInvisible(callable);
+            } catch (IllegalThreadStateException e) {
+                // not started by a thread of a thread pool, run directly
+                return callable.call();
+            }
+        } catch (ExecutionException e) {
+            // the exception of the callable is wrapped by the pool
+            final Throwable cause = e.getCause();
+            if (cause instanceof ExecutionException) {
+                throw (ExecutionException)cause;
+            } else if (cause instanceof InterruptedException) {
+                throw (InterruptedException)cause;
+            }
+            throw e;
+        } catch (InterruptedException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ExecutionException(e);
+        }
+    }
+
+    /**
+     * Throws the cause of a failed task if it is an unchecked exception or an error.
+     *
+     * @param e the exception of the failed task
+     * @return the cause of the failure, a checked exception
+     */
+    public static Exception throwIfUnchecked(final ExecutionException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException)cause;
+        } else if (cause instanceof Error) {
+            throw (Error)cause;
+        } else if (cause instanceof Exception) {
+            return (Exception)cause;
+        }
+        return e;
+    }
+}